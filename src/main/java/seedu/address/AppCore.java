@@ -0,0 +1,259 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.connection.PersonMeetingConnection;
+import seedu.address.model.meeting.MeetingBook;
+import seedu.address.model.meeting.ReadOnlyMeetingBook;
+import seedu.address.model.note.NoteBook;
+import seedu.address.model.note.ReadOnlyNoteBook;
+import seedu.address.model.person.AddressBook;
+import seedu.address.model.person.ReadOnlyAddressBook;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.addressbook.AddressBookStorage;
+import seedu.address.storage.addressbook.JsonAddressBookStorage;
+import seedu.address.storage.connection.ConnectionStorage;
+import seedu.address.storage.connection.JsonConnectionStorage;
+import seedu.address.storage.meetingbook.JsonMeetingBookStorage;
+import seedu.address.storage.meetingbook.MeetingBookStorage;
+import seedu.address.storage.notebook.JsonNoteBookStorage;
+import seedu.address.storage.notebook.NoteBookStorage;
+
+/**
+ * The storage, model and logic of the application, wired together without any user interface, so that they can be
+ * driven by the window or by a headless runner alike.
+ */
+public class AppCore {
+
+    private static final Logger logger = LogsCenter.getLogger(AppCore.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+
+    /**
+     * Reads the config at {@code configFilePath}, or the default config if it is null, and the data it points to,
+     * and wires the storage, model and logic over them.
+     */
+    public AppCore(Path configFilePath) {
+        config = initConfig(configFilePath);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        MeetingBookStorage meetingBookStorage = new JsonMeetingBookStorage(userPrefs.getMeetingBookFilePath(),
+                userPrefs.getMeetingClashCheck());
+        NoteBookStorage noteBookStorage = new JsonNoteBookStorage(userPrefs.getNoteBookFilePath());
+        ConnectionStorage connectionStorage = new JsonConnectionStorage(userPrefs.getConnectionsFilePath());
+        storage = new StorageManager(addressBookStorage, meetingBookStorage, noteBookStorage, userPrefsStorage,
+                connectionStorage);
+
+        initLogging(config);
+
+        model = initModelManager(storage, userPrefs);
+
+        logic = new LogicManager(model, storage);
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Stops the reminders and saves the user preferences.
+     */
+    public void stop() {
+        model.getReminderScheduler().stop();
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    private static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        Optional<ReadOnlyMeetingBook> meetingBookOptional;
+        Optional<ReadOnlyNoteBook> noteBookOptional;
+        Optional<PersonMeetingConnection> personMeetingConnectionOptional;
+        ReadOnlyAddressBook initialDataAddressBook;
+        ReadOnlyMeetingBook initialDataMeetingBook;
+        ReadOnlyNoteBook initialDataNoteBook;
+        PersonMeetingConnection personMeetingConnection;
+
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample AddressBook");
+            }
+            initialDataAddressBook = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
+            initialDataAddressBook = new AddressBook();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
+            initialDataAddressBook = new AddressBook();
+        }
+
+        //--============= MEETING ==================================================================================
+
+        try {
+            meetingBookOptional = storage.readMeetingBook();
+            if (!meetingBookOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample MeetingBook");
+            }
+            initialDataMeetingBook = meetingBookOptional.orElseGet(SampleDataUtil::getSampleMeetingBook);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty MeetingBook");
+            initialDataMeetingBook = new MeetingBook();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty MeetingBook");
+            initialDataMeetingBook = new MeetingBook();
+        }
+
+        //--============= NOTE ==================================================================================
+
+        try {
+            noteBookOptional = storage.readNoteBook();
+            if (!noteBookOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample NoteBook");
+            }
+            initialDataNoteBook = noteBookOptional.orElseGet(SampleDataUtil::getSampleNoteBook);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty NoteBook");
+            initialDataNoteBook = new NoteBook();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty NoteBook");
+            initialDataNoteBook = new NoteBook();
+        }
+
+        //=============== Establish Connection ========================================================================
+
+        try {
+            personMeetingConnectionOptional = storage.readConnection(initialDataMeetingBook, initialDataAddressBook);
+            if (!personMeetingConnectionOptional.isPresent()) {
+                logger.info("Date file not found. Will be starting with no person to meetings established");
+            }
+            personMeetingConnection = personMeetingConnectionOptional.orElseGet(() -> new PersonMeetingConnection());
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with no person to meeting "
+                    + "connections");
+            personMeetingConnection = new PersonMeetingConnection();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with no person to meeting "
+                    + "connections established");
+            personMeetingConnection = new PersonMeetingConnection();
+        }
+        return new ModelManager(initialDataAddressBook, initialDataMeetingBook, initialDataNoteBook,
+                userPrefs, personMeetingConnection);
+    }
+
+    private static void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+}
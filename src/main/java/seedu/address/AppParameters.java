@@ -2,6 +2,9 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -9,14 +12,25 @@ import java.util.logging.Logger;
 import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.RunScriptCommand;
+import seedu.address.logic.parser.CliSyntax;
 
 /**
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    public static final String FLAG_HEADLESS = "--headless";
+    public static final int MAX_PORT = 65535;
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path scriptPath;
+    private Path scriptOutputPath;
+    private boolean isContinuingOnError;
+    private boolean isHeadless;
+    private Integer port;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,12 +40,83 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the script to run without showing the window, or null to start the app as usual.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    public Path getScriptOutputPath() {
+        return scriptOutputPath;
+    }
+
+    public void setScriptOutputPath(Path scriptOutputPath) {
+        this.scriptOutputPath = scriptOutputPath;
+    }
+
+    public boolean isContinuingOnError() {
+        return isContinuingOnError;
+    }
+
+    public void setContinuingOnError(boolean isContinuingOnError) {
+        this.isContinuingOnError = isContinuingOnError;
+    }
+
+    /**
+     * Returns whether the application runs without a window, reading commands from the standard input, a socket
+     * or a script.
+     */
+    public boolean isHeadless() {
+        return isHeadless || scriptPath != null || port != null;
+    }
+
+    public void setHeadless(boolean isHeadless) {
+        this.isHeadless = isHeadless;
+    }
+
+    /**
+     * Returns the port to read commands from when headless, or null to read them from the standard input.
+     */
+    public Integer getPort() {
+        return port;
+    }
+
+    public void setPort(Integer port) {
+        this.port = port;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed(), parameters.getUnnamed());
+    }
+
+    /**
+     * Parses the raw command-line arguments {@code args} in the same way as JavaFX does: {@code --name=value} as a
+     * named parameter, and any other argument as an unnamed one.
+     */
+    public static AppParameters parse(List<String> args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        List<String> unnamedParameters = new ArrayList<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (arg.startsWith("--") && separator > 2) {
+                namedParameters.put(arg.substring(2, separator), arg.substring(separator + 1));
+            } else {
+                unnamedParameters.add(arg);
+            }
+        }
+        return parse(namedParameters, unnamedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters, List<String> unnamedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -40,6 +125,34 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String scriptPathParameter = namedParameters.get("script");
+        if (scriptPathParameter != null && !FileUtil.isValidPath(scriptPathParameter)) {
+            logger.warning("Invalid script path " + scriptPathParameter + ". Starting without running a script.");
+            scriptPathParameter = null;
+        }
+        if (scriptPathParameter != null) {
+            Path scriptPath = Paths.get(scriptPathParameter);
+            String outputPathParameter = namedParameters.get("script-output");
+            if (outputPathParameter != null && !FileUtil.isValidPath(outputPathParameter)) {
+                logger.warning("Invalid script output path " + outputPathParameter + ". Using default output path.");
+                outputPathParameter = null;
+            }
+            appParameters.setScriptPath(scriptPath);
+            appParameters.setScriptOutputPath(outputPathParameter != null
+                    ? Paths.get(outputPathParameter)
+                    : RunScriptCommand.getDefaultOutputPath(scriptPath));
+            appParameters.setContinuingOnError(unnamedParameters.contains(CliSyntax.FLAG_CONTINUE));
+        }
+
+        appParameters.setHeadless(unnamedParameters.contains(FLAG_HEADLESS));
+        String portParameter = namedParameters.get("port");
+        if (portParameter != null && (!StringUtil.isNonZeroUnsignedInteger(portParameter)
+                || Integer.parseInt(portParameter) > MAX_PORT)) {
+            logger.warning("Invalid port " + portParameter + ". Reading commands from the standard input.");
+            portParameter = null;
+        }
+        appParameters.setPort(portParameter != null ? Integer.parseInt(portParameter) : null);
+
         return appParameters;
     }
 
@@ -54,11 +167,16 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getScriptPath(), otherAppParameters.getScriptPath())
+                && Objects.equals(getScriptOutputPath(), otherAppParameters.getScriptOutputPath())
+                && isContinuingOnError() == otherAppParameters.isContinuingOnError()
+                && isHeadless() == otherAppParameters.isHeadless()
+                && Objects.equals(getPort(), otherAppParameters.getPort());
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, scriptPath, scriptOutputPath, isContinuingOnError, isHeadless, port);
     }
 }
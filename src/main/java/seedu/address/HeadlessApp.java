@@ -0,0 +1,100 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Runs the application without a window, and without starting JavaFX, so that it can run on servers without a
+ * display. Commands are read from the standard input, from clients connecting to a port, or from a script.
+ *
+ * Clients are served one at a time, as the model is not safe to use from several threads, and only from this
+ * machine.
+ */
+public class HeadlessApp {
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final AppParameters appParameters;
+
+    /**
+     * Creates an application that runs with the given command line parameters.
+     */
+    public HeadlessApp(AppParameters appParameters) {
+        requireNonNull(appParameters);
+        this.appParameters = appParameters;
+    }
+
+    /**
+     * Runs the application until the input ends, the script has run, or the process is stopped, and returns the
+     * exit status of the process.
+     */
+    public int run() {
+        logger.info("Starting AddressBook " + MainApp.VERSION + " without a window");
+        AppCore core = new AppCore(appParameters.getConfigPath());
+        Runtime.getRuntime().addShutdownHook(new Thread(core::stop));
+        try {
+            if (appParameters.getScriptPath() != null) {
+                return runScript(core.getLogic());
+            } else if (appParameters.getPort() != null) {
+                serve(core.getLogic(), appParameters.getPort());
+            } else {
+                HeadlessSession session = new HeadlessSession(core.getLogic());
+                session.run(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)),
+                        new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+                System.err.println(session.getThroughputSummary());
+            }
+            return 0;
+        } catch (IOException e) {
+            logger.severe("Failed to read commands " + StringUtil.getDetails(e));
+            return 1;
+        }
+    }
+
+    private int runScript(Logic logic) {
+        try {
+            CommandResult result = logic.runScript(appParameters.getScriptPath(),
+                    appParameters.getScriptOutputPath(), appParameters.isContinuingOnError());
+            System.out.println(result.getFeedbackToUser());
+            return 0;
+        } catch (CommandException e) {
+            System.err.println(e.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * Serves the clients connecting to {@code port} on this machine one after another, each in its own session.
+     */
+    private static void serve(Logic logic, int port) throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress())) {
+            logger.info("Reading commands from port " + serverSocket.getLocalPort());
+            while (!serverSocket.isClosed()) {
+                try (Socket client = serverSocket.accept()) {
+                    HeadlessSession session = new HeadlessSession(logic);
+                    session.run(new BufferedReader(new InputStreamReader(client.getInputStream(),
+                                    StandardCharsets.UTF_8)),
+                            new PrintWriter(new OutputStreamWriter(client.getOutputStream(), StandardCharsets.UTF_8)));
+                    logger.info(session.getThroughputSummary());
+                } catch (IOException | RuntimeException e) {
+                    logger.warning("Lost a client " + StringUtil.getDetails(e));
+                }
+            }
+        }
+    }
+}
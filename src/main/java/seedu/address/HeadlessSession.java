@@ -0,0 +1,121 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Reads commands one per line and runs them, without a window, writing each result as a status line followed by
+ * the lines of the result, so that a program driving the session can tell where each result ends:
+ *
+ * <pre>
+ * OK 1
+ * New person added: ...
+ * ERROR 1
+ * Unknown command
+ * </pre>
+ *
+ * Blank lines are skipped. The session ends at the end of the input, or after an {@code exit} command.
+ */
+public class HeadlessSession {
+
+    public static final String STATUS_OK = "OK";
+    public static final String STATUS_ERROR = "ERROR";
+    public static final String MESSAGE_THROUGHPUT = "Ran %1$d command(s) in %2$d ms, %3$.1f command(s) per second";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessSession.class);
+
+    private final Logic logic;
+    private int commandCount = 0;
+    private long executionNanos = 0;
+
+    /**
+     * Creates a session running commands with {@code logic}.
+     */
+    public HeadlessSession(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+    }
+
+    /**
+     * Runs the commands read from {@code in} until its end or an {@code exit} command, writing their results to
+     * {@code out}.
+     */
+    public void run(BufferedReader in, PrintWriter out) throws IOException {
+        requireAllNonNull(in, out);
+        String line;
+        while ((line = in.readLine()) != null) {
+            String commandText = line.trim();
+            if (commandText.isEmpty()) {
+                continue;
+            }
+            boolean isExit = runCommand(commandText, out);
+            out.flush();
+            if (isExit) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Runs {@code commandText} and writes its result to {@code out}, returning whether the session should end.
+     */
+    private boolean runCommand(String commandText, PrintWriter out) {
+        long start = System.nanoTime();
+        try {
+            CommandResult result = logic.execute(commandText);
+            executionNanos += System.nanoTime() - start;
+            writeResult(out, STATUS_OK, result.getFeedbackToUser());
+            return result.isExit();
+        } catch (CommandException | ParseException e) {
+            executionNanos += System.nanoTime() - start;
+            writeResult(out, STATUS_ERROR, e.getMessage());
+            return false;
+        } catch (RuntimeException e) {
+            // an unexpected error fails only the command, so that the session, and a server running it, goes on
+            executionNanos += System.nanoTime() - start;
+            logger.warning("Unexpected error while executing " + commandText + ": " + e);
+            writeResult(out, STATUS_ERROR, e.getMessage() != null ? e.getMessage() : e.toString());
+            return false;
+        } finally {
+            commandCount++;
+        }
+    }
+
+    private static void writeResult(PrintWriter out, String status, String feedback) {
+        String[] lines = feedback.split("\\R", -1);
+        out.println(status + " " + lines.length);
+        for (String line : lines) {
+            out.println(line);
+        }
+    }
+
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    /**
+     * Returns the number of commands run per second of time spent running them, leaving out the time spent waiting
+     * for them to be read, or 0 if none were run.
+     */
+    public double getThroughput() {
+        return executionNanos == 0 ? 0 : commandCount * 1e9 / executionNanos;
+    }
+
+    /**
+     * Returns a summary of the commands run and how fast they ran.
+     */
+    public String getThroughputSummary() {
+        return String.format(MESSAGE_THROUGHPUT, commandCount, executionNanos / 1_000_000, getThroughput());
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address;
 
+import java.util.Arrays;
+
 import javafx.application.Application;
 
 /**
@@ -17,9 +19,20 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * When started with --headless, --port=PORT or --script=FILE_PATH, the application runs without a window,
+ * and JavaFX is never started.
  */
 public class Main {
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(Arrays.asList(args));
+        if (appParameters.isHeadless()) {
+            int status = new HeadlessApp(appParameters).run();
+            if (status != 0) {
+                System.exit(status);
+            }
+            return;
+        }
         Application.launch(MainApp.class, args);
     }
 }
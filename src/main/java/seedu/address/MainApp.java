@@ -1,8 +1,5 @@
 package seedu.address;
 
-import java.io.IOException;
-import java.nio.file.Path;
-import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -10,35 +7,9 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
-import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.util.ConfigUtil;
-import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
-import seedu.address.logic.LogicManager;
 import seedu.address.model.Model;
-import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyUserPrefs;
-import seedu.address.model.UserPrefs;
-import seedu.address.model.connection.PersonMeetingConnection;
-import seedu.address.model.meeting.MeetingBook;
-import seedu.address.model.meeting.ReadOnlyMeetingBook;
-import seedu.address.model.note.NoteBook;
-import seedu.address.model.note.ReadOnlyNoteBook;
-import seedu.address.model.person.AddressBook;
-import seedu.address.model.person.ReadOnlyAddressBook;
-import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
-import seedu.address.storage.StorageManager;
-import seedu.address.storage.UserPrefsStorage;
-import seedu.address.storage.addressbook.AddressBookStorage;
-import seedu.address.storage.addressbook.JsonAddressBookStorage;
-import seedu.address.storage.connection.ConnectionStorage;
-import seedu.address.storage.connection.JsonConnectionStorage;
-import seedu.address.storage.meetingbook.JsonMeetingBookStorage;
-import seedu.address.storage.meetingbook.MeetingBookStorage;
-import seedu.address.storage.notebook.JsonNoteBookStorage;
-import seedu.address.storage.notebook.NoteBookStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -56,6 +27,7 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected AppCore core;
 
     @Override
     public void init() throws Exception {
@@ -64,180 +36,15 @@ public class MainApp extends Application {
 
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
-
-        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        MeetingBookStorage meetingBookStorage = new JsonMeetingBookStorage(userPrefs.getMeetingBookFilePath());
-        NoteBookStorage noteBookStorage = new JsonNoteBookStorage(userPrefs.getNoteBookFilePath());
-        ConnectionStorage connectionStorage = new JsonConnectionStorage(userPrefs.getConnectionsFilePath());
-        storage = new StorageManager(addressBookStorage, meetingBookStorage, noteBookStorage, userPrefsStorage,
-                connectionStorage);
-
-        initLogging(config);
-
-        model = initModelManager(storage, userPrefs);
-
-        logic = new LogicManager(model, storage);
+        core = new AppCore(appParameters.getConfigPath());
+        config = core.getConfig();
+        storage = core.getStorage();
+        model = core.getModel();
+        logic = core.getLogic();
 
         ui = new UiManager(logic);
     }
 
-    /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
-     */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        Optional<ReadOnlyMeetingBook> meetingBookOptional;
-        Optional<ReadOnlyNoteBook> noteBookOptional;
-        Optional<PersonMeetingConnection> personMeetingConnectionOptional;
-        ReadOnlyAddressBook initialDataAddressBook;
-        ReadOnlyMeetingBook initialDataMeetingBook;
-        ReadOnlyNoteBook initialDataNoteBook;
-        PersonMeetingConnection personMeetingConnection;
-
-        try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample AddressBook");
-            }
-            initialDataAddressBook = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
-            initialDataAddressBook = new AddressBook();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
-            initialDataAddressBook = new AddressBook();
-        }
-
-        //--============= MEETING ==================================================================================
-
-        try {
-            meetingBookOptional = storage.readMeetingBook();
-            if (!meetingBookOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample MeetingBook");
-            }
-            initialDataMeetingBook = meetingBookOptional.orElseGet(SampleDataUtil::getSampleMeetingBook);
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty MeetingBook");
-            initialDataMeetingBook = new MeetingBook();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty MeetingBook");
-            initialDataMeetingBook = new MeetingBook();
-        }
-
-        //--============= NOTE ==================================================================================
-
-        try {
-            noteBookOptional = storage.readNoteBook();
-            if (!noteBookOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample NoteBook");
-            }
-            initialDataNoteBook = noteBookOptional.orElseGet(SampleDataUtil::getSampleNoteBook);
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty NoteBook");
-            initialDataNoteBook = new NoteBook();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty NoteBook");
-            initialDataNoteBook = new NoteBook();
-        }
-
-        //=============== Establish Connection ========================================================================
-
-        try {
-            personMeetingConnectionOptional = storage.readConnection(initialDataMeetingBook, initialDataAddressBook);
-            if (!personMeetingConnectionOptional.isPresent()) {
-                logger.info("Date file not found. Will be starting with no person to meetings established");
-            }
-            personMeetingConnection = personMeetingConnectionOptional.orElseGet(() -> new PersonMeetingConnection());
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with no person to meeting "
-                    + "connections");
-            personMeetingConnection = new PersonMeetingConnection();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with no person to meeting "
-                    + "connections established");
-            personMeetingConnection = new PersonMeetingConnection();
-        }
-        return new ModelManager(initialDataAddressBook, initialDataMeetingBook, initialDataNoteBook,
-                userPrefs, personMeetingConnection);
-    }
-
-    private void initLogging(Config config) {
-        LogsCenter.init(config);
-    }
-
-    /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
-     */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataConversionException e) {
-            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
-                    + "Using default config properties");
-            initializedConfig = new Config();
-        }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
-    }
-
-    /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
-     * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
-     */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using prefs file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataConversionException e) {
-            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
-                    + "Using default user prefs");
-            initializedPrefs = new UserPrefs();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
-            initializedPrefs = new UserPrefs();
-        }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-
-        return initializedPrefs;
-    }
-
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
@@ -247,10 +54,8 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
-        try {
-            storage.saveUserPrefs(model.getUserPrefs());
-        } catch (IOException e) {
-            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
-        }
+        // the command executor is a daemon thread, so a command or save still running must be waited for here
+        ui.stop();
+        core.stop();
     }
 }
@@ -1,5 +1,7 @@
 package seedu.address.commons.core;
 
+import static java.util.Objects.requireNonNull;
+
 import java.awt.Point;
 import java.io.Serializable;
 import java.util.Objects;
@@ -16,6 +18,16 @@ public class GuiSettings implements Serializable {
     private final double windowWidth;
     private final double windowHeight;
     private final Point windowCoordinates;
+    private final TimetableRenderer timetableRenderer;
+
+    /**
+     * The ways the timetable can be drawn.
+     * {@code NODES} puts one node per meeting slot into the scene graph, while {@code CANVAS} paints the
+     * whole week onto a single canvas, which stays fast for weeks with many meetings.
+     */
+    public enum TimetableRenderer {
+        NODES, CANVAS
+    }
 
     /**
      * Constructs a {@code GuiSettings} with the default height, width and position.
@@ -24,15 +36,26 @@ public class GuiSettings implements Serializable {
         windowWidth = DEFAULT_WIDTH;
         windowHeight = DEFAULT_HEIGHT;
         windowCoordinates = null; // null represent no coordinates
+        timetableRenderer = TimetableRenderer.NODES;
     }
 
     /**
      * Constructs a {@code GuiSettings} with the specified height, width and position.
      */
     public GuiSettings(double windowWidth, double windowHeight, int xPosition, int yPosition) {
+        this(windowWidth, windowHeight, xPosition, yPosition, TimetableRenderer.NODES);
+    }
+
+    /**
+     * Constructs a {@code GuiSettings} with the specified height, width, position and timetable renderer.
+     */
+    public GuiSettings(double windowWidth, double windowHeight, int xPosition, int yPosition,
+                       TimetableRenderer timetableRenderer) {
+        requireNonNull(timetableRenderer);
         this.windowWidth = windowWidth;
         this.windowHeight = windowHeight;
         windowCoordinates = new Point(xPosition, yPosition);
+        this.timetableRenderer = timetableRenderer;
     }
 
     public double getWindowWidth() {
@@ -47,6 +70,10 @@ public class GuiSettings implements Serializable {
         return windowCoordinates != null ? new Point(windowCoordinates) : null;
     }
 
+    public TimetableRenderer getTimetableRenderer() {
+        return timetableRenderer;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -60,12 +87,13 @@ public class GuiSettings implements Serializable {
 
         return windowWidth == o.windowWidth
                 && windowHeight == o.windowHeight
-                && Objects.equals(windowCoordinates, o.windowCoordinates);
+                && Objects.equals(windowCoordinates, o.windowCoordinates)
+                && timetableRenderer == o.timetableRenderer;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(windowWidth, windowHeight, windowCoordinates);
+        return Objects.hash(windowWidth, windowHeight, windowCoordinates, timetableRenderer);
     }
 
     @Override
@@ -73,7 +101,8 @@ public class GuiSettings implements Serializable {
         StringBuilder sb = new StringBuilder();
         sb.append("Width : " + windowWidth + "\n");
         sb.append("Height : " + windowHeight + "\n");
-        sb.append("Position : " + windowCoordinates);
+        sb.append("Position : " + windowCoordinates + "\n");
+        sb.append("Timetable renderer : " + timetableRenderer);
         return sb.toString();
     }
 }
@@ -12,6 +12,7 @@ public class Messages {
     public static final String MESSAGE_MEETINGS_LISTED_OVERVIEW = "%1$d meeting(s) listed!";
     public static final String MESSAGE_INVALID_MEETING_DISPLAYED_INDEX = "The meeting index provided is invalid";
     public static final String MESSAGE_INVALID_NOTE_DISPLAYED_INDEX = "The note index provided is invalid";
+    public static final String MESSAGE_NOTES_LISTED_OVERVIEW = "%1$d note(s) listed!";
 
     //====== For findm
     public static final String MESSAGE_INVALID_PERSONS_DISPLAYED_INDEX = "A person index provided is invalid";
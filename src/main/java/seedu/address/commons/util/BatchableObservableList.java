@@ -0,0 +1,66 @@
+package seedu.address.commons.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} backed by an {@code ArrayList} that can hold back its change notifications.
+ * Every change made between {@link #beginBatch()} and the matching {@link #endBatch()} is combined and reported to
+ * listeners as a single change when the batch ends. Batches may be nested; only the outermost one fires.
+ * Outside a batch, the list behaves like {@code FXCollections.observableArrayList()}.
+ */
+public class BatchableObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> backingList = new ArrayList<>();
+
+    public BatchableObservableList() {}
+
+    /**
+     * Creates a list holding the elements of {@code elements}, in order.
+     */
+    public BatchableObservableList(Collection<? extends E> elements) {
+        backingList.addAll(elements);
+    }
+
+    /**
+     * Starts holding back change notifications until the matching {@link #endBatch()}.
+     */
+    public void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends the current batch. If it is the outermost batch, listeners are notified once of all changes made in it.
+     */
+    public void endBatch() {
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return backingList.get(index);
+    }
+
+    @Override
+    public int size() {
+        return backingList.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        backingList.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return backingList.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return backingList.remove(index);
+    }
+}
@@ -0,0 +1,198 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An index from the case-folded words of items to the items, which finds the items having a word within a given
+ * {@link StringUtil#editDistance(String, String) edit distance} of a keyword.
+ *
+ * The distinct words are kept in a BK-tree: each child of a word is stored under its distance to that word, so by
+ * the triangle inequality a search only needs to visit the children whose distance lies within the maximum distance
+ * of the keyword's distance to their parent. BK-trees do not support removal, so a word whose items have all been
+ * removed stays in the tree, and the tree is rebuilt once such words outnumber the words still in use.
+ *
+ * @param <T> the type of the items indexed
+ */
+public class FuzzyWordIndex<T> {
+
+    private final Function<T, Collection<String>> wordsOf;
+    private final boolean isByIdentity;
+
+    private final Map<String, Set<T>> postings = new HashMap<>();
+    private Node root;
+    private int numberOfWordsInTree;
+
+    /**
+     * Creates an empty index.
+     * @param wordsOf gives the words of an item; must give the same words for an item as long as it is indexed
+     * @param isByIdentity whether items are told apart by identity instead of {@code equals}
+     */
+    public FuzzyWordIndex(Function<T, Collection<String>> wordsOf, boolean isByIdentity) {
+        requireNonNull(wordsOf);
+        this.wordsOf = wordsOf;
+        this.isByIdentity = isByIdentity;
+    }
+
+    /**
+     * Adds {@code item} under each of its words.
+     */
+    public void add(T item) {
+        requireNonNull(item);
+        for (String word : getFoldedWords(item)) {
+            Set<T> posting = postings.get(word);
+            if (posting == null) {
+                posting = newSet();
+                postings.put(word, posting);
+                insertIntoTree(word);
+            }
+            posting.add(item);
+        }
+    }
+
+    /**
+     * Removes {@code item} from the index.
+     */
+    public void remove(T item) {
+        requireNonNull(item);
+        for (String word : getFoldedWords(item)) {
+            Set<T> posting = postings.get(word);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(item);
+            if (posting.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+        if (numberOfWordsInTree > 2 * postings.size()) {
+            rebuildTree();
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code items}.
+     */
+    public void setItems(Iterable<T> items) {
+        requireNonNull(items);
+        postings.clear();
+        root = null;
+        numberOfWordsInTree = 0;
+        items.forEach(this::add);
+    }
+
+    /**
+     * Returns the items having a word within {@code maxDistance} edits of {@code keyword}, ignoring case, each
+     * mapped to the distance of its closest word.
+     * @param keyword cannot be empty and must be a single word
+     */
+    public Map<T, Integer> findItemsNear(String keyword, int maxDistance) {
+        requireNonNull(keyword);
+        String preppedKeyword = keyword.trim();
+        checkArgument(!preppedKeyword.isEmpty(), "Word parameter cannot be empty");
+        checkArgument(preppedKeyword.split("\\s+").length == 1, "Word parameter should be a single word");
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+
+        Map<T, Integer> matches = newMap();
+        if (root == null) {
+            return matches;
+        }
+        String foldedKeyword = StringUtil.foldCase(preppedKeyword);
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            int distance = StringUtil.editDistance(foldedKeyword, node.word);
+            if (distance <= maxDistance) {
+                for (T item : postings.getOrDefault(node.word, Collections.emptySet())) {
+                    matches.merge(item, distance, Math::min);
+                }
+            }
+            for (int childDistance = Math.max(1, distance - maxDistance); childDistance <= distance + maxDistance;
+                    childDistance++) {
+                Node child = node.children.get(childDistance);
+                if (child != null) {
+                    toVisit.push(child);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of words in the BK-tree, including words no longer used by any item.
+     */
+    int getNumberOfWordsInTree() {
+        return numberOfWordsInTree;
+    }
+
+    private void insertIntoTree(String word) {
+        numberOfWordsInTree++;
+        if (root == null) {
+            root = new Node(word);
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.editDistance(word, node.word);
+            if (distance == 0) {
+                // the word was removed from use earlier and is being used again
+                numberOfWordsInTree--;
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                return;
+            }
+            node = child;
+        }
+    }
+
+    private void rebuildTree() {
+        root = null;
+        numberOfWordsInTree = 0;
+        postings.keySet().forEach(this::insertIntoTree);
+    }
+
+    private Set<String> getFoldedWords(T item) {
+        Set<String> words = new HashSet<>();
+        for (String word : wordsOf.apply(item)) {
+            if (!word.isEmpty()) {
+                words.add(StringUtil.foldCase(word));
+            }
+        }
+        return words;
+    }
+
+    private Set<T> newSet() {
+        return isByIdentity ? Collections.newSetFromMap(new IdentityHashMap<>()) : new HashSet<>();
+    }
+
+    private Map<T, Integer> newMap() {
+        return isByIdentity ? new IdentityHashMap<>() : new HashMap<>();
+    }
+
+    /**
+     * A word in the BK-tree, with its children keyed by their distance to the word.
+     */
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String word) {
+            this.word = word;
+        }
+    }
+}
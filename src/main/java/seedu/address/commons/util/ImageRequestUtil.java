@@ -36,20 +36,18 @@ public class ImageRequestUtil {
 
 
     /**
-     * Fetches Gravatar Image from Gravatar server given an email of the Gravatar avatar.
+     * Starts fetching the Gravatar Image from Gravatar server given an email of the Gravatar avatar.
+     * The image is loaded in the background, so this does not wait for the server. Whether the image could be
+     * fetched is only known once it has loaded, from {@link Image#isError()}.
      *
      * @param email email of the Gravatar avatar
-     * @return the javafx Image of the avatar
-     * @throws Exception when unable to fetch image.
+     * @return the javafx Image of the avatar, which may still be loading
+     * @throws Exception when unable to make the image request.
      */
 
     public static Image getGravatarImage(String email) throws Exception {
         String urlString = generateImageRequest(email);
-        Image image = new Image(urlString);
-        if (image.isError()) {
-            throw new IllegalArgumentException("failed to load image");
-        }
-        return image;
+        return new Image(urlString, true);
     }
 
 }
@@ -0,0 +1,68 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Locale;
+
+/**
+ * A precomputed key to sort an item by, so that comparing two items does not have to convert or case-fold their
+ * fields again. A key is either text, compared by a case-insensitive {@link CollationKey}, or a number.
+ * Numeric keys sort before text keys.
+ */
+public class SortKey implements Comparable<SortKey> {
+
+    private static final Collator COLLATOR = Collator.getInstance(Locale.ROOT);
+
+    /** The collation key of the case-folded text, or null if this is a numeric key. */
+    private final CollationKey textKey;
+    private final long numericKey;
+
+    private SortKey(CollationKey textKey, long numericKey) {
+        this.textKey = textKey;
+        this.numericKey = numericKey;
+    }
+
+    /**
+     * Returns a key that sorts {@code text} ignoring case.
+     */
+    public static SortKey ofText(String text) {
+        requireNonNull(text);
+        return new SortKey(COLLATOR.getCollationKey(StringUtil.foldCase(text)), 0);
+    }
+
+    /**
+     * Returns a key that sorts by {@code number}.
+     */
+    public static SortKey ofNumber(long number) {
+        return new SortKey(null, number);
+    }
+
+    @Override
+    public int compareTo(SortKey other) {
+        if (textKey == null || other.textKey == null) {
+            return textKey == null && other.textKey == null
+                    ? Long.compare(numericKey, other.numericKey)
+                    : textKey == null ? -1 : 1;
+        }
+        return textKey.compareTo(other.textKey);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortKey // instanceof handles nulls
+                && compareTo((SortKey) other) == 0); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return textKey == null ? Long.hashCode(numericKey) : textKey.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return textKey == null ? Long.toString(numericKey) : textKey.getSourceString();
+    }
+}
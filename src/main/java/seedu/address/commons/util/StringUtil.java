@@ -38,6 +38,48 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code s} folded to a case-insensitive form, such that two strings have equal folded forms if and
+     * only if they are {@code String#equalsIgnoreCase} each other. Useful as a key for case-insensitive lookups.
+     * @param s cannot be null
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+        char[] folded = new char[s.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(s.charAt(i)));
+        }
+        return new String(folded);
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code a} and {@code b}: the least number of single character
+     * insertions, deletions and substitutions needed to turn one into the other.
+     * @param a cannot be null
+     * @param b cannot be null
+     */
+    public static int editDistance(String a, String b) {
+        requireNonNull(a);
+        requireNonNull(b);
+        int[] previousRow = new int[b.length() + 1];
+        int[] currentRow = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitutionCost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[b.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -2,6 +2,7 @@ package seedu.address.logic;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.function.Consumer;
 
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
@@ -16,6 +17,7 @@ import seedu.address.model.note.Note;
 import seedu.address.model.note.ReadOnlyNoteBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.ReadOnlyAddressBook;
+import seedu.address.model.reminder.Reminder;
 
 /**
  * API of the Logic component
@@ -30,6 +32,16 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Runs the commands in the script at {@code scriptPath}, writing their results to {@code outputPath}, and
+     * saves the data once after they have run.
+     * @param isContinuingOnError Whether the script goes on past a command that fails.
+     * @return the result of running the script.
+     * @throws CommandException If the script cannot be read, or the results cannot be written.
+     * @see seedu.address.logic.commands.RunScriptCommand
+     */
+    CommandResult runScript(Path scriptPath, Path outputPath, boolean isContinuingOnError) throws CommandException;
+
     /**
      * Returns the AddressBook.
      *
@@ -92,4 +104,15 @@ public interface Logic {
      * Gets the connections save location.
      */
     Path getConnectionsFilePath();
+
+    /**
+     * Adds {@code listener} to be given the reminder of each meeting as it becomes due. The listener is called on a
+     * background thread.
+     */
+    void addReminderListener(Consumer<Reminder> listener);
+
+    /**
+     * Returns a number that changes whenever the persons, meetings or connections change.
+     */
+    long getDataVersion();
 }
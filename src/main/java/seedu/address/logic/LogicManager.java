@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.beans.value.ObservableValue;
@@ -11,6 +12,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunScriptCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.MeetBuddyParser;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -21,6 +23,7 @@ import seedu.address.model.note.Note;
 import seedu.address.model.note.ReadOnlyNoteBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.ReadOnlyAddressBook;
+import seedu.address.model.reminder.Reminder;
 import seedu.address.storage.Storage;
 
 /**
@@ -47,9 +50,23 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = meetBuddyParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        return executeAndSave(command);
+    }
+
+    @Override
+    public CommandResult runScript(Path scriptPath, Path outputPath, boolean isContinuingOnError)
+            throws CommandException {
+        logger.info("----------------[SCRIPT][" + scriptPath + "]");
+
+        return executeAndSave(new RunScriptCommand(scriptPath, outputPath, isContinuingOnError));
+    }
+
+    /**
+     * Executes {@code command} and saves the data once it has run.
+     */
+    private CommandResult executeAndSave(Command command) throws CommandException {
+        CommandResult commandResult = command.execute(model);
 
         try {
             storage.saveAddressBook(model.getAddressBook());
@@ -126,6 +143,11 @@ public class LogicManager implements Logic {
         return model.getReadOnlyTimetableStartDate();
     }
 
+    @Override
+    public long getDataVersion() {
+        return model.getDataVersion();
+    }
+
     //============================ Get Storage FIle Path methods =============================================
 
     @Override
@@ -137,5 +159,10 @@ public class LogicManager implements Logic {
     public Path getConnectionsFilePath() {
         return storage.getConnectionFilePath();
     }
+
+    @Override
+    public void addReminderListener(Consumer<Reminder> listener) {
+        model.getReminderScheduler().addListener(listener);
+    }
 }
 
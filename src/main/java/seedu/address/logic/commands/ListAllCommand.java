@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MEETINGS;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_NOTES;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import seedu.address.model.Model;
@@ -16,6 +17,9 @@ public class ListAllCommand extends Command {
         requireNonNull(model);
         model.updateFilteredMeetingList(PREDICATE_SHOW_ALL_MEETINGS);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        // notes are only ranked while showing the results of findn
+        model.updateFilteredNoteList(PREDICATE_SHOW_ALL_NOTES);
+        model.sortFilteredNoteList(null);
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
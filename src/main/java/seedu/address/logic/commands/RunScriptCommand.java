@@ -0,0 +1,159 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.FLAG_CONTINUE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OUTPUT;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.MeetBuddyParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a script file in order, writing the result of each to an output file.
+ * The data is saved once after the whole script has run, rather than after each command in it.
+ */
+public class RunScriptCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String COMMENT_MARKER = "#";
+    public static final String OUTPUT_SUFFIX = ".out";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a file, one per line, in order, "
+            + "and saves the data once after they have run. Blank lines and lines starting with " + COMMENT_MARKER
+            + " are skipped. The result of each command is written to the output file, the file path followed by "
+            + OUTPUT_SUFFIX + " if not given. The script stops at the first command that fails, unless "
+            + FLAG_CONTINUE + " is given.\n"
+            + "Parameters: [" + FLAG_CONTINUE + "] FILE_PATH [" + PREFIX_OUTPUT + "OUTPUT_FILE_PATH]\n"
+            + "Example: " + COMMAND_WORD + " data/setup.txt " + PREFIX_OUTPUT + "data/setup.log";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s, with results written to %3$s";
+    public static final String MESSAGE_FAILED_COMMANDS = "\n%1$d command(s) failed";
+    public static final String MESSAGE_STOPPED = "\nStopped at line %1$d: %2$s";
+    public static final String MESSAGE_WRITE_FAILED = "\nStopped as the results could not be written: %1$s";
+    public static final String MESSAGE_READ_FAILED = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_OPEN_OUTPUT_FAILED = "Could not write to %1$s: %2$s";
+    public static final String MESSAGE_NESTED_SCRIPT = "A script cannot run another script";
+
+    /** Marks each command in the output file, followed by its result on the next lines. */
+    public static final String OUTPUT_COMMAND_MARKER = "> ";
+    public static final String OUTPUT_ERROR_MARKER = "Error: ";
+
+    private final Path scriptPath;
+    private final Path outputPath;
+    private final boolean isContinuingOnError;
+
+    /**
+     * Creates a RunScriptCommand to run the script at {@code scriptPath}, writing the results to
+     * {@code outputPath}, and going on to the next command after one fails if {@code isContinuingOnError}.
+     */
+    public RunScriptCommand(Path scriptPath, Path outputPath, boolean isContinuingOnError) {
+        requireAllNonNull(scriptPath, outputPath);
+        this.scriptPath = scriptPath;
+        this.outputPath = outputPath;
+        this.isContinuingOnError = isContinuingOnError;
+    }
+
+    /**
+     * Returns the path the results of the script at {@code scriptPath} are written to if no other path is given.
+     */
+    public static Path getDefaultOutputPath(Path scriptPath) {
+        requireNonNull(scriptPath);
+        return Paths.get(scriptPath + OUTPUT_SUFFIX);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        // both files are opened before any command runs, so that a script that cannot run changes nothing
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(scriptPath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, scriptPath, e.getMessage()));
+        }
+        BufferedWriter writer;
+        try {
+            writer = Files.newBufferedWriter(outputPath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_OPEN_OUTPUT_FAILED, outputPath, e.getMessage()));
+        }
+
+        // the commands that ran are kept even if a later one fails, so the script never throws from here on
+        MeetBuddyParser parser = new MeetBuddyParser();
+        int runCount = 0;
+        int failedCount = 0;
+        String stopMessage = "";
+        try (writer) {
+            for (int i = 0; i < lines.size(); i++) {
+                String commandText = lines.get(i).trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                    continue;
+                }
+                writer.write(OUTPUT_COMMAND_MARKER + commandText);
+                writer.newLine();
+                runCount++;
+                String errorMessage = null;
+                try {
+                    writer.write(runCommand(parser, commandText, model).getFeedbackToUser());
+                } catch (CommandException | ParseException e) {
+                    errorMessage = e.getMessage();
+                } catch (RuntimeException e) {
+                    // an unexpected error fails only its command, so that the commands before it are still saved
+                    errorMessage = e.getMessage() != null ? e.getMessage() : e.toString();
+                }
+                if (errorMessage != null) {
+                    failedCount++;
+                    writer.write(OUTPUT_ERROR_MARKER + errorMessage);
+                    if (!isContinuingOnError) {
+                        writer.newLine();
+                        stopMessage = String.format(MESSAGE_STOPPED, i + 1, errorMessage);
+                        break;
+                    }
+                }
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            stopMessage = String.format(MESSAGE_WRITE_FAILED, e.getMessage());
+        }
+
+        String result = String.format(MESSAGE_SUCCESS, runCount, scriptPath, outputPath);
+        if (failedCount > 0) {
+            result += String.format(MESSAGE_FAILED_COMMANDS, failedCount);
+        }
+        return new CommandResult(result + stopMessage);
+    }
+
+    private static CommandResult runCommand(MeetBuddyParser parser, String commandText, Model model)
+            throws CommandException, ParseException {
+        Command command = parser.parseCommand(commandText);
+        if (command instanceof RunScriptCommand) {
+            throw new CommandException(MESSAGE_NESTED_SCRIPT);
+        }
+        return command.execute(model);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof RunScriptCommand)) {
+            return false;
+        }
+        RunScriptCommand otherCommand = (RunScriptCommand) other;
+        return scriptPath.equals(otherCommand.scriptPath)
+                && outputPath.equals(otherCommand.outputPath)
+                && isContinuingOnError == otherCommand.isContinuingOnError;
+    }
+}
@@ -6,6 +6,7 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MEETINGS;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.Messages;
@@ -13,6 +14,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.meetings.AttendeeUtil;
 import seedu.address.logic.commands.meetings.EditMeetingCommand.EditMeetingDescriptor;
 import seedu.address.model.Model;
 import seedu.address.model.group.Group;
@@ -61,24 +63,24 @@ public class AddPersonToMeetingConnectionCommand extends Command {
         }
         Meeting meetingToEdit = lastShownList.get(meetingIndex.getZeroBased());
         Meeting meetingEdited = createEditedMeeting(meetingToEdit, new EditMeetingDescriptor());
-        Set<Person> existedPersonsConnection = meetingToEdit.getConnectionToPerson();
+        Set<Person> personsConnection = getPersonsToConnect(model, meetingToEdit.getConnectionToPerson());
+        AttendeeUtil.checkNotDoubleBooked(model, meetingEdited, personsConnection, Optional.of(meetingToEdit));
         model.deleteAllPersonMeetingConnectionByMeeting(meetingToEdit);
-        addConnectionsToPersons(meetingEdited, model, existedPersonsConnection);
+        addConnectionsToPersons(meetingEdited, model, personsConnection);
         model.updateMeeting(meetingToEdit, meetingEdited);
         model.updateFilteredMeetingList(PREDICATE_SHOW_ALL_MEETINGS);
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
     /**
-     * This method will handle the connections that the user wants to add from both the g/ and p/
+     * Returns the persons that the user wants to build connection with this meeting, the existing ones and p/.
      * Duplicate person that the user wants to build connection with this meeting will be automatically removed.
      */
-    private void addConnectionsToPersons(Meeting toAdd, Model model,
-                                         Set<Person> existedPersonsConnection) throws CommandException {
+    private Set<Person> getPersonsToConnect(Model model, Set<Person> existedPersonsConnection)
+            throws CommandException {
         // Use set to ensure unique element.
         HashSet<Person> personsConnection = new HashSet<>();
         personsConnection.addAll(existedPersonsConnection);
-        toAdd.setPersonMeetingConnection(model.getPersonMeetingConnection());
 
         if (personsIndexToAdd.size() != 0) {
             List<Person> lastShownList = model.getFilteredPersonList();
@@ -97,6 +99,11 @@ public class AddPersonToMeetingConnectionCommand extends Command {
             throw new CommandException(MESSAGE_NO_PERSON_FOUND);
         }
 
+        return personsConnection;
+    }
+
+    private static void addConnectionsToPersons(Meeting toAdd, Model model, Set<Person> personsConnection) {
+        toAdd.setPersonMeetingConnection(model.getPersonMeetingConnection());
         for (Person allPersonToAddConnection : personsConnection) {
             model.addPersonMeetingConnection(allPersonToAddConnection, toAdd);
         }
@@ -129,7 +136,7 @@ public class AddPersonToMeetingConnectionCommand extends Command {
                 .orElse(meetingToEdit.getGroups());
 
         return new Meeting(updatedMeetingName, updatedStart,
-                updatedTerminate, updatedPriority, updatedDescription, updatedGroups);
+                updatedTerminate, updatedPriority, updatedDescription, updatedGroups, meetingToEdit.getRecurrence());
     }
 
     @Override
@@ -131,7 +131,7 @@ public class DeletePersonToMeetingConnectionCommand extends Command {
                 .orElse(meetingToEdit.getGroups());
 
         return new Meeting(updatedMeetingName, updatedStart,
-                updatedTerminate, updatedPriority, updatedDescription, updatedGroups);
+                updatedTerminate, updatedPriority, updatedDescription, updatedGroups, meetingToEdit.getRecurrence());
     }
 
     @Override
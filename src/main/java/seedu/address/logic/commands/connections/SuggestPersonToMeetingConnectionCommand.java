@@ -0,0 +1,93 @@
+package seedu.address.logic.commands.connections;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.person.Person;
+
+/**
+ * Suggests the persons most likely to attend a meeting, from how often they met its related persons before and were
+ * related to meetings of its groups.
+ */
+public class SuggestPersonToMeetingConnectionCommand extends Command {
+    public static final String COMMAND_WORD = "suggestptm";
+
+    public static final int DEFAULT_COUNT = 5;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Suggests the persons most likely to attend a "
+            + "meeting, from the meetings they shared with its related persons and the meetings of its groups they "
+            + "were related to. " + DEFAULT_COUNT + " persons are suggested if the count is not given.\n"
+            + "Parameters: "
+            + "INDEX of the meeting (must be a positive integer) "
+            + "[" + PREFIX_COUNT + "COUNT]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + "1 "
+            + PREFIX_COUNT + "3";
+
+    public static final String MESSAGE_SUCCESS = "Persons likely to attend %1$s, the most likely first:";
+    public static final String MESSAGE_SUGGESTION = "\n%1$s (score %2$d)";
+    public static final String MESSAGE_SUGGESTION_SHOWN = "\n%1$s (score %2$d), p/%3$d";
+    public static final String MESSAGE_NO_SUGGESTIONS = "No persons to suggest for %1$s yet.";
+
+    private final Index meetingIndex;
+    private final int count;
+
+    /**
+     * @param meetingIndex of the meeting in the filtered meeting list to suggest persons for
+     * @param count the most persons to suggest
+     */
+    public SuggestPersonToMeetingConnectionCommand(Index meetingIndex, int count) {
+        requireNonNull(meetingIndex);
+        assert count > 0;
+        this.meetingIndex = meetingIndex;
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Meeting> lastShownList = model.getFilteredMeetingList();
+
+        if (meetingIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_MEETING_DISPLAYED_INDEX);
+        }
+        Meeting meeting = lastShownList.get(meetingIndex.getZeroBased());
+        List<Person> attendees = model.getPersonMeetingConnection().getPersonsByMeeting(meeting)
+                .asUnmodifiableObservableList();
+        List<Map.Entry<Person, Integer>> suggestions = model.getMeetingAnalytics()
+                .getLikelyAttendees(attendees, meeting.getGroups(), count);
+        if (suggestions.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_SUGGESTIONS, meeting.getName()));
+        }
+
+        // the persons displayed are given with their index, to be related to the meeting with addptm
+        List<Person> shownPersons = model.getFilteredPersonList();
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_SUCCESS, meeting.getName()));
+        for (Map.Entry<Person, Integer> suggestion : suggestions) {
+            int index = shownPersons.indexOf(suggestion.getKey());
+            result.append(index == -1
+                    ? String.format(MESSAGE_SUGGESTION, suggestion.getKey().getName(), suggestion.getValue())
+                    : String.format(MESSAGE_SUGGESTION_SHOWN, suggestion.getKey().getName(), suggestion.getValue(),
+                            Index.fromZeroBased(index).getOneBased()));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SuggestPersonToMeetingConnectionCommand // instanceof handles nulls
+                && meetingIndex.equals(((SuggestPersonToMeetingConnectionCommand) other).meetingIndex)
+                && count == ((SuggestPersonToMeetingConnectionCommand) other).count);
+    }
+}
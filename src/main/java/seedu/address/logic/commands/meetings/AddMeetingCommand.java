@@ -7,10 +7,12 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_CONNECTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.Messages;
@@ -34,7 +36,8 @@ public class AddMeetingCommand extends Command {
             + PREFIX_DESCRIPTION + "DESCRIPTION "
             + PREFIX_PRIORITY + "PRIORITY "
             + "[" + PREFIX_GROUP + "GROUP]..."
-            + "[" + PREFIX_PERSON_CONNECTION + "INDEX OF PERSON RELATED]...\n"
+            + "[" + PREFIX_PERSON_CONNECTION + "INDEX OF PERSON RELATED]..."
+            + "[" + PREFIX_RECURRENCE + "RECURRENCE]\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_NAME + "CS2103 Lecture "
             + PREFIX_START_TIME + "2021-03-12 14:00 "
@@ -90,19 +93,20 @@ public class AddMeetingCommand extends Command {
             throw new CommandException(String.format(MESSAGE_CLASH_MEETING, formatMeetingListString));
         }
 
-        addConnectionsToPersons(toAdd, model);
+        Set<Person> personsConnection = getPersonsToConnect(model);
+        AttendeeUtil.checkNotDoubleBooked(model, toAdd, personsConnection, Optional.empty());
+        addConnectionsToPersons(toAdd, model, personsConnection);
 
         model.addMeeting(toAdd);
         return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
     }
     /**
-     * This method will handle the connections that the user wants to add from both the g/ and p/
+     * Returns the persons that the user wants to build connection with this meeting from the p/ indexes.
      * Duplicate person that the user wants to build connection with this meeting will be automatically removed.
      */
-    private void addConnectionsToPersons(Meeting toAdd, Model model) throws CommandException {
+    private Set<Person> getPersonsToConnect(Model model) throws CommandException {
         // Use set to ensure unique element.
         HashSet<Person> personsConnection = new HashSet<>();
-        toAdd.setPersonMeetingConnection(model.getPersonMeetingConnection());
 
         if (getConnectionToPerson().size() != 0) {
             List<Person> lastShownList = model.getFilteredPersonList();
@@ -119,6 +123,11 @@ public class AddMeetingCommand extends Command {
             }
         }
 
+        return personsConnection;
+    }
+
+    private static void addConnectionsToPersons(Meeting toAdd, Model model, Set<Person> personsConnection) {
+        toAdd.setPersonMeetingConnection(model.getPersonMeetingConnection());
         for (Person allPersonToAddConnection : personsConnection) {
             model.addPersonMeetingConnection(allPersonToAddConnection, toAdd);
         }
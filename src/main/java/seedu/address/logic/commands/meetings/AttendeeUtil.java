@@ -0,0 +1,90 @@
+package seedu.address.logic.commands.meetings;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.group.Group;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.person.Person;
+
+/**
+ * Resolves the attendees of a meeting being planned, and their meetings.
+ */
+public class AttendeeUtil {
+
+    public static final String MESSAGE_DOUBLE_BOOKED = "These persons are already in other meetings at that time:\n%s";
+
+    /**
+     * Returns the persons at {@code personIndexes} of the displayed person list, followed by the persons in any of
+     * {@code groups}, without repetitions.
+     * @throws CommandException if an index is out of range of the displayed person list.
+     */
+    public static Set<Person> getAttendees(Model model, Collection<Index> personIndexes, Collection<Group> groups)
+            throws CommandException {
+        requireAllNonNull(model, personIndexes, groups);
+        List<Person> lastShownList = model.getFilteredPersonList();
+        Set<Person> attendees = new LinkedHashSet<>();
+        for (Index index : personIndexes) {
+            if (index.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSONS_DISPLAYED_INDEX);
+            }
+            attendees.add(lastShownList.get(index.getZeroBased()));
+        }
+        for (Group group : groups) {
+            attendees.addAll(model.findPersonsInGroup(group));
+        }
+        return attendees;
+    }
+
+    /**
+     * Returns the meetings that any of {@code attendees} is related to. The returned set compares meetings by
+     * identity.
+     */
+    public static Set<Meeting> getMeetingsOf(Model model, Collection<Person> attendees) {
+        requireAllNonNull(model, attendees);
+        Set<Meeting> meetings = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person attendee : attendees) {
+            model.getPersonMeetingConnection().getMeetingsByPerson(attendee).forEach(meetings::add);
+        }
+        return meetings;
+    }
+
+    /**
+     * Checks that none of {@code attendees} is related to a meeting, other than {@code replaced}, that clashes with
+     * {@code meeting}.
+     * @throws CommandException listing every double-booked attendee and the meetings they are already in.
+     */
+    public static void checkNotDoubleBooked(Model model, Meeting meeting, Collection<Person> attendees,
+                                            Optional<Meeting> replaced) throws CommandException {
+        requireAllNonNull(model, meeting, attendees, replaced);
+        if (attendees.isEmpty()) {
+            return;
+        }
+        Map<Person, List<Meeting>> doubleBookings =
+                model.getPersonMeetingConnection().findDoubleBookings(meeting, attendees, replaced);
+        if (doubleBookings.isEmpty()) {
+            return;
+        }
+        // persons are listed by name, so the message does not depend on the order they were given in
+        String rows = doubleBookings.entrySet().stream()
+                .sorted(Comparator.comparing(entry -> entry.getKey().getName().toString()))
+                .map(entry -> entry.getKey().getName() + ": " + entry.getValue().stream()
+                        .map(Meeting::getNameString).collect(Collectors.joining(", ")))
+                .collect(Collectors.joining("\n"));
+        throw new CommandException(String.format(MESSAGE_DOUBLE_BOOKED, rows));
+    }
+}
@@ -0,0 +1,169 @@
+package seedu.address.logic.commands.meetings;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_CONNECTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WORKING_HOURS;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.group.Group;
+import seedu.address.model.meeting.ClashCheck;
+import seedu.address.model.meeting.DateTime;
+import seedu.address.model.meeting.Description;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.Priority;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.MeetingPlacementFinder;
+import seedu.address.model.schedule.SimplePeriod;
+import seedu.address.model.schedule.WorkingHours;
+
+/**
+ * Adds a meeting to MeetBuddy at the best time when it clashes with no other meeting and all its related persons
+ * are free.
+ */
+public class AutoScheduleMeetingCommand extends Command {
+
+    public static final String COMMAND_WORD = "autom";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds a meeting to MeetBuddy at the earliest time, "
+            + "within the working hours of each day, when it clashes with no other meeting and all related persons "
+            + "are free. Times that would leave free time too short for a meeting as long are avoided.\n"
+            + "Parameters: "
+            + PREFIX_NAME + "NAME "
+            + PREFIX_START_TIME + "FIRST DATE "
+            + PREFIX_END_TIME + "LAST DATE "
+            + PREFIX_DURATION + "MINUTES "
+            + "[" + PREFIX_DESCRIPTION + "DESCRIPTION] "
+            + "[" + PREFIX_PRIORITY + "PRIORITY] "
+            + "[" + PREFIX_WORKING_HOURS + "HH:MM-HH:MM] "
+            + "[" + PREFIX_GROUP + "GROUP]..."
+            + "[" + PREFIX_PERSON_CONNECTION + "INDEX OF PERSON RELATED]...\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_NAME + "CS2103 Project Meeting "
+            + PREFIX_START_TIME + "2021-03-15 "
+            + PREFIX_END_TIME + "2021-03-19 "
+            + PREFIX_DURATION + "90 "
+            + PREFIX_DESCRIPTION + "Plan v1.3 "
+            + PREFIX_PRIORITY + "3 "
+            + PREFIX_GROUP + "SoC "
+            + PREFIX_PERSON_CONNECTION + "1 "
+            + PREFIX_PERSON_CONNECTION + "2";
+
+    public static final String MESSAGE_SUCCESS = "New meeting scheduled: %1$s";
+    public static final String MESSAGE_NO_TIME_FOUND = "There is no free time of %1$d minutes from %2$s to %3$s "
+            + "when the meeting clashes with no other meeting and all related persons are free";
+
+    private final MeetingName meetingName;
+    private final Description description;
+    private final Priority priority;
+    private final Set<Group> groups;
+    private final Set<Index> personIndexes;
+    private final LocalDate firstDate;
+    private final LocalDate lastDate;
+    private final Duration duration;
+    private final WorkingHours workingHours;
+
+    /**
+     * Creates a command that adds a meeting of {@code duration} with the given details, related to the persons at
+     * {@code personIndexes}, at the best time within {@code workingHours} from {@code firstDate} to
+     * {@code lastDate} inclusive.
+     */
+    public AutoScheduleMeetingCommand(MeetingName meetingName, Description description, Priority priority,
+                                      Set<Group> groups, Set<Index> personIndexes, LocalDate firstDate,
+                                      LocalDate lastDate, Duration duration, WorkingHours workingHours) {
+        requireAllNonNull(meetingName, description, priority, groups, personIndexes, firstDate, lastDate, duration,
+                workingHours);
+        this.meetingName = meetingName;
+        this.description = description;
+        this.priority = priority;
+        this.groups = groups;
+        this.personIndexes = personIndexes;
+        this.firstDate = firstDate;
+        this.lastDate = lastDate;
+        this.duration = duration;
+        this.workingHours = workingHours;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        LocalDateTime searchStart = workingHours.getStartOn(firstDate);
+        LocalDateTime searchEnd = workingHours.getEndOn(lastDate);
+        // a meeting's length does not depend on when it starts, so checking one placement checks them all
+        if (!Meeting.isValidStartTerminate(new DateTime(searchStart), new DateTime(searchStart.plus(duration)))) {
+            throw new CommandException(Meeting.MESSAGE_CONSTRAINTS);
+        }
+        Set<Person> relatedPersons = AttendeeUtil.getAttendees(model, personIndexes, Collections.emptySet());
+
+        // meetings may not overlap any other meeting unless only attendees are checked, and the related persons
+        // must be free
+        Set<Meeting> busy = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (model.getUserPrefs().getMeetingClashCheck() == ClashCheck.ALL_MEETINGS) {
+            busy.addAll(model.findMeetingsOverlapping(searchStart, searchEnd));
+        }
+        busy.addAll(AttendeeUtil.getMeetingsOf(model, relatedPersons));
+
+        Optional<SimplePeriod> placement =
+                new MeetingPlacementFinder(firstDate, lastDate, workingHours, duration).findBest(busy);
+        if (placement.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_TIME_FOUND, duration.toMinutes(), firstDate,
+                    lastDate));
+        }
+
+        Meeting toAdd = new Meeting(meetingName, new DateTime(placement.get().getStartLocalDateTime()),
+                new DateTime(placement.get().getTerminateLocalDateTime()), priority, description, groups);
+        toAdd.setPersonMeetingConnection(model.getPersonMeetingConnection());
+        for (Person person : relatedPersons) {
+            model.addPersonMeetingConnection(person, toAdd);
+        }
+        model.addMeeting(toAdd);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        AutoScheduleMeetingCommand that = (AutoScheduleMeetingCommand) o;
+        return meetingName.equals(that.meetingName)
+                && description.equals(that.description)
+                && priority.equals(that.priority)
+                && groups.equals(that.groups)
+                && personIndexes.equals(that.personIndexes)
+                && firstDate.equals(that.firstDate)
+                && lastDate.equals(that.lastDate)
+                && duration.equals(that.duration)
+                && workingHours.equals(that.workingHours);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(meetingName, description, priority, groups, personIndexes, firstDate, lastDate, duration,
+                workingHours);
+    }
+}
@@ -10,6 +10,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MEETINGS;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -29,6 +30,7 @@ import seedu.address.model.meeting.Description;
 import seedu.address.model.meeting.Meeting;
 import seedu.address.model.meeting.MeetingName;
 import seedu.address.model.meeting.Priority;
+import seedu.address.model.meeting.Recurrence;
 import seedu.address.model.person.Person;
 
 /**
@@ -124,14 +126,13 @@ public class EditMeetingCommand extends Command {
         }
 
         // Reconstruct connection.
-        Set<Person> existedPersonsConnection = meetingToEdit.getConnectionToPerson();
-        model.deleteAllPersonMeetingConnectionByMeeting(meetingToEdit);
         // If the user does not try to modify the persons related, then preserve the old connection.
-        if (getConnectionToPerson().isEmpty()) {
-            addConnectionsToPersons(editedMeeting, model, existedPersonsConnection);
-        } else {
-            addConnectionsToPersons(editedMeeting, model, new HashSet<Person>());
-        }
+        Set<Person> personsConnection = getConnectionToPerson().isEmpty()
+                ? getPersonsToConnect(model, meetingToEdit.getConnectionToPerson())
+                : getPersonsToConnect(model, new HashSet<Person>());
+        AttendeeUtil.checkNotDoubleBooked(model, editedMeeting, personsConnection, Optional.of(meetingToEdit));
+        model.deleteAllPersonMeetingConnectionByMeeting(meetingToEdit);
+        addConnectionsToPersons(editedMeeting, model, personsConnection);
         // End of Reconstruct Connection.
 
         model.updateMeeting(meetingToEdit, editedMeeting);
@@ -169,21 +170,27 @@ public class EditMeetingCommand extends Command {
         if (!Meeting.isValidStartTerminate(updatedStart, updatedTerminate)) {
             throw new InvalidMeetingException(Meeting.MESSAGE_CONSTRAINTS);
         };
+        // the meeting keeps repeating the same way from its new times
+        Duration updatedDuration = Duration.between(updatedStart.toLocalDateTime(), updatedTerminate.toLocalDateTime());
+        if (!meetingToEdit.getRecurrence()
+                .map(recurrence -> recurrence.canRepeat(updatedStart.toLocalDateTime(), updatedDuration))
+                .orElse(true)) {
+            throw new InvalidMeetingException(Recurrence.MESSAGE_MEETING_CONSTRAINTS);
+        }
 
         return new Meeting(updatedMeetingName, updatedStart,
-                updatedTerminate, updatedPriority, updatedDescription, updatedGroups);
+                updatedTerminate, updatedPriority, updatedDescription, updatedGroups, meetingToEdit.getRecurrence());
     }
 
     /**
-     * This method will handle the connections that the user wants to add from both the g/ and p/
+     * Returns the persons that the user wants to build connection with this meeting, the existing ones and p/.
      * Duplicate person that the user wants to build connection with this meeting will be automatically removed.
      */
-    private void addConnectionsToPersons(Meeting toAdd, Model model,
-                                         Set<Person> existedPersonsConnection) throws CommandException {
+    private Set<Person> getPersonsToConnect(Model model, Set<Person> existedPersonsConnection)
+            throws CommandException {
         // Use set to ensure unique element.
         HashSet<Person> personsConnection = new HashSet<>();
         personsConnection.addAll(existedPersonsConnection);
-        toAdd.setPersonMeetingConnection(model.getPersonMeetingConnection());
 
         if (!getConnectionToPerson().isEmpty()) {
             List<Person> lastShownList = model.getFilteredPersonList();
@@ -200,6 +207,11 @@ public class EditMeetingCommand extends Command {
             }
         }
 
+        return personsConnection;
+    }
+
+    private static void addConnectionsToPersons(Meeting toAdd, Model model, Set<Person> personsConnection) {
+        toAdd.setPersonMeetingConnection(model.getPersonMeetingConnection());
         for (Person allPersonToAddConnection : personsConnection) {
             model.addPersonMeetingConnection(allPersonToAddConnection, toAdd);
         }
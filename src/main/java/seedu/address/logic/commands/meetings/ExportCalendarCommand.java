@@ -0,0 +1,71 @@
+package seedu.address.logic.commands.meetings;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.storage.ics.IcsWriter;
+
+/**
+ * Writes the meetings in the displayed meeting list to an iCalendar (.ics) file.
+ */
+public class ExportCalendarCommand extends Command {
+
+    public static final String COMMAND_WORD = "exportics";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Writes the meetings in the displayed meeting list "
+            + "to an iCalendar (.ics) file, with their related persons as attendees.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/meetings.ics";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d meeting(s) to %2$s";
+    public static final String MESSAGE_WRITE_FAILED = "Could not write %1$s: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ExportCalendarCommand to write the displayed meetings to the file at {@code filePath}.
+     */
+    public ExportCalendarCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Meeting> meetings = model.getFilteredMeetingList();
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            // each meeting is written as it is reached, so the file is never held in memory
+            try (IcsWriter writer = new IcsWriter(Files.newBufferedWriter(filePath, StandardCharsets.UTF_8),
+                    Instant.now())) {
+                for (Meeting meeting : meetings) {
+                    writer.writeMeeting(meeting, model.getPersonMeetingConnection().getPersonsByMeeting(meeting)
+                            .asUnmodifiableObservableList());
+                }
+            }
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_WRITE_FAILED, filePath, e.getMessage()));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, meetings.size(), filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCalendarCommand // instanceof handles nulls
+                && filePath.equals(((ExportCalendarCommand) other).filePath));
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.address.logic.commands.meetings;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_CONNECTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WORKING_HOURS;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.DateTimeUtil;
+import seedu.address.model.Model;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.FreeSlotFinder;
+import seedu.address.model.schedule.SimplePeriod;
+import seedu.address.model.schedule.WorkingHours;
+
+/**
+ * Finds the earliest times when all the given persons, and all the persons in the given groups, are free.
+ */
+public class FindFreeSlotCommand extends Command {
+
+    public static final String COMMAND_WORD = "freem";
+
+    public static final int MAX_SLOTS_SHOWN = 5;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the earliest times when all the given persons "
+            + "and all persons in the given groups are free, within the working hours of each day.\n"
+            + "Parameters: "
+            + "[" + PREFIX_PERSON_CONNECTION + "INDEX OF PERSON]... "
+            + "[" + PREFIX_GROUP + "GROUP]... "
+            + PREFIX_START_TIME + "FIRST DATE "
+            + PREFIX_END_TIME + "LAST DATE "
+            + PREFIX_DURATION + "MINUTES "
+            + "[" + PREFIX_WORKING_HOURS + "HH:MM-HH:MM]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_PERSON_CONNECTION + "1 "
+            + PREFIX_GROUP + "SoC "
+            + PREFIX_START_TIME + "2021-03-15 "
+            + PREFIX_END_TIME + "2021-03-19 "
+            + PREFIX_DURATION + "60 "
+            + PREFIX_WORKING_HOURS + "10:00-17:00\n"
+            + "At least one person or group must be given. Working hours are " + WorkingHours.DEFAULT
+            + " by default.";
+
+    public static final String MESSAGE_NO_ATTENDEES = "None of the given groups has any person in it";
+    public static final String MESSAGE_SLOTS_FOUND = "Earliest free slots of at least %1$d minutes for %2$d "
+            + "person(s):\n%3$s";
+    public static final String MESSAGE_NO_SLOTS_FOUND = "No free slot of at least %1$d minutes for %2$d person(s) "
+            + "from %3$s to %4$s";
+
+    private final Set<Index> personIndexes;
+    private final Set<Group> groups;
+    private final LocalDate firstDate;
+    private final LocalDate lastDate;
+    private final Duration duration;
+    private final WorkingHours workingHours;
+
+    /**
+     * Creates a command that finds slots of at least {@code duration} within {@code workingHours} from
+     * {@code firstDate} to {@code lastDate} inclusive, when the persons at {@code personIndexes} and the persons in
+     * {@code groups} are all free.
+     */
+    public FindFreeSlotCommand(Set<Index> personIndexes, Set<Group> groups, LocalDate firstDate, LocalDate lastDate,
+                               Duration duration, WorkingHours workingHours) {
+        requireAllNonNull(personIndexes, groups, firstDate, lastDate, duration, workingHours);
+        this.personIndexes = personIndexes;
+        this.groups = groups;
+        this.firstDate = firstDate;
+        this.lastDate = lastDate;
+        this.duration = duration;
+        this.workingHours = workingHours;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Set<Person> attendees = AttendeeUtil.getAttendees(model, personIndexes, groups);
+        if (attendees.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_ATTENDEES);
+        }
+
+        FreeSlotFinder finder = new FreeSlotFinder(firstDate, lastDate, workingHours, duration);
+        List<SimplePeriod> slots = finder.findEarliest(AttendeeUtil.getMeetingsOf(model, attendees), MAX_SLOTS_SHOWN);
+        if (slots.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_SLOTS_FOUND, duration.toMinutes(), attendees.size(),
+                    firstDate, lastDate));
+        }
+
+        StringBuilder formattedSlots = new StringBuilder();
+        for (int i = 0; i < slots.size(); i++) {
+            SimplePeriod slot = slots.get(i);
+            formattedSlots.append(i + 1).append(". ")
+                    .append(DateTimeUtil.formatDateTime(slot.getStartLocalDateTime())).append(" to ")
+                    .append(DateTimeUtil.formatDateTime(slot.getTerminateLocalDateTime())).append("\n");
+        }
+        return new CommandResult(String.format(MESSAGE_SLOTS_FOUND, duration.toMinutes(), attendees.size(),
+                formattedSlots.toString().trim()));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        FindFreeSlotCommand that = (FindFreeSlotCommand) o;
+        return personIndexes.equals(that.personIndexes)
+                && groups.equals(that.groups)
+                && firstDate.equals(that.firstDate)
+                && lastDate.equals(that.lastDate)
+                && duration.equals(that.duration)
+                && workingHours.equals(that.workingHours);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(personIndexes, groups, firstDate, lastDate, duration, workingHours);
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic.commands.meetings;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.FLAG_FUZZY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
@@ -8,12 +10,17 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_CONNECTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
-import java.util.function.Supplier;
-import java.util.stream.Stream;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
@@ -28,9 +35,13 @@ public class FindMeetingCommand extends Command {
 
     public static final String COMMAND_WORD = "findm";
 
+    public static final String EXPLAIN_FLAG = "--explain";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds meetings with that has all the "
             + "specified values.\n"
             + "Parameters: "
+            + "[" + EXPLAIN_FLAG + "] "
+            + "[" + FLAG_FUZZY + "[=MAX_DISTANCE]] "
             + "[" + PREFIX_NAME + "NAME] "
             + "[" + PREFIX_TIME + "TIME] "
             + "[" + PREFIX_DESCRIPTION + "DESCRIPTION] "
@@ -45,19 +56,33 @@ public class FindMeetingCommand extends Command {
             + PREFIX_GROUP + "lectures "
             + PREFIX_GROUP + "SoC "
             + PREFIX_PERSON_CONNECTION + "1 "
-            + PREFIX_PERSON_CONNECTION + "2";
+            + PREFIX_PERSON_CONNECTION + "2\n"
+            + "Add " + EXPLAIN_FLAG + " to also show how the meetings were searched for.\n"
+            + "Add " + FLAG_FUZZY + " to also find names with words at most MAX_DISTANCE typos away, closest first.";
 
-    private final Predicate<Meeting> combinedPredicate;
+    private final List<MeetingFilter> filters;
 
     private final Set<Index> persons;
 
+    private final boolean isExplain;
+
     /**
      * The constructor of find meeting command.
      */
     public FindMeetingCommand(Predicate<Meeting> combinedPredicate, Set<Index> personsIndexesToSearch) {
+        this(List.of(MeetingFilter.scanOnly("custom predicate", combinedPredicate)), personsIndexesToSearch, false);
+    }
+
+    /**
+     * Creates a find meeting command that lists the meetings satisfying all of {@code filters} and related to all
+     * the persons at {@code personsIndexesToSearch}. If {@code isExplain} is true, the query plan used is shown.
+     */
+    public FindMeetingCommand(List<MeetingFilter> filters, Set<Index> personsIndexesToSearch, boolean isExplain) {
         super();
-        this.combinedPredicate = combinedPredicate;
+        requireAllNonNull(filters, personsIndexesToSearch);
+        this.filters = filters;
         persons = personsIndexesToSearch;
+        this.isExplain = isExplain;
     }
 
     /**
@@ -70,29 +95,73 @@ public class FindMeetingCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        Predicate<Meeting> containsPeoplePredicate = makeContainsPeoplePredicate(persons, model);
-        Predicate<Meeting> finalPredicate = combinedPredicate.and(containsPeoplePredicate);
-        model.updateFilteredMeetingList(finalPredicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_MEETINGS_LISTED_OVERVIEW, model.getFilteredMeetingList().size()));
+        List<MeetingFilter> allFilters = new ArrayList<>(filters);
+        allFilters.addAll(makeContainsPeopleFilters(persons, model));
+
+        Optional<String> descriptor = makeQueryDescriptor(allFilters);
+        MeetingQueryPlan plan = null;
+        Set<Meeting> matches;
+        if (isExplain || descriptor.isEmpty()) {
+            // an explained query always runs its plan, so that the plan can report what it did
+            plan = MeetingQueryPlan.plan(model, allFilters);
+            matches = plan.execute();
+        } else {
+            matches = model.getCachedQueryResult(descriptor.get(), () ->
+                    MeetingQueryPlan.plan(model, allFilters).execute());
+        }
+        model.updateFilteredMeetingList(matches::contains);
+        rankMatches(model, allFilters, matches);
+
+        String feedback = String.format(Messages.MESSAGE_MEETINGS_LISTED_OVERVIEW,
+                model.getFilteredMeetingList().size());
+        if (isExplain) {
+            feedback += "\n" + plan.describe();
+        }
+        return new CommandResult(feedback);
+    }
+
+    /**
+     * Returns a descriptor identifying the meetings satisfying all of {@code filters}, regardless of their order,
+     * or an empty {@code Optional} if a filter cannot be identified by its description.
+     */
+    private static Optional<String> makeQueryDescriptor(List<MeetingFilter> filters) {
+        if (!filters.stream().allMatch(MeetingFilter::isIdentifiedByDescription)) {
+            return Optional.empty();
+        }
+        return Optional.of(filters.stream()
+                .map(MeetingFilter::getDescription)
+                .sorted()
+                .collect(Collectors.joining("\n", COMMAND_WORD + "\n", "")));
     }
 
+    /**
+     * Sorts the matches by the rankings of the filters that rank meetings, such as fuzzy name searches.
+     */
+    private static void rankMatches(Model model, List<MeetingFilter> filters, Set<Meeting> matches) {
+        List<ToIntFunction<Meeting>> rankings = filters.stream()
+                .flatMap(filter -> filter.getRanking().stream())
+                .collect(Collectors.toList());
+        if (rankings.isEmpty()) {
+            return;
+        }
+        Map<Meeting, Integer> ranks = new IdentityHashMap<>();
+        for (Meeting meeting : matches) {
+            ranks.put(meeting, rankings.stream().mapToInt(ranking -> ranking.applyAsInt(meeting)).sum());
+        }
+        model.rankFilteredMeetingList(Comparator.comparingInt(meeting ->
+                ranks.getOrDefault(meeting, Integer.MAX_VALUE)));
+    }
 
-    private Predicate<Meeting> makeContainsPeoplePredicate(Set<Index> people, Model model) throws CommandException {
+    private List<MeetingFilter> makeContainsPeopleFilters(Set<Index> people, Model model) throws CommandException {
         List<Person> lastShownList = model.getFilteredPersonList();
 
-        Supplier<Stream<Integer>> zeroBasedIndexStreamSupplier = () ->
-                people.stream().map(index -> index.getZeroBased());
-
-        if (zeroBasedIndexStreamSupplier.get().anyMatch(integer -> integer
-                >= lastShownList.size())) {
+        if (people.stream().anyMatch(index -> index.getZeroBased() >= lastShownList.size())) {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSONS_DISPLAYED_INDEX);
         }
 
-        Predicate<Meeting> personPred = meeting -> zeroBasedIndexStreamSupplier.get().allMatch(index ->
-                meeting.containsPerson(lastShownList.get(index))
-        );
-        return personPred;
+        return people.stream()
+                .map(index -> MeetingFilter.hasAttendee(lastShownList.get(index.getZeroBased())))
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -104,11 +173,11 @@ public class FindMeetingCommand extends Command {
             return false;
         }
         FindMeetingCommand that = (FindMeetingCommand) o;
-        return persons.equals(that.persons);
+        return persons.equals(that.persons) && isExplain == that.isExplain;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(persons);
+        return Objects.hash(persons, isExplain);
     }
 }
@@ -0,0 +1,172 @@
+package seedu.address.logic.commands.meetings;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.meeting.ClashCheck;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.person.Person;
+import seedu.address.storage.ics.IcsEvent;
+import seedu.address.storage.ics.IcsReader;
+
+/**
+ * Adds the events of an iCalendar (.ics) file to the meeting book as meetings.
+ */
+public class ImportCalendarCommand extends Command {
+
+    public static final String COMMAND_WORD = "importics";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the events of an iCalendar (.ics) file as "
+            + "meetings. Attendees are related to the meetings if a person has their email.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/calendar.ics";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d meeting(s) from %2$s";
+    public static final String MESSAGE_SKIPPED = "\nSkipped %1$d event(s) already in MeetBuddy, %2$d clashing with "
+            + "other meetings and %3$d that could not be read";
+    public static final String MESSAGE_READ_FAILED = "Could not read %1$s: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCalendarCommand to import the events in the file at {@code filePath}.
+     */
+    public ImportCalendarCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Map<String, Person> personsByEmail = new HashMap<>();
+        for (Person person : model.getAddressBook().getPersonList()) {
+            personsByEmail.putIfAbsent(person.getEmail().value.toLowerCase(Locale.ROOT), person);
+        }
+
+        // the file is read one event at a time, and only the meetings made from them are kept
+        List<Meeting> meetings = new ArrayList<>();
+        Map<Meeting, Set<Person>> attendees = new IdentityHashMap<>();
+        int unreadableCount = 0;
+        try (IcsReader reader = new IcsReader(Files.newBufferedReader(filePath, StandardCharsets.UTF_8))) {
+            Optional<IcsEvent> event = reader.readEvent();
+            while (event.isPresent()) {
+                try {
+                    Meeting meeting = event.get().toModelType(ZoneId.systemDefault());
+                    meetings.add(meeting);
+                    attendees.put(meeting, event.get().getAttendeeEmails().stream().map(personsByEmail::get)
+                            .filter(Objects::nonNull).collect(Collectors.toSet()));
+                } catch (IllegalValueException e) {
+                    unreadableCount++;
+                }
+                event = reader.readEvent();
+            }
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, filePath, e.getMessage()));
+        }
+
+        // all clashes are found in one sweep of the meetings
+        Map<Meeting, List<Meeting>> clashes = model.getClashesAfterAdding(meetings);
+        Set<Meeting> duplicates = Collections.newSetFromMap(new IdentityHashMap<>());
+        clashes.forEach((meeting, clashingMeetings) -> {
+            if (clashingMeetings.stream().anyMatch(meeting::isSameMeeting)) {
+                duplicates.add(meeting);
+            }
+        });
+        List<Meeting> meetingsToAdd = selectMeetingsToAdd(model, meetings, attendees, clashes, duplicates);
+        model.executeInBatch(() -> {
+            model.addMeetings(meetingsToAdd);
+            for (Meeting meeting : meetingsToAdd) {
+                meeting.setPersonMeetingConnection(model.getPersonMeetingConnection());
+                attendees.get(meeting).forEach(person -> model.addPersonMeetingConnection(person, meeting));
+            }
+        });
+
+        String result = String.format(MESSAGE_SUCCESS, meetingsToAdd.size(), filePath);
+        int clashingCount = meetings.size() - meetingsToAdd.size() - duplicates.size();
+        if (!duplicates.isEmpty() || clashingCount > 0 || unreadableCount > 0) {
+            result += String.format(MESSAGE_SKIPPED, duplicates.size(), clashingCount, unreadableCount);
+        }
+        return new CommandResult(result);
+    }
+
+    /**
+     * Returns the meetings of {@code meetings}, in order, that can all be added together given their
+     * {@code clashes}: those that are not {@code duplicates} of another meeting, that do not clash with a meeting in
+     * the model, and that do not clash with a meeting before them in {@code meetings} that can be added.
+     * When clashes are checked for each attendee, only meetings sharing a related person clash.
+     */
+    private static List<Meeting> selectMeetingsToAdd(Model model, List<Meeting> meetings,
+                                                     Map<Meeting, Set<Person>> attendees,
+                                                     Map<Meeting, List<Meeting>> clashes, Set<Meeting> duplicates) {
+        boolean isPerAttendee = model.getUserPrefs().getMeetingClashCheck() == ClashCheck.PER_ATTENDEE;
+        Set<Meeting> excluded = Collections.newSetFromMap(new IdentityHashMap<>());
+        excluded.addAll(duplicates);
+        // a clash between two imported meetings is found for only one of them, so it is recorded for both
+        Map<Meeting, List<Meeting>> importedClashes = new IdentityHashMap<>();
+        for (Map.Entry<Meeting, List<Meeting>> entry : clashes.entrySet()) {
+            Meeting meeting = entry.getKey();
+            for (Meeting other : entry.getValue()) {
+                boolean isSharingPerson = !isPerAttendee || !Collections.disjoint(
+                        getPersons(model, meeting, attendees), getPersons(model, other, attendees));
+                if (meeting.isSameMeeting(other) || !isSharingPerson) {
+                    continue;
+                }
+                if (attendees.containsKey(other)) {
+                    importedClashes.computeIfAbsent(meeting, unused -> new ArrayList<>()).add(other);
+                    importedClashes.computeIfAbsent(other, unused -> new ArrayList<>()).add(meeting);
+                } else {
+                    excluded.add(meeting);
+                }
+            }
+        }
+
+        List<Meeting> meetingsToAdd = new ArrayList<>();
+        Set<Meeting> added = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Meeting meeting : meetings) {
+            boolean clashesWithAdded = importedClashes.getOrDefault(meeting, List.of()).stream()
+                    .anyMatch(added::contains);
+            if (!excluded.contains(meeting) && !clashesWithAdded) {
+                meetingsToAdd.add(meeting);
+                added.add(meeting);
+            }
+        }
+        return meetingsToAdd;
+    }
+
+    private static Set<Person> getPersons(Model model, Meeting meeting, Map<Meeting, Set<Person>> attendees) {
+        return attendees.containsKey(meeting)
+                ? attendees.get(meeting)
+                : new HashSet<>(model.getPersonMeetingConnection().getPersonsByMeeting(meeting)
+                        .asUnmodifiableObservableList());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCalendarCommand // instanceof handles nulls
+                && filePath.equals(((ImportCalendarCommand) other).filePath));
+    }
+}
@@ -0,0 +1,200 @@
+package seedu.address.logic.commands.meetings;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Model;
+import seedu.address.model.group.Group;
+import seedu.address.model.meeting.DateTime;
+import seedu.address.model.meeting.Description;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.MeetingTextIndex;
+import seedu.address.model.meeting.Priority;
+import seedu.address.model.person.Person;
+
+/**
+ * One condition of a {@code findm} query, which a meeting must satisfy to be listed.
+ * A filter always has a predicate that decides whether a meeting satisfies it. Filters backed by an index of the
+ * model can also look up a set of candidate meetings, which contains every meeting satisfying the filter.
+ *
+ * @see MeetingQueryPlan
+ */
+public class MeetingFilter {
+
+    private final String description;
+    private final Predicate<Meeting> predicate;
+    private final CandidateFinder candidateFinder;
+    private final Optional<ToIntFunction<Meeting>> ranking;
+    private final boolean isIdentifiedByDescription;
+
+    private MeetingFilter(String description, Predicate<Meeting> predicate, CandidateFinder candidateFinder) {
+        this(description, predicate, candidateFinder, Optional.empty(), true);
+    }
+
+    private MeetingFilter(String description, Predicate<Meeting> predicate, CandidateFinder candidateFinder,
+                          Optional<ToIntFunction<Meeting>> ranking, boolean isIdentifiedByDescription) {
+        requireAllNonNull(description, predicate, candidateFinder, ranking);
+        this.description = description;
+        this.predicate = predicate;
+        this.candidateFinder = candidateFinder;
+        this.ranking = ranking;
+        this.isIdentifiedByDescription = isIdentifiedByDescription;
+    }
+
+    /**
+     * Returns a filter that can only be checked meeting by meeting. As {@code description} need not tell
+     * {@code predicate} apart from other predicates, results of queries with this filter are never cached.
+     */
+    public static MeetingFilter scanOnly(String description, Predicate<Meeting> predicate) {
+        return new MeetingFilter(description, predicate, model -> Optional.empty(), Optional.empty(), false);
+    }
+
+    /**
+     * Returns a filter for the meetings whose name contains {@code name}.
+     */
+    public static MeetingFilter nameContains(MeetingName name) {
+        Predicate<Meeting> predicate = meeting -> meeting.containsName(name);
+        CandidateFinder candidateFinder = model -> model.findMeetingNameCandidates(name);
+        return new MeetingFilter("name contains \"" + name + "\"", predicate, candidateFinder);
+    }
+
+    /**
+     * Returns a filter for the meetings whose name has, for every word of {@code name}, a word within
+     * {@code maxDistance} edits of it, ignoring case. Matching meetings are ranked by the sum of the distances.
+     */
+    public static MeetingFilter nameNear(MeetingName name, int maxDistance) {
+        Set<String> queryWords = MeetingTextIndex.getWords(name.toString());
+        ToIntFunction<Meeting> nameDistance = meeting -> getNameDistance(queryWords, meeting, maxDistance);
+        Predicate<Meeting> predicate = meeting -> nameDistance.applyAsInt(meeting) != Integer.MAX_VALUE;
+        CandidateFinder candidateFinder = model -> Optional.of(model.findMeetingsWithNameNear(name, maxDistance)
+                .keySet());
+        return new MeetingFilter("name within " + maxDistance + " edits of \"" + name + "\"", predicate,
+                candidateFinder, Optional.of(nameDistance), true);
+    }
+
+    /**
+     * Returns the sum, over {@code queryWords}, of the distance to the closest word in the name of {@code meeting},
+     * or {@code Integer.MAX_VALUE} if a query word is more than {@code maxDistance} edits from every word.
+     */
+    private static int getNameDistance(Set<String> queryWords, Meeting meeting, int maxDistance) {
+        Set<String> nameWords = MeetingTextIndex.getWords(meeting.getName().toString());
+        int totalDistance = 0;
+        for (String queryWord : queryWords) {
+            int closest = nameWords.stream()
+                    .mapToInt(nameWord -> StringUtil.editDistance(queryWord, nameWord))
+                    .min()
+                    .orElse(Integer.MAX_VALUE);
+            if (closest > maxDistance) {
+                return Integer.MAX_VALUE;
+            }
+            totalDistance += closest;
+        }
+        return totalDistance;
+    }
+
+    /**
+     * Returns a filter for the meetings whose description contains {@code description}.
+     */
+    public static MeetingFilter descriptionContains(Description description) {
+        Predicate<Meeting> predicate = meeting -> meeting.containsDescription(description);
+        CandidateFinder candidateFinder = model -> model.findMeetingDescriptionCandidates(description);
+        return new MeetingFilter("description contains \"" + description + "\"", predicate, candidateFinder);
+    }
+
+    /**
+     * Returns a filter for the meetings taking place at {@code time}.
+     */
+    public static MeetingFilter containsTime(DateTime time) {
+        Predicate<Meeting> predicate = meeting -> meeting.containsTime(time);
+        CandidateFinder candidateFinder = model -> Optional.of(model.findMeetingsOnDateOf(time));
+        return new MeetingFilter("time " + time.toIsoFormatString(), predicate, candidateFinder);
+    }
+
+    /**
+     * Returns a filter for the meetings in {@code group}.
+     */
+    public static MeetingFilter inGroup(Group group) {
+        Predicate<Meeting> predicate = meeting -> meeting.containsGroup(group);
+        CandidateFinder candidateFinder = model -> Optional.of(model.findMeetingsInGroup(group));
+        return new MeetingFilter("group " + group.getGroupName(), predicate, candidateFinder);
+    }
+
+    /**
+     * Returns a filter for the meetings with {@code priority}.
+     */
+    public static MeetingFilter hasPriority(Priority priority) {
+        Predicate<Meeting> predicate = meeting -> meeting.hasPriority(priority);
+        CandidateFinder candidateFinder = model -> Optional.of(model.findMeetingsWithPriority(priority));
+        return new MeetingFilter("priority " + priority, predicate, candidateFinder);
+    }
+
+    /**
+     * Returns a filter for the meetings that {@code person} is related to.
+     */
+    public static MeetingFilter hasAttendee(Person person) {
+        Predicate<Meeting> predicate = meeting -> meeting.containsPerson(person);
+        CandidateFinder candidateFinder = model -> {
+            Set<Meeting> meetings = Collections.newSetFromMap(new IdentityHashMap<>());
+            model.getPersonMeetingConnection().getMeetingsByPerson(person).forEach(meetings::add);
+            return Optional.of(meetings);
+        };
+        return new MeetingFilter("person " + person.getName(), predicate, candidateFinder);
+    }
+
+    /**
+     * Returns a description of this filter for query plans.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Returns true if filters with the same description as this filter always hold for the same meetings.
+     */
+    public boolean isIdentifiedByDescription() {
+        return isIdentifiedByDescription;
+    }
+
+    /**
+     * Returns true if {@code meeting} satisfies this filter.
+     */
+    public boolean test(Meeting meeting) {
+        return predicate.test(meeting);
+    }
+
+    /**
+     * Returns how to rank the meetings satisfying this filter, lowest first, if this filter ranks them.
+     */
+    public Optional<ToIntFunction<Meeting>> getRanking() {
+        return ranking;
+    }
+
+    /**
+     * Looks up the candidate meetings of this filter in the indexes of {@code model}. Returns an empty
+     * {@code Optional} if the filter is not backed by an index, or cannot use it.
+     */
+    public Optional<Set<Meeting>> findCandidates(Model model) {
+        return candidateFinder.find(model);
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    /**
+     * Looks up the candidate meetings of a filter in the indexes of a model.
+     */
+    @FunctionalInterface
+    private interface CandidateFinder {
+        Optional<Set<Meeting>> find(Model model);
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.logic.commands.meetings;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.Model;
+import seedu.address.model.meeting.Meeting;
+
+/**
+ * The plan used to find the meetings satisfying all the filters of a {@code findm} query.
+ *
+ * The candidate sets of the filters backed by an index are looked up first and ordered from smallest to largest.
+ * Only the meetings in the smallest set are visited, and they are kept only if they are in every other candidate
+ * set. The predicates of all filters then confirm the surviving meetings, as some indexes only narrow down the
+ * meetings. When no filter is backed by an index, every meeting is scanned.
+ */
+public class MeetingQueryPlan {
+
+    private final List<IndexLookup> lookups = new ArrayList<>();
+    private final List<MeetingFilter> filters;
+    private final Collection<Meeting> allMeetings;
+
+    private int numberOfSurvivors = -1;
+    private int numberOfMatches = -1;
+
+    private MeetingQueryPlan(List<MeetingFilter> filters, Collection<Meeting> allMeetings) {
+        this.filters = filters;
+        this.allMeetings = allMeetings;
+    }
+
+    /**
+     * Plans how to find the meetings in {@code model} that satisfy all of {@code filters}.
+     */
+    public static MeetingQueryPlan plan(Model model, List<MeetingFilter> filters) {
+        requireAllNonNull(model, filters);
+        MeetingQueryPlan plan = new MeetingQueryPlan(new ArrayList<>(filters), model.getUnmodifiableMeetingList());
+        for (MeetingFilter filter : filters) {
+            Optional<Set<Meeting>> candidates = filter.findCandidates(model);
+            candidates.ifPresent(meetings -> plan.lookups.add(new IndexLookup(filter, meetings)));
+        }
+        plan.lookups.sort(Comparator.comparingInt(lookup -> lookup.candidates.size()));
+        return plan;
+    }
+
+    /**
+     * Runs the plan and returns the matching meetings. The returned set compares meetings by identity.
+     */
+    public Set<Meeting> execute() {
+        Collection<Meeting> source = lookups.isEmpty() ? allMeetings : lookups.get(0).candidates;
+        Set<Meeting> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        int survivors = 0;
+        for (Meeting meeting : source) {
+            if (!isInAllCandidateSets(meeting)) {
+                continue;
+            }
+            survivors++;
+            if (filters.stream().allMatch(filter -> filter.test(meeting))) {
+                matches.add(meeting);
+            }
+        }
+        numberOfSurvivors = survivors;
+        numberOfMatches = matches.size();
+        return matches;
+    }
+
+    private boolean isInAllCandidateSets(Meeting meeting) {
+        for (int i = 1; i < lookups.size(); i++) {
+            if (!lookups.get(i).candidates.contains(meeting)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a description of the plan, with the number of meetings at each step once the plan has been run.
+     */
+    public String describe() {
+        StringBuilder builder = new StringBuilder("Query plan over " + allMeetings.size() + " meetings:");
+        int step = 1;
+        if (lookups.isEmpty()) {
+            builder.append("\n").append(step++).append(". scan all meetings");
+        }
+        for (IndexLookup lookup : lookups) {
+            builder.append("\n").append(step++).append(". index lookup [").append(lookup.filter.getDescription())
+                    .append("]: ").append(lookup.candidates.size()).append(" candidates");
+        }
+        if (lookups.size() > 1) {
+            builder.append("\n").append(step++).append(". intersect, smallest first");
+            appendCount(builder, numberOfSurvivors, "survivors");
+        }
+        builder.append("\n").append(step).append(". check each meeting for:");
+        filters.forEach(filter -> builder.append(" [").append(filter.getDescription()).append("]"));
+        appendCount(builder, numberOfMatches, "matches");
+        return builder.toString();
+    }
+
+    private static void appendCount(StringBuilder builder, int count, String noun) {
+        if (count >= 0) {
+            builder.append(": ").append(count).append(" ").append(noun);
+        }
+    }
+
+    /**
+     * The candidate meetings of a filter, looked up in an index.
+     */
+    private static class IndexLookup {
+        private final MeetingFilter filter;
+        private final Set<Meeting> candidates;
+
+        IndexLookup(MeetingFilter filter, Set<Meeting> candidates) {
+            this.filter = filter;
+            this.candidates = candidates;
+        }
+    }
+}
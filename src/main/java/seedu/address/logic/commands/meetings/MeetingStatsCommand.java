@@ -0,0 +1,144 @@
+package seedu.address.logic.commands.meetings;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_CONNECTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+
+import java.time.LocalDate;
+import java.time.format.TextStyle;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.analytics.MeetingAnalytics;
+import seedu.address.model.analytics.MeetingStats;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+
+/**
+ * Shows the time spent in meetings over a period, by everyone, a person or a group, with the busiest days and, for
+ * a person, who they met most.
+ */
+public class MeetingStatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the time spent in meetings from the first date "
+            + "to the last, this week if not given, by the person at the index or in the group if either is given.\n"
+            + "Parameters: "
+            + "[" + PREFIX_PERSON_CONNECTION + "INDEX | " + PREFIX_GROUP + "GROUP] "
+            + "[" + PREFIX_START_TIME + "FIRST DATE " + PREFIX_END_TIME + "LAST DATE]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_PERSON_CONNECTION + "1 "
+            + PREFIX_START_TIME + "2021-03-01 "
+            + PREFIX_END_TIME + "2021-03-31";
+
+    public static final String MESSAGE_TOTAL = "Meeting time from %1$s to %2$s: %3$s";
+    public static final String MESSAGE_TOTAL_OF = "Meeting time of %1$s from %2$s to %3$s: %4$s";
+    public static final String MESSAGE_BUSIEST_DAYS = "\nBusiest days: %1$s";
+    public static final String MESSAGE_TOP_CO_ATTENDEES = "\nMet most with: %1$s";
+
+    public static final int MAX_BUSIEST_DAYS_SHOWN = 3;
+    public static final int MAX_CO_ATTENDEES_SHOWN = 5;
+
+    private final Optional<Index> personIndex;
+    private final Optional<Group> group;
+    private final LocalDate firstDate;
+    private final LocalDate lastDate;
+
+    /**
+     * Creates a MeetingStatsCommand for the meetings from {@code firstDate} to {@code lastDate}, of the person at
+     * {@code personIndex} or in {@code group}, of which at most one may be given, or of everyone.
+     */
+    public MeetingStatsCommand(Optional<Index> personIndex, Optional<Group> group, LocalDate firstDate,
+                               LocalDate lastDate) {
+        requireAllNonNull(personIndex, group, firstDate, lastDate);
+        assert personIndex.isEmpty() || group.isEmpty();
+        this.personIndex = personIndex;
+        this.group = group;
+        this.firstDate = firstDate;
+        this.lastDate = lastDate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        MeetingAnalytics analytics = model.getMeetingAnalytics();
+        StringBuilder result = new StringBuilder();
+        MeetingStats stats;
+        if (personIndex.isPresent()) {
+            List<Person> lastShownList = model.getFilteredPersonList();
+            if (personIndex.get().getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+            Person person = lastShownList.get(personIndex.get().getZeroBased());
+            stats = analytics.getStatsOf(person, firstDate, lastDate);
+            result.append(String.format(MESSAGE_TOTAL_OF, person.getName(), firstDate, lastDate,
+                    formatMinutes(stats.getTotalMinutes())));
+        } else if (group.isPresent()) {
+            stats = analytics.getStatsOf(group.get(), firstDate, lastDate);
+            result.append(String.format(MESSAGE_TOTAL_OF, "group " + group.get().groupName, firstDate, lastDate,
+                    formatMinutes(stats.getTotalMinutes())));
+        } else {
+            stats = analytics.getStats(firstDate, lastDate);
+            result.append(String.format(MESSAGE_TOTAL, firstDate, lastDate, formatMinutes(stats.getTotalMinutes())));
+        }
+
+        if (stats.getTotalMinutes() > 0) {
+            result.append(String.format(MESSAGE_BUSIEST_DAYS, stats.getBusiestDays(MAX_BUSIEST_DAYS_SHOWN).stream()
+                    .map(day -> formatDay(day.getKey()) + " (" + formatMinutes(day.getValue()) + ")")
+                    .collect(Collectors.joining(", "))));
+        }
+        List<Map.Entry<Person, Long>> coAttendees = stats.getTopCoAttendees(MAX_CO_ATTENDEES_SHOWN);
+        if (!coAttendees.isEmpty()) {
+            result.append(String.format(MESSAGE_TOP_CO_ATTENDEES, coAttendees.stream()
+                    .map(coAttendee -> coAttendee.getKey().getName() + " (" + formatMinutes(coAttendee.getValue())
+                            + ")")
+                    .collect(Collectors.joining(", "))));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    /**
+     * Formats {@code date} with its day of the week, such as "Mon 2021-03-15".
+     */
+    private static String formatDay(LocalDate date) {
+        return date.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.ENGLISH) + " " + date;
+    }
+
+    /**
+     * Formats {@code minutes} as hours and minutes, such as "12h 30m" or "0m".
+     */
+    private static String formatMinutes(long minutes) {
+        if (minutes < 60) {
+            return minutes + "m";
+        }
+        return minutes / 60 + "h" + (minutes % 60 == 0 ? "" : " " + minutes % 60 + "m");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof MeetingStatsCommand)) {
+            return false;
+        }
+        MeetingStatsCommand otherCommand = (MeetingStatsCommand) other;
+        return personIndex.equals(otherCommand.personIndex)
+                && group.equals(otherCommand.group)
+                && firstDate.equals(otherCommand.firstDate)
+                && lastDate.equals(otherCommand.lastDate);
+    }
+}
@@ -0,0 +1,198 @@
+package seedu.address.logic.commands.meetings;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OFFSET;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_MEETINGS;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.DateTimeUtil;
+import seedu.address.model.Model;
+import seedu.address.model.group.Group;
+import seedu.address.model.meeting.ClashCheck;
+import seedu.address.model.meeting.DateTime;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.person.Person;
+
+/**
+ * Moves every meeting starting in a period, optionally only those in some groups, by the same offset.
+ */
+public class ShiftMeetingCommand extends Command {
+
+    public static final String COMMAND_WORD = "shiftm";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Moves every meeting starting from START TIME up to "
+            + "END TIME, or only those in any of the given groups, by the same offset.\n"
+            + "Parameters: "
+            + PREFIX_START_TIME + "START TIME "
+            + PREFIX_END_TIME + "END TIME "
+            + PREFIX_OFFSET + "OFFSET "
+            + "[" + PREFIX_GROUP + "GROUP]...\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_START_TIME + "2021-03-15 00:00 "
+            + PREFIX_END_TIME + "2021-03-22 00:00 "
+            + PREFIX_OFFSET + "+7d "
+            + PREFIX_GROUP + "SoC";
+
+    public static final String MESSAGE_SUCCESS = "Moved %1$d meeting(s) by %2$s";
+    public static final String MESSAGE_NO_MEETINGS = "No meeting that does not repeat starts from %1$s to %2$s";
+    public static final String MESSAGE_DUPLICATE_MEETING = "Meeting %1$s would be moved onto the same meeting";
+    public static final String MESSAGE_CLASH_MEETINGS = "These meetings would clash with other meetings after "
+            + "being moved:\n%s";
+
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    private final Duration offset;
+    private final Set<Group> groups;
+
+    /**
+     * Creates a command that moves the meetings starting from {@code start} (inclusive) to {@code end} (exclusive)
+     * by {@code offset}, only those in any of {@code groups} if there are any.
+     */
+    public ShiftMeetingCommand(LocalDateTime start, LocalDateTime end, Duration offset, Set<Group> groups) {
+        requireAllNonNull(start, end, offset, groups);
+        this.start = start;
+        this.end = end;
+        this.offset = offset;
+        this.groups = groups;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        // repeating meetings are left alone, as their last date and skipped dates would have to move too
+        List<Meeting> targets = model.findMeetingsOverlapping(start, end).stream()
+                .filter(meeting -> !meeting.isRecurring())
+                .filter(meeting -> !meeting.getStartLocalDateTime().isBefore(start))
+                .filter(meeting -> groups.isEmpty() || meeting.getGroups().stream().anyMatch(groups::contains))
+                .collect(Collectors.toList());
+        if (targets.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_MEETINGS, DateTimeUtil.formatDateTime(start),
+                    DateTimeUtil.formatDateTime(end)));
+        }
+
+        List<Meeting> shiftedMeetings = targets.stream().map(this::createShiftedMeeting).collect(Collectors.toList());
+        Map<Meeting, Meeting> targetOf = new IdentityHashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            targetOf.put(shiftedMeetings.get(i), targets.get(i));
+        }
+        checkClashes(model, model.getClashesAfterReplacing(targets, shiftedMeetings), targetOf);
+
+        List<Set<Person>> personsConnection = targets.stream()
+                .map(meeting -> getRelatedPersons(model, meeting))
+                .collect(Collectors.toList());
+        // Every meeting is replaced at once, so the meeting list changes, and the data is saved, only once.
+        model.executeInBatch(() -> {
+            targets.forEach(model::deleteAllPersonMeetingConnectionByMeeting);
+            model.updateMeetings(targets, shiftedMeetings);
+            for (int i = 0; i < shiftedMeetings.size(); i++) {
+                Meeting shiftedMeeting = shiftedMeetings.get(i);
+                shiftedMeeting.setPersonMeetingConnection(model.getPersonMeetingConnection());
+                personsConnection.get(i).forEach(person -> model.addPersonMeetingConnection(person, shiftedMeeting));
+            }
+        });
+        model.updateFilteredMeetingList(PREDICATE_SHOW_ALL_MEETINGS);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, targets.size(), formatOffset(offset)));
+    }
+
+    private Meeting createShiftedMeeting(Meeting meeting) {
+        return new Meeting(meeting.getName(), new DateTime(meeting.getStartLocalDateTime().plus(offset)),
+                new DateTime(meeting.getTerminateLocalDateTime().plus(offset)), meeting.getPriority(),
+                meeting.getDescription(), meeting.getGroups());
+    }
+
+    /**
+     * Checks that no moved meeting would be the same as, or clash with, a meeting that stays. When clashes are
+     * checked for each attendee, only meetings sharing a related person clash.
+     */
+    private static void checkClashes(Model model, Map<Meeting, List<Meeting>> clashes, Map<Meeting, Meeting> targetOf)
+            throws CommandException {
+        boolean isPerAttendee = model.getUserPrefs().getMeetingClashCheck() == ClashCheck.PER_ATTENDEE;
+        List<String> rows = new ArrayList<>();
+        for (Map.Entry<Meeting, List<Meeting>> entry : clashes.entrySet()) {
+            Meeting shiftedMeeting = entry.getKey();
+            List<String> clashDescriptions = new ArrayList<>();
+            for (Meeting clash : entry.getValue()) {
+                if (shiftedMeeting.isSameMeeting(clash)) {
+                    throw new CommandException(String.format(MESSAGE_DUPLICATE_MEETING, shiftedMeeting.getName()));
+                }
+                if (!isPerAttendee) {
+                    clashDescriptions.add(clash.getNameString());
+                    continue;
+                }
+                Set<Person> sharedPersons = getRelatedPersons(model, targetOf.get(shiftedMeeting));
+                sharedPersons.retainAll(getRelatedPersons(model, clash));
+                if (!sharedPersons.isEmpty()) {
+                    clashDescriptions.add(clash.getNameString() + " (" + sharedPersons.stream()
+                            .map(person -> person.getName().toString()).sorted()
+                            .collect(Collectors.joining(", ")) + ")");
+                }
+            }
+            if (!clashDescriptions.isEmpty()) {
+                rows.add(shiftedMeeting.getNameString() + ": " + String.join(", ", clashDescriptions));
+            }
+        }
+        if (!rows.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_CLASH_MEETINGS, String.join("\n", rows)));
+        }
+    }
+
+    private static Set<Person> getRelatedPersons(Model model, Meeting meeting) {
+        return new HashSet<>(model.getPersonMeetingConnection().getPersonsByMeeting(meeting)
+                .asUnmodifiableObservableList());
+    }
+
+    /**
+     * Formats {@code offset} as a signed number of days, hours and minutes, such as "+1d 2h" or "-30m".
+     */
+    private static String formatOffset(Duration offset) {
+        Duration length = offset.abs();
+        List<String> parts = new ArrayList<>();
+        if (length.toDaysPart() > 0) {
+            parts.add(length.toDaysPart() + "d");
+        }
+        if (length.toHoursPart() > 0) {
+            parts.add(length.toHoursPart() + "h");
+        }
+        if (length.toMinutesPart() > 0) {
+            parts.add(length.toMinutesPart() + "m");
+        }
+        return (offset.isNegative() ? "-" : "+") + String.join(" ", parts);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ShiftMeetingCommand)) {
+            return false;
+        }
+        ShiftMeetingCommand otherCommand = (ShiftMeetingCommand) other;
+        return start.equals(otherCommand.start)
+                && end.equals(otherCommand.end)
+                && offset.equals(otherCommand.offset)
+                && groups.equals(otherCommand.groups);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end, offset, groups);
+    }
+}
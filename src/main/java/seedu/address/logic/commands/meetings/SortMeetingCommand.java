@@ -39,28 +39,8 @@ public class SortMeetingCommand extends Command {
      * The constructor of sort meeting command.
      */
     public SortMeetingCommand(MeetingSortOption sortOption, MeetingSortDirection sortDirection) {
-        switch (sortOption) {
-        case NAME:
-            meetingComparator = Comparator.comparing(meeting -> meeting.getName().toString(),
-                    String.CASE_INSENSITIVE_ORDER);
-            break;
-        case START:
-            meetingComparator = Comparator.comparing(meeting -> meeting.getStart());
-            break;
-        case END:
-            meetingComparator = Comparator.comparing(meeting -> meeting.getTerminate());
-            break;
-        case PRIORITY:
-            meetingComparator = Comparator.comparing(meeting -> meeting.getPriority().toString(),
-                    String.CASE_INSENSITIVE_ORDER);
-            break;
-        case DESCRIPTION:
-            meetingComparator = Comparator.comparing(meeting -> meeting.getDescription().toString(),
-                    String.CASE_INSENSITIVE_ORDER);
-            break;
-        default:
-            break;
-        }
+        // compare precomputed keys, so that sorting does not convert and case-fold the fields on every comparison
+        meetingComparator = Comparator.comparing(meeting -> meeting.getSortKey(sortOption));
         if (sortDirection == MeetingSortDirection.DESC) {
             meetingComparator = meetingComparator.reversed();
         }
@@ -0,0 +1,57 @@
+package seedu.address.logic.commands.notes;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.note.NoteTextIndex.PREFIX_WILDCARD;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.note.Note;
+
+/**
+ * Finds and lists all notes whose content contains any of the argument keywords, most relevant first.
+ * Keyword matching is case insensitive.
+ */
+public class FindNoteCommand extends Command {
+
+    public static final String COMMAND_WORD = "findn";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all notes containing any of "
+            + "the specified keywords (case-insensitive) and displays them, most relevant first, as a list with "
+            + "index numbers.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "End a keyword with " + PREFIX_WILDCARD + " to also find words starting with it.\n"
+            + "Example: " + COMMAND_WORD + " tutorial lab" + PREFIX_WILDCARD;
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a find note command that lists the notes containing any of {@code keywords}.
+     */
+    public FindNoteCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Map<Note, Double> scores = model.searchNotes(keywords);
+        model.updateFilteredNoteList(scores::containsKey);
+        model.sortFilteredNoteList(Comparator.comparingDouble(note -> -scores.getOrDefault(note, 0.0)));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_NOTES_LISTED_OVERVIEW, model.getFilteredNoteList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindNoteCommand // instanceof handles nulls
+                && keywords.equals(((FindNoteCommand) other).keywords)); // state check
+    }
+}
@@ -14,13 +14,13 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.meetings.EditMeetingCommand.EditMeetingDescriptor;
 import seedu.address.model.Model;
+import seedu.address.model.connection.PersonMeetingList;
 import seedu.address.model.group.Group;
 import seedu.address.model.meeting.DateTime;
 import seedu.address.model.meeting.Description;
 import seedu.address.model.meeting.Meeting;
 import seedu.address.model.meeting.MeetingName;
 import seedu.address.model.meeting.Priority;
-import seedu.address.model.meeting.UniqueMeetingList;
 import seedu.address.model.person.Person;
 
 /**
@@ -54,11 +54,17 @@ public class DeletePersonCommand extends Command {
 
         Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
         // If this person is related to some meetings...
-        if (!model.getFilteredMeetingListByPersonConnection(personToDelete).isEmpty()) {
-            updatePersonMeetingConnection(personToDelete, model);
+        boolean hasRelatedMeetings = !model.getFilteredMeetingListByPersonConnection(personToDelete).isEmpty();
+        // Every related meeting is recreated, so batch the changes to notify the meeting list only once.
+        model.executeInBatch(() -> {
+            if (hasRelatedMeetings) {
+                updatePersonMeetingConnection(personToDelete, model);
+            }
+            model.deletePerson(personToDelete);
+        });
+        if (hasRelatedMeetings) {
             model.updateFilteredMeetingList(PREDICATE_SHOW_ALL_MEETINGS);
         }
-        model.deletePerson(personToDelete);
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, personToDelete));
     }
 
@@ -70,7 +76,7 @@ public class DeletePersonCommand extends Command {
     }
 
     private void updatePersonMeetingConnection(Person personToDelete, Model model) {
-        UniqueMeetingList toDeletePersonRelatedMeetings = model.getUniqueMeetingListByPersonConnection(personToDelete);
+        PersonMeetingList toDeletePersonRelatedMeetings = model.getMeetingListByPersonConnection(personToDelete);
         Set<Meeting> toDeletePersonRelatedMeetingsSet = new HashSet<>();
         // Do a deep copy
         for (Meeting meeting : toDeletePersonRelatedMeetings) {
@@ -125,6 +131,6 @@ public class DeletePersonCommand extends Command {
                 .orElse(meetingToEdit.getGroups());
 
         return new Meeting(updatedMeetingName, updatedStart,
-                updatedTerminate, updatedPriority, updatedDescription, updatedGroups);
+                updatedTerminate, updatedPriority, updatedDescription, updatedGroups, meetingToEdit.getRecurrence());
     }
 }
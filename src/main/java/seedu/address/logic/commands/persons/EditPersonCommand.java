@@ -23,13 +23,13 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.meetings.EditMeetingCommand;
 import seedu.address.model.Model;
+import seedu.address.model.connection.PersonMeetingList;
 import seedu.address.model.group.Group;
 import seedu.address.model.meeting.DateTime;
 import seedu.address.model.meeting.Description;
 import seedu.address.model.meeting.Meeting;
 import seedu.address.model.meeting.MeetingName;
 import seedu.address.model.meeting.Priority;
-import seedu.address.model.meeting.UniqueMeetingList;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
@@ -91,12 +91,17 @@ public class EditPersonCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
 
-        if (!model.getFilteredMeetingListByPersonConnection(personToEdit).isEmpty()) {
-            updatePersonMeetingConnection(personToEdit, editedPerson, model);
+        boolean hasRelatedMeetings = !model.getFilteredMeetingListByPersonConnection(personToEdit).isEmpty();
+        // Every related meeting is recreated, so batch the changes to notify the meeting list only once.
+        model.executeInBatch(() -> {
+            if (hasRelatedMeetings) {
+                updatePersonMeetingConnection(personToEdit, editedPerson, model);
+            }
+            model.setPerson(personToEdit, editedPerson);
+        });
+        if (hasRelatedMeetings) {
             model.updateFilteredMeetingList(PREDICATE_SHOW_ALL_MEETINGS);
         }
-
-        model.setPerson(personToEdit, editedPerson);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, editedPerson));
     }
@@ -118,7 +123,7 @@ public class EditPersonCommand extends Command {
     }
 
     private void updatePersonMeetingConnection(Person personToEdit, Person editedPerson, Model model) {
-        UniqueMeetingList toEditPersonRelatedMeetings = model.getUniqueMeetingListByPersonConnection(personToEdit);
+        PersonMeetingList toEditPersonRelatedMeetings = model.getMeetingListByPersonConnection(personToEdit);
         Set<Meeting> toEditPersonRelatedMeetingsSet = new HashSet<>();
         // Do a deep copy
         for (Meeting meeting : toEditPersonRelatedMeetings) {
@@ -176,7 +181,7 @@ public class EditPersonCommand extends Command {
                 .orElse(meetingToEdit.getGroups());
 
         return new Meeting(updatedMeetingName, updatedStart,
-                updatedTerminate, updatedPriority, updatedDescription, updatedGroups);
+                updatedTerminate, updatedPriority, updatedDescription, updatedGroups, meetingToEdit.getRecurrence());
     }
 
     @Override
@@ -2,11 +2,16 @@ package seedu.address.logic.commands.persons;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import seedu.address.commons.core.Messages;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
 import seedu.address.model.group.GroupContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 
 /**
  * Finds and lists all persons in address book whose group contains any of the argument keywords.
@@ -30,11 +35,24 @@ public class FindGroupCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        Set<Person> matchingPersons = model.getCachedQueryResult(makeQueryDescriptor(), () ->
+                model.getAddressBook().getPersonList().stream().filter(predicate).collect(Collectors.toSet()));
+        model.updateFilteredPersonList(matchingPersons::contains);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    /**
+     * Returns a descriptor identifying the result of this command, which ignores the case and order of the keywords.
+     */
+    private String makeQueryDescriptor() {
+        return predicate.getKeywords().stream()
+                .map(StringUtil::foldCase)
+                .sorted()
+                .distinct()
+                .collect(Collectors.joining(" ", COMMAND_WORD + " ", ""));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -1,12 +1,20 @@
 package seedu.address.logic.commands.persons;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.FLAG_FUZZY;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.Messages;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
@@ -18,27 +26,64 @@ public class FindPersonCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Parameters: [" + FLAG_FUZZY + "[=MAX_DISTANCE]] KEYWORD [MORE_KEYWORDS]...\n"
+            + "With " + FLAG_FUZZY + ", names with a word at most MAX_DISTANCE typos away from a keyword are "
+            + "also found, closest first.\n"
             + "Example: " + COMMAND_WORD + " alice bob charlie";
 
     private final NameContainsKeywordsPredicate predicate;
 
+    private final int maxEditDistance;
+
     public FindPersonCommand(NameContainsKeywordsPredicate predicate) {
+        this(predicate, 0);
+    }
+
+    /**
+     * Creates a command that finds the persons whose name has a word within {@code maxEditDistance} edits of any of
+     * the keywords of {@code predicate}, ranked by distance. A distance of 0 finds exact matches only.
+     */
+    public FindPersonCommand(NameContainsKeywordsPredicate predicate, int maxEditDistance) {
         this.predicate = predicate;
+        this.maxEditDistance = maxEditDistance;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        String descriptor = makeQueryDescriptor();
+        if (maxEditDistance == 0) {
+            // Look the keywords up in the name index instead of testing the predicate against every person.
+            Set<Person> matchingPersons = model.getCachedQueryResult(descriptor, () ->
+                    model.findPersonsWithNameKeywords(predicate.getKeywords()));
+            model.updateFilteredPersonList(matchingPersons::contains);
+        } else {
+            Map<Person, Integer> distances = model.getCachedQueryResult(descriptor, () ->
+                    model.findPersonsWithNameKeywordsNear(predicate.getKeywords(), maxEditDistance));
+            model.updateFilteredPersonList(distances::containsKey);
+            model.rankFilteredPersonList(Comparator.comparingInt(person ->
+                    distances.getOrDefault(person, Integer.MAX_VALUE)));
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    /**
+     * Returns a descriptor identifying the result of this command, which ignores the case and order of the keywords.
+     */
+    private String makeQueryDescriptor() {
+        return predicate.getKeywords().stream()
+                .map(StringUtil::foldCase)
+                .sorted()
+                .distinct()
+                .collect(Collectors.joining(" ", COMMAND_WORD + " " + maxEditDistance + " ", ""));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindPersonCommand // instanceof handles nulls
-                && predicate.equals(((FindPersonCommand) other).predicate)); // state check
+                && predicate.equals(((FindPersonCommand) other).predicate) // state check
+                && maxEditDistance == ((FindPersonCommand) other).maxEditDistance);
     }
 }
@@ -0,0 +1,128 @@
+package seedu.address.logic.commands.persons;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonName;
+import seedu.address.storage.contacts.ContactReader;
+import seedu.address.storage.contacts.ContactRecord;
+
+/**
+ * Adds the contacts of a CSV or vCard file to the address book as persons.
+ */
+public class ImportPersonCommand extends Command {
+
+    public static final String COMMAND_WORD = "importp";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the contacts of a CSV file, with a header row "
+            + "naming the name, phone, email, address and groups columns, or a vCard (.vcf) file as persons.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/team.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d person(s) from %2$s";
+    public static final String MESSAGE_SKIPPED = "\nSkipped %1$d person(s) already in MeetBuddy and %2$d that could "
+            + "not be read";
+    public static final String MESSAGE_INVALID_CONTACT = "\nLine %1$d: %2$s";
+    public static final String MESSAGE_MORE_INVALID_CONTACTS = "\n...and %1$d more";
+    public static final String MESSAGE_READ_FAILED = "Could not read %1$s: %2$s";
+
+    /** The number of contacts that could not be read whose errors are shown. */
+    public static final int MAX_ERRORS_SHOWN = 10;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportPersonCommand to import the contacts in the file at {@code filePath}.
+     */
+    public ImportPersonCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<ContactRecord> records = new ArrayList<>();
+        try (ContactReader reader = ContactReader.open(filePath)) {
+            Optional<ContactRecord> record = reader.readContact();
+            while (record.isPresent()) {
+                records.add(record.get());
+                record = reader.readContact();
+            }
+        } catch (IOException | IllegalValueException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, filePath, e.getMessage()));
+        }
+
+        // contacts are validated independently of each other, so they are validated in parallel, in file order
+        List<ValidatedContact> contacts = records.parallelStream().map(ValidatedContact::new)
+                .collect(Collectors.toList());
+
+        List<Person> personsToAdd = new ArrayList<>();
+        Set<PersonName> namesToAdd = new HashSet<>();
+        List<String> errors = new ArrayList<>();
+        int duplicateCount = 0;
+        for (ValidatedContact contact : contacts) {
+            if (contact.person == null) {
+                errors.add(String.format(MESSAGE_INVALID_CONTACT, contact.lineNumber, contact.error));
+            } else if (model.hasPerson(contact.person) || !namesToAdd.add(contact.person.getName())) {
+                duplicateCount++;
+            } else {
+                personsToAdd.add(contact.person);
+            }
+        }
+        model.addPersons(personsToAdd);
+
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_SUCCESS, personsToAdd.size(), filePath));
+        if (duplicateCount > 0 || !errors.isEmpty()) {
+            result.append(String.format(MESSAGE_SKIPPED, duplicateCount, errors.size()));
+        }
+        errors.stream().limit(MAX_ERRORS_SHOWN).forEach(result::append);
+        if (errors.size() > MAX_ERRORS_SHOWN) {
+            result.append(String.format(MESSAGE_MORE_INVALID_CONTACTS, errors.size() - MAX_ERRORS_SHOWN));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportPersonCommand // instanceof handles nulls
+                && filePath.equals(((ImportPersonCommand) other).filePath));
+    }
+
+    /**
+     * A contact converted into a person, or the reason it could not be.
+     */
+    private static class ValidatedContact {
+        private final int lineNumber;
+        private final Person person;
+        private final String error;
+
+        ValidatedContact(ContactRecord record) {
+            lineNumber = record.getLineNumber();
+            Person convertedPerson = null;
+            String conversionError = null;
+            try {
+                convertedPerson = record.toModelType();
+            } catch (IllegalValueException e) {
+                conversionError = e.getMessage();
+            }
+            person = convertedPerson;
+            error = conversionError;
+        }
+    }
+}
@@ -43,26 +43,8 @@ public class SortPersonCommand extends Command {
         personSortOption = sortOption;
         personSortDirection = sortDirection;
 
-        switch (sortOption) {
-        case NAME:
-            personComparator = Comparator.comparing(person -> person.getName().toString(),
-                    String.CASE_INSENSITIVE_ORDER);
-            break;
-        case EMAIL:
-            personComparator = Comparator.comparing(person -> person.getEmail().toString(),
-                    String.CASE_INSENSITIVE_ORDER);
-            break;
-        case PHONE:
-            personComparator = Comparator.comparing(person -> person.getPhone().toString(),
-                    String.CASE_INSENSITIVE_ORDER);
-            break;
-        case ADDRESS:
-            personComparator = Comparator.comparing(person -> person.getAddress().toString(),
-                    String.CASE_INSENSITIVE_ORDER);
-            break;
-        default:
-            break;
-        }
+        // compare precomputed keys, so that sorting does not convert and case-fold the fields on every comparison
+        personComparator = Comparator.comparing(person -> person.getSortKey(sortOption));
         if (sortDirection == PersonSortDirection.DESC) {
             personComparator = personComparator.reversed();
         }
@@ -1,42 +1,48 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.parser.ArgumentTokenizer.SPAN_LENGTH;
+
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 /**
  * Stores mapping of prefixes to their respective arguments.
- * Each key may be associated with multiple argument values.
- * Values for a given key are stored in a list, and the insertion ordering is maintained.
- * Keys are unique, but the list of argument values may contain duplicate argument values, i.e. the same argument value
- * can be inserted multiple times for the same prefix.
+ * Each key may be associated with multiple argument values, which are kept in the order they appear.
+ * The values are kept as positions in the tokenized arguments string, and are only extracted when asked for.
  */
 public class ArgumentMultimap {
 
-    /** Prefixes mapped to their respective arguments**/
-    private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
+    private final String argsString;
+    private final Prefix[] prefixes;
+    /**
+     * For each argument, the index of its prefix in {@code prefixes}, -1 for the preamble, and the start and end of
+     * its untrimmed value in {@code argsString}. The preamble is always the first argument.
+     */
+    private final int[] spans;
+    private final int argumentCount;
 
     /**
-     * Associates the specified argument value with {@code prefix} key in this map.
-     * If the map previously contained a mapping for the key, the new value is appended to the list of existing values.
-     *
-     * @param prefix   Prefix key with which the specified argument value is to be associated
-     * @param argValue Argument value to be associated with the specified prefix key
+     * Creates a map of the {@code argumentCount} arguments recorded in {@code spans}.
      */
-    public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+    ArgumentMultimap(String argsString, Prefix[] prefixes, int[] spans, int argumentCount) {
+        assert argumentCount >= 1 && spans[0] == -1;
+        this.argsString = argsString;
+        this.prefixes = prefixes;
+        this.spans = spans;
+        this.argumentCount = argumentCount;
     }
 
     /**
      * Returns the last value of {@code prefix}.
      */
     public Optional<String> getValue(Prefix prefix) {
-        List<String> values = getAllValues(prefix);
-        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
+        for (int argument = argumentCount - 1; argument > 0; argument--) {
+            if (hasPrefix(argument, prefix)) {
+                return Optional.of(getValueOf(argument));
+            }
+        }
+        return Optional.empty();
     }
 
     /**
@@ -45,16 +51,38 @@ public class ArgumentMultimap {
      * Modifying the returned list will not affect the underlying data structure of the ArgumentMultimap.
      */
     public List<String> getAllValues(Prefix prefix) {
-        if (!argMultimap.containsKey(prefix)) {
-            return new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        for (int argument = 1; argument < argumentCount; argument++) {
+            if (hasPrefix(argument, prefix)) {
+                values.add(getValueOf(argument));
+            }
         }
-        return new ArrayList<>(argMultimap.get(prefix));
+        return values;
     }
 
     /**
      * Returns the preamble (text before the first valid prefix). Trims any leading/trailing spaces.
      */
     public String getPreamble() {
-        return getValue(new Prefix("")).orElse("");
+        return getValueOf(0);
+    }
+
+    private boolean hasPrefix(int argument, Prefix prefix) {
+        return prefixes[spans[argument * SPAN_LENGTH]].equals(prefix);
+    }
+
+    /**
+     * Returns the value of the {@code argument}th argument, trimmed as by {@link String#trim()}.
+     */
+    private String getValueOf(int argument) {
+        int start = spans[argument * SPAN_LENGTH + 1];
+        int end = spans[argument * SPAN_LENGTH + 2];
+        while (start < end && argsString.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && argsString.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return argsString.substring(start, end);
     }
 }
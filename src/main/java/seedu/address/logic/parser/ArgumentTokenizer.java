@@ -1,9 +1,6 @@
 package seedu.address.logic.parser;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -12,136 +9,115 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ * 4. Where prefixes overlap, such as {@code p/} and {@code pr/}, the longest one at a position is recognized.<br>
  */
 public class ArgumentTokenizer {
 
+    /** The number of ints recorded for each argument, see {@link ArgumentMultimap}. */
+    static final int SPAN_LENGTH = 3;
+
+    /** The number of arguments, including the preamble, room is first made for. */
+    private static final int INITIAL_ARGUMENT_CAPACITY = 8;
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
+     * The string is scanned once, from left to right, and only the positions of the values are recorded; the values
+     * themselves are extracted by the {@code ArgumentMultimap} when asked for.
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to tokenize the arguments string with
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
-        }
-
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
-     */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
-        ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        PrefixTable table = new PrefixTable(prefixes);
+
+        // each argument is recorded as the index of its prefix, -1 for the preamble, and the start and end of its value
+        int[] spans = new int[INITIAL_ARGUMENT_CAPACITY * SPAN_LENGTH];
+        int argumentCount = 1;
+        spans[0] = -1;
+        spans[1] = 0;
+
+        // a prefix is only valid after a whitespace, so the scan starts after the first character
+        int i = 1;
+        while (i < argsString.length()) {
+            int prefixIndex = argsString.charAt(i - 1) == ' ' ? table.findPrefixAt(argsString, i) : -1;
+            if (prefixIndex == -1) {
+                i++;
+                continue;
+            }
+            if ((argumentCount + 1) * SPAN_LENGTH > spans.length) {
+                spans = Arrays.copyOf(spans, spans.length * 2);
+            }
+            int prefixLength = prefixes[prefixIndex].getPrefix().length();
+            spans[(argumentCount - 1) * SPAN_LENGTH + 2] = i;
+            spans[argumentCount * SPAN_LENGTH] = prefixIndex;
+            spans[argumentCount * SPAN_LENGTH + 1] = i + prefixLength;
+            argumentCount++;
+            i += prefixLength;
         }
+        spans[(argumentCount - 1) * SPAN_LENGTH + 2] = argsString.length();
 
-        return argMultimap;
+        return new ArgumentMultimap(argsString, prefixes, spans, argumentCount);
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * The prefixes to tokenize with, looked up by the first character of the text at a position, so that positions
+     * that cannot start a prefix are passed over with one test.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
-    }
-
-    /**
-     * Represents a prefix's position in an arguments string.
-     */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
+    private static class PrefixTable {
+        private final Prefix[] prefixes;
+        /** The first characters of the prefixes, as bits of a set of the characters 0 to 127. */
+        private long lowFirstChars;
+        private long highFirstChars;
+        /** Whether a prefix starts with a character outside the set, in which case every position is checked. */
+        private boolean hasOtherFirstChars;
+
+        PrefixTable(Prefix[] prefixes) {
+            this.prefixes = prefixes;
+            for (Prefix prefix : prefixes) {
+                String text = prefix.getPrefix();
+                if (text.isEmpty()) {
+                    continue;
+                }
+                char firstChar = text.charAt(0);
+                if (firstChar < 64) {
+                    lowFirstChars |= 1L << firstChar;
+                } else if (firstChar < 128) {
+                    highFirstChars |= 1L << (firstChar - 64);
+                } else {
+                    hasOtherFirstChars = true;
+                }
+            }
         }
 
-        int getStartPosition() {
-            return startPosition;
+        /**
+         * Returns the index of the longest prefix that {@code argsString} has at {@code position}, or -1 if it has
+         * none.
+         */
+        int findPrefixAt(String argsString, int position) {
+            if (!mayStartPrefix(argsString.charAt(position))) {
+                return -1;
+            }
+            int longestIndex = -1;
+            int longestLength = 0;
+            for (int i = 0; i < prefixes.length; i++) {
+                String text = prefixes[i].getPrefix();
+                if (text.length() > longestLength && argsString.startsWith(text, position)) {
+                    longestIndex = i;
+                    longestLength = text.length();
+                }
+            }
+            return longestIndex;
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        private boolean mayStartPrefix(char c) {
+            if (c < 64) {
+                return (lowFirstChars & (1L << c)) != 0;
+            } else if (c < 128) {
+                return (highFirstChars & (1L << (c - 64))) != 0;
+            }
+            return hasOtherFirstChars;
         }
     }
 
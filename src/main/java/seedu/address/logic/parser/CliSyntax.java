@@ -24,10 +24,26 @@ public class CliSyntax {
     public static final Prefix PREFIX_DESCRIPTION = new Prefix("desc/");
     public static final Prefix PREFIX_PRIORITY = new Prefix("pr/");
     public static final Prefix PREFIX_PERSON_CONNECTION = new Prefix("p/");
+    public static final Prefix PREFIX_RECURRENCE = new Prefix("rec/");
 
     /* Prefix for meeting search */
     public static final Prefix PREFIX_TIME = new Prefix("time/");
 
+    /* Prefix for finding times to meet */
+    public static final Prefix PREFIX_DURATION = new Prefix("dur/");
+    public static final Prefix PREFIX_WORKING_HOURS = new Prefix("hours/");
+    /* Prefix for moving meetings */
+    public static final Prefix PREFIX_OFFSET = new Prefix("by/");
+    /* Prefix for suggesting persons to relate to a meeting */
+    public static final Prefix PREFIX_COUNT = new Prefix("k/");
+    /* Prefix for the results of a script */
+    public static final Prefix PREFIX_OUTPUT = new Prefix("out/");
+
+    /* Flags for name search, given before any prefix: --fuzzy or --fuzzy=MAX_DISTANCE */
+    public static final String FLAG_FUZZY = "--fuzzy";
+    /* Flag for running a script past the commands that fail, given before the file path */
+    public static final String FLAG_CONTINUE = "--continue";
+
 
 
 }
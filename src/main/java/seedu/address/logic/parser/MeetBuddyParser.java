@@ -10,45 +10,64 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListAllCommand;
+import seedu.address.logic.commands.RunScriptCommand;
 import seedu.address.logic.commands.connections.AddPersonToMeetingConnectionCommand;
 import seedu.address.logic.commands.connections.DeletePersonToMeetingConnectionCommand;
+import seedu.address.logic.commands.connections.SuggestPersonToMeetingConnectionCommand;
 import seedu.address.logic.commands.meetings.AddMeetingCommand;
+import seedu.address.logic.commands.meetings.AutoScheduleMeetingCommand;
 import seedu.address.logic.commands.meetings.DeleteMeetingCommand;
 import seedu.address.logic.commands.meetings.EditMeetingCommand;
+import seedu.address.logic.commands.meetings.ExportCalendarCommand;
+import seedu.address.logic.commands.meetings.FindFreeSlotCommand;
 import seedu.address.logic.commands.meetings.FindMeetingCommand;
+import seedu.address.logic.commands.meetings.ImportCalendarCommand;
 import seedu.address.logic.commands.meetings.ListMeetingCommand;
+import seedu.address.logic.commands.meetings.MeetingStatsCommand;
 import seedu.address.logic.commands.meetings.SetTimetableCommand;
+import seedu.address.logic.commands.meetings.ShiftMeetingCommand;
 import seedu.address.logic.commands.meetings.ShowMeetingCommand;
 import seedu.address.logic.commands.meetings.SortMeetingCommand;
 import seedu.address.logic.commands.meetings.UnsortMeetingCommand;
 import seedu.address.logic.commands.notes.AddNoteCommand;
 import seedu.address.logic.commands.notes.DeleteNoteCommand;
+import seedu.address.logic.commands.notes.FindNoteCommand;
 import seedu.address.logic.commands.persons.AddPersonCommand;
 import seedu.address.logic.commands.persons.DeletePersonCommand;
 import seedu.address.logic.commands.persons.EditPersonCommand;
 import seedu.address.logic.commands.persons.FindGroupCommand;
 import seedu.address.logic.commands.persons.FindPersonCommand;
+import seedu.address.logic.commands.persons.ImportPersonCommand;
 import seedu.address.logic.commands.persons.ListPersonCommand;
 import seedu.address.logic.commands.persons.SortPersonCommand;
 import seedu.address.logic.commands.persons.UnsortPersonCommand;
 import seedu.address.logic.commands.reminders.RefreshRemindersCommand;
 import seedu.address.logic.parser.connections.AddPersonToMeetingConnectionParser;
 import seedu.address.logic.parser.connections.DeletePersonToMeetingConnectionParser;
+import seedu.address.logic.parser.connections.SuggestPersonToMeetingConnectionParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.meetings.AddMeetingCommandParser;
+import seedu.address.logic.parser.meetings.AutoScheduleMeetingCommandParser;
 import seedu.address.logic.parser.meetings.DeleteMeetingCommandParser;
 import seedu.address.logic.parser.meetings.EditMeetingCommandParser;
+import seedu.address.logic.parser.meetings.ExportCalendarCommandParser;
+import seedu.address.logic.parser.meetings.FindFreeSlotCommandParser;
 import seedu.address.logic.parser.meetings.FindMeetingCommandParser;
+import seedu.address.logic.parser.meetings.ImportCalendarCommandParser;
+import seedu.address.logic.parser.meetings.MeetingStatsCommandParser;
 import seedu.address.logic.parser.meetings.SetTimetableCommandParser;
+import seedu.address.logic.parser.meetings.ShiftMeetingCommandParser;
 import seedu.address.logic.parser.meetings.ShowMeetingCommandParser;
 import seedu.address.logic.parser.meetings.SortMeetingCommandParser;
 import seedu.address.logic.parser.notes.AddNoteCommandParser;
 import seedu.address.logic.parser.notes.DeleteNoteCommandParser;
+import seedu.address.logic.parser.notes.FindNoteCommandParser;
 import seedu.address.logic.parser.persons.AddPersonCommandParser;
 import seedu.address.logic.parser.persons.DeletePersonCommandParser;
 import seedu.address.logic.parser.persons.EditPersonCommandParser;
 import seedu.address.logic.parser.persons.FindGroupCommandParser;
 import seedu.address.logic.parser.persons.FindPersonCommandParser;
+import seedu.address.logic.parser.persons.ImportPersonCommandParser;
 import seedu.address.logic.parser.persons.SortPersonCommandParser;
 
 /**
@@ -103,13 +122,25 @@ public class MeetBuddyParser {
                     .COMMAND_WORD:
             return new UnsortPersonCommand();
 
+        case ImportPersonCommand.COMMAND_WORD:
+            return new ImportPersonCommandParser().parse(arguments);
+
         //============================= Meeting ==============================
         case AddMeetingCommand.COMMAND_WORD:
             return new AddMeetingCommandParser().parse(arguments);
 
+        case AutoScheduleMeetingCommand.COMMAND_WORD:
+            return new AutoScheduleMeetingCommandParser().parse(arguments);
+
         case EditMeetingCommand.COMMAND_WORD:
             return new EditMeetingCommandParser().parse(arguments);
 
+        case MeetingStatsCommand.COMMAND_WORD:
+            return new MeetingStatsCommandParser().parse(arguments);
+
+        case ShiftMeetingCommand.COMMAND_WORD:
+            return new ShiftMeetingCommandParser().parse(arguments);
+
         case DeleteMeetingCommand.COMMAND_WORD:
             return new DeleteMeetingCommandParser().parse(arguments);
 
@@ -122,6 +153,12 @@ public class MeetBuddyParser {
         case UnsortMeetingCommand.COMMAND_WORD:
             return new UnsortMeetingCommand();
 
+        case ImportCalendarCommand.COMMAND_WORD:
+            return new ImportCalendarCommandParser().parse(arguments);
+
+        case ExportCalendarCommand.COMMAND_WORD:
+            return new ExportCalendarCommandParser().parse(arguments);
+
         //===================== Connection =================================
 
         case ShowMeetingCommand.COMMAND_WORD:
@@ -130,6 +167,9 @@ public class MeetBuddyParser {
         case FindMeetingCommand.COMMAND_WORD:
             return new FindMeetingCommandParser().parse(arguments);
 
+        case FindFreeSlotCommand.COMMAND_WORD:
+            return new FindFreeSlotCommandParser().parse(arguments);
+
         //======================= Note =====================================
         case AddNoteCommand.COMMAND_WORD:
             return new AddNoteCommandParser().parse(arguments);
@@ -137,6 +177,9 @@ public class MeetBuddyParser {
         case DeleteNoteCommand.COMMAND_WORD:
             return new DeleteNoteCommandParser().parse(arguments);
 
+        case FindNoteCommand.COMMAND_WORD:
+            return new FindNoteCommandParser().parse(arguments);
+
         //======================= Timetable =====================================
 
         case SetTimetableCommand.COMMAND_WORD:
@@ -149,6 +192,9 @@ public class MeetBuddyParser {
         case DeletePersonToMeetingConnectionCommand.COMMAND_WORD:
             return new DeletePersonToMeetingConnectionParser().parse(arguments);
 
+        case SuggestPersonToMeetingConnectionCommand.COMMAND_WORD:
+            return new SuggestPersonToMeetingConnectionParser().parse(arguments);
+
         //============================= General ==============================
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
@@ -156,6 +202,9 @@ public class MeetBuddyParser {
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand();
 
+        case RunScriptCommand.COMMAND_WORD:
+            return new RunScriptCommandParser().parse(arguments);
+
         case ListAllCommand.COMMAND_WORD:
             return new ListAllCommand();
 
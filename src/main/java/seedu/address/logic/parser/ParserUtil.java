@@ -2,11 +2,17 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.group.Group;
@@ -14,11 +20,13 @@ import seedu.address.model.meeting.DateTime;
 import seedu.address.model.meeting.Description;
 import seedu.address.model.meeting.MeetingName;
 import seedu.address.model.meeting.Priority;
+import seedu.address.model.meeting.Recurrence;
 import seedu.address.model.note.Content;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.PersonName;
 import seedu.address.model.person.Phone;
+import seedu.address.model.schedule.WorkingHours;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -28,6 +36,26 @@ public class ParserUtil {
     public static final String MESSAGE_INVALID_INDEX = "Index of a person or a "
         + "meeting is not a non-zero unsigned integer.";
 
+    public static final int DEFAULT_FUZZY_DISTANCE = 2;
+    public static final int MAX_FUZZY_DISTANCE = 3;
+    public static final String MESSAGE_INVALID_FUZZY_FLAG = CliSyntax.FLAG_FUZZY + " should be given as "
+        + CliSyntax.FLAG_FUZZY + " or " + CliSyntax.FLAG_FUZZY + "=MAX_DISTANCE, where MAX_DISTANCE is from 1 to "
+        + MAX_FUZZY_DISTANCE + ".";
+
+    public static final int MIN_MEETING_MINUTES = 15;
+    public static final int MAX_MEETING_MINUTES = 7 * 24 * 60 - 1;
+    public static final String MESSAGE_INVALID_DURATION = "Duration should be a whole number of minutes from "
+        + MIN_MEETING_MINUTES + " to " + MAX_MEETING_MINUTES + ", as meetings last at least 15 minutes and "
+        + "less than a week.";
+
+    public static final int MAX_OFFSET_AMOUNT = 999;
+    public static final String MESSAGE_INVALID_OFFSET = "Offset should be a whole number from 1 to "
+        + MAX_OFFSET_AMOUNT + ", with a sign of + (later) or - (earlier), followed by m (minutes), h (hours), "
+        + "d (days) or w (weeks). For example: +2d or -30m";
+    public static final String MESSAGE_INVALID_FILE_PATH = "File path should be given, and be a valid path.";
+
+    private static final Pattern OFFSET_FORMAT = Pattern.compile("(?<sign>[+-])(?<amount>\\d{1,3})(?<unit>[mhdw])");
+
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
      * trimmed.
@@ -171,6 +199,126 @@ public class ParserUtil {
     }
 
 
+    /**
+     * Returns true if {@code token} is a {@link CliSyntax#FLAG_FUZZY} flag, with or without a maximum distance.
+     */
+    public static boolean isFuzzyFlag(String token) {
+        requireNonNull(token);
+        return token.equals(CliSyntax.FLAG_FUZZY) || token.startsWith(CliSyntax.FLAG_FUZZY + "=");
+    }
+
+    /**
+     * Parses a {@link CliSyntax#FLAG_FUZZY} flag into the maximum edit distance of a fuzzy search.
+     * {@code --fuzzy} gives {@link #DEFAULT_FUZZY_DISTANCE}, and {@code --fuzzy=N} gives {@code N}.
+     *
+     * @throws ParseException if the given {@code flag} is invalid.
+     */
+    public static int parseFuzzyFlag(String flag) throws ParseException {
+        requireNonNull(flag);
+        if (flag.equals(CliSyntax.FLAG_FUZZY)) {
+            return DEFAULT_FUZZY_DISTANCE;
+        }
+        String distance = flag.substring(flag.indexOf('=') + 1);
+        if (!isFuzzyFlag(flag) || !StringUtil.isNonZeroUnsignedInteger(distance)
+                || Integer.parseInt(distance) > MAX_FUZZY_DISTANCE) {
+            throw new ParseException(MESSAGE_INVALID_FUZZY_FLAG);
+        }
+        return Integer.parseInt(distance);
+    }
+
+    /**
+     * Parses a {@code String minutes} into the {@code Duration} of a meeting.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code minutes} is not a valid meeting length.
+     */
+    public static Duration parseDuration(String minutes) throws ParseException {
+        requireNonNull(minutes);
+        String trimmedMinutes = minutes.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedMinutes)
+                || Integer.parseInt(trimmedMinutes) < MIN_MEETING_MINUTES
+                || Integer.parseInt(trimmedMinutes) > MAX_MEETING_MINUTES) {
+            throw new ParseException(MESSAGE_INVALID_DURATION);
+        }
+        return Duration.ofMinutes(Integer.parseInt(trimmedMinutes));
+    }
+
+    /**
+     * Parses a {@code String offset}, such as {@code +2d} or {@code -30m}, into the {@code Duration} to move
+     * meetings by. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code offset} is invalid.
+     */
+    public static Duration parseOffset(String offset) throws ParseException {
+        requireNonNull(offset);
+        Matcher matcher = OFFSET_FORMAT.matcher(offset.trim());
+        if (!matcher.matches() || Integer.parseInt(matcher.group("amount")) == 0) {
+            throw new ParseException(MESSAGE_INVALID_OFFSET);
+        }
+        int amount = Integer.parseInt(matcher.group("amount"));
+        Duration unit;
+        switch (matcher.group("unit")) {
+        case "m":
+            unit = Duration.ofMinutes(1);
+            break;
+        case "h":
+            unit = Duration.ofHours(1);
+            break;
+        case "d":
+            unit = Duration.ofDays(1);
+            break;
+        default:
+            unit = Duration.ofDays(7);
+            break;
+        }
+        Duration duration = unit.multipliedBy(amount);
+        return matcher.group("sign").equals("-") ? duration.negated() : duration;
+    }
+
+    /**
+     * Parses a {@code String filePath} into a {@code Path}. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code filePath} is empty or invalid.
+     */
+    public static Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        if (trimmedFilePath.isEmpty() || !FileUtil.isValidPath(trimmedFilePath)) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+        return Paths.get(trimmedFilePath);
+    }
+
+    /**
+     * Parses a {@code String workingHours} into a {@code WorkingHours}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code workingHours} is invalid.
+     */
+    public static WorkingHours parseWorkingHours(String workingHours) throws ParseException {
+        requireNonNull(workingHours);
+        String trimmedWorkingHours = workingHours.trim();
+        if (!WorkingHours.isValidWorkingHours(trimmedWorkingHours)) {
+            throw new ParseException(WorkingHours.MESSAGE_CONSTRAINTS);
+        }
+        return new WorkingHours(trimmedWorkingHours);
+    }
+
+    /**
+     * Parses a {@code String recurrence} into a {@code Recurrence}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code recurrence} is invalid.
+     */
+    public static Recurrence parseRecurrence(String recurrence) throws ParseException {
+        requireNonNull(recurrence);
+        String trimmedRecurrence = recurrence.trim();
+        if (!Recurrence.isValidRecurrence(trimmedRecurrence)) {
+            throw new ParseException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+        return new Recurrence(trimmedRecurrence);
+    }
+
     /**
      * Parses a {@code String group} into a {@code group}.
      * Leading and trailing whitespaces will be trimmed.
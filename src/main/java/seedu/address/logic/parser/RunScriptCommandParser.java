@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.FLAG_CONTINUE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OUTPUT;
+
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.RunScriptCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunScriptCommand object
+ */
+public class RunScriptCommandParser implements Parser<RunScriptCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunScriptCommand
+     * and returns a RunScriptCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunScriptCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_OUTPUT);
+        try {
+            String preamble = argMultimap.getPreamble();
+            boolean isContinuingOnError = preamble.equals(FLAG_CONTINUE) || preamble.startsWith(FLAG_CONTINUE + " ");
+            if (isContinuingOnError) {
+                preamble = preamble.substring(FLAG_CONTINUE.length());
+            }
+            Path scriptPath = ParserUtil.parseFilePath(preamble);
+            Path outputPath = argMultimap.getValue(PREFIX_OUTPUT).isPresent()
+                    ? ParserUtil.parseFilePath(argMultimap.getValue(PREFIX_OUTPUT).get())
+                    : RunScriptCommand.getDefaultOutputPath(scriptPath);
+            return new RunScriptCommand(scriptPath, outputPath, isContinuingOnError);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunScriptCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
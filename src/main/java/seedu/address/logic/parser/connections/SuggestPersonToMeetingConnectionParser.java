@@ -0,0 +1,55 @@
+package seedu.address.logic.parser.connections;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.connections.SuggestPersonToMeetingConnectionCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SuggestPersonToMeetingConnectionCommand object
+ */
+public class SuggestPersonToMeetingConnectionParser implements Parser<SuggestPersonToMeetingConnectionCommand> {
+
+    public static final int MAX_COUNT = 50;
+    public static final String MESSAGE_INVALID_COUNT = "The count should be a positive integer of at most "
+            + MAX_COUNT;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SuggestPersonToMeetingConnectionCommand
+     * and returns a SuggestPersonToMeetingConnectionCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SuggestPersonToMeetingConnectionCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_COUNT);
+
+        Index index;
+
+        try {
+            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    SuggestPersonToMeetingConnectionCommand.MESSAGE_USAGE), pe);
+        }
+
+        int count = SuggestPersonToMeetingConnectionCommand.DEFAULT_COUNT;
+        Optional<String> countArg = argMultimap.getValue(PREFIX_COUNT);
+        if (countArg.isPresent()) {
+            String trimmedCount = countArg.get().trim();
+            if (!StringUtil.isNonZeroUnsignedInteger(trimmedCount) || Integer.parseInt(trimmedCount) > MAX_COUNT) {
+                throw new ParseException(MESSAGE_INVALID_COUNT);
+            }
+            count = Integer.parseInt(trimmedCount);
+        }
+
+        return new SuggestPersonToMeetingConnectionCommand(index, count);
+    }
+}
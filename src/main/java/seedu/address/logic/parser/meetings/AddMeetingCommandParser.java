@@ -7,8 +7,10 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_CONNECTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -26,6 +28,7 @@ import seedu.address.model.meeting.Description;
 import seedu.address.model.meeting.Meeting;
 import seedu.address.model.meeting.MeetingName;
 import seedu.address.model.meeting.Priority;
+import seedu.address.model.meeting.Recurrence;
 
 /**
  * Parses input arguments and creates a new AddMeetingCommand object
@@ -40,7 +43,8 @@ public class AddMeetingCommandParser implements Parser<AddMeetingCommand> {
     public AddMeetingCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_START_TIME, PREFIX_END_TIME,
-                        PREFIX_DESCRIPTION, PREFIX_PRIORITY, PREFIX_GROUP, PREFIX_PERSON_CONNECTION);
+                        PREFIX_DESCRIPTION, PREFIX_PRIORITY, PREFIX_GROUP, PREFIX_PERSON_CONNECTION,
+                        PREFIX_RECURRENCE);
 
         // If the meeting has its meetingName and start time as well as the end time,
         // then it's sufficient for definition.
@@ -70,6 +74,10 @@ public class AddMeetingCommandParser implements Parser<AddMeetingCommand> {
             priority = ParserUtil.parseMeetingPriority(argMultimap.getValue(PREFIX_PRIORITY).get());
         }
 
+        Optional<Recurrence> recurrence = argMultimap.getValue(PREFIX_RECURRENCE).isPresent()
+                ? Optional.of(ParserUtil.parseRecurrence(argMultimap.getValue(PREFIX_RECURRENCE).get()))
+                : Optional.empty();
+
         Set<Group> tagList = ParserUtil.parseGroups(argMultimap.getAllValues(PREFIX_GROUP));
 
         Set<Index> personConnectionSet = ParserUtil
@@ -77,7 +85,7 @@ public class AddMeetingCommandParser implements Parser<AddMeetingCommand> {
 
         Meeting meeting;
         try {
-            meeting = new Meeting(meetingName, startTime, endTime, priority, description, tagList);
+            meeting = new Meeting(meetingName, startTime, endTime, priority, description, tagList, recurrence);
         } catch (IllegalArgumentException e) {
             throw new ParseException(e.getMessage());
         }
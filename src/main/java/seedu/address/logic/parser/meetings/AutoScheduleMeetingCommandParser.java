@@ -0,0 +1,90 @@
+package seedu.address.logic.parser.meetings;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_CONNECTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WORKING_HOURS;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.meetings.AutoScheduleMeetingCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.DateTimeUtil;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.group.Group;
+import seedu.address.model.meeting.Description;
+import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.Priority;
+import seedu.address.model.schedule.WorkingHours;
+
+/**
+ * Parses input arguments and creates a new AutoScheduleMeetingCommand object
+ */
+public class AutoScheduleMeetingCommandParser implements Parser<AutoScheduleMeetingCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AutoScheduleMeetingCommand
+     * and returns an AutoScheduleMeetingCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AutoScheduleMeetingCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_START_TIME, PREFIX_END_TIME, PREFIX_DURATION,
+                        PREFIX_DESCRIPTION, PREFIX_PRIORITY, PREFIX_WORKING_HOURS, PREFIX_GROUP,
+                        PREFIX_PERSON_CONNECTION);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_START_TIME, PREFIX_END_TIME, PREFIX_DURATION)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    AutoScheduleMeetingCommand.MESSAGE_USAGE));
+        }
+
+        MeetingName meetingName = ParserUtil.parseMeetingName(argMultimap.getValue(PREFIX_NAME).get());
+        LocalDate firstDate = DateTimeUtil.parseIsoDate(argMultimap.getValue(PREFIX_START_TIME).get().trim());
+        LocalDate lastDate = DateTimeUtil.parseIsoDate(argMultimap.getValue(PREFIX_END_TIME).get().trim());
+        if (lastDate.isBefore(firstDate)) {
+            throw new ParseException(FindFreeSlotCommandParser.MESSAGE_LAST_DATE_BEFORE_FIRST);
+        }
+        Duration duration = ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get());
+
+        // Optional fields, with the same defaults as when adding a meeting:
+        Description description = argMultimap.getValue(PREFIX_DESCRIPTION).isPresent()
+                ? ParserUtil.parseMeetingDescription(argMultimap.getValue(PREFIX_DESCRIPTION).get())
+                : new Description("");
+        Priority priority = argMultimap.getValue(PREFIX_PRIORITY).isPresent()
+                ? ParserUtil.parseMeetingPriority(argMultimap.getValue(PREFIX_PRIORITY).get())
+                : new Priority("1");
+        WorkingHours workingHours = argMultimap.getValue(PREFIX_WORKING_HOURS).isPresent()
+                ? ParserUtil.parseWorkingHours(argMultimap.getValue(PREFIX_WORKING_HOURS).get())
+                : WorkingHours.DEFAULT;
+
+        Set<Group> groups = ParserUtil.parseGroups(argMultimap.getAllValues(PREFIX_GROUP));
+        Set<Index> personIndexes = ParserUtil.parsePersonsConnection(
+                argMultimap.getAllValues(PREFIX_PERSON_CONNECTION));
+
+        return new AutoScheduleMeetingCommand(meetingName, description, priority, groups, personIndexes, firstDate,
+                lastDate, duration, workingHours);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
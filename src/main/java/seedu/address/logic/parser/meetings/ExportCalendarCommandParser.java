@@ -0,0 +1,31 @@
+package seedu.address.logic.parser.meetings;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.meetings.ExportCalendarCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportCalendarCommand object
+ */
+public class ExportCalendarCommandParser implements Parser<ExportCalendarCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCalendarCommand
+     * and returns an ExportCalendarCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCalendarCommand parse(String args) throws ParseException {
+        try {
+            Path filePath = ParserUtil.parseFilePath(args);
+            return new ExportCalendarCommand(filePath);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCalendarCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.logic.parser.meetings;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_CONNECTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WORKING_HOURS;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.meetings.FindFreeSlotCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.DateTimeUtil;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.group.Group;
+import seedu.address.model.schedule.WorkingHours;
+
+/**
+ * Parses input arguments and creates a new FindFreeSlotCommand object
+ */
+public class FindFreeSlotCommandParser implements Parser<FindFreeSlotCommand> {
+
+    public static final String MESSAGE_LAST_DATE_BEFORE_FIRST = "The last date cannot be before the first date";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindFreeSlotCommand
+     * and returns a FindFreeSlotCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindFreeSlotCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_PERSON_CONNECTION, PREFIX_GROUP, PREFIX_START_TIME,
+                        PREFIX_END_TIME, PREFIX_DURATION, PREFIX_WORKING_HOURS);
+
+        boolean hasAttendees = arePrefixesPresent(argMultimap, PREFIX_PERSON_CONNECTION)
+                || arePrefixesPresent(argMultimap, PREFIX_GROUP);
+        if (!hasAttendees || !arePrefixesPresent(argMultimap, PREFIX_START_TIME, PREFIX_END_TIME, PREFIX_DURATION)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindFreeSlotCommand.MESSAGE_USAGE));
+        }
+
+        Set<Index> personIndexes = ParserUtil.parsePersonsConnection(
+                argMultimap.getAllValues(PREFIX_PERSON_CONNECTION));
+        Set<Group> groups = ParserUtil.parseGroups(argMultimap.getAllValues(PREFIX_GROUP));
+        LocalDate firstDate = DateTimeUtil.parseIsoDate(argMultimap.getValue(PREFIX_START_TIME).get().trim());
+        LocalDate lastDate = DateTimeUtil.parseIsoDate(argMultimap.getValue(PREFIX_END_TIME).get().trim());
+        if (lastDate.isBefore(firstDate)) {
+            throw new ParseException(MESSAGE_LAST_DATE_BEFORE_FIRST);
+        }
+        Duration duration = ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get());
+        WorkingHours workingHours = argMultimap.getValue(PREFIX_WORKING_HOURS).isPresent()
+                ? ParserUtil.parseWorkingHours(argMultimap.getValue(PREFIX_WORKING_HOURS).get())
+                : WorkingHours.DEFAULT;
+
+        return new FindFreeSlotCommand(personIndexes, groups, firstDate, lastDate, duration, workingHours);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+
+}
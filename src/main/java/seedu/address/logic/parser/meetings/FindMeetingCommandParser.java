@@ -8,16 +8,18 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_CONNECTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.meetings.FindMeetingCommand;
+import seedu.address.logic.commands.meetings.MeetingFilter;
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
@@ -27,7 +29,6 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.group.Group;
 import seedu.address.model.meeting.DateTime;
 import seedu.address.model.meeting.Description;
-import seedu.address.model.meeting.Meeting;
 import seedu.address.model.meeting.MeetingName;
 import seedu.address.model.meeting.Priority;
 
@@ -52,13 +53,18 @@ public class FindMeetingCommandParser implements Parser<FindMeetingCommand> {
                         PREFIX_NAME, PREFIX_TIME, PREFIX_DESCRIPTION,
                         PREFIX_PRIORITY, PREFIX_GROUP);
 
+        List<String> flags = getFlags(argMultimap.getPreamble());
+        boolean isExplain = flags.contains(FindMeetingCommand.EXPLAIN_FLAG);
+        Optional<String> fuzzyFlag = flags.stream().filter(ParserUtil::isFuzzyFlag).findFirst();
         if (!arePrefixesPresent(argMultimap, PREFIX_PERSON_CONNECTION,
                 PREFIX_NAME, PREFIX_TIME, PREFIX_DESCRIPTION,
                 PREFIX_PRIORITY, PREFIX_GROUP)
-                || !argMultimap.getPreamble().isEmpty()) {
+                || flags.size() != (isExplain ? 1 : 0) + (fuzzyFlag.isPresent() ? 1 : 0)
+                || (fuzzyFlag.isPresent() && argMultimap.getValue(PREFIX_NAME).isEmpty())) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     FindMeetingCommand.MESSAGE_USAGE));
         }
+        int maxEditDistance = fuzzyFlag.isPresent() ? ParserUtil.parseFuzzyFlag(fuzzyFlag.get()) : 0;
 
         List<String> personIndexes = argMultimap.getAllValues(PREFIX_PERSON_CONNECTION);
         List<String> meetingTimes = argMultimap.getAllValues(PREFIX_TIME);
@@ -72,32 +78,28 @@ public class FindMeetingCommandParser implements Parser<FindMeetingCommand> {
 
             Set<Index> personsIndexesToSearch = getPersonsSet(personIndexes);
 
-            Predicate<Meeting> predicateHasTimes = handleTimes(meetingTimes);
-            Predicate<Meeting> predicateHasGroups = handleGroups(meetingGroups);
-            Predicate<Meeting> predicateHasName = handleName(meetingName);
-            Predicate<Meeting> predicateHasDescription = handleDescription(meetingDescription);
-            Predicate<Meeting> predicateHasPriority = handlePriority(meetingPriority);
+            List<MeetingFilter> filters = new ArrayList<>();
+            filters.addAll(handleName(meetingName, maxEditDistance));
+            filters.addAll(handleDescription(meetingDescription));
+            filters.addAll(handlePriority(meetingPriority));
+            filters.addAll(handleTimes(meetingTimes));
+            filters.addAll(handleGroups(meetingGroups));
 
-            Predicate<Meeting> bigPredicate = combinePredicates(predicateHasName,
-                    predicateHasDescription, predicateHasPriority, predicateHasTimes,
-                    predicateHasGroups);
-
-            return new FindMeetingCommand(bigPredicate, personsIndexesToSearch);
+            return new FindMeetingCommand(filters, personsIndexesToSearch, isExplain);
         } catch (Exception e) {
             throw new ParseException("findm: " + e.getMessage());
         }
 
     }
 
-    @SafeVarargs
-    private Predicate<Meeting> combinePredicates(Predicate<Meeting> ... predicates) {
-        Predicate<Meeting> combinedPredicate = Arrays.stream(predicates).reduce(pred -> true, (
-                meetingPredicate, meetingPredicate2) -> meetingPredicate.and(meetingPredicate2));
 
-        return combinedPredicate;
+    private static List<String> getFlags(String preamble) {
+        if (preamble.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.asList(preamble.split("\\s+"));
     }
 
-
     private Set<Index> getPersonsSet(List<String> personIndexes) throws ParseException {
         if (personIndexes.isEmpty()) {
             return new HashSet<>();
@@ -107,52 +109,48 @@ public class FindMeetingCommandParser implements Parser<FindMeetingCommand> {
     }
 
 
-    private Predicate<Meeting> handleTimes(List<String> times) throws ParseException {
+    private List<MeetingFilter> handleTimes(List<String> times) throws ParseException {
         if (times.isEmpty()) {
-            return meeting -> true;
+            return List.of();
         }
         Set<DateTime> parsedTimes = ParserUtil.parseMeetingDateTimes(times);
-        Predicate<Meeting> timePred = meeting -> parsedTimes.stream()
-                .allMatch(time -> meeting.containsTime(time));
-        return timePred;
+        return parsedTimes.stream().map(MeetingFilter::containsTime).collect(Collectors.toList());
     }
 
-    private Predicate<Meeting> handleGroups(List<String> groups) throws ParseException {
+    private List<MeetingFilter> handleGroups(List<String> groups) throws ParseException {
         if (groups.isEmpty()) {
-            return meeting -> true;
+            return List.of();
         }
         Set<Group> parsedGroups = ParserUtil.parseGroups(groups);
-        Predicate<Meeting> groupPred = meeting -> parsedGroups.stream()
-                .allMatch(group -> meeting.containsGroup(group));
-        return groupPred;
+        return parsedGroups.stream().map(MeetingFilter::inGroup).collect(Collectors.toList());
     }
 
 
-    private Predicate<Meeting> handleName(Optional<String> name) throws ParseException {
+    private List<MeetingFilter> handleName(Optional<String> name, int maxEditDistance) throws ParseException {
         if (name.isEmpty()) {
-            return meeting -> true;
+            return List.of();
         }
         MeetingName parsedNames = ParserUtil.parseMeetingName(name.get());
-        Predicate<Meeting> namePred = meeting -> meeting.containsName(parsedNames);
-        return namePred;
+        if (maxEditDistance > 0) {
+            return List.of(MeetingFilter.nameNear(parsedNames, maxEditDistance));
+        }
+        return List.of(MeetingFilter.nameContains(parsedNames));
     }
 
-    private Predicate<Meeting> handleDescription(Optional<String> description) throws ParseException {
+    private List<MeetingFilter> handleDescription(Optional<String> description) throws ParseException {
         if (description.isEmpty()) {
-            return meeting -> true;
+            return List.of();
         }
         Description parsedDesc = ParserUtil.parseMeetingDescription(description.get());
-        Predicate<Meeting> pred = meeting -> meeting.containsDescription(parsedDesc);
-        return pred;
+        return List.of(MeetingFilter.descriptionContains(parsedDesc));
     }
 
-    private Predicate<Meeting> handlePriority(Optional<String> priority) throws ParseException {
+    private List<MeetingFilter> handlePriority(Optional<String> priority) throws ParseException {
         if (priority.isEmpty()) {
-            return meeting -> true;
+            return List.of();
         }
         Priority parsedPrio = ParserUtil.parseMeetingPriority(priority.get());
-        Predicate<Meeting> pred = meeting -> meeting.hasPriority(parsedPrio);
-        return pred;
+        return List.of(MeetingFilter.hasPriority(parsedPrio));
     }
 
 
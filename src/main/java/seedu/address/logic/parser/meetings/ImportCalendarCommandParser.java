@@ -0,0 +1,31 @@
+package seedu.address.logic.parser.meetings;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.meetings.ImportCalendarCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportCalendarCommand object
+ */
+public class ImportCalendarCommandParser implements Parser<ImportCalendarCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCalendarCommand
+     * and returns an ImportCalendarCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportCalendarCommand parse(String args) throws ParseException {
+        try {
+            Path filePath = ParserUtil.parseFilePath(args);
+            return new ImportCalendarCommand(filePath);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCalendarCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
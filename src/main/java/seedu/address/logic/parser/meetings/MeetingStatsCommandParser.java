@@ -0,0 +1,73 @@
+package seedu.address.logic.parser.meetings;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_CONNECTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.meetings.MeetingStatsCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.DateTimeUtil;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.analytics.WeeklyTally;
+import seedu.address.model.group.Group;
+
+/**
+ * Parses input arguments and creates a new MeetingStatsCommand object
+ */
+public class MeetingStatsCommandParser implements Parser<MeetingStatsCommand> {
+
+    public static final String MESSAGE_LAST_DATE_BEFORE_FIRST = "The last date cannot be before the first date";
+    public static final int MAX_DAYS = 366;
+    public static final String MESSAGE_PERIOD_TOO_LONG = "The period should be at most " + MAX_DAYS + " days long";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MeetingStatsCommand
+     * and returns a MeetingStatsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MeetingStatsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PERSON_CONNECTION, PREFIX_GROUP,
+                PREFIX_START_TIME, PREFIX_END_TIME);
+
+        boolean hasPerson = argMultimap.getValue(PREFIX_PERSON_CONNECTION).isPresent();
+        boolean hasGroup = argMultimap.getValue(PREFIX_GROUP).isPresent();
+        boolean hasFirstDate = argMultimap.getValue(PREFIX_START_TIME).isPresent();
+        boolean hasLastDate = argMultimap.getValue(PREFIX_END_TIME).isPresent();
+        if ((hasPerson && hasGroup) || hasFirstDate != hasLastDate || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MeetingStatsCommand.MESSAGE_USAGE));
+        }
+
+        Optional<Index> personIndex = hasPerson
+                ? Optional.of(ParserUtil.parseIndex(argMultimap.getValue(PREFIX_PERSON_CONNECTION).get()))
+                : Optional.empty();
+        Optional<Group> group = hasGroup
+                ? Optional.of(ParserUtil.parseGroup(argMultimap.getValue(PREFIX_GROUP).get()))
+                : Optional.empty();
+
+        // the current week, from Monday to Sunday, if no dates are given
+        LocalDate firstDate = WeeklyTally.getWeek(LocalDate.now());
+        LocalDate lastDate = firstDate.plusDays(6);
+        if (hasFirstDate) {
+            firstDate = DateTimeUtil.parseIsoDate(argMultimap.getValue(PREFIX_START_TIME).get().trim());
+            lastDate = DateTimeUtil.parseIsoDate(argMultimap.getValue(PREFIX_END_TIME).get().trim());
+        }
+        if (lastDate.isBefore(firstDate)) {
+            throw new ParseException(MESSAGE_LAST_DATE_BEFORE_FIRST);
+        }
+        if (ChronoUnit.DAYS.between(firstDate, lastDate) >= MAX_DAYS) {
+            throw new ParseException(MESSAGE_PERIOD_TOO_LONG);
+        }
+
+        return new MeetingStatsCommand(personIndex, group, firstDate, lastDate);
+    }
+}
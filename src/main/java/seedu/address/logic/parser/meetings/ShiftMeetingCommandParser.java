@@ -0,0 +1,63 @@
+package seedu.address.logic.parser.meetings;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OFFSET;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.meetings.ShiftMeetingCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.DateTimeUtil;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.group.Group;
+
+/**
+ * Parses input arguments and creates a new ShiftMeetingCommand object
+ */
+public class ShiftMeetingCommandParser implements Parser<ShiftMeetingCommand> {
+
+    public static final String MESSAGE_END_NOT_AFTER_START = "The end time should be after the start time.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ShiftMeetingCommand
+     * and returns a ShiftMeetingCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ShiftMeetingCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_START_TIME, PREFIX_END_TIME, PREFIX_OFFSET, PREFIX_GROUP);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_START_TIME, PREFIX_END_TIME, PREFIX_OFFSET)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShiftMeetingCommand.MESSAGE_USAGE));
+        }
+
+        LocalDateTime start = DateTimeUtil.parseDateTime(argMultimap.getValue(PREFIX_START_TIME).get().trim());
+        LocalDateTime end = DateTimeUtil.parseDateTime(argMultimap.getValue(PREFIX_END_TIME).get().trim());
+        if (!end.isAfter(start)) {
+            throw new ParseException(MESSAGE_END_NOT_AFTER_START);
+        }
+        Duration offset = ParserUtil.parseOffset(argMultimap.getValue(PREFIX_OFFSET).get());
+        Set<Group> groups = ParserUtil.parseGroups(argMultimap.getAllValues(PREFIX_GROUP));
+
+        return new ShiftMeetingCommand(start, end, offset, groups);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
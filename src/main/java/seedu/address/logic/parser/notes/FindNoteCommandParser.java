@@ -0,0 +1,31 @@
+package seedu.address.logic.parser.notes;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+
+import seedu.address.logic.commands.notes.FindNoteCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FindNoteCommand object
+ */
+public class FindNoteCommandParser implements Parser<FindNoteCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindNoteCommand
+     * and returns a FindNoteCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindNoteCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindNoteCommand.MESSAGE_USAGE));
+        }
+
+        return new FindNoteCommand(Arrays.asList(trimmedArgs.split("\\s+")));
+    }
+
+}
@@ -3,9 +3,11 @@ package seedu.address.logic.parser.persons;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
+import java.util.List;
 
 import seedu.address.logic.commands.persons.FindPersonCommand;
 import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 
@@ -26,9 +28,18 @@ public class FindPersonCommandParser implements Parser<FindPersonCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPersonCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        List<String> nameKeywords = Arrays.asList(trimmedArgs.split("\\s+"));
+        if (!ParserUtil.isFuzzyFlag(nameKeywords.get(0))) {
+            return new FindPersonCommand(new NameContainsKeywordsPredicate(nameKeywords));
+        }
 
-        return new FindPersonCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        int maxEditDistance = ParserUtil.parseFuzzyFlag(nameKeywords.get(0));
+        if (nameKeywords.size() == 1) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPersonCommand.MESSAGE_USAGE));
+        }
+        return new FindPersonCommand(new NameContainsKeywordsPredicate(nameKeywords.subList(1, nameKeywords.size())),
+                maxEditDistance);
     }
 
 }
@@ -0,0 +1,31 @@
+package seedu.address.logic.parser.persons;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.persons.ImportPersonCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportPersonCommand object
+ */
+public class ImportPersonCommandParser implements Parser<ImportPersonCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportPersonCommand
+     * and returns an ImportPersonCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportPersonCommand parse(String args) throws ParseException {
+        try {
+            Path filePath = ParserUtil.parseFilePath(args);
+            return new ImportPersonCommand(filePath);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportPersonCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
@@ -3,26 +3,35 @@ package seedu.address.model;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.analytics.MeetingAnalytics;
 import seedu.address.model.connection.PersonMeetingConnection;
+import seedu.address.model.connection.PersonMeetingList;
 import seedu.address.model.group.Group;
+import seedu.address.model.meeting.DateTime;
+import seedu.address.model.meeting.Description;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.Priority;
 import seedu.address.model.meeting.ReadOnlyMeetingBook;
-import seedu.address.model.meeting.UniqueMeetingList;
 import seedu.address.model.note.Note;
 import seedu.address.model.note.ReadOnlyNoteBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.ReadOnlyAddressBook;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.reminder.ReadOnlyReminderBook;
+import seedu.address.model.reminder.ReminderScheduler;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * The API of the Model component.
@@ -90,6 +99,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of {@code toAdd} to the address book, as a single change of the person list.
+     * None of them may already exist in the address book, or be the same as another of them.
+     */
+    void addPersons(List<Person> toAdd);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -99,6 +114,18 @@ public interface Model {
 
     Set<Person> findPersonsInGroup(Group group);
 
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a whole word, ignoring case.
+     * Gives the same persons as a {@code NameContainsKeywordsPredicate} with the same keywords.
+     */
+    Set<Person> findPersonsWithNameKeywords(List<String> keywords);
+
+    /**
+     * Returns the persons whose name has a word within {@code maxDistance} edits of any of {@code keywords},
+     * ignoring case, each mapped to the edit distance of its closest match.
+     */
+    Map<Person, Integer> findPersonsWithNameKeywordsNear(List<String> keywords, int maxDistance);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -110,6 +137,13 @@ public interface Model {
 
     void sortFilteredPersonList(Comparator<Person> comparator);
 
+    /**
+     * Orders the filtered person list by {@code comparator}, such as a ranking of search results, until the filter
+     * of the list is next updated, when the order set by {@link #sortFilteredPersonList(Comparator)} is restored.
+     * Persons ranked the same are left in that order.
+     */
+    void rankFilteredPersonList(Comparator<Person> comparator);
+
     // ======================= Meeting part of the meeting Model interface ============================ //
     /**
      * Replaces meeting book data with the data in {@code meetingBook}.
@@ -147,6 +181,56 @@ public interface Model {
 
     void updateMeeting(Meeting target, Meeting editedMeeting);
 
+    /**
+     * Replaces each of {@code targets} with the meeting at the same position in {@code editedMeetings}, as a single
+     * change of the meeting list.
+     * Every target must exist in the meeting book. The edited meetings must not clash with each other, or with
+     * another meeting in the meeting book.
+     */
+    void updateMeetings(List<Meeting> targets, List<Meeting> editedMeetings);
+
+    /**
+     * Adds all of {@code toAdd} to the meeting book, as a single change of the meeting list.
+     * None of them may be the same as, or clash with, a meeting in the meeting book or another of them.
+     */
+    void addMeetings(List<Meeting> toAdd);
+
+    /**
+     * Returns the meetings in the meeting book whose name may contain {@code name}, or an empty {@code Optional}
+     * if {@code name} is too short to narrow down the meetings. Matches must be confirmed with
+     * {@link Meeting#containsName(MeetingName)}.
+     */
+    Optional<Set<Meeting>> findMeetingNameCandidates(MeetingName name);
+
+    /**
+     * Returns the meetings in the meeting book whose description may contain {@code description}, or an empty
+     * {@code Optional} if {@code description} is too short to narrow down the meetings. Matches must be confirmed
+     * with {@link Meeting#containsDescription(Description)}.
+     */
+    Optional<Set<Meeting>> findMeetingDescriptionCandidates(Description description);
+
+    /**
+     * Returns the meetings in the meeting book whose name has a word within {@code maxDistance} edits of every word
+     * of {@code name}, ignoring case. Each meeting is mapped to the sum of the edit distances of its closest words.
+     */
+    Map<Meeting, Integer> findMeetingsWithNameNear(MeetingName name, int maxDistance);
+
+    /**
+     * Returns the meetings in the meeting book that are in {@code group}.
+     */
+    Set<Meeting> findMeetingsInGroup(Group group);
+
+    /**
+     * Returns the meetings in the meeting book that have {@code priority}.
+     */
+    Set<Meeting> findMeetingsWithPriority(Priority priority);
+
+    /**
+     * Returns the meetings in the meeting book taking place on the date of {@code time}. Every meeting containing
+     * {@code time} is among them, but matches must be confirmed with {@link Meeting#containsTime(DateTime)}.
+     */
+    Set<Meeting> findMeetingsOnDateOf(DateTime time);
+
     /** Returns an unmodifiable view of the filtered meeting list */
     ObservableList<Meeting> getFilteredMeetingList();
 
@@ -158,6 +242,13 @@ public interface Model {
 
     void sortFilteredMeetingList(Comparator<Meeting> comparator);
 
+    /**
+     * Orders the filtered meeting list by {@code comparator}, such as a ranking of search results, until the filter
+     * of the list is next updated, when the order set by {@link #sortFilteredMeetingList(Comparator)} is restored.
+     * Meetings ranked the same are left in that order.
+     */
+    void rankFilteredMeetingList(Comparator<Meeting> comparator);
+
     /**
      * Returns the internal meeting list of meeting book as an unmodifiable meeting list.
      */
@@ -177,6 +268,24 @@ public interface Model {
      */
     public List<Meeting> getClashes(Meeting toCheck);
 
+    /**
+     * Returns each of {@code editedMeetings} that would overlap another meeting in the model if {@code targets} were
+     * replaced with {@code editedMeetings}, mapped to the meetings it would overlap.
+     */
+    Map<Meeting, List<Meeting>> getClashesAfterReplacing(Collection<Meeting> targets, List<Meeting> editedMeetings);
+
+    /**
+     * Returns each of {@code toAdd} that would overlap another meeting in the model, or one of {@code toAdd}
+     * starting before it, if they were all added, mapped to the meetings it would overlap.
+     */
+    Map<Meeting, List<Meeting>> getClashesAfterAdding(List<Meeting> toAdd);
+
+    /**
+     * Gets the meetings in the model taking place, at least partly, from {@code start} (inclusive) to {@code end}
+     * (exclusive), sorted by start time.
+     */
+    public List<Meeting> findMeetingsOverlapping(LocalDateTime start, LocalDateTime end);
+
     /**
      * Gets the meeting ( if any ) scheduled  at this point in time in the model.
      */
@@ -228,10 +337,10 @@ public interface Model {
      */
     ObservableList<Person> getFilteredPersonListByMeetingConnection(Meeting meeting);
     /**
-     * Returns a Unique meeting list object with the person as the key.
+     * Returns the meeting list of the person, which holds the meetings connected to them.
      * Empty list will be returned if there is no value found in the hashMap.
      */
-    UniqueMeetingList getUniqueMeetingListByPersonConnection(Person person);
+    PersonMeetingList getMeetingListByPersonConnection(Person person);
     /**
      * Returns a Unique person list object with the meeting as the key.
      * Empty list will be returned if there is no value found in the hashMap.
@@ -272,6 +381,12 @@ public interface Model {
      */
     void setNote(Note target, Note editedNote);
 
+    /**
+     * Returns the notes containing any of the terms of {@code keywords}, each mapped to its relevance score, higher
+     * being more relevant. A keyword ending with {@code *} also matches the terms it is a prefix of.
+     */
+    Map<Note, Double> searchNotes(List<String> keywords);
+
     /** Returns an unmodifiable view of the filtered note list */
     ObservableList<Note> getFilteredNoteList();
 
@@ -281,6 +396,11 @@ public interface Model {
      */
     void updateFilteredNoteList(Predicate<Note> predicate);
 
+    /**
+     * Sorts the filtered note list by {@code comparator}, or restores the note book order if it is null.
+     */
+    void sortFilteredNoteList(Comparator<Note> comparator);
+
     Path getNoteBookFilePath();
 
     void setNoteBookFilePath(Path noteBookFilePath);
@@ -299,11 +419,48 @@ public interface Model {
      */
     public ObservableValue<LocalDate> getReadOnlyTimetableStartDate();
 
+    // ------ Analytics ------
+
+    /**
+     * Returns the tallies of the time spent in the meetings of the meeting book, kept up to date with the meetings
+     * and connections.
+     */
+    MeetingAnalytics getMeetingAnalytics();
+
+    /**
+     * Returns a number that changes whenever the persons, meetings or connections change.
+     */
+    long getDataVersion();
+
     // ------ Reminders ------
 
     ReadOnlyReminderBook getReminderBook();
 
     void refreshReminderBook();
 
+    /**
+     * Returns the scheduler publishing reminders of the meetings in the meeting book as they become due.
+     */
+    ReminderScheduler getReminderScheduler();
+
+    //============================= Batch updates =====================================
+
+    /**
+     * Runs {@code mutations} as one batch. The person and meeting lists hold back their change notifications while
+     * {@code mutations} runs, and each list that changed notifies its listeners once at the end, so that bulk
+     * edits cause a single re-filter, re-sort and redraw. Batches may be nested.
+     */
+    void executeInBatch(Runnable mutations);
+
+    //============================= Query cache =====================================
+
+    /**
+     * Returns the result of the query identified by {@code descriptor}, running {@code query} only if the result is
+     * not cached since the persons, meetings or connections last changed. Queries that may give different results
+     * must have different descriptors, and queries sharing a descriptor must return the same type.
+     * A cached result only saves the work of the query. Showing it still filters the whole list, which tests every
+     * person or meeting once, so a cached query takes time linear in the size of the list rather than of the result.
+     */
+    <T> T getCachedQueryResult(String descriptor, Supplier<T> query);
 
 }
@@ -1,17 +1,25 @@
 package seedu.address.model;
 
 import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.LruCache;
+import seedu.address.model.analytics.MeetingAnalytics;
 import seedu.address.model.connection.PersonMeetingConnection;
+import seedu.address.model.connection.PersonMeetingList;
 import seedu.address.model.group.Group;
+import seedu.address.model.meeting.ClashCheck;
+import seedu.address.model.meeting.DateTime;
+import seedu.address.model.meeting.Description;
 import seedu.address.model.meeting.Meeting;
 import seedu.address.model.meeting.MeetingBook;
+import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.Priority;
 import seedu.address.model.meeting.ReadOnlyMeetingBook;
-import seedu.address.model.meeting.UniqueMeetingList;
 import seedu.address.model.note.Note;
 import seedu.address.model.note.NoteBook;
 import seedu.address.model.note.ReadOnlyNoteBook;
@@ -21,16 +29,21 @@ import seedu.address.model.person.ReadOnlyAddressBook;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.reminder.ReadOnlyReminderBook;
 import seedu.address.model.reminder.ReminderBook;
+import seedu.address.model.reminder.ReminderScheduler;
 import seedu.address.model.schedule.TimetablePrefs;
 
 import java.nio.file.Path;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import static java.util.Objects.requireNonNull;
@@ -40,31 +53,50 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
+    /** The number of query results kept in {@code queryResults}. */
+    static final int QUERY_CACHE_CAPACITY = 16;
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final SortedList<Person> sortedBeforeFilterPersons;
     private final FilteredList<Person> filteredPersons;
+    /** The order set by the user, restored when a ranking of the filtered persons is dropped. */
+    private Comparator<Person> personSortOrder;
+    private boolean isPersonListRanked = false;
 
     // TODO: Modify the signature of ModelManager so that we c
     //  an add meetings inside it.
     private final MeetingBook meetingBook;
     private final SortedList<Meeting> sortedBeforeFilterMeetings;
     private final FilteredList<Meeting> filteredMeetings;
+    /** The order set by the user, restored when a ranking of the filtered meetings is dropped. */
+    private Comparator<Meeting> meetingSortOrder;
+    private boolean isMeetingListRanked = false;
 
     // TODO: Modify the signature of ModelManager so that we can add connection inside it.
     private final PersonMeetingConnection connection;
+    private final MeetingAnalytics meetingAnalytics;
 
     private final ReminderBook reminderBook;
+    private final ReminderScheduler reminderScheduler;
 
     //===============  Note ===========================================================
     private final NoteBook noteBook;
+    private final SortedList<Note> sortedBeforeFilterNotes;
     private final FilteredList<Note> filteredNotes;
 
     //===============  Timetable ===========================================================
     private final TimetablePrefs timetablePrefs;
 
+    //===============  Query cache ===========================================================
+    private final LruCache<String, Object> queryResults = new LruCache<>(QUERY_CACHE_CAPACITY);
+    /** Incremented whenever the persons, meetings or connections change. */
+    private long version;
+    /** The {@code version} that the results in {@code queryResults} were computed at. */
+    private long queryResultsVersion;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      * Sets the MeetingBook to be empty
@@ -83,19 +115,26 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        applyMeetingClashCheck();
         this.sortedBeforeFilterPersons = new SortedList<>(this.addressBook.getPersonList());
         filteredPersons = new FilteredList<>(sortedBeforeFilterPersons);
         // TODO: Modify the signature of ModelManager so that we can add connection inside it.
-        this.reminderBook = new ReminderBook(this.meetingBook);
+        this.reminderScheduler = createReminderScheduler(this.meetingBook);
+        this.reminderBook = new ReminderBook();
+        refreshReminderBook();
         this.connection = new PersonMeetingConnection();
+        this.meetingAnalytics = new MeetingAnalytics(this.meetingBook.getMeetingList(), this.connection);
 
         //================== NoteBook ==================================================================
         this.noteBook = new NoteBook();
-        this.filteredNotes = new FilteredList<>(this.noteBook.getNoteList());
+        this.sortedBeforeFilterNotes = new SortedList<>(this.noteBook.getNoteList());
+        this.filteredNotes = new FilteredList<>(sortedBeforeFilterNotes);
 
         //================== Timetable ==================================================================
         //default initializes to current localdate
         timetablePrefs = new TimetablePrefs(LocalDate.now());
+
+        trackVersion();
     }
 
 
@@ -116,23 +155,29 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        applyMeetingClashCheck();
         this.sortedBeforeFilterPersons = new SortedList<>(this.addressBook.getPersonList());
         filteredPersons = new FilteredList<>(sortedBeforeFilterPersons);
         // TODO: Modify the signature of ModelManager so that we can add connection inside it.
-        this.reminderBook = new ReminderBook(this.meetingBook);
+        this.reminderScheduler = createReminderScheduler(this.meetingBook);
+        this.reminderBook = new ReminderBook();
+        refreshReminderBook();
 
         //============ Set Connection ===========================================================
         this.connection = connection;
         this.meetingBook.setPersonToMeetingConnections(connection);
+        this.meetingAnalytics = new MeetingAnalytics(this.meetingBook.getMeetingList(), this.connection);
 
         //================== Note ==================================================================
         this.noteBook = new NoteBook(noteBook);
-        this.filteredNotes = new FilteredList<>(this.noteBook.getNoteList());
+        this.sortedBeforeFilterNotes = new SortedList<>(this.noteBook.getNoteList());
+        this.filteredNotes = new FilteredList<>(sortedBeforeFilterNotes);
 
         //================== Timetable ==================================================================
         //default initializes to current localdate
         timetablePrefs = new TimetablePrefs(LocalDate.now());
 
+        trackVersion();
     }
 
 
@@ -146,6 +191,14 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        applyMeetingClashCheck();
+    }
+
+    /**
+     * Lets meetings overlap in the meeting book if the user prefers clashes to be checked for each attendee.
+     */
+    private void applyMeetingClashCheck() {
+        meetingBook.setOverlapAllowed(userPrefs.getMeetingClashCheck() == ClashCheck.PER_ATTENDEE);
     }
 
     @Override
@@ -204,6 +257,13 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> toAdd) {
+        requireNonNull(toAdd);
+        addressBook.addPersons(toAdd);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -215,6 +275,18 @@ public class ModelManager implements Model {
         return addressBook.findPersonsInGroup(group);
     }
 
+    @Override
+    public Set<Person> findPersonsWithNameKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.findPersonsWithNameKeywords(keywords);
+    }
+
+    @Override
+    public Map<Person, Integer> findPersonsWithNameKeywordsNear(List<String> keywords, int maxDistance) {
+        requireNonNull(keywords);
+        return addressBook.findPersonsWithNameKeywordsNear(keywords, maxDistance);
+    }
+
     //=========== MeetingBook ================================================================================
 
     @Override
@@ -255,6 +327,55 @@ public class ModelManager implements Model {
         meetingBook.updateMeeting(target, editedMeeting);
     }
 
+    @Override
+    public void updateMeetings(List<Meeting> targets, List<Meeting> editedMeetings) {
+        requireAllNonNull(targets, editedMeetings);
+        meetingBook.updateMeetings(targets, editedMeetings);
+    }
+
+    @Override
+    public void addMeetings(List<Meeting> toAdd) {
+        requireNonNull(toAdd);
+        meetingBook.addMeetings(toAdd);
+        updateFilteredMeetingList(PREDICATE_SHOW_ALL_MEETINGS);
+    }
+
+    @Override
+    public Optional<Set<Meeting>> findMeetingNameCandidates(MeetingName name) {
+        requireNonNull(name);
+        return meetingBook.findNameCandidates(name);
+    }
+
+    @Override
+    public Optional<Set<Meeting>> findMeetingDescriptionCandidates(Description description) {
+        requireNonNull(description);
+        return meetingBook.findDescriptionCandidates(description);
+    }
+
+    @Override
+    public Map<Meeting, Integer> findMeetingsWithNameNear(MeetingName name, int maxDistance) {
+        requireNonNull(name);
+        return meetingBook.findMeetingsWithNameNear(name, maxDistance);
+    }
+
+    @Override
+    public Set<Meeting> findMeetingsInGroup(Group group) {
+        requireNonNull(group);
+        return meetingBook.findMeetingsInGroup(group);
+    }
+
+    @Override
+    public Set<Meeting> findMeetingsWithPriority(Priority priority) {
+        requireNonNull(priority);
+        return meetingBook.findMeetingsWithPriority(priority);
+    }
+
+    @Override
+    public Set<Meeting> findMeetingsOnDateOf(DateTime time) {
+        requireNonNull(time);
+        return meetingBook.findMeetingsOnDateOf(time);
+    }
+
     /**
      * Returns the unmodifiable list of all meetings
      */
@@ -284,6 +405,25 @@ public class ModelManager implements Model {
         return meetingBook.getClashes(toCheck);
     }
 
+    @Override
+    public Map<Meeting, List<Meeting>> getClashesAfterReplacing(Collection<Meeting> targets,
+                                                                List<Meeting> editedMeetings) {
+        requireAllNonNull(targets, editedMeetings);
+        return meetingBook.getClashesAfterReplacing(targets, editedMeetings);
+    }
+
+    @Override
+    public Map<Meeting, List<Meeting>> getClashesAfterAdding(List<Meeting> toAdd) {
+        requireNonNull(toAdd);
+        return meetingBook.getClashesAfterAdding(toAdd);
+    }
+
+    @Override
+    public List<Meeting> findMeetingsOverlapping(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        return meetingBook.findMeetingsOverlapping(start, end);
+    }
+
     /**
      * Gets the meeting ( if any ) scheduled  at this point in time in the model.
      */
@@ -299,6 +439,8 @@ public class ModelManager implements Model {
     public void setPersonMeetingConnection(PersonMeetingConnection connection) {
         requireNonNull(connection);
         this.connection.resetData(connection);
+        meetingAnalytics.reset(meetingBook.getMeetingList());
+        version++;
     }
 
     /** Returns the connection */
@@ -321,6 +463,8 @@ public class ModelManager implements Model {
     @Override
     public void addPersonMeetingConnection(Person person, Meeting meeting) {
         connection.addPersonMeetingConnection(person, meeting);
+        meetingAnalytics.addAttendance(person, meeting);
+        version++;
     }
 
     /**
@@ -329,6 +473,8 @@ public class ModelManager implements Model {
     @Override
     public void deleteSinglePersonMeetingConnection(Person person, Meeting meeting) {
         connection.deleteSinglePersonMeetingConnection(person, meeting);
+        meetingAnalytics.removeAttendance(person, meeting);
+        version++;
     }
 
     /**
@@ -336,7 +482,11 @@ public class ModelManager implements Model {
      */
     @Override
     public void deleteAllPersonMeetingConnectionByPerson(Person person) {
+        for (Meeting meeting : connection.getMeetingsByPerson(person)) {
+            meetingAnalytics.removeAttendance(person, meeting);
+        }
         connection.deleteAllPersonMeetingConnectionByPerson(person);
+        version++;
     };
 
     /**
@@ -344,7 +494,11 @@ public class ModelManager implements Model {
      */
     @Override
     public void deleteAllPersonMeetingConnectionByMeeting(Meeting meeting) {
+        for (Person person : connection.getPersonsByMeeting(meeting)) {
+            meetingAnalytics.removeAttendance(person, meeting);
+        }
         connection.deleteAllPersonMeetingConnectionByMeeting(meeting);
+        version++;
     }
 
     //TODO: This two methods below may need further change because I don't know how it works with GUI.(Yuheng)
@@ -354,7 +508,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Meeting> getFilteredMeetingListByPersonConnection(Person person) {
-        UniqueMeetingList meetings = connection.getMeetingsByPerson(person);
+        PersonMeetingList meetings = connection.getMeetingsByPerson(person);
         assert meetings != null;
         return meetings.asUnmodifiableObservableList();
     }
@@ -368,12 +522,12 @@ public class ModelManager implements Model {
         return persons.asUnmodifiableObservableList();
     }
     /**
-     * Returns a Unique meeting list object with the person as the key.
+     * Returns the meeting list of the person, which holds the meetings connected to them.
      * Empty list will be returned if there is no value found in the hashMap.
      */
     @Override
-    public UniqueMeetingList getUniqueMeetingListByPersonConnection(Person person) {
-        UniqueMeetingList meetings = connection.getMeetingsByPerson(person);
+    public PersonMeetingList getMeetingListByPersonConnection(Person person) {
+        PersonMeetingList meetings = connection.getMeetingsByPerson(person);
         return meetings;
     }
     /**
@@ -393,7 +547,22 @@ public class ModelManager implements Model {
 
     @Override
     public void refreshReminderBook() {
-        reminderBook.refreshRemindersFromMeetings(this.meetingBook);
+        reminderBook.setReminders(reminderScheduler.getUpcomingReminders());
+    }
+
+    @Override
+    public MeetingAnalytics getMeetingAnalytics() {
+        return meetingAnalytics;
+    }
+
+    @Override
+    public ReminderScheduler getReminderScheduler() {
+        return reminderScheduler;
+    }
+
+    private static ReminderScheduler createReminderScheduler(MeetingBook meetingBook) {
+        return new ReminderScheduler(meetingBook.getMeetingList(), ReminderScheduler.DEFAULT_LEAD_TIME,
+                Clock.systemDefaultZone());
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -410,13 +579,28 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (isPersonListRanked) {
+            sortedBeforeFilterPersons.setComparator(personSortOrder);
+            isPersonListRanked = false;
+        }
         filteredPersons.setPredicate(predicate);
     }
 
     public void sortFilteredPersonList(Comparator<Person> comparator) {
+        personSortOrder = comparator;
+        isPersonListRanked = false;
         sortedBeforeFilterPersons.setComparator(comparator);
     }
 
+    @Override
+    public void rankFilteredPersonList(Comparator<Person> comparator) {
+        requireNonNull(comparator);
+        isPersonListRanked = true;
+        // ties are left in the order set by the user
+        sortedBeforeFilterPersons.setComparator(personSortOrder == null
+                ? comparator : comparator.thenComparing(personSortOrder));
+    }
+
 
     //=========== Filtered Meeting List Accessors =============================================================
 
@@ -432,13 +616,28 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredMeetingList(Predicate<Meeting> predicate) {
         requireNonNull(predicate);
+        if (isMeetingListRanked) {
+            sortedBeforeFilterMeetings.setComparator(meetingSortOrder);
+            isMeetingListRanked = false;
+        }
         filteredMeetings.setPredicate(predicate);
     }
 
     public void sortFilteredMeetingList(Comparator<Meeting> comparator) {
+        meetingSortOrder = comparator;
+        isMeetingListRanked = false;
         sortedBeforeFilterMeetings.setComparator(comparator);
     }
 
+    @Override
+    public void rankFilteredMeetingList(Comparator<Meeting> comparator) {
+        requireNonNull(comparator);
+        isMeetingListRanked = true;
+        // ties are left in the order set by the user
+        sortedBeforeFilterMeetings.setComparator(meetingSortOrder == null
+                ? comparator : comparator.thenComparing(meetingSortOrder));
+    }
+
     // ======================= Note part of the note Model interface ============================ //
 
     @Override
@@ -475,6 +674,12 @@ public class ModelManager implements Model {
         noteBook.setNote(target, editedNote);
     }
 
+    @Override
+    public Map<Note, Double> searchNotes(List<String> keywords) {
+        requireNonNull(keywords);
+        return noteBook.searchNotes(keywords);
+    }
+
     /**
      * Returns an unmodifiable view of the list of {@code Note} backed by the internal list of
      * {@code versionedNoteBook}
@@ -490,6 +695,11 @@ public class ModelManager implements Model {
         filteredNotes.setPredicate(predicate);
     }
 
+    @Override
+    public void sortFilteredNoteList(Comparator<Note> comparator) {
+        sortedBeforeFilterNotes.setComparator(comparator);
+    }
+
     @Override
     public Path getNoteBookFilePath() {
         return userPrefs.getNoteBookFilePath();
@@ -514,6 +724,56 @@ public class ModelManager implements Model {
     }
 
 
+    //=========== Batch updates =============================================================
+
+    @Override
+    public void executeInBatch(Runnable mutations) {
+        requireNonNull(mutations);
+        addressBook.beginBatch();
+        meetingBook.beginBatch();
+        try {
+            mutations.run();
+        } finally {
+            meetingBook.endBatch();
+            addressBook.endBatch();
+        }
+    }
+
+    //=========== Query cache =============================================================
+
+    @Override
+    public long getDataVersion() {
+        return version;
+    }
+
+    /**
+     * Bumps {@code version} whenever the person or meeting list changes. Connections are not observable, so their
+     * mutators bump {@code version} themselves.
+     */
+    private void trackVersion() {
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> version++);
+        meetingBook.getMeetingList().addListener((ListChangeListener<Meeting>) change -> version++);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getCachedQueryResult(String descriptor, Supplier<T> query) {
+        requireAllNonNull(descriptor, query);
+        if (queryResultsVersion != version) {
+            // every cached result is stale, so drop them all at once instead of checking each on lookup
+            queryResults.clear();
+            queryResultsVersion = version;
+        }
+        Optional<Object> cached = queryResults.get(descriptor);
+        if (cached.isPresent()) {
+            logger.fine("Query result cache hit: " + descriptor);
+            return (T) cached.get();
+        }
+        T result = query.get();
+        queryResults.put(descriptor, result);
+        return result;
+    }
+
     //=========== Other methods =============================================================
     @Override
     public boolean equals(Object obj) {
@@ -3,6 +3,7 @@ package seedu.address.model;
 import java.nio.file.Path;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.meeting.ClashCheck;
 
 /**
  * Unmodifiable view of user prefs.
@@ -17,4 +18,6 @@ public interface ReadOnlyUserPrefs {
 
     Path getConnectionsFilePath();
 
+    ClashCheck getMeetingClashCheck();
+
 }
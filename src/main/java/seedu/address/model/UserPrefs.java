@@ -7,6 +7,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.meeting.ClashCheck;
 
 /**
  * Represents User's preferences.
@@ -18,6 +19,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private Path meetingBookFilePath = Paths.get("data", "meetingbook.json");
     private Path noteBookFilePath = Paths.get("data", "notebook.json");
     private Path connectionsFilePath = Paths.get("data",  "connections.json");
+    private ClashCheck meetingClashCheck = ClashCheck.ALL_MEETINGS;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -39,6 +41,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setMeetingClashCheck(newUserPrefs.getMeetingClashCheck());
     }
 
     public GuiSettings getGuiSettings() {
@@ -66,6 +69,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         return connectionsFilePath;
     }
 
+    public ClashCheck getMeetingClashCheck() {
+        return meetingClashCheck;
+    }
+
 
     public void setAddressBookFilePath(Path addressBookFilePath) {
         requireNonNull(addressBookFilePath);
@@ -86,6 +93,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.connectionsFilePath = connectionsFilePath;
     }
 
+    public void setMeetingClashCheck(ClashCheck meetingClashCheck) {
+        requireNonNull(meetingClashCheck);
+        this.meetingClashCheck = meetingClashCheck;
+    }
+
 
     @Override
     public boolean equals(Object other) {
@@ -99,12 +111,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && meetingClashCheck == o.meetingClashCheck;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, meetingClashCheck);
     }
 
     @Override
@@ -112,6 +125,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nMeeting clash check : " + meetingClashCheck);
         return sb.toString();
     }
 
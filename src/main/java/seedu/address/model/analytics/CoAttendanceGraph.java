@@ -0,0 +1,112 @@
+package seedu.address.model.analytics;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+
+/**
+ * The number of meetings each pair of persons shared, and the number of meetings of each group each person was
+ * related to, kept as sparse maps holding only the pairs that met.
+ *
+ * A person related to a meeting changes only the counts between them and the others related to it, and its groups,
+ * so the counts follow each change to the persons related to a meeting in time proportional to its attendees.
+ */
+public class CoAttendanceGraph {
+
+    // each person, to the number of meetings they shared with each other person
+    private final Map<Person, Map<Person, Integer>> sharedMeetings = new HashMap<>();
+    // each group, to the number of its meetings each person was related to
+    private final Map<Group, Map<Person, Integer>> groupMeetings = new HashMap<>();
+
+    /**
+     * Counts a meeting in {@code groups} shared by {@code person}, who is being related to it, with {@code others},
+     * who are already related to it.
+     */
+    public void addAttendance(Person person, Collection<Person> others, Collection<Group> groups) {
+        requireAllNonNull(person, others, groups);
+        count(person, others, groups, 1);
+    }
+
+    /**
+     * Stops counting a meeting in {@code groups} shared by {@code person}, who is being unrelated from it, with
+     * {@code others}, who stay related to it.
+     */
+    public void removeAttendance(Person person, Collection<Person> others, Collection<Group> groups) {
+        requireAllNonNull(person, others, groups);
+        count(person, others, groups, -1);
+    }
+
+    private void count(Person person, Collection<Person> others, Collection<Group> groups, int change) {
+        for (Person other : others) {
+            if (!other.equals(person)) {
+                add(sharedMeetings, person, other, change);
+                add(sharedMeetings, other, person, change);
+            }
+        }
+        for (Group group : groups) {
+            add(groupMeetings, group, person, change);
+        }
+    }
+
+    /**
+     * Adds {@code change} to the count of {@code key} and {@code person} in {@code counts}, removing the count
+     * once it drops to zero.
+     */
+    private static <K> void add(Map<K, Map<Person, Integer>> counts, K key, Person person, int change) {
+        Map<Person, Integer> keyCounts = counts.computeIfAbsent(key, unused -> new HashMap<>());
+        int count = keyCounts.getOrDefault(person, 0) + change;
+        assert count >= 0;
+        if (count == 0) {
+            keyCounts.remove(person);
+            if (keyCounts.isEmpty()) {
+                counts.remove(key);
+            }
+        } else {
+            keyCounts.put(person, count);
+        }
+    }
+
+    /**
+     * Returns the number of meetings {@code person} shared with {@code other}.
+     */
+    public int getSharedMeetingCount(Person person, Person other) {
+        requireAllNonNull(person, other);
+        return sharedMeetings.getOrDefault(person, Map.of()).getOrDefault(other, 0);
+    }
+
+    /**
+     * Returns at most {@code count} persons most likely to attend a meeting in {@code groups} with
+     * {@code attendees}, the most likely first, with their scores: the number of meetings they shared with each of
+     * the attendees, and were related to in each of the groups, added up. Persons who never met the attendees nor
+     * were related to a meeting of the groups are left out, as are the attendees themselves.
+     */
+    public List<Map.Entry<Person, Integer>> getLikelyAttendees(Collection<Person> attendees,
+                                                              Collection<Group> groups, int count) {
+        requireAllNonNull(attendees, groups);
+        Set<Person> attendeeSet = new HashSet<>(attendees);
+        Map<Person, Integer> scores = new HashMap<>();
+        for (Person attendee : attendeeSet) {
+            sharedMeetings.getOrDefault(attendee, Map.of()).forEach((other, shared) -> scores.merge(other, shared,
+                    Integer::sum));
+        }
+        for (Group group : new HashSet<>(groups)) {
+            groupMeetings.getOrDefault(group, Map.of()).forEach((person, related) -> scores.merge(person, related,
+                    Integer::sum));
+        }
+        return scores.entrySet().stream()
+                .filter(entry -> !attendeeSet.contains(entry.getKey()))
+                .sorted(Map.Entry.<Person, Integer>comparingByValue().reversed()
+                        .thenComparing(entry -> entry.getKey().getName().fullName))
+                .limit(count)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,280 @@
+package seedu.address.model.analytics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.connection.PersonMeetingConnection;
+import seedu.address.model.group.Group;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.person.Person;
+
+/**
+ * Keeps the time spent in meetings by each person and group, and by everyone, tallied by ISO week and day, so that
+ * the statistics of a period are found in time proportional to the days in it and the persons met, however many
+ * meetings there are.
+ *
+ * The tallies follow the changes to the list of meetings, and are told of each person related to or unrelated from
+ * a meeting, each in time proportional to the persons related to the meeting. The persons related to a meeting are
+ * only counted while the meeting is in the list.
+ *
+ * Repeating meetings are kept apart, and their occurrences during a period are counted only when its statistics are
+ * asked for, as a series may have many more occurrences than are ever asked about.
+ *
+ * The number of meetings each pair of persons shared is kept alongside, whether or not the meetings repeat, to
+ * suggest who is likely to attend a meeting.
+ *
+ * Meetings are tracked by identity, as a meeting's hash code may change while it is in the list.
+ */
+public class MeetingAnalytics {
+
+    /** The key of the tally of all meetings. */
+    private enum Everyone { ALL }
+
+    /**
+     * The groups and persons of a meeting as they were counted, so that they can be uncounted.
+     */
+    private static class Attendance {
+        private final Set<Group> groups;
+        private final Set<Person> persons = new HashSet<>();
+
+        private Attendance(Set<Group> groups) {
+            this.groups = new HashSet<>(groups);
+        }
+    }
+
+    private final PersonMeetingConnection connection;
+    private final Map<Meeting, Attendance> attendances = new IdentityHashMap<>();
+    private final Set<Meeting> recurringMeetings = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private final WeeklyTally<Everyone> everyoneMinutes = new WeeklyTally<>();
+    private final WeeklyTally<Person> personMinutes = new WeeklyTally<>();
+    private final WeeklyTally<Group> groupMinutes = new WeeklyTally<>();
+    // each person, to the minutes they met each other person
+    private final Map<Person, WeeklyTally<Person>> coAttendeeMinutes = new HashMap<>();
+    private final CoAttendanceGraph coAttendance = new CoAttendanceGraph();
+
+    /**
+     * Creates analytics of the meetings in {@code meetings}, related to persons by {@code connection}, that follow
+     * the changes to {@code meetings}.
+     */
+    public MeetingAnalytics(ObservableList<Meeting> meetings, PersonMeetingConnection connection) {
+        requireAllNonNull(meetings, connection);
+        this.connection = connection;
+        meetings.forEach(this::track);
+        meetings.addListener((ListChangeListener<Meeting>) this::onMeetingsChanged);
+    }
+
+    private void onMeetingsChanged(ListChangeListener.Change<? extends Meeting> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(this::untrack);
+            change.getAddedSubList().forEach(this::track);
+        }
+    }
+
+    /**
+     * Counts the meetings in {@code meetings} afresh, such as after the connections were replaced.
+     */
+    public void reset(List<Meeting> meetings) {
+        requireNonNull(meetings);
+        new ArrayList<>(attendances.keySet()).forEach(this::untrack);
+        meetings.forEach(this::track);
+    }
+
+    /**
+     * Counts the time of {@code meeting} for {@code person}, who has been related to it.
+     */
+    public void addAttendance(Person person, Meeting meeting) {
+        requireAllNonNull(person, meeting);
+        Attendance attendance = attendances.get(meeting);
+        if (attendance == null || attendance.persons.contains(person)) {
+            return;
+        }
+        tallyAttendance(person, meeting, attendance, 1);
+        coAttendance.addAttendance(person, attendance.persons, attendance.groups);
+        attendance.persons.add(person);
+    }
+
+    /**
+     * Stops counting the time of {@code meeting} for {@code person}, who is being unrelated from it.
+     */
+    public void removeAttendance(Person person, Meeting meeting) {
+        requireAllNonNull(person, meeting);
+        Attendance attendance = attendances.get(meeting);
+        if (attendance == null || !attendance.persons.remove(person)) {
+            return;
+        }
+        tallyAttendance(person, meeting, attendance, -1);
+        coAttendance.removeAttendance(person, attendance.persons, attendance.groups);
+    }
+
+    /**
+     * Returns the statistics of all meetings from {@code firstDate} to {@code lastDate}, both inclusive.
+     */
+    public MeetingStats getStats(LocalDate firstDate, LocalDate lastDate) {
+        requireAllNonNull(firstDate, lastDate);
+        SortedMap<LocalDate, Long> minutesByDay = everyoneMinutes.getMinutesByDay(Everyone.ALL, firstDate, lastDate);
+        addRecurringMinutes(minutesByDay, Map.of(), null, attendance -> true, firstDate, lastDate);
+        return new MeetingStats(minutesByDay, Map.of());
+    }
+
+    /**
+     * Returns the statistics of the meetings of {@code person} from {@code firstDate} to {@code lastDate}, both
+     * inclusive, with the time they spent with each other person.
+     */
+    public MeetingStats getStatsOf(Person person, LocalDate firstDate, LocalDate lastDate) {
+        requireAllNonNull(person, firstDate, lastDate);
+        SortedMap<LocalDate, Long> minutesByDay = personMinutes.getMinutesByDay(person, firstDate, lastDate);
+        Map<Person, Long> coAttendees = coAttendeeMinutes.getOrDefault(person, new WeeklyTally<>())
+                .getTotals(firstDate, lastDate);
+        addRecurringMinutes(minutesByDay, coAttendees, person, attendance -> attendance.persons.contains(person),
+                firstDate, lastDate);
+        return new MeetingStats(minutesByDay, coAttendees);
+    }
+
+    /**
+     * Returns the statistics of the meetings in {@code group} from {@code firstDate} to {@code lastDate}, both
+     * inclusive.
+     */
+    public MeetingStats getStatsOf(Group group, LocalDate firstDate, LocalDate lastDate) {
+        requireAllNonNull(group, firstDate, lastDate);
+        SortedMap<LocalDate, Long> minutesByDay = groupMinutes.getMinutesByDay(group, firstDate, lastDate);
+        addRecurringMinutes(minutesByDay, Map.of(), null, attendance -> attendance.groups.contains(group),
+                firstDate, lastDate);
+        return new MeetingStats(minutesByDay, Map.of());
+    }
+
+    /**
+     * Returns at most {@code count} persons most likely to attend a meeting in {@code groups} with
+     * {@code attendees}, the most likely first, with the number of meetings they shared with the attendees or
+     * were related to in the groups.
+     */
+    public List<Map.Entry<Person, Integer>> getLikelyAttendees(Collection<Person> attendees,
+                                                              Collection<Group> groups, int count) {
+        return coAttendance.getLikelyAttendees(attendees, groups, count);
+    }
+
+    /**
+     * Adds the minutes of the occurrences from {@code firstDate} to {@code lastDate} of the repeating meetings
+     * whose attendance passes {@code isCounted} to {@code minutesByDay}, and, if {@code person} is given, the
+     * minutes the others related to them spent with {@code person} to {@code coAttendees}.
+     */
+    private void addRecurringMinutes(SortedMap<LocalDate, Long> minutesByDay, Map<Person, Long> coAttendees,
+                                     Person person, Predicate<Attendance> isCounted,
+                                     LocalDate firstDate, LocalDate lastDate) {
+        for (Meeting meeting : recurringMeetings) {
+            Attendance attendance = attendances.get(meeting);
+            if (!isCounted.test(attendance)) {
+                continue;
+            }
+            List<Meeting> occurrences = meeting.getOccurrencesBetween(firstDate.atStartOfDay(),
+                    lastDate.plusDays(1).atStartOfDay());
+            for (Meeting occurrence : occurrences) {
+                getMinutesByDay(occurrence).forEach((date, minutes) -> {
+                    if (date.isBefore(firstDate) || date.isAfter(lastDate)) {
+                        return;
+                    }
+                    minutesByDay.merge(date, minutes, Long::sum);
+                    if (person != null) {
+                        attendance.persons.stream().filter(other -> !other.equals(person))
+                                .forEach(other -> coAttendees.merge(other, minutes, Long::sum));
+                    }
+                });
+            }
+        }
+    }
+
+    private void track(Meeting meeting) {
+        Attendance attendance = new Attendance(meeting.getGroups());
+        attendances.put(meeting, attendance);
+        if (meeting.isRecurring()) {
+            recurringMeetings.add(meeting);
+        } else {
+            tallyMeeting(meeting, attendance, 1);
+        }
+        connection.getPersonsByMeeting(meeting).forEach(person -> addAttendance(person, meeting));
+    }
+
+    private void untrack(Meeting meeting) {
+        Attendance attendance = attendances.get(meeting);
+        if (attendance == null) {
+            return;
+        }
+        new ArrayList<>(attendance.persons).forEach(person -> removeAttendance(person, meeting));
+        if (!meeting.isRecurring()) {
+            tallyMeeting(meeting, attendance, -1);
+        }
+        recurringMeetings.remove(meeting);
+        attendances.remove(meeting);
+    }
+
+    /**
+     * Adds the minutes of {@code meeting}, times {@code sign}, to the tallies of everyone and of its groups.
+     */
+    private void tallyMeeting(Meeting meeting, Attendance attendance, int sign) {
+        getMinutesByDay(meeting).forEach((date, minutes) -> {
+            everyoneMinutes.add(Everyone.ALL, date, sign * minutes);
+            attendance.groups.forEach(group -> groupMinutes.add(group, date, sign * minutes));
+        });
+    }
+
+    /**
+     * Adds the minutes of {@code meeting}, times {@code sign}, to the tally of {@code person}, and to the tallies
+     * of the time {@code person} spent with the other persons related to it, and they with {@code person}.
+     */
+    private void tallyAttendance(Person person, Meeting meeting, Attendance attendance, int sign) {
+        if (meeting.isRecurring()) {
+            return;
+        }
+        getMinutesByDay(meeting).forEach((date, minutes) -> {
+            personMinutes.add(person, date, sign * minutes);
+            for (Person other : attendance.persons) {
+                if (!other.equals(person)) {
+                    tallyCoAttendance(person, other, date, sign * minutes);
+                    tallyCoAttendance(other, person, date, sign * minutes);
+                }
+            }
+        });
+    }
+
+    private void tallyCoAttendance(Person person, Person other, LocalDate date, long minutes) {
+        WeeklyTally<Person> tally = coAttendeeMinutes.computeIfAbsent(person, unused -> new WeeklyTally<>());
+        tally.add(other, date, minutes);
+        if (tally.isEmpty()) {
+            coAttendeeMinutes.remove(person);
+        }
+    }
+
+    /**
+     * Returns the minutes of {@code meeting}, which does not repeat, on each day it takes place.
+     */
+    private static Map<LocalDate, Long> getMinutesByDay(Meeting meeting) {
+        Map<LocalDate, Long> minutesByDay = new LinkedHashMap<>();
+        LocalDateTime start = meeting.getStartLocalDateTime();
+        LocalDateTime end = meeting.getTerminateLocalDateTime();
+        while (start.isBefore(end)) {
+            LocalDateTime endOfDay = start.toLocalDate().plusDays(1).atStartOfDay();
+            LocalDateTime dayEnd = endOfDay.isBefore(end) ? endOfDay : end;
+            minutesByDay.put(start.toLocalDate(), ChronoUnit.MINUTES.between(start, dayEnd));
+            start = dayEnd;
+        }
+        return minutesByDay;
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.model.analytics;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The time spent in meetings over a period, by a person, a group or everyone.
+ */
+public class MeetingStats {
+
+    private final SortedMap<LocalDate, Long> minutesByDay;
+    private final Map<Person, Long> coAttendeeMinutes;
+    private final long totalMinutes;
+
+    /**
+     * Creates the statistics of the meetings taking {@code minutesByDay} on each day, and shared with each person
+     * for {@code coAttendeeMinutes}.
+     */
+    public MeetingStats(SortedMap<LocalDate, Long> minutesByDay, Map<Person, Long> coAttendeeMinutes) {
+        requireAllNonNull(minutesByDay, coAttendeeMinutes);
+        this.minutesByDay = new TreeMap<>(minutesByDay);
+        this.coAttendeeMinutes = new HashMap<>(coAttendeeMinutes);
+        this.totalMinutes = minutesByDay.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public long getTotalMinutes() {
+        return totalMinutes;
+    }
+
+    /**
+     * Returns the minutes of meetings on each day that has any, in order of the days.
+     */
+    public SortedMap<LocalDate, Long> getMinutesByDay() {
+        return Collections.unmodifiableSortedMap(minutesByDay);
+    }
+
+    /**
+     * Returns the minutes shared in meetings with each other person, for statistics of a person.
+     */
+    public Map<Person, Long> getCoAttendeeMinutes() {
+        return Collections.unmodifiableMap(coAttendeeMinutes);
+    }
+
+    /**
+     * Returns at most {@code count} days with the most minutes of meetings, the most first, and the earlier day
+     * first if they have as many.
+     */
+    public List<Map.Entry<LocalDate, Long>> getBusiestDays(int count) {
+        return minutesByDay.entrySet().stream()
+                .sorted(Map.Entry.<LocalDate, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(count)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns at most {@code count} persons sharing the most minutes in meetings, the most first, and by name if
+     * they share as many.
+     */
+    public List<Map.Entry<Person, Long>> getTopCoAttendees(int count) {
+        return coAttendeeMinutes.entrySet().stream()
+                .sorted(Map.Entry.<Person, Long>comparingByValue().reversed()
+                        .thenComparing(entry -> entry.getKey().getName().fullName))
+                .limit(count)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MeetingStats // instanceof handles nulls
+                && minutesByDay.equals(((MeetingStats) other).minutesByDay)
+                && coAttendeeMinutes.equals(((MeetingStats) other).coAttendeeMinutes));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(minutesByDay, coAttendeeMinutes);
+    }
+
+    @Override
+    public String toString() {
+        return totalMinutes + " minutes on " + minutesByDay + " with " + coAttendeeMinutes;
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.model.analytics;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Minutes of meetings tallied for each key, such as a person, by ISO week, and within a week by day.
+ *
+ * The tallies are kept by week first, so that the tallies of a period are found by looking up only the weeks in it.
+ * A key whose tally for a week drops to zero is removed from that week.
+ *
+ * @param <K> the type of the keys, which must be usable as keys of a {@code HashMap}.
+ */
+public class WeeklyTally<K> {
+
+    private static final int DAYS_IN_WEEK = 7;
+
+    // the Monday starting each ISO week, to the minutes of each key on each day of that week, from Monday
+    private final Map<LocalDate, Map<K, long[]>> weeks = new HashMap<>();
+
+    /**
+     * Adds {@code minutes}, which may be negative to take away minutes added before, to the tally of {@code key}
+     * on {@code date}.
+     */
+    public void add(K key, LocalDate date, long minutes) {
+        requireAllNonNull(key, date);
+        if (minutes == 0) {
+            return;
+        }
+        LocalDate week = getWeek(date);
+        Map<K, long[]> tallies = weeks.computeIfAbsent(week, unused -> new HashMap<>());
+        long[] tally = tallies.computeIfAbsent(key, unused -> new long[DAYS_IN_WEEK]);
+        tally[date.getDayOfWeek().getValue() - 1] += minutes;
+        if (Arrays.stream(tally).allMatch(dayMinutes -> dayMinutes == 0)) {
+            tallies.remove(key);
+            if (tallies.isEmpty()) {
+                weeks.remove(week);
+            }
+        }
+    }
+
+    /**
+     * Returns the minutes of {@code key} on each day from {@code firstDate} to {@code lastDate}, both inclusive,
+     * leaving out the days without any.
+     */
+    public SortedMap<LocalDate, Long> getMinutesByDay(K key, LocalDate firstDate, LocalDate lastDate) {
+        requireAllNonNull(key, firstDate, lastDate);
+        SortedMap<LocalDate, Long> minutesByDay = new TreeMap<>();
+        for (LocalDate week = getWeek(firstDate); !week.isAfter(lastDate); week = week.plusWeeks(1)) {
+            long[] tally = weeks.getOrDefault(week, Map.of()).get(key);
+            if (tally != null) {
+                addDays(minutesByDay, week, tally, firstDate, lastDate);
+            }
+        }
+        return minutesByDay;
+    }
+
+    /**
+     * Returns the total minutes of each key from {@code firstDate} to {@code lastDate}, both inclusive, leaving out
+     * the keys without any.
+     */
+    public Map<K, Long> getTotals(LocalDate firstDate, LocalDate lastDate) {
+        requireAllNonNull(firstDate, lastDate);
+        Map<K, Long> totals = new HashMap<>();
+        for (LocalDate week = getWeek(firstDate); !week.isAfter(lastDate); week = week.plusWeeks(1)) {
+            for (Map.Entry<K, long[]> entry : weeks.getOrDefault(week, Map.of()).entrySet()) {
+                long total = sumDays(week, entry.getValue(), firstDate, lastDate);
+                if (total != 0) {
+                    totals.merge(entry.getKey(), total, Long::sum);
+                }
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Returns true if no minutes are tallied.
+     */
+    public boolean isEmpty() {
+        return weeks.isEmpty();
+    }
+
+    /**
+     * Returns the Monday starting the ISO week of {@code date}.
+     */
+    public static LocalDate getWeek(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private static void addDays(SortedMap<LocalDate, Long> minutesByDay, LocalDate week, long[] tally,
+                                LocalDate firstDate, LocalDate lastDate) {
+        for (int day = 0; day < DAYS_IN_WEEK; day++) {
+            LocalDate date = week.plusDays(day);
+            if (tally[day] != 0 && !date.isBefore(firstDate) && !date.isAfter(lastDate)) {
+                minutesByDay.merge(date, tally[day], Long::sum);
+            }
+        }
+    }
+
+    private static long sumDays(LocalDate week, long[] tally, LocalDate firstDate, LocalDate lastDate) {
+        long total = 0;
+        for (int day = 0; day < DAYS_IN_WEEK; day++) {
+            LocalDate date = week.plusDays(day);
+            if (!date.isBefore(firstDate) && !date.isAfter(lastDate)) {
+                total += tally[day];
+            }
+        }
+        return total;
+    }
+}
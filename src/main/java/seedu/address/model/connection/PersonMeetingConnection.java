@@ -3,12 +3,17 @@ package seedu.address.model.connection;
 import seedu.address.model.connection.exceptions.ConnectionNoFoundException;
 import seedu.address.model.connection.exceptions.DuplicateConnectionException;
 import seedu.address.model.meeting.Meeting;
-import seedu.address.model.meeting.UniqueMeetingList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 
@@ -17,10 +22,12 @@ import static java.util.Objects.requireNonNull;
  * Uses two hashmaps to store the connections, use both meeting and person as a connection.
  * In default, if the connection is not stated, the connection class object will not record the connections.
  * i.e: those meeting and person will not appear in the hashmap, both key and values(in the UniqueXXXList).
+ * The meetings of each person are kept in a {@code PersonMeetingList}, whose interval index finds the meetings of a
+ * person at a given time without going through all of them, and which refuses to double-book the person.
  */
 public class PersonMeetingConnection {
     private HashMap<Meeting, UniquePersonList> personsInMeeting;
-    private HashMap<Person, UniqueMeetingList> meetingsInPerson;
+    private HashMap<Person, PersonMeetingList> meetingsInPerson;
 
     /**
      * Constructs a {@code PersonMeetingConnection}.
@@ -49,18 +56,46 @@ public class PersonMeetingConnection {
      */
     public boolean existPersonMeetingConnection(Person person, Meeting meeting) {
         UniquePersonList personList = personsInMeeting.get(meeting);
-        UniqueMeetingList meetingList = meetingsInPerson.get(person);
+        PersonMeetingList meetingList = meetingsInPerson.get(person);
         if (personList == null || meetingList == null) {
             return false;
         }
         return personList.contains(person) && meetingList.contains(meeting);
     }
     /**
-     * Returns a UniqueMeetingList object with the person as the key.
+     * Returns a PersonMeetingList object with the person as the key.
      * Empty list will be returned if there is no value found in the hashMap.
      */
-    public UniqueMeetingList getMeetingsByPerson(Person person) {
-        return meetingsInPerson.getOrDefault(person, new UniqueMeetingList());
+    public PersonMeetingList getMeetingsByPerson(Person person) {
+        return meetingsInPerson.getOrDefault(person, new PersonMeetingList());
+    }
+
+    /**
+     * Returns each of {@code persons} who is related to a meeting, other than {@code replaced}, that clashes with
+     * {@code meeting}, mapped to those meetings. Each person's meetings are searched with their interval index, so
+     * this takes O(A log M) time for A persons of at most M meetings each.
+     *
+     * @param replaced the meeting that {@code meeting} is to replace, if any.
+     */
+    public Map<Person, List<Meeting>> findDoubleBookings(Meeting meeting, Collection<Person> persons,
+                                                         Optional<Meeting> replaced) {
+        requireNonNull(meeting);
+        requireNonNull(persons);
+        requireNonNull(replaced);
+        Map<Person, List<Meeting>> doubleBookings = new LinkedHashMap<>();
+        for (Person person : persons) {
+            PersonMeetingList meetings = meetingsInPerson.get(person);
+            if (meetings == null) {
+                continue;
+            }
+            List<Meeting> clashes = meetings.getClashes(meeting).stream()
+                    .filter(clash -> replaced.map(r -> !r.equals(clash)).orElse(true))
+                    .collect(Collectors.toList());
+            if (!clashes.isEmpty()) {
+                doubleBookings.put(person, clashes);
+            }
+        }
+        return doubleBookings;
     }
 
     /**
@@ -76,7 +111,7 @@ public class PersonMeetingConnection {
      */
     public void addPersonMeetingConnection(Person person, Meeting meeting) {
         UniquePersonList personList = personsInMeeting.getOrDefault(meeting, new UniquePersonList());
-        UniqueMeetingList meetingList = meetingsInPerson.getOrDefault(person, new UniqueMeetingList());
+        PersonMeetingList meetingList = meetingsInPerson.getOrDefault(person, new PersonMeetingList());
         try {
             personList.add(person);
             meetingList.add(meeting);
@@ -94,7 +129,7 @@ public class PersonMeetingConnection {
             throw new ConnectionNoFoundException();
         }
         UniquePersonList personList = personsInMeeting.get(meeting);
-        UniqueMeetingList meetingList = meetingsInPerson.get(person);
+        PersonMeetingList meetingList = meetingsInPerson.get(person);
         personList.remove(person);
         meetingList.remove(meeting);
         if (personList.isEmpty()) {
@@ -113,7 +148,7 @@ public class PersonMeetingConnection {
      */
     public void deleteAllPersonMeetingConnectionByPerson(Person person) {
         if (meetingsInPerson.get(person) != null) {
-            UniqueMeetingList meetings = meetingsInPerson.get(person);
+            PersonMeetingList meetings = meetingsInPerson.get(person);
             for (Meeting meeting : meetings) {
                 UniquePersonList persons = personsInMeeting.get(meeting);
                 persons.remove(person);
@@ -129,7 +164,7 @@ public class PersonMeetingConnection {
         if (personsInMeeting.get(meeting) != null) {
             UniquePersonList persons = personsInMeeting.get(meeting);
             for (Person person : persons) {
-                UniqueMeetingList meetings = meetingsInPerson.get(person);
+                PersonMeetingList meetings = meetingsInPerson.get(person);
                 meetings.remove(meeting);
                 meetingsInPerson.put(person, meetings);
             }
@@ -139,13 +174,13 @@ public class PersonMeetingConnection {
     /**
      * This method delete a all connections related to a given meeting.
      */
-    public HashMap<Person, UniqueMeetingList> getPersonMeetingMap() {
+    public HashMap<Person, PersonMeetingList> getPersonMeetingMap() {
         return meetingsInPerson;
     }
     /**
      * This method delete a all connections related to a given meeting.
      */
-    public HashMap<Person, UniqueMeetingList> getMeetingPersonMap() {
+    public HashMap<Person, PersonMeetingList> getMeetingPersonMap() {
         return meetingsInPerson;
     }
 
@@ -0,0 +1,112 @@
+package seedu.address.model.connection;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingIntervalIndex;
+import seedu.address.model.meeting.exceptions.DuplicateMeetingException;
+import seedu.address.model.meeting.exceptions.MeetingNotFoundException;
+import seedu.address.model.meeting.exceptions.MeetingTimeClashException;
+
+/**
+ * The meetings of one person, which must be unique and must not clash with each other, so that the person is never
+ * double-booked.
+ * Unlike a {@code UniqueMeetingList}, the meetings are only indexed by time, with a {@code MeetingIntervalIndex},
+ * as the meetings of a person are checked for clashes but never searched.
+ *
+ * @see Meeting#isSameMeeting(Meeting)
+ */
+public class PersonMeetingList implements Iterable<Meeting> {
+
+    private final ObservableList<Meeting> internalList = FXCollections.observableArrayList();
+    private final ObservableList<Meeting> internalUnmodifiableList =
+            FXCollections.unmodifiableObservableList(internalList);
+    private final MeetingIntervalIndex intervalIndex = new MeetingIntervalIndex();
+
+    /**
+     * Returns true if the list contains an equivalent meeting as the given argument.
+     */
+    public boolean contains(Meeting toCheck) {
+        requireNonNull(toCheck);
+        // an equivalent meeting has the same start and end, so it overlaps the meeting being checked
+        return intervalIndex.findOverlapping(toCheck.getStartLocalDateTime(), toCheck.getLastTerminateLocalDateTime())
+                .stream().anyMatch(toCheck::isSameMeeting);
+    }
+
+    /**
+     * Returns the meetings in the list that clash with {@code toCheck}.
+     */
+    public List<Meeting> getClashes(Meeting toCheck) {
+        requireNonNull(toCheck);
+        return intervalIndex.findOverlapping(toCheck.getStartLocalDateTime(), toCheck.getLastTerminateLocalDateTime())
+                .stream()
+                .filter(toCheck::isConflict)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Adds a meeting to the list.
+     * The meeting must not already exist in the list, and must not clash with any meeting in it.
+     */
+    public void add(Meeting toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateMeetingException();
+        }
+        if (!getClashes(toAdd).isEmpty()) {
+            throw new MeetingTimeClashException();
+        }
+        internalList.add(toAdd);
+        intervalIndex.add(toAdd);
+    }
+
+    /**
+     * Removes the equivalent meeting from the list.
+     * The meeting must exist in the list.
+     */
+    public void remove(Meeting toRemove) {
+        requireNonNull(toRemove);
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
+            throw new MeetingNotFoundException();
+        }
+        intervalIndex.remove(internalList.remove(index));
+    }
+
+    /**
+     * Returns true if the person has no meetings.
+     */
+    public boolean isEmpty() {
+        return internalList.isEmpty();
+    }
+
+    /**
+     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Meeting> asUnmodifiableObservableList() {
+        return internalUnmodifiableList;
+    }
+
+    @Override
+    public Iterator<Meeting> iterator() {
+        return internalList.iterator();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonMeetingList // instanceof handles nulls
+                && internalList.equals(((PersonMeetingList) other).internalList));
+    }
+
+    @Override
+    public int hashCode() {
+        return internalList.hashCode();
+    }
+}
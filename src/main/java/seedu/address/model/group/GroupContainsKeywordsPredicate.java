@@ -1,5 +1,6 @@
 package seedu.address.model.group;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -17,6 +18,10 @@ public class GroupContainsKeywordsPredicate implements Predicate<Person> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
+    }
+
     @Override
     public boolean test(Person person) {
         Set<Group> groups = person.getGroups();
@@ -0,0 +1,11 @@
+package seedu.address.model.meeting;
+
+/**
+ * How MeetBuddy decides that a meeting clashes with the meetings it already has.
+ */
+public enum ClashCheck {
+    /** No two meetings may overlap, whoever attends them. */
+    ALL_MEETINGS,
+    /** Meetings may overlap, as long as nobody attends two of them at once. */
+    PER_ATTENDEE
+}
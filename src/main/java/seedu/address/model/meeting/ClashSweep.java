@@ -0,0 +1,86 @@
+package seedu.address.model.meeting;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds the clashes between a group of meetings about to be moved and the meetings staying where they are, in one
+ * sweep through the occurrences of both in order of their starts.
+ *
+ * Every occurrence that has started but not ended when an occurrence starts overlaps it, so the sweep keeps the
+ * occurrences of each side that have not ended yet, and pairs each new occurrence with those of the other side.
+ * Meetings about to be added, unlike meetings moved together, may also clash with each other, so the moved meetings
+ * can be paired with each other too.
+ */
+class ClashSweep {
+
+    /**
+     * An occurrence of a meeting on one side of the sweep.
+     */
+    private static class Occurrence {
+        private final Meeting meeting;
+        private final boolean isMoved;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+
+        private Occurrence(Meeting meeting, boolean isMoved, Meeting occurrence) {
+            this.meeting = meeting;
+            this.isMoved = isMoved;
+            this.start = occurrence.getStartLocalDateTime();
+            this.end = occurrence.getTerminateLocalDateTime();
+        }
+    }
+
+    private ClashSweep() {}
+
+    /**
+     * Returns each of {@code moved} that clashes with any of {@code staying}, mapped to those meetings, considering
+     * only the occurrences from {@code from} (inclusive) to {@code to} (exclusive). If {@code isAmongMovedChecked},
+     * each of {@code moved} is also mapped to the meetings of {@code moved} starting before it that it clashes with.
+     */
+    static Map<Meeting, List<Meeting>> findClashes(Collection<Meeting> moved, Collection<Meeting> staying,
+                                                   LocalDateTime from, LocalDateTime to,
+                                                   boolean isAmongMovedChecked) {
+        requireAllNonNull(moved, staying, from, to);
+        List<Occurrence> occurrences = new ArrayList<>();
+        moved.forEach(meeting -> meeting.streamOccurrencesBetween(from, to)
+                .forEach(occurrence -> occurrences.add(new Occurrence(meeting, true, occurrence))));
+        staying.forEach(meeting -> meeting.streamOccurrencesBetween(from, to)
+                .forEach(occurrence -> occurrences.add(new Occurrence(meeting, false, occurrence))));
+        occurrences.sort(Comparator.comparing(occurrence -> occurrence.start));
+
+        Map<Meeting, List<Meeting>> clashes = new LinkedHashMap<>();
+        List<Occurrence> ongoingMoved = new ArrayList<>();
+        List<Occurrence> ongoingStaying = new ArrayList<>();
+        for (Occurrence occurrence : occurrences) {
+            ongoingMoved.removeIf(ongoing -> !ongoing.end.isAfter(occurrence.start));
+            ongoingStaying.removeIf(ongoing -> !ongoing.end.isAfter(occurrence.start));
+            if (occurrence.isMoved) {
+                ongoingStaying.forEach(ongoing -> addClash(clashes, occurrence.meeting, ongoing.meeting));
+                if (isAmongMovedChecked) {
+                    ongoingMoved.forEach(ongoing -> addClash(clashes, occurrence.meeting, ongoing.meeting));
+                }
+                ongoingMoved.add(occurrence);
+            } else {
+                ongoingMoved.forEach(ongoing -> addClash(clashes, ongoing.meeting, occurrence.meeting));
+                ongoingStaying.add(occurrence);
+            }
+        }
+        return clashes;
+    }
+
+    private static void addClash(Map<Meeting, List<Meeting>> clashes, Meeting moved, Meeting staying) {
+        List<Meeting> clashingMeetings = clashes.computeIfAbsent(moved, unused -> new ArrayList<>());
+        // a repeating meeting may clash more than once, but is listed once
+        if (clashingMeetings.stream().noneMatch(meeting -> meeting == staying)) {
+            clashingMeetings.add(staying);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import seedu.address.logic.parser.DateTimeUtil;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
@@ -83,6 +84,13 @@ public class DateTime implements Comparable<DateTime> {
         return value;
     }
 
+    /**
+     * Returns the number of whole minutes from 1970-01-01 00:00 to this date time, taking both as local times.
+     */
+    public long toEpochMinute() {
+        return Math.floorDiv(value.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
 
     @Override
     public int compareTo(DateTime other) {
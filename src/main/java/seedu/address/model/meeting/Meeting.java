@@ -1,5 +1,6 @@
 package seedu.address.model.meeting;
 
+import seedu.address.commons.util.SortKey;
 import seedu.address.model.connection.PersonMeetingConnection;
 import seedu.address.model.group.Group;
 import seedu.address.model.person.Person;
@@ -9,10 +10,18 @@ import seedu.address.model.schedule.Schedulable;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
@@ -20,6 +29,10 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 /**
  * Represents a meeting in MeetBuddy.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * A meeting may repeat according to a {@link Recurrence}, in which case its start and terminate times are those of
+ * its first occurrence. The series is stored as this one meeting, and its occurrences are only worked out for the
+ * periods asked about.
  */
 public class Meeting implements Schedulable {
 
@@ -38,21 +51,38 @@ public class Meeting implements Schedulable {
     private final Priority priority;
     private final Description description;
     private final Set<Group> groups = new HashSet<>();
+    private final Optional<Recurrence> recurrence;
     private PersonMeetingConnection connection = null;
 
+    // Sort keys, computed when first needed. Safe to cache as the fields they are computed from never change.
+    private final Map<MeetingSortOption, SortKey> sortKeys = new EnumMap<>(MeetingSortOption.class);
+
     /**
      * Every field must be present and not null.
      */
     public Meeting(MeetingName meetingName, DateTime start, DateTime terminate, Priority priority,
                    Description description, Set<Group> groups) {
-        requireAllNonNull(meetingName, start, terminate, priority, description, groups);
+        this(meetingName, start, terminate, priority, description, groups, Optional.empty());
+    }
+
+    /**
+     * Every field must be present and not null. {@code start} and {@code terminate} are the times of the first
+     * occurrence if the meeting repeats.
+     */
+    public Meeting(MeetingName meetingName, DateTime start, DateTime terminate, Priority priority,
+                   Description description, Set<Group> groups, Optional<Recurrence> recurrence) {
+        requireAllNonNull(meetingName, start, terminate, priority, description, groups, recurrence);
         checkArgument(isValidStartTerminate(start, terminate), MESSAGE_CONSTRAINTS);
+        Duration duration = Duration.between(start.toLocalDateTime(), terminate.toLocalDateTime());
+        checkArgument(recurrence.map(r -> r.canRepeat(start.toLocalDateTime(), duration)).orElse(true),
+                Recurrence.MESSAGE_MEETING_CONSTRAINTS);
         this.meetingName = meetingName;
         this.start = start;
         this.terminate = terminate;
         this.priority = priority;
         this.description = description;
         this.groups.addAll(groups);
+        this.recurrence = recurrence;
     }
 
     public MeetingName getName() {
@@ -75,6 +105,37 @@ public class Meeting implements Schedulable {
         return description;
     }
 
+    public Optional<Recurrence> getRecurrence() {
+        return recurrence;
+    }
+
+    public boolean isRecurring() {
+        return recurrence.isPresent();
+    }
+
+    /**
+     * Returns how long the meeting, or each of its occurrences, lasts.
+     */
+    public Duration getDuration() {
+        return Duration.between(getStartLocalDateTime(), getTerminateLocalDateTime());
+    }
+
+    /**
+     * Returns a time no earlier than the end of the last occurrence of the meeting, which is its terminate time if
+     * it does not repeat.
+     */
+    public LocalDateTime getLastTerminateLocalDateTime() {
+        return recurrence.map(r -> r.getNominalStart(getStartLocalDateTime(), r.getLastIndex(getStartLocalDateTime()))
+                .plus(getDuration())).orElse(getTerminateLocalDateTime());
+    }
+
+    /**
+     * Returns the key to sort this meeting by for {@code option}.
+     */
+    public SortKey getSortKey(MeetingSortOption option) {
+        return sortKeys.computeIfAbsent(option, unused -> option.makeSortKey(this));
+    }
+
     /**
      * Returns an immutable group set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
@@ -163,7 +224,15 @@ public class Meeting implements Schedulable {
         return groups.contains(group);
     }
 
+    /**
+     * Returns true if the meeting, or one of its occurrences, starts at or before {@code time} and terminates at or
+     * after it.
+     */
     public boolean containsTime(DateTime time) {
+        if (isRecurring()) {
+            LocalDateTime localDateTime = time.toLocalDateTime();
+            return isOccurringDuring(localDateTime.minusNanos(1), localDateTime.plusNanos(1));
+        }
         boolean afterOrAtStart = time.compareTo(start) >= 0;
         boolean beforeOrAtEnd = time.compareTo(terminate) <= 0;
         return afterOrAtStart && beforeOrAtEnd;
@@ -197,13 +266,14 @@ public class Meeting implements Schedulable {
                 && otherMeeting.getTerminate().equals(getTerminate())
                 && otherMeeting.getPriority().equals(getPriority())
                 && otherMeeting.getDescription().equals(getDescription())
-                && otherMeeting.getGroups().equals(getGroups());
+                && otherMeeting.getGroups().equals(getGroups())
+                && otherMeeting.getRecurrence().equals(getRecurrence());
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(meetingName, start, terminate, priority, description, groups);
+        return Objects.hash(meetingName, start, terminate, priority, description, groups, recurrence);
     }
 
     @Override
@@ -225,6 +295,8 @@ public class Meeting implements Schedulable {
             groups.forEach(builder::append);
         }
 
+        recurrence.ifPresent(r -> builder.append("; Repeats: ").append(r.toDisplayString()));
+
         Set<Person> personSet = getConnectionToPerson();
         if (!personSet.isEmpty()) {
             builder.append("; Person Related: ");
@@ -242,6 +314,9 @@ public class Meeting implements Schedulable {
      */
 
     public boolean containsTime(LocalDateTime localDateTime) {
+        if (isRecurring()) {
+            return isOccurringDuring(localDateTime, localDateTime.plusNanos(1));
+        }
         LocalDateTime startLocalDateTime = start.toLocalDateTime();
         LocalDateTime endLocalDateTime = terminate.toLocalDateTime();
         return startLocalDateTime.compareTo(localDateTime) <= 0
@@ -255,10 +330,97 @@ public class Meeting implements Schedulable {
      */
 
     public boolean isConflict(Schedulable schedulable) {
+        boolean isOtherRecurring = schedulable instanceof Meeting && ((Meeting) schedulable).isRecurring();
+        if (isRecurring() && isOtherRecurring) {
+            return SeriesClashDetector.clashes(this, (Meeting) schedulable);
+        } else if (isRecurring()) {
+            return isOccurringDuring(schedulable.getStartLocalDateTime(), schedulable.getTerminateLocalDateTime());
+        } else if (isOtherRecurring) {
+            return ((Meeting) schedulable).isOccurringDuring(getStartLocalDateTime(), getTerminateLocalDateTime());
+        }
         return !(this.getTerminateLocalDateTime().compareTo(schedulable.getStartLocalDateTime()) <= 0
                 || this.getStartLocalDateTime().compareTo(schedulable.getTerminateLocalDateTime()) >= 0);
     }
 
+    //==================occurrences =======================================================
+
+    /**
+     * Returns the occurrences of the meeting that take place, at least partly, from {@code from} (inclusive) to
+     * {@code to} (exclusive), in order. Each occurrence is a meeting that does not repeat, and a meeting that does
+     * not repeat is its only occurrence.
+     */
+    @Override
+    public List<Meeting> getOccurrencesBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return streamOccurrencesBetween(from, to).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns true if an occurrence of the meeting takes place, at least partly, from {@code from} (inclusive) to
+     * {@code to} (exclusive).
+     */
+    public boolean isOccurringDuring(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        if (!isRecurring()) {
+            return getStartLocalDateTime().isBefore(to) && getTerminateLocalDateTime().isAfter(from);
+        }
+        return getOccurrenceIndexesBetween(from, to).findFirst().isPresent();
+    }
+
+    /**
+     * Returns the first occurrence of the meeting that starts at or after {@code time}, if any.
+     */
+    public Optional<Meeting> getFirstOccurrenceFrom(LocalDateTime time) {
+        requireNonNull(time);
+        if (!isRecurring()) {
+            return getStartLocalDateTime().isBefore(time) ? Optional.empty() : Optional.of(this);
+        }
+        Recurrence r = recurrence.get();
+        long firstIndex = Math.max(0, r.getIndexAtOrBefore(getStartLocalDateTime(), time));
+        return LongStream.rangeClosed(firstIndex, r.getLastIndex(getStartLocalDateTime()))
+                .filter(index -> r.hasOccurrence(getStartLocalDateTime(), index))
+                .mapToObj(this::getOccurrence)
+                .filter(occurrence -> !occurrence.getStartLocalDateTime().isBefore(time))
+                .findFirst();
+    }
+
+    /**
+     * Returns the occurrences of the meeting taking place, at least partly, from {@code from} (inclusive) to
+     * {@code to} (exclusive), computed lazily in order.
+     */
+    Stream<Meeting> streamOccurrencesBetween(LocalDateTime from, LocalDateTime to) {
+        if (!isRecurring()) {
+            return isOccurringDuring(from, to) ? Stream.of(this) : Stream.empty();
+        }
+        return getOccurrenceIndexesBetween(from, to).mapToObj(this::getOccurrence);
+    }
+
+    /**
+     * Returns the indexes of the occurrences of this repeating meeting that take place, at least partly, from
+     * {@code from} (inclusive) to {@code to} (exclusive). Only the occurrences that may start in that period are
+     * visited, however long the series is.
+     */
+    private LongStream getOccurrenceIndexesBetween(LocalDateTime from, LocalDateTime to) {
+        Recurrence r = recurrence.get();
+        LocalDateTime firstStart = getStartLocalDateTime();
+        Duration duration = getDuration();
+        long firstIndex = Math.max(0, r.getIndexAtOrBefore(firstStart, from.minus(duration)));
+        long lastIndex = Math.min(r.getLastIndex(firstStart), r.getIndexAtOrBefore(firstStart, to));
+        return LongStream.rangeClosed(firstIndex, lastIndex)
+                .filter(index -> r.hasOccurrence(firstStart, index))
+                .filter(index -> {
+                    LocalDateTime occurrenceStart = r.getNominalStart(firstStart, index);
+                    return occurrenceStart.isBefore(to) && occurrenceStart.plus(duration).isAfter(from);
+                });
+    }
+
+    private Meeting getOccurrence(long index) {
+        LocalDateTime occurrenceStart = recurrence.get().getNominalStart(getStartLocalDateTime(), index);
+        LocalDateTime occurrenceTerminate = occurrenceStart.plus(getDuration());
+        return new Meeting(meetingName, new DateTime(occurrenceStart), new DateTime(occurrenceTerminate), priority,
+                description, groups);
+    }
+
     //==================interface methods =================================================
 
     public LocalDateTime getStartLocalDateTime() {
@@ -0,0 +1,144 @@
+package seedu.address.model.meeting;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.group.Group;
+
+/**
+ * Indexes meetings by their groups, their priority and the dates they take place on, so that the meetings having a
+ * group or priority, or taking place at a time, can be looked up without scanning every meeting.
+ *
+ * A repeating meeting could take place on a great many dates, so it is not indexed by date. Instead it is among the
+ * meetings of every date from its first occurrence to its last, to be checked like any other.
+ *
+ * Meetings are tracked by identity, as a meeting's hash code may change while it is in the index.
+ */
+public class MeetingAttributeIndex {
+
+    private final Map<Group, Set<Meeting>> meetingsByGroup = new HashMap<>();
+    private final Map<Integer, Set<Meeting>> meetingsByPriority = new HashMap<>();
+    private final Map<LocalDate, Set<Meeting>> meetingsByDate = new HashMap<>();
+    private final Set<Meeting> recurringMeetings = newIdentitySet();
+
+    /**
+     * Adds {@code meeting} to the index.
+     */
+    public void add(Meeting meeting) {
+        requireNonNull(meeting);
+        for (Group group : meeting.getGroups()) {
+            meetingsByGroup.computeIfAbsent(group, unused -> newIdentitySet()).add(meeting);
+        }
+        meetingsByPriority.computeIfAbsent(meeting.getPriority().priority, unused -> newIdentitySet()).add(meeting);
+        if (meeting.isRecurring()) {
+            recurringMeetings.add(meeting);
+            return;
+        }
+        for (LocalDate date = getStartDate(meeting); !date.isAfter(getEndDate(meeting)); date = date.plusDays(1)) {
+            meetingsByDate.computeIfAbsent(date, unused -> newIdentitySet()).add(meeting);
+        }
+    }
+
+    /**
+     * Removes {@code meeting}, the same instance that was added, from the index.
+     */
+    public void remove(Meeting meeting) {
+        requireNonNull(meeting);
+        for (Group group : meeting.getGroups()) {
+            removeFromPosting(meetingsByGroup, group, meeting);
+        }
+        removeFromPosting(meetingsByPriority, meeting.getPriority().priority, meeting);
+        if (meeting.isRecurring()) {
+            recurringMeetings.remove(meeting);
+            return;
+        }
+        for (LocalDate date = getStartDate(meeting); !date.isAfter(getEndDate(meeting)); date = date.plusDays(1)) {
+            removeFromPosting(meetingsByDate, date, meeting);
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the given meetings.
+     */
+    public void setMeetings(Iterable<Meeting> meetings) {
+        requireNonNull(meetings);
+        meetingsByGroup.clear();
+        meetingsByPriority.clear();
+        meetingsByDate.clear();
+        recurringMeetings.clear();
+        meetings.forEach(this::add);
+    }
+
+    /**
+     * Returns the meetings in {@code group}.
+     */
+    public Set<Meeting> findMeetingsInGroup(Group group) {
+        requireNonNull(group);
+        return getPosting(meetingsByGroup, group);
+    }
+
+    /**
+     * Returns the meetings with {@code priority}.
+     */
+    public Set<Meeting> findMeetingsWithPriority(Priority priority) {
+        requireNonNull(priority);
+        return getPosting(meetingsByPriority, priority.priority);
+    }
+
+    /**
+     * Returns the meetings that take place, at least partly, on the date of {@code time}. Every meeting that
+     * {@link Meeting#containsTime(DateTime) contains} {@code time} is among them, as are the repeating meetings
+     * whose series runs on that date.
+     */
+    public Set<Meeting> findMeetingsOnDateOf(DateTime time) {
+        requireNonNull(time);
+        Set<Meeting> meetingsOnDate = getPosting(meetingsByDate, time.toLocalDate());
+        if (recurringMeetings.isEmpty()) {
+            return meetingsOnDate;
+        }
+        LocalDate date = time.toLocalDate();
+        Set<Meeting> candidates = newIdentitySet();
+        candidates.addAll(meetingsOnDate);
+        for (Meeting meeting : recurringMeetings) {
+            if (!getStartDate(meeting).isAfter(date)
+                    && !meeting.getLastTerminateLocalDateTime().toLocalDate().isBefore(date)) {
+                candidates.add(meeting);
+            }
+        }
+        return Collections.unmodifiableSet(candidates);
+    }
+
+    private static <K> Set<Meeting> getPosting(Map<K, Set<Meeting>> postings, K key) {
+        Set<Meeting> posting = postings.get(key);
+        return posting == null ? Collections.emptySet() : Collections.unmodifiableSet(posting);
+    }
+
+    private static <K> void removeFromPosting(Map<K, Set<Meeting>> postings, K key, Meeting meeting) {
+        Set<Meeting> posting = postings.get(key);
+        if (posting == null) {
+            return;
+        }
+        posting.remove(meeting);
+        if (posting.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    private static LocalDate getStartDate(Meeting meeting) {
+        return meeting.getStart().toLocalDate();
+    }
+
+    private static LocalDate getEndDate(Meeting meeting) {
+        return meeting.getTerminate().toLocalDate();
+    }
+
+    private static Set<Meeting> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -3,10 +3,14 @@ package seedu.address.model.meeting;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.connection.PersonMeetingConnection;
+import seedu.address.model.group.Group;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static java.util.Objects.requireNonNull;
 
@@ -87,6 +91,39 @@ public class MeetingBook implements ReadOnlyMeetingBook {
         meetings.updateMeeting(target, editedMeeting);
     }
 
+    /**
+     * Replaces each of {@code targets} with the meeting at the same position in {@code editedMeetings}.
+     * Every target must exist in the meeting book. The edited meetings must not clash with each other.
+     */
+    public void updateMeetings(List<Meeting> targets, List<Meeting> editedMeetings) {
+        meetings.updateMeetings(targets, editedMeetings);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the meeting book as one change.
+     * None of them may be the same as, or clash with, a meeting in the meeting book or another of them.
+     */
+    public void addMeetings(List<Meeting> toAdd) {
+        meetings.addAll(toAdd);
+    }
+
+    /**
+     * Returns each of {@code toAdd} that would clash with a meeting in the meeting book, or with one of
+     * {@code toAdd} starting before it, if they were all added, mapped to those meetings.
+     */
+    public Map<Meeting, List<Meeting>> getClashesAfterAdding(List<Meeting> toAdd) {
+        return meetings.getClashesAfterAdding(toAdd);
+    }
+
+    /**
+     * Returns each of {@code editedMeetings} that would clash with another meeting in the meeting book if
+     * {@code targets} were replaced with {@code editedMeetings}, mapped to those meetings.
+     */
+    public Map<Meeting, List<Meeting>> getClashesAfterReplacing(Collection<Meeting> targets,
+                                                                List<Meeting> editedMeetings) {
+        return meetings.getClashesAfterReplacing(targets, editedMeetings);
+    }
+
     /**
      * Removes {@code key} from this {@code MeetingBook}.
      * {@code key} must exist in the meeting book.
@@ -117,6 +154,13 @@ public class MeetingBook implements ReadOnlyMeetingBook {
         return meetings.clashes(toCheck);
     }
 
+    /**
+     * Sets whether meetings in the meeting book may overlap, as when clashes are checked for each attendee instead.
+     */
+    public void setOverlapAllowed(boolean isOverlapAllowed) {
+        meetings.setOverlapAllowed(isOverlapAllowed);
+    }
+
     public boolean clashesExceptOne(Meeting meetingNotIncluded, Meeting toCheck) {
         return meetings.clashesExceptOne(meetingNotIncluded, toCheck);
     }
@@ -128,6 +172,14 @@ public class MeetingBook implements ReadOnlyMeetingBook {
         return meetings.getClashes(toCheck);
     }
 
+    /**
+     * Gets the meetings taking place, at least partly, from {@code start} (inclusive) to {@code end} (exclusive),
+     * sorted by start time.
+     */
+    public List<Meeting> findMeetingsOverlapping(LocalDateTime start, LocalDateTime end) {
+        return meetings.findMeetingsOverlapping(start, end);
+    }
+
     /**
      * Gets the meeting ( if any ) happening at this point in time.
      */
@@ -136,6 +188,60 @@ public class MeetingBook implements ReadOnlyMeetingBook {
         return meetings.getMeetingAtInstant(localDateTime);
     }
 
+    /**
+     * Returns the candidate meetings whose name may contain {@code name}, or an empty {@code Optional} if every
+     * meeting is a candidate.
+     * @see UniqueMeetingList#findNameCandidates(MeetingName)
+     */
+    public Optional<Set<Meeting>> findNameCandidates(MeetingName name) {
+        requireNonNull(name);
+        return meetings.findNameCandidates(name);
+    }
+
+    /**
+     * Returns the candidate meetings whose description may contain {@code description}, or an empty
+     * {@code Optional} if every meeting is a candidate.
+     * @see UniqueMeetingList#findDescriptionCandidates(Description)
+     */
+    public Optional<Set<Meeting>> findDescriptionCandidates(Description description) {
+        requireNonNull(description);
+        return meetings.findDescriptionCandidates(description);
+    }
+
+    /**
+     * Returns the meetings whose name has a word within {@code maxDistance} edits of every word of {@code name},
+     * ignoring case, each mapped to the sum of the distances.
+     */
+    public Map<Meeting, Integer> findMeetingsWithNameNear(MeetingName name, int maxDistance) {
+        requireNonNull(name);
+        return meetings.findMeetingsWithNameNear(name, maxDistance);
+    }
+
+    /**
+     * Returns the meetings in {@code group}.
+     */
+    public Set<Meeting> findMeetingsInGroup(Group group) {
+        requireNonNull(group);
+        return meetings.findMeetingsInGroup(group);
+    }
+
+    /**
+     * Returns the meetings with {@code priority}.
+     */
+    public Set<Meeting> findMeetingsWithPriority(Priority priority) {
+        requireNonNull(priority);
+        return meetings.findMeetingsWithPriority(priority);
+    }
+
+    /**
+     * Returns the meetings taking place on the date of {@code time}.
+     * @see UniqueMeetingList#findMeetingsOnDateOf(DateTime)
+     */
+    public Set<Meeting> findMeetingsOnDateOf(DateTime time) {
+        requireNonNull(time);
+        return meetings.findMeetingsOnDateOf(time);
+    }
+
     //================== Set Connections ==================================================================
 
     /**
@@ -150,7 +256,25 @@ public class MeetingBook implements ReadOnlyMeetingBook {
     }
 
 
+    //================== Batch operations ==================================================================
+
+    /**
+     * Starts a batch: changes to the meeting list are reported to its listeners as one change when the matching
+     * {@link #endBatch()} is called.
+     */
+    public void beginBatch() {
+        meetings.beginBatch();
+    }
+
+    /**
+     * Ends a batch started by {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        meetings.endBatch();
+    }
+
     //// ================= Util methods ==============================================
+
     @Override
     public String toString() {
         return meetings.asUnmodifiableObservableList().size() + " meetings";
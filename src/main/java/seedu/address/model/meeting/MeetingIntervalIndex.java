@@ -0,0 +1,112 @@
+package seedu.address.model.meeting;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Indexes meetings by their start times, so that the meetings overlapping a period can be found without scanning
+ * every meeting.
+ *
+ * The index also remembers the longest meeting it has held. A meeting overlapping a period must start before the
+ * period ends and no earlier than that length before the period starts, so a query only visits the meetings starting
+ * in that range. As meetings last less than a week, this is at most a week of meetings more than those overlapping.
+ *
+ * Repeating meetings are kept apart, and a query returns each of them whose series runs during the period, from the
+ * start of its first occurrence to the end of its last. Whether one of its occurrences falls in the period must be
+ * checked with {@link Meeting#isOccurringDuring(LocalDateTime, LocalDateTime)}.
+ *
+ * Meetings are tracked by identity, as a meeting's hash code may change while it is in the index.
+ */
+public class MeetingIntervalIndex {
+
+    private final NavigableMap<LocalDateTime, Set<Meeting>> meetingsByStart = new TreeMap<>();
+    private final Set<Meeting> recurringMeetings = Collections.newSetFromMap(new IdentityHashMap<>());
+    /** The length of the longest meeting added since the index was last cleared, which is never too short. */
+    private Duration longestLength = Duration.ZERO;
+
+    /**
+     * Adds {@code meeting} to the index.
+     */
+    public void add(Meeting meeting) {
+        requireNonNull(meeting);
+        if (meeting.isRecurring()) {
+            recurringMeetings.add(meeting);
+            return;
+        }
+        meetingsByStart.computeIfAbsent(meeting.getStartLocalDateTime(), unused ->
+                Collections.newSetFromMap(new IdentityHashMap<>())).add(meeting);
+        Duration length = Duration.between(meeting.getStartLocalDateTime(), meeting.getTerminateLocalDateTime());
+        if (length.compareTo(longestLength) > 0) {
+            longestLength = length;
+        }
+    }
+
+    /**
+     * Removes {@code meeting}, the same instance that was added, from the index.
+     */
+    public void remove(Meeting meeting) {
+        requireNonNull(meeting);
+        if (meeting.isRecurring()) {
+            recurringMeetings.remove(meeting);
+            return;
+        }
+        Set<Meeting> posting = meetingsByStart.get(meeting.getStartLocalDateTime());
+        if (posting == null) {
+            return;
+        }
+        posting.remove(meeting);
+        if (posting.isEmpty()) {
+            meetingsByStart.remove(meeting.getStartLocalDateTime());
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the given meetings.
+     */
+    public void setMeetings(Iterable<Meeting> meetings) {
+        requireNonNull(meetings);
+        meetingsByStart.clear();
+        recurringMeetings.clear();
+        longestLength = Duration.ZERO;
+        meetings.forEach(this::add);
+    }
+
+    /**
+     * Returns the meetings that take place, at least partly, from {@code start} (inclusive) to {@code end}
+     * (exclusive), sorted by start time. A meeting ending when the period starts does not overlap it. A repeating
+     * meeting is returned if its series runs during the period.
+     */
+    public List<Meeting> findOverlapping(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        List<Meeting> overlapping = new ArrayList<>();
+        for (Set<Meeting> posting : meetingsByStart.subMap(start.minus(longestLength), true, end, false).values()) {
+            for (Meeting meeting : posting) {
+                if (meeting.getTerminateLocalDateTime().isAfter(start)) {
+                    overlapping.add(meeting);
+                }
+            }
+        }
+        if (recurringMeetings.isEmpty()) {
+            return overlapping;
+        }
+        for (Meeting meeting : recurringMeetings) {
+            if (meeting.getStartLocalDateTime().isBefore(end)
+                    && meeting.getLastTerminateLocalDateTime().isAfter(start)) {
+                overlapping.add(meeting);
+            }
+        }
+        overlapping.sort(Comparator.comparing(Meeting::getStartLocalDateTime));
+        return overlapping;
+    }
+}
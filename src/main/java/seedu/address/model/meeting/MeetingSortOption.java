@@ -1,15 +1,32 @@
 package seedu.address.model.meeting;
 
+import java.util.function.Function;
+
+import seedu.address.commons.util.SortKey;
+
 public enum MeetingSortOption {
-    NAME("NAME"),
-    START("START"),
-    END("END"),
-    PRIORITY("PRIORITY"),
-    DESCRIPTION("DESCRIPTION");
+    NAME("NAME", meeting -> SortKey.ofText(meeting.getName().toString())),
+    START("START", meeting -> SortKey.ofNumber(meeting.getStart().toEpochMinute())),
+    END("END", meeting -> SortKey.ofNumber(meeting.getTerminate().toEpochMinute())),
+    PRIORITY("PRIORITY", meeting -> SortKey.ofNumber(meeting.getPriority().priority)),
+    DESCRIPTION("DESCRIPTION", meeting -> SortKey.ofText(meeting.getDescription().toString()));
 
     private final String sortString;
 
-    MeetingSortOption(String sortString) {this.sortString = sortString;}
+    private final Function<Meeting, SortKey> sortKeyMaker;
+
+    MeetingSortOption(String sortString, Function<Meeting, SortKey> sortKeyMaker) {
+        this.sortString = sortString;
+        this.sortKeyMaker = sortKeyMaker;
+    }
 
     public String getValue() { return sortString; }
+
+    /**
+     * Computes the key of {@code meeting} for this option. Use {@link Meeting#getSortKey(MeetingSortOption)}
+     * instead, which computes it only once.
+     */
+    SortKey makeSortKey(Meeting meeting) {
+        return sortKeyMaker.apply(meeting);
+    }
 }
@@ -0,0 +1,196 @@
+package seedu.address.model.meeting;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.util.FuzzyWordIndex;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A trigram index over the names and descriptions of meetings, used to answer substring searches.
+ * Every meeting whose name (or description) contains a query of at least {@link #GRAM_LENGTH} characters also
+ * contains all of the query's trigrams, so intersecting the trigram postings gives a small set of candidates that
+ * includes every match. Candidates must still be verified with {@link Meeting#containsName(MeetingName)} or
+ * {@link Meeting#containsDescription(Description)}, as their trigrams may appear in a different order.
+ *
+ * The words of meeting names are also kept in a {@link FuzzyWordIndex}, to find meetings despite typos in the name
+ * searched for.
+ *
+ * Meetings are tracked by identity, as a meeting's hash code may change while it is in the index.
+ */
+public class MeetingTextIndex {
+
+    /** Length of the substrings indexed. Shorter queries cannot be answered by the index. */
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Meeting>> namePostings = new HashMap<>();
+    private final Map<String, Set<Meeting>> descriptionPostings = new HashMap<>();
+    private final FuzzyWordIndex<Meeting> nameWordIndex = new FuzzyWordIndex<>(MeetingTextIndex::getNameWords, true);
+
+    /**
+     * Adds the name and description of {@code meeting} to the index.
+     */
+    public void add(Meeting meeting) {
+        requireNonNull(meeting);
+        addPostings(namePostings, meeting, getNameText(meeting));
+        addPostings(descriptionPostings, meeting, getDescriptionText(meeting));
+        nameWordIndex.add(meeting);
+    }
+
+    /**
+     * Removes {@code meeting}, the same instance that was added, from the index.
+     */
+    public void remove(Meeting meeting) {
+        requireNonNull(meeting);
+        removePostings(namePostings, meeting, getNameText(meeting));
+        removePostings(descriptionPostings, meeting, getDescriptionText(meeting));
+        nameWordIndex.remove(meeting);
+    }
+
+    /**
+     * Replaces the contents of the index with the given meetings.
+     */
+    public void setMeetings(Iterable<Meeting> meetings) {
+        requireNonNull(meetings);
+        namePostings.clear();
+        descriptionPostings.clear();
+        nameWordIndex.setItems(Collections.emptyList());
+        meetings.forEach(this::add);
+    }
+
+    /**
+     * Returns the candidate meetings whose name may contain {@code name}, or an empty {@code Optional} if
+     * {@code name} is too short to be looked up, in which case every meeting is a candidate.
+     */
+    public Optional<Set<Meeting>> findNameCandidates(MeetingName name) {
+        requireNonNull(name);
+        return findCandidates(namePostings, name.toString());
+    }
+
+    /**
+     * Returns the candidate meetings whose description may contain {@code description}, or an empty
+     * {@code Optional} if {@code description} is too short to be looked up, in which case every meeting is a
+     * candidate.
+     */
+    public Optional<Set<Meeting>> findDescriptionCandidates(Description description) {
+        requireNonNull(description);
+        return findCandidates(descriptionPostings, description.toString());
+    }
+
+    /**
+     * Returns the meetings whose name has, for every word of {@code name}, a word within {@code maxDistance} edits
+     * of it, ignoring case. Each meeting is mapped to the sum of the distances of its closest words.
+     */
+    public Map<Meeting, Integer> findMeetingsWithNameNear(MeetingName name, int maxDistance) {
+        requireNonNull(name);
+        Map<Meeting, Integer> matches = null;
+        for (String word : getWords(name.toString())) {
+            Map<Meeting, Integer> wordMatches = nameWordIndex.findItemsNear(word, maxDistance);
+            if (matches == null) {
+                matches = wordMatches;
+                continue;
+            }
+            Map<Meeting, Integer> previousMatches = matches;
+            wordMatches.keySet().retainAll(previousMatches.keySet());
+            wordMatches.replaceAll((meeting, distance) -> distance + previousMatches.get(meeting));
+            matches = wordMatches;
+        }
+        return matches == null ? new IdentityHashMap<>() : matches;
+    }
+
+    /**
+     * Returns the distinct words of {@code text}, ignoring case.
+     */
+    public static Set<String> getWords(String text) {
+        Set<String> words = new HashSet<>();
+        for (String word : text.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(StringUtil.foldCase(word));
+            }
+        }
+        return words;
+    }
+
+    private static Optional<Set<Meeting>> findCandidates(Map<String, Set<Meeting>> postings, String query) {
+        Set<String> grams = getGrams(query);
+        if (grams.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Set<Meeting>> postingsOfGrams = new ArrayList<>();
+        for (String gram : grams) {
+            Set<Meeting> posting = postings.get(gram);
+            if (posting == null) {
+                return Optional.of(Collections.emptySet());
+            }
+            postingsOfGrams.add(posting);
+        }
+        // start from the rarest trigram, so that the candidate set is small from the beginning
+        postingsOfGrams.sort(Comparator.comparingInt(Set::size));
+
+        Set<Meeting> candidates = newIdentitySet();
+        candidates.addAll(postingsOfGrams.get(0));
+        for (int i = 1; i < postingsOfGrams.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postingsOfGrams.get(i));
+        }
+        return Optional.of(Collections.unmodifiableSet(candidates));
+    }
+
+    private static void addPostings(Map<String, Set<Meeting>> postings, Meeting meeting, String text) {
+        Function<String, Set<Meeting>> newPosting = unused -> newIdentitySet();
+        for (String gram : getGrams(text)) {
+            postings.computeIfAbsent(gram, newPosting).add(meeting);
+        }
+    }
+
+    private static void removePostings(Map<String, Set<Meeting>> postings, Meeting meeting, String text) {
+        for (String gram : getGrams(text)) {
+            Set<Meeting> posting = postings.get(gram);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(meeting);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct substrings of length {@link #GRAM_LENGTH} in {@code text}.
+     */
+    static Set<String> getGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static Set<String> getNameWords(Meeting meeting) {
+        return getWords(getNameText(meeting));
+    }
+
+    private static String getNameText(Meeting meeting) {
+        return meeting.getName().toString();
+    }
+
+    private static String getDescriptionText(Meeting meeting) {
+        return meeting.getDescription().toString();
+    }
+
+    private static Set<Meeting> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
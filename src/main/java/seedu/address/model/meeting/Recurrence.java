@@ -0,0 +1,264 @@
+package seedu.address.model.meeting;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Represents how a meeting repeats, as a simplified iCalendar RRULE: every {@code interval} days, weeks or months
+ * from its first occurrence, up to a last date, except on some dates.
+ *
+ * Occurrences are numbered from 0, the first occurrence. A monthly meeting occurs on the same day of the month as its
+ * first occurrence, and not in the months too short to have that day.
+ * Guarantees: immutable; is valid as declared in {@link #isValidRecurrence(String)}
+ */
+public class Recurrence {
+
+    /**
+     * How often a meeting repeats.
+     */
+    public enum Frequency {
+        DAILY, WEEKLY, MONTHLY
+    }
+
+    public static final int MAX_INTERVAL = 999;
+
+    public static final String MESSAGE_CONSTRAINTS = "Recurrence should be given as FREQ=DAILY, WEEKLY or MONTHLY "
+            + "and UNTIL=yyyy-MM-dd, the last date the meeting may occur on, separated by ';'. "
+            + "INTERVAL=N repeats the meeting every N days, weeks or months, up to " + MAX_INTERVAL
+            + ", and EXDATE=yyyy-MM-dd,... lists the dates to skip. No other parts, such as BYDAY or COUNT, are "
+            + "supported.\n"
+            + "For example: FREQ=WEEKLY;INTERVAL=2;UNTIL=2021-05-01;EXDATE=2021-04-02";
+
+    public static final String MESSAGE_MEETING_CONSTRAINTS = "A repeating meeting must end before it occurs again, "
+            + "and its last date cannot be before its first occurrence.";
+
+    private static final String KEY_FREQUENCY = "FREQ";
+    private static final String KEY_INTERVAL = "INTERVAL";
+    private static final String KEY_UNTIL = "UNTIL";
+    private static final String KEY_EXCEPTIONS = "EXDATE";
+    private static final Set<String> KEYS = Set.of(KEY_FREQUENCY, KEY_INTERVAL, KEY_UNTIL, KEY_EXCEPTIONS);
+
+    private static final long SECONDS_IN_DAY = 24 * 60 * 60;
+
+    public final Frequency frequency;
+    public final int interval;
+    public final LocalDate until;
+    private final SortedSet<LocalDate> exceptions;
+
+    /**
+     * Constructs a {@code Recurrence}.
+     *
+     * @param recurrence A valid recurrence rule.
+     */
+    public Recurrence(String recurrence) {
+        requireNonNull(recurrence);
+        checkArgument(isValidRecurrence(recurrence), MESSAGE_CONSTRAINTS);
+        Map<String, String> parts = splitIntoParts(recurrence);
+        this.frequency = Frequency.valueOf(parts.get(KEY_FREQUENCY).toUpperCase(Locale.ROOT));
+        this.interval = parts.containsKey(KEY_INTERVAL) ? Integer.parseInt(parts.get(KEY_INTERVAL)) : 1;
+        this.until = LocalDate.parse(parts.get(KEY_UNTIL));
+        this.exceptions = Collections.unmodifiableSortedSet(parseExceptions(parts.get(KEY_EXCEPTIONS)));
+    }
+
+    /**
+     * Constructs a {@code Recurrence} every {@code interval} periods of {@code frequency}, up to {@code until},
+     * except on the dates in {@code exceptions}.
+     */
+    public Recurrence(Frequency frequency, int interval, LocalDate until, Set<LocalDate> exceptions) {
+        requireAllNonNull(frequency, until, exceptions);
+        checkArgument(interval > 0 && interval <= MAX_INTERVAL, MESSAGE_CONSTRAINTS);
+        this.frequency = frequency;
+        this.interval = interval;
+        this.until = until;
+        this.exceptions = Collections.unmodifiableSortedSet(new TreeSet<>(exceptions));
+    }
+
+    /**
+     * Returns true if a given string is a valid recurrence rule.
+     */
+    public static boolean isValidRecurrence(String test) {
+        Map<String, String> parts = splitIntoParts(test);
+        if (parts == null || !parts.containsKey(KEY_FREQUENCY) || !parts.containsKey(KEY_UNTIL)) {
+            return false;
+        }
+        // a part that is not understood would otherwise be ignored, and the meeting would repeat differently
+        if (!KEYS.containsAll(parts.keySet())) {
+            return false;
+        }
+        try {
+            Frequency.valueOf(parts.get(KEY_FREQUENCY).toUpperCase(Locale.ROOT));
+            LocalDate.parse(parts.get(KEY_UNTIL));
+            parseExceptions(parts.get(KEY_EXCEPTIONS));
+            if (parts.containsKey(KEY_INTERVAL)) {
+                int interval = Integer.parseInt(parts.get(KEY_INTERVAL));
+                return interval > 0 && interval <= MAX_INTERVAL;
+            }
+            return true;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the parts of {@code rule} by their upper-cased keys, or null if a part is not a key and a value or
+     * repeats a key.
+     */
+    private static Map<String, String> splitIntoParts(String rule) {
+        Map<String, String> parts = new HashMap<>();
+        for (String part : rule.trim().split(";", -1)) {
+            String[] keyAndValue = part.split("=", -1);
+            if (keyAndValue.length != 2
+                    || parts.put(keyAndValue[0].trim().toUpperCase(Locale.ROOT), keyAndValue[1].trim()) != null) {
+                return null;
+            }
+        }
+        return parts;
+    }
+
+    private static SortedSet<LocalDate> parseExceptions(String dates) {
+        SortedSet<LocalDate> exceptions = new TreeSet<>();
+        if (dates == null) {
+            return exceptions;
+        }
+        for (String date : dates.split(",", -1)) {
+            exceptions.add(LocalDate.parse(date.trim()));
+        }
+        return exceptions;
+    }
+
+    public Set<LocalDate> getExceptions() {
+        return exceptions;
+    }
+
+    /**
+     * Returns the time between the starts of two consecutive occurrences, in seconds, or an empty
+     * {@code OptionalLong} if it varies, as for monthly meetings.
+     */
+    public OptionalLong getPeriodSeconds() {
+        switch (frequency) {
+        case DAILY:
+            return OptionalLong.of(interval * SECONDS_IN_DAY);
+        case WEEKLY:
+            return OptionalLong.of(interval * 7 * SECONDS_IN_DAY);
+        default:
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Returns true if a meeting first starting at {@code firstStart} and lasting {@code duration} can repeat this way,
+     * that is every occurrence ends before the next one starts, and the meeting occurs at least once.
+     */
+    public boolean canRepeat(LocalDateTime firstStart, Duration duration) {
+        requireAllNonNull(firstStart, duration);
+        // months are at least 28 days long
+        long shortestPeriodSeconds = getPeriodSeconds().orElse(interval * 28 * SECONDS_IN_DAY);
+        return duration.getSeconds() <= shortestPeriodSeconds && !until.isBefore(firstStart.toLocalDate());
+    }
+
+    /**
+     * Returns when occurrence {@code index} of a meeting first starting at {@code firstStart} would start if it took
+     * place, ignoring the last date, the exceptions and the length of the month.
+     */
+    public LocalDateTime getNominalStart(LocalDateTime firstStart, long index) {
+        switch (frequency) {
+        case DAILY:
+            return firstStart.plusDays(index * interval);
+        case WEEKLY:
+            return firstStart.plusWeeks(index * interval);
+        default:
+            return firstStart.plusMonths(index * interval);
+        }
+    }
+
+    /**
+     * Returns true if occurrence {@code index} of a meeting first starting at {@code firstStart} takes place.
+     */
+    public boolean hasOccurrence(LocalDateTime firstStart, long index) {
+        if (index < 0) {
+            return false;
+        }
+        LocalDateTime start = getNominalStart(firstStart, index);
+        boolean isDayInMonth = frequency != Frequency.MONTHLY || start.getDayOfMonth() == firstStart.getDayOfMonth();
+        return isDayInMonth && !start.toLocalDate().isAfter(until) && !exceptions.contains(start.toLocalDate());
+    }
+
+    /**
+     * Returns the index of the last occurrence of a meeting first starting at {@code firstStart} that would start at
+     * or before {@code time}, ignoring the last date, the exceptions and the length of the month. The index is
+     * negative if {@code time} is before the first occurrence.
+     */
+    public long getIndexAtOrBefore(LocalDateTime firstStart, LocalDateTime time) {
+        if (time.isBefore(firstStart)) {
+            return -1;
+        }
+        OptionalLong periodSeconds = getPeriodSeconds();
+        if (periodSeconds.isPresent()) {
+            return Duration.between(firstStart, time).getSeconds() / periodSeconds.getAsLong();
+        }
+        return ChronoUnit.MONTHS.between(firstStart, time) / interval;
+    }
+
+    /**
+     * Returns the last index of an occurrence of a meeting first starting at {@code firstStart} that may take place.
+     */
+    public long getLastIndex(LocalDateTime firstStart) {
+        return getIndexAtOrBefore(firstStart, until.atTime(firstStart.toLocalTime()));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(KEY_FREQUENCY).append('=').append(frequency);
+        if (interval != 1) {
+            builder.append(';').append(KEY_INTERVAL).append('=').append(interval);
+        }
+        builder.append(';').append(KEY_UNTIL).append('=').append(until);
+        if (!exceptions.isEmpty()) {
+            builder.append(';').append(KEY_EXCEPTIONS).append('=').append(exceptions.stream()
+                    .map(LocalDate::toString).collect(Collectors.joining(",")));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns a short description of the recurrence for display, such as "every 2 weeks until 2021-05-01".
+     */
+    public String toDisplayString() {
+        String unit = frequency == Frequency.DAILY ? "day" : frequency == Frequency.WEEKLY ? "week" : "month";
+        String every = interval == 1 ? "every " + unit : "every " + interval + " " + unit + "s";
+        String skipped = exceptions.isEmpty() ? "" : ", except " + exceptions.size() + " date(s)";
+        return every + " until " + until + skipped;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Recurrence // instanceof handles nulls
+                && frequency == ((Recurrence) other).frequency
+                && interval == ((Recurrence) other).interval
+                && until.equals(((Recurrence) other).until)
+                && exceptions.equals(((Recurrence) other).exceptions)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(frequency, interval, until, exceptions);
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.model.meeting;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.OptionalLong;
+
+/**
+ * Checks whether two repeating meetings clash without working out every occurrence of either.
+ *
+ * Only the period when both series are running can hold a clash. When both repeat every fixed number of days, the
+ * start of an occurrence of one always differs from the start of an occurrence of the other by a multiple of the
+ * greatest common divisor of their periods, plus the difference of their first starts. Whether any such difference
+ * is small enough for the two occurrences to overlap is simple arithmetic, and if none is, the series never clash.
+ *
+ * Otherwise the occurrences of the series that repeats less often are visited in order, and each is checked against
+ * the other series in constant time. A clash that the periods allow comes round again within their least common
+ * multiple, so the visit ends early unless the dates skipped by the series get in the way.
+ */
+class SeriesClashDetector {
+
+    private SeriesClashDetector() {}
+
+    /**
+     * Returns true if an occurrence of {@code first} overlaps an occurrence of {@code second}. Both meetings must
+     * repeat.
+     */
+    static boolean clashes(Meeting first, Meeting second) {
+        requireAllNonNull(first, second);
+        assert first.isRecurring() && second.isRecurring();
+        LocalDateTime from = max(first.getStartLocalDateTime(), second.getStartLocalDateTime());
+        LocalDateTime to = min(first.getLastTerminateLocalDateTime(), second.getLastTerminateLocalDateTime());
+        if (!from.isBefore(to)) {
+            return false;
+        }
+
+        OptionalLong firstPeriod = first.getRecurrence().get().getPeriodSeconds();
+        OptionalLong secondPeriod = second.getRecurrence().get().getPeriodSeconds();
+        if (firstPeriod.isPresent() && secondPeriod.isPresent()
+                && !canPeriodicallyClash(first, firstPeriod.getAsLong(), second, secondPeriod.getAsLong())) {
+            return false;
+        }
+
+        Meeting sparser = isSparser(first, second) ? first : second;
+        Meeting denser = sparser == first ? second : first;
+        return sparser.streamOccurrencesBetween(from, to).anyMatch(occurrence ->
+                denser.isOccurringDuring(occurrence.getStartLocalDateTime(), occurrence.getTerminateLocalDateTime()));
+    }
+
+    /**
+     * Returns true if some occurrence of {@code first}, repeating every {@code firstPeriod} seconds without end or
+     * exception, would overlap some occurrence of {@code second}, repeating every {@code secondPeriod} seconds.
+     */
+    private static boolean canPeriodicallyClash(Meeting first, long firstPeriod, Meeting second, long secondPeriod) {
+        long gcd = gcd(firstPeriod, secondPeriod);
+        long offset = Duration.between(first.getStartLocalDateTime(), second.getStartLocalDateTime()).getSeconds();
+        // occurrence i of first overlaps occurrence j of second exactly when
+        // offset - first's length < i * firstPeriod - j * secondPeriod < offset + second's length,
+        // and i * firstPeriod - j * secondPeriod can be any multiple of the gcd
+        long lowerExclusive = offset - first.getDuration().getSeconds();
+        long upperExclusive = offset + second.getDuration().getSeconds();
+        return Math.floorDiv(upperExclusive - 1, gcd) * gcd > lowerExclusive;
+    }
+
+    /**
+     * Returns true if {@code first} repeats no more often than {@code second}, taking months as 28 days.
+     */
+    private static boolean isSparser(Meeting first, Meeting second) {
+        return getShortestPeriodSeconds(first) >= getShortestPeriodSeconds(second);
+    }
+
+    private static long getShortestPeriodSeconds(Meeting meeting) {
+        Recurrence recurrence = meeting.getRecurrence().get();
+        return recurrence.getPeriodSeconds().orElse(Duration.ofDays(28L * recurrence.interval).getSeconds());
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -1,16 +1,25 @@
 package seedu.address.model.meeting;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.BatchableObservableList;
+import seedu.address.model.group.Group;
 import seedu.address.model.meeting.exceptions.DuplicateMeetingException;
 import seedu.address.model.meeting.exceptions.MeetingNotFoundException;
 import seedu.address.model.meeting.exceptions.MeetingTimeClashException;
@@ -22,7 +31,8 @@ import seedu.address.model.meeting.exceptions.MeetingTimeClashException;
  * so as to ensure that the meeting being added or updated is
  * unique in terms of identity in the UniqueMeetingList. However, the removal of a meeting uses Meeting#equals(Object)
  * so as to ensure that the meeting with exactly the same fields will be removed.
- * Also, it enforces that the meetings cannot overlap with each other ( i.e there is no clashing meetings.)
+ * Also, it enforces that the meetings cannot overlap with each other ( i.e there is no clashing meetings.), unless
+ * overlaps are allowed with {@link #setOverlapAllowed(boolean)}, as when clashes are checked for each attendee instead.
  *
  * Supports a minimal set of list operations.
  * In addition supports getting meetings happening at a certain point in time. For example, any time t,
@@ -33,16 +43,29 @@ import seedu.address.model.meeting.exceptions.MeetingTimeClashException;
  */
 public class UniqueMeetingList implements Iterable<Meeting> {
 
-    private final ObservableList<Meeting> internalList = FXCollections.observableArrayList();
+    private final BatchableObservableList<Meeting> internalList = new BatchableObservableList<>();
     private final ObservableList<Meeting> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final MeetingTextIndex textIndex = new MeetingTextIndex();
+    private final MeetingAttributeIndex attributeIndex = new MeetingAttributeIndex();
+    private final MeetingIntervalIndex intervalIndex = new MeetingIntervalIndex();
+    private boolean isOverlapAllowed = false;
+
+    /**
+     * Sets whether meetings in the list may overlap. If they may, no meeting is considered to clash with another.
+     */
+    public void setOverlapAllowed(boolean isOverlapAllowed) {
+        this.isOverlapAllowed = isOverlapAllowed;
+    }
 
     /**
      * Returns true if the list contains an equivalent meeting as the given argument.
      */
     public boolean contains(Meeting toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameMeeting);
+        // an equivalent meeting has the same start and end, so it overlaps the meeting being checked
+        return intervalIndex.findOverlapping(toCheck.getStartLocalDateTime(), toCheck.getLastTerminateLocalDateTime())
+                .stream().anyMatch(toCheck::isSameMeeting);
     }
 
     /**
@@ -50,14 +73,13 @@ public class UniqueMeetingList implements Iterable<Meeting> {
      */
     public boolean clashes(Meeting toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck :: isConflict);
+        return !isOverlapAllowed && !getClashes(toCheck).isEmpty();
     }
 
     public boolean clashesExceptOne(Meeting target, Meeting toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream()
-                .filter(x -> !x.equals(target))
-                .anyMatch(toCheck :: isConflict);
+        return !isOverlapAllowed && getClashes(toCheck).stream()
+                .anyMatch(x -> !x.equals(target));
     }
 
     /**
@@ -74,6 +96,7 @@ public class UniqueMeetingList implements Iterable<Meeting> {
             throw new MeetingTimeClashException();
         }
         internalList.add(toAdd);
+        addToIndexes(toAdd);
     }
 
     /**
@@ -82,7 +105,21 @@ public class UniqueMeetingList implements Iterable<Meeting> {
      */
     public List<Meeting> getClashes(Meeting toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().filter(toCheck :: isConflict).collect(Collectors.toList());
+        return intervalIndex.findOverlapping(toCheck.getStartLocalDateTime(), toCheck.getLastTerminateLocalDateTime())
+                .stream()
+                .filter(toCheck::isConflict)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the meetings taking place, at least partly, from {@code start} (inclusive) to {@code end} (exclusive),
+     * sorted by start time, found with an interval index. A repeating meeting is returned if one of its occurrences
+     * takes place then.
+     */
+    public List<Meeting> findMeetingsOverlapping(LocalDateTime start, LocalDateTime end) {
+        return intervalIndex.findOverlapping(start, end).stream()
+                .filter(meeting -> meeting.isOccurringDuring(start, end))
+                .collect(Collectors.toList());
     }
 
     /**
@@ -116,7 +153,7 @@ public class UniqueMeetingList implements Iterable<Meeting> {
             throw new MeetingTimeClashException();
         }
 
-        internalList.set(index, editedMeeting);
+        replace(index, editedMeeting);
     }
 
     public void updateMeeting(Meeting target, Meeting editedMeeting) {
@@ -134,7 +171,104 @@ public class UniqueMeetingList implements Iterable<Meeting> {
             throw new MeetingTimeClashException();
         }
 
-        internalList.set(index, editedMeeting);
+        replace(index, editedMeeting);
+    }
+
+    /**
+     * Returns each of {@code editedMeetings} that would clash with a meeting of the list other than {@code targets}
+     * if {@code targets} were replaced with {@code editedMeetings}, mapped to those meetings. Clashes are found
+     * whether or not overlaps are allowed.
+     * The meetings near the edited meetings are found with one query of the interval index, then checked against
+     * them in one sweep.
+     */
+    public Map<Meeting, List<Meeting>> getClashesAfterReplacing(Collection<Meeting> targets,
+                                                                List<Meeting> editedMeetings) {
+        requireAllNonNull(targets, editedMeetings);
+        return findClashes(targets, editedMeetings, false);
+    }
+
+    /**
+     * Returns each of {@code toAdd} that would clash with a meeting of the list, or with one of {@code toAdd}
+     * starting before it, if they were all added, mapped to those meetings. Clashes are found whether or not
+     * overlaps are allowed, in one sweep as with {@link #getClashesAfterReplacing(Collection, List)}.
+     */
+    public Map<Meeting, List<Meeting>> getClashesAfterAdding(List<Meeting> toAdd) {
+        requireAllNonNull(toAdd);
+        return findClashes(List.of(), toAdd, true);
+    }
+
+    private Map<Meeting, List<Meeting>> findClashes(Collection<Meeting> targets, List<Meeting> meetings,
+                                                    boolean isAmongMeetingsChecked) {
+        if (meetings.isEmpty()) {
+            return Map.of();
+        }
+        LocalDateTime from = meetings.stream().map(Meeting::getStartLocalDateTime)
+                .min(LocalDateTime::compareTo).get();
+        LocalDateTime to = meetings.stream().map(Meeting::getLastTerminateLocalDateTime)
+                .max(LocalDateTime::compareTo).get();
+        Set<Meeting> replaced = Collections.newSetFromMap(new IdentityHashMap<>());
+        replaced.addAll(targets);
+        List<Meeting> staying = intervalIndex.findOverlapping(from, to).stream()
+                .filter(meeting -> !replaced.contains(meeting))
+                .collect(Collectors.toList());
+        return ClashSweep.findClashes(meetings, staying, from, to, isAmongMeetingsChecked);
+    }
+
+    /**
+     * Throws if any meeting in {@code clashes} is the same as a meeting it clashes with, or if there are clashes
+     * and overlaps are not allowed.
+     */
+    private void checkClashes(Map<Meeting, List<Meeting>> clashes) {
+        boolean hasDuplicate = clashes.entrySet().stream()
+                .anyMatch(entry -> entry.getValue().stream().anyMatch(entry.getKey()::isSameMeeting));
+        if (hasDuplicate) {
+            throw new DuplicateMeetingException();
+        }
+        if (!isOverlapAllowed && !clashes.isEmpty()) {
+            throw new MeetingTimeClashException();
+        }
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the list, checking all of them at once and adding them as one change.
+     * None of them may be the same as, or clash with, a meeting of the list or another of them.
+     */
+    public void addAll(List<Meeting> toAdd) {
+        requireAllNonNull(toAdd);
+        checkClashes(getClashesAfterAdding(toAdd));
+        internalList.addAll(toAdd);
+        toAdd.forEach(this::addToIndexes);
+    }
+
+    /**
+     * Replaces each of {@code targets} in the list with the meeting at the same position in {@code editedMeetings},
+     * checking all of them at once and replacing them in one pass through the list.
+     * Every target must exist in the list. The edited meetings must not clash with each other.
+     */
+    public void updateMeetings(List<Meeting> targets, List<Meeting> editedMeetings) {
+        requireAllNonNull(targets, editedMeetings);
+        checkArgument(targets.size() == editedMeetings.size(), "Each target must have one edited meeting.");
+        checkClashes(getClashesAfterReplacing(targets, editedMeetings));
+
+        Map<Meeting, Meeting> replacements = new IdentityHashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            replacements.put(targets.get(i), editedMeetings.get(i));
+        }
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < internalList.size(); i++) {
+            if (replacements.containsKey(internalList.get(i))) {
+                indexes.add(i);
+            }
+        }
+        if (indexes.size() != replacements.size()) {
+            throw new MeetingNotFoundException();
+        }
+        internalList.beginBatch();
+        try {
+            indexes.forEach(index -> replace(index, replacements.get(internalList.get(index))));
+        } finally {
+            internalList.endBatch();
+        }
     }
 
     /**
@@ -143,14 +277,41 @@ public class UniqueMeetingList implements Iterable<Meeting> {
      */
     public void remove(Meeting toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new MeetingNotFoundException();
         }
+        removeFromIndexes(internalList.remove(index));
+    }
+
+    private void replace(int index, Meeting editedMeeting) {
+        Meeting replaced = internalList.set(index, editedMeeting);
+        removeFromIndexes(replaced);
+        addToIndexes(editedMeeting);
+    }
+
+    private void addToIndexes(Meeting meeting) {
+        textIndex.add(meeting);
+        attributeIndex.add(meeting);
+        intervalIndex.add(meeting);
+    }
+
+    private void removeFromIndexes(Meeting meeting) {
+        textIndex.remove(meeting);
+        attributeIndex.remove(meeting);
+        intervalIndex.remove(meeting);
+    }
+
+    private void rebuildIndexes() {
+        textIndex.setMeetings(internalList);
+        attributeIndex.setMeetings(internalList);
+        intervalIndex.setMeetings(internalList);
     }
 
     public void setMeetings(UniqueMeetingList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndexes();
     }
 
     /**
@@ -164,6 +325,70 @@ public class UniqueMeetingList implements Iterable<Meeting> {
         }
 
         internalList.setAll(meetings);
+        rebuildIndexes();
+    }
+
+    /**
+     * Returns the meetings whose name may contain {@code name}, found with a trigram index, or an empty
+     * {@code Optional} if {@code name} is too short for the index and every meeting must be checked.
+     * The candidates must still be checked with {@link Meeting#containsName(MeetingName)}.
+     */
+    public Optional<Set<Meeting>> findNameCandidates(MeetingName name) {
+        return textIndex.findNameCandidates(name);
+    }
+
+    /**
+     * Returns the meetings whose description may contain {@code description}, found with a trigram index, or an
+     * empty {@code Optional} if {@code description} is too short for the index and every meeting must be checked.
+     * The candidates must still be checked with {@link Meeting#containsDescription(Description)}.
+     */
+    public Optional<Set<Meeting>> findDescriptionCandidates(Description description) {
+        return textIndex.findDescriptionCandidates(description);
+    }
+
+    /**
+     * Returns the meetings whose name has a word within {@code maxDistance} edits of every word of {@code name},
+     * ignoring case, each mapped to the sum of the distances.
+     */
+    public Map<Meeting, Integer> findMeetingsWithNameNear(MeetingName name, int maxDistance) {
+        return textIndex.findMeetingsWithNameNear(name, maxDistance);
+    }
+
+    /**
+     * Returns the meetings in {@code group}.
+     */
+    public Set<Meeting> findMeetingsInGroup(Group group) {
+        return attributeIndex.findMeetingsInGroup(group);
+    }
+
+    /**
+     * Returns the meetings with {@code priority}.
+     */
+    public Set<Meeting> findMeetingsWithPriority(Priority priority) {
+        return attributeIndex.findMeetingsWithPriority(priority);
+    }
+
+    /**
+     * Returns the meetings taking place on the date of {@code time}, which include every meeting containing
+     * {@code time}. The candidates must still be checked with {@link Meeting#containsTime(DateTime)}.
+     */
+    public Set<Meeting> findMeetingsOnDateOf(DateTime time) {
+        return attributeIndex.findMeetingsOnDateOf(time);
+    }
+
+    /**
+     * Holds back change notifications of this list until the matching {@link #endBatch()}, so that all changes
+     * made in between reach listeners as one change.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends a batch started by {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
 
     /**
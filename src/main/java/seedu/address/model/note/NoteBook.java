@@ -3,6 +3,7 @@ package seedu.address.model.note;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.ObservableList;
 
@@ -91,6 +92,14 @@ public class NoteBook implements ReadOnlyNoteBook {
         notes.remove(key);
     }
 
+    /**
+     * Returns the notes relevant to {@code keywords}, each mapped to its relevance score, higher being more relevant.
+     * @see NoteTextIndex#search(List)
+     */
+    public Map<Note, Double> searchNotes(List<String> keywords) {
+        return notes.search(keywords);
+    }
+
     //// util methods
 
     @Override
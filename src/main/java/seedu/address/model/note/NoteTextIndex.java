@@ -0,0 +1,149 @@
+package seedu.address.model.note;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An inverted index from the terms in the content of notes to the notes containing them, with the number of times
+ * each note contains each term, for ranking notes by relevance to a query with the Okapi BM25 scoring function.
+ *
+ * Terms are the case-folded runs of letters and digits in a note's content. The terms are kept sorted, so that a
+ * query term ending with {@value #PREFIX_WILDCARD} can match every term starting with it. Answering a query only
+ * visits the postings of its terms, however many notes the index holds.
+ *
+ * Notes are tracked by identity, as notes whose contents differ only in case are equal but hash differently.
+ */
+public class NoteTextIndex {
+
+    /** Marks a query term as a prefix of the terms to match. */
+    public static final String PREFIX_WILDCARD = "*";
+
+    /** How quickly the score of a term saturates as it occurs more often in a note. */
+    private static final double K1 = 1.2;
+    /** How much the score of a term is lowered in notes longer than average. */
+    private static final double B = 0.75;
+
+    private final NavigableMap<String, Map<Note, Integer>> termFrequencies = new TreeMap<>();
+    private final Map<Note, Integer> noteLengths = new IdentityHashMap<>();
+    private long totalLength;
+
+    /**
+     * Adds {@code note} to the index.
+     */
+    public void add(Note note) {
+        requireNonNull(note);
+        List<String> terms = getTerms(note.getContent().toString());
+        for (String term : terms) {
+            termFrequencies.computeIfAbsent(term, unused -> new IdentityHashMap<>()).merge(note, 1, Integer::sum);
+        }
+        noteLengths.put(note, terms.size());
+        totalLength += terms.size();
+    }
+
+    /**
+     * Removes {@code note}, the same instance that was added, from the index.
+     */
+    public void remove(Note note) {
+        requireNonNull(note);
+        Integer length = noteLengths.remove(note);
+        if (length == null) {
+            return;
+        }
+        totalLength -= length;
+        for (String term : getTerms(note.getContent().toString())) {
+            Map<Note, Integer> posting = termFrequencies.get(term);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(note);
+            if (posting.isEmpty()) {
+                termFrequencies.remove(term);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the given notes.
+     */
+    public void setNotes(Iterable<Note> notes) {
+        requireNonNull(notes);
+        termFrequencies.clear();
+        noteLengths.clear();
+        totalLength = 0;
+        notes.forEach(this::add);
+    }
+
+    /**
+     * Returns the notes containing any of the terms of {@code keywords}, each mapped to its BM25 score, higher being
+     * more relevant. A keyword ending with {@value #PREFIX_WILDCARD} matches the terms starting with its last term,
+     * and a note scores for it as for the best of those terms.
+     */
+    public Map<Note, Double> search(List<String> keywords) {
+        requireNonNull(keywords);
+        Map<Note, Double> scores = new IdentityHashMap<>();
+        if (noteLengths.isEmpty()) {
+            return scores;
+        }
+        double averageLength = Math.max(1.0, (double) totalLength / noteLengths.size());
+        for (String keyword : keywords) {
+            boolean isPrefix = keyword.endsWith(PREFIX_WILDCARD);
+            List<String> terms = getTerms(isPrefix ? keyword.substring(0, keyword.length() - 1) : keyword);
+            for (int i = 0; i < terms.size(); i++) {
+                Map<Note, Double> termScores = new IdentityHashMap<>();
+                for (Map<Note, Integer> posting : getPostings(terms.get(i), isPrefix && i == terms.size() - 1)) {
+                    double idf = getInverseDocumentFrequency(posting.size());
+                    posting.forEach((note, frequency) -> termScores.merge(note,
+                            idf * getTermFrequencyWeight(frequency, noteLengths.get(note), averageLength), Math::max));
+                }
+                termScores.forEach((note, score) -> scores.merge(note, score, Double::sum));
+            }
+        }
+        return scores;
+    }
+
+    private List<Map<Note, Integer>> getPostings(String term, boolean isPrefix) {
+        if (!isPrefix) {
+            Map<Note, Integer> posting = termFrequencies.get(term);
+            return posting == null ? Collections.emptyList() : Collections.singletonList(posting);
+        }
+        // every term starting with the prefix sorts between the prefix and the prefix followed by the last char
+        return new ArrayList<>(termFrequencies.subMap(term, true, term + Character.MAX_VALUE, false).values());
+    }
+
+    private double getInverseDocumentFrequency(int numberOfNotesWithTerm) {
+        int numberOfNotes = noteLengths.size();
+        return Math.log(1 + (numberOfNotes - numberOfNotesWithTerm + 0.5) / (numberOfNotesWithTerm + 0.5));
+    }
+
+    private static double getTermFrequencyWeight(int frequency, int length, double averageLength) {
+        return frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+    }
+
+    /**
+     * Returns the case-folded runs of letters and digits in {@code text}, in order and with repetitions.
+     */
+    public static List<String> getTerms(String text) {
+        requireNonNull(text);
+        List<String> terms = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isTermChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isTermChar && start < 0) {
+                start = i;
+            } else if (!isTermChar && start >= 0) {
+                terms.add(StringUtil.foldCase(text.substring(start, i)));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+}
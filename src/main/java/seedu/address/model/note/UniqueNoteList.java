@@ -5,6 +5,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -16,6 +17,7 @@ public class UniqueNoteList implements Iterable<Note> {
     private final ObservableList<Note> internalList = FXCollections.observableArrayList();
     private final ObservableList<Note> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final NoteTextIndex textIndex = new NoteTextIndex();
 
     /**
      * Returns true if the list contains an equivalent note as the given argument.
@@ -35,6 +37,7 @@ public class UniqueNoteList implements Iterable<Note> {
             throw new DuplicateNoteException();
         }
         internalList.add(toAdd);
+        textIndex.add(toAdd);
     }
 
     /**
@@ -54,7 +57,9 @@ public class UniqueNoteList implements Iterable<Note> {
             throw new DuplicateNoteException();
         }
 
+        textIndex.remove(internalList.get(index));
         internalList.set(index, editedNote);
+        textIndex.add(editedNote);
     }
 
     /**
@@ -63,14 +68,18 @@ public class UniqueNoteList implements Iterable<Note> {
      */
     public void remove(Note toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new NoteNotFoundException();
         }
+        // remove the stored instance from the index, which may differ from the equal note given
+        textIndex.remove(internalList.remove(index));
     }
 
     public void setNotes(UniqueNoteList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        textIndex.setNotes(internalList);
     }
 
     /**
@@ -84,6 +93,15 @@ public class UniqueNoteList implements Iterable<Note> {
         }
 
         internalList.setAll(note);
+        textIndex.setNotes(internalList);
+    }
+
+    /**
+     * Returns the notes relevant to {@code keywords}, each mapped to its relevance score, higher being more relevant.
+     * @see NoteTextIndex#search(List)
+     */
+    public Map<Note, Double> search(List<String> keywords) {
+        return textIndex.search(keywords);
     }
 
     /**
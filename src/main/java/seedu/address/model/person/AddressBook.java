@@ -5,6 +5,7 @@ import seedu.address.model.group.Group;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static java.util.Objects.requireNonNull;
@@ -16,6 +17,7 @@ import static java.util.Objects.requireNonNull;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final PersonNameIndex nameIndex;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +28,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        nameIndex = new PersonNameIndex();
     }
 
     public AddressBook() {}
@@ -46,6 +49,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        nameIndex.setPersons(persons);
     }
 
     /**
@@ -73,6 +77,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        nameIndex.add(p);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the address book, as a single change of the person list.
+     * None of them may already exist in the address book, or be the same as another of them.
+     */
+    public void addPersons(List<Person> toAdd) {
+        persons.addAll(toAdd);
+        toAdd.forEach(nameIndex::add);
     }
 
     /**
@@ -84,6 +98,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        nameIndex.remove(target);
+        nameIndex.add(editedPerson);
     }
 
     public Set<Person> findPersonsInGroup(Group group) {
@@ -96,6 +112,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         return personInGroup;
     }
 
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a whole word, ignoring case.
+     * Answered from an index of name words rather than by scanning every person.
+     */
+    public Set<Person> findPersonsWithNameKeywords(List<String> keywords) {
+        return nameIndex.findPersonsWithAnyWord(keywords);
+    }
+
+    /**
+     * Returns the persons whose name has a word within {@code maxDistance} edits of any of {@code keywords},
+     * ignoring case, each mapped to the distance of its closest match.
+     */
+    public Map<Person, Integer> findPersonsWithNameKeywordsNear(List<String> keywords, int maxDistance) {
+        return nameIndex.findPersonsNearAnyWord(keywords, maxDistance);
+    }
+
     /**
      * Returns null if no person found.
      * For storage use @code{JsonAdaptedPersonMeetingConnection}
@@ -115,6 +147,24 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        nameIndex.remove(key);
+    }
+
+    //// batch operations
+
+    /**
+     * Starts a batch: changes to the person list are reported to its listeners as one change when the matching
+     * {@link #endBatch()} is called.
+     */
+    public void beginBatch() {
+        persons.beginBatch();
+    }
+
+    /**
+     * Ends a batch started by {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        persons.endBatch();
     }
 
     //// util methods
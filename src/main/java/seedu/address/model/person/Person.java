@@ -3,12 +3,15 @@ package seedu.address.model.person;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
 import javafx.scene.image.Image;
 import seedu.address.commons.util.ImageRequestUtil;
+import seedu.address.commons.util.SortKey;
 import seedu.address.model.group.Group;
 
 /**
@@ -21,12 +24,16 @@ public class Person {
     private final PersonName personName;
     private final Phone phone;
     private final Email email;
-    private ProfilePicture picture;
 
     // Data fields
     private final Address address;
     private final Set<Group> groups = new HashSet<>();
 
+    // Sort keys, computed when first needed. Safe to cache as the fields they are computed from never change.
+    private final Map<PersonSortOption, SortKey> sortKeys = new EnumMap<>(PersonSortOption.class);
+    // The profile picture, fetched when first shown rather than whenever a person is made, such as on each import
+    private ProfilePicture picture;
+    private boolean isPictureFetched = false;
 
     /**
      * Every field must be present and not null.
@@ -38,20 +45,24 @@ public class Person {
         this.email = email;
         this.address = address;
         this.groups.addAll(groups);
-
-        try {
-            Image image = ImageRequestUtil.getGravatarImage(email.value);
-            this.picture = new ProfilePicture(image);
-        } catch (Exception e) {
-            this.picture = null;
-        }
     }
 
     /**
      * Returns the profile picture, null if there is no profile picture.
-     * @return
+     * The picture starts being fetched from Gravatar in the background the first time this is called, so it may
+     * still be loading, or turn out not to exist, as told by its image.
+     * Synchronized as persons are shared between the thread running commands and the UI.
      */
-    public ProfilePicture getProfilePicture() {
+    public synchronized ProfilePicture getProfilePicture() {
+        if (!isPictureFetched) {
+            try {
+                Image image = ImageRequestUtil.getGravatarImage(email.value);
+                picture = new ProfilePicture(image);
+            } catch (Exception e) {
+                picture = null;
+            }
+            isPictureFetched = true;
+        }
         return picture;
     }
 
@@ -79,6 +90,13 @@ public class Person {
         return Collections.unmodifiableSet(groups);
     }
 
+    /**
+     * Returns the key to sort this person by for {@code option}.
+     */
+    public SortKey getSortKey(PersonSortOption option) {
+        return sortKeys.computeIfAbsent(option, unused -> option.makeSortKey(this));
+    }
+
     public boolean inGroup(Group group) {
         return groups.contains(group);
     }
@@ -0,0 +1,106 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.FuzzyWordIndex;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An inverted index from the case-folded words of person names to the persons having them.
+ * Looking up a keyword gives the same persons as testing every person with
+ * {@link StringUtil#containsWordIgnoreCase(String, String)}, without scanning the whole address book.
+ * The words are also kept in a {@link FuzzyWordIndex}, to find persons despite typos in the keywords.
+ */
+public class PersonNameIndex {
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+    private final FuzzyWordIndex<Person> fuzzyIndex = new FuzzyWordIndex<>(PersonNameIndex::getWords, false);
+
+    /**
+     * Adds the words in the name of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String word : getWords(person)) {
+            postings.computeIfAbsent(word, unused -> new HashSet<>()).add(person);
+        }
+        fuzzyIndex.add(person);
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String word : getWords(person)) {
+            Set<Person> posting = postings.get(word);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(person);
+            if (posting.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+        fuzzyIndex.remove(person);
+    }
+
+    /**
+     * Replaces the contents of the index with the given persons.
+     */
+    public void setPersons(Iterable<Person> persons) {
+        requireNonNull(persons);
+        postings.clear();
+        fuzzyIndex.setItems(Collections.emptyList());
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons whose name contains at least one of {@code keywords} as a whole word, ignoring case.
+     * @param keywords each keyword cannot be empty and must be a single word
+     */
+    public Set<Person> findPersonsWithAnyWord(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            String preppedKeyword = keyword.trim();
+            checkArgument(!preppedKeyword.isEmpty(), "Word parameter cannot be empty");
+            checkArgument(preppedKeyword.split("\\s+").length == 1, "Word parameter should be a single word");
+            matches.addAll(postings.getOrDefault(StringUtil.foldCase(preppedKeyword), Set.of()));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons whose name has a word within {@code maxDistance} edits of any of {@code keywords},
+     * ignoring case, each mapped to the distance of its closest match.
+     * @param keywords each keyword cannot be empty and must be a single word
+     */
+    public Map<Person, Integer> findPersonsNearAnyWord(Collection<String> keywords, int maxDistance) {
+        requireNonNull(keywords);
+        Map<Person, Integer> matches = new HashMap<>();
+        for (String keyword : keywords) {
+            fuzzyIndex.findItemsNear(keyword, maxDistance).forEach((person, distance) ->
+                    matches.merge(person, distance, Math::min));
+        }
+        return matches;
+    }
+
+    private static Set<String> getWords(Person person) {
+        Set<String> words = new HashSet<>();
+        for (String word : person.getName().fullName.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(StringUtil.foldCase(word));
+            }
+        }
+        return words;
+    }
+}
@@ -1,14 +1,31 @@
 package seedu.address.model.person;
 
+import java.util.function.Function;
+
+import seedu.address.commons.util.SortKey;
+
 public enum PersonSortOption {
-    NAME("NAME"),
-    EMAIL("EMAIL"),
-    PHONE("PHONE"),
-    ADDRESS("ADDRESS");
+    NAME("NAME", person -> SortKey.ofText(person.getName().toString())),
+    EMAIL("EMAIL", person -> SortKey.ofText(person.getEmail().toString())),
+    PHONE("PHONE", person -> SortKey.ofText(person.getPhone().toString())),
+    ADDRESS("ADDRESS", person -> SortKey.ofText(person.getAddress().toString()));
 
     private String sortString;
 
-    PersonSortOption(String sortString) {this.sortString = sortString;}
+    private final Function<Person, SortKey> sortKeyMaker;
+
+    PersonSortOption(String sortString, Function<Person, SortKey> sortKeyMaker) {
+        this.sortString = sortString;
+        this.sortKeyMaker = sortKeyMaker;
+    }
 
     public String getValue() { return sortString; }
+
+    /**
+     * Computes the key of {@code person} for this option. Use {@link Person#getSortKey(PersonSortOption)} instead,
+     * which computes it only once.
+     */
+    SortKey makeSortKey(Person person) {
+        return sortKeyMaker.apply(person);
+    }
 }
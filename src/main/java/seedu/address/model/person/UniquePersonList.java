@@ -3,11 +3,14 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.BatchableObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -24,16 +27,18 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchableObservableList<Person> internalList = new BatchableObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // the names of the persons in the list, kept in step with it, as persons are the same if their names are
+    private final Set<PersonName> names = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return names.contains(toCheck.getName());
     }
 
     /**
@@ -46,6 +51,23 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        names.add(toAdd.getName());
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the list, as a single change of the list.
+     * None of them may already exist in the list, or be the same as another of them.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<PersonName> namesToAdd = new HashSet<>();
+        for (Person person : toAdd) {
+            if (contains(person) || !namesToAdd.add(person.getName())) {
+                throw new DuplicatePersonException();
+            }
+        }
+        internalList.addAll(toAdd);
+        names.addAll(namesToAdd);
     }
 
     /**
@@ -66,6 +88,8 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        names.remove(target.getName());
+        names.add(editedPerson.getName());
     }
 
     /**
@@ -77,11 +101,14 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        names.remove(toRemove.getName());
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        names.clear();
+        names.addAll(replacement.names);
     }
 
     /**
@@ -95,6 +122,23 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        names.clear();
+        persons.forEach(person -> names.add(person.getName()));
+    }
+
+    /**
+     * Holds back change notifications of this list until the matching {@link #endBatch()}, so that all changes
+     * made in between reach listeners as one change.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends a batch started by {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
 
     /**
@@ -125,11 +169,10 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<PersonName> uniqueNames = new HashSet<>();
+        for (Person person : persons) {
+            if (!uniqueNames.add(person.getName())) {
+                return false;
             }
         }
         return true;
@@ -20,15 +20,28 @@ public class Reminder {
 
 
     public Reminder(MeetingName meetingName, DateTime startDate, Priority priority) {
+        this(meetingName, startDate, priority, LocalDateTime.now());
+    }
+
+    /**
+     * Creates a reminder of a meeting starting at {@code startDate}, counting the time until it starts from
+     * {@code currentTime}.
+     */
+    public Reminder(MeetingName meetingName, DateTime startDate, Priority priority, LocalDateTime currentTime) {
         this.meetingName = meetingName;
         this.startDate = startDate;
         this.priority = priority;
-        updateTimeAndDaysUntil();
+        updateTimeAndDaysUntil(currentTime);
     }
 
+    /**
+     * Creates a reminder for {@code meeting}, or for its next occurrence if it repeats.
+     */
     public Reminder(Meeting meeting) {
         this.meetingName = meeting.getName();
-        this.startDate = meeting.getStart();
+        this.startDate = meeting.isRecurring()
+                ? meeting.getFirstOccurrenceFrom(LocalDateTime.now()).orElse(meeting).getStart()
+                : meeting.getStart();
         this.priority = meeting.getPriority();
         updateTimeAndDaysUntil();
     }
@@ -46,7 +59,10 @@ public class Reminder {
     }
 
     public void updateTimeAndDaysUntil() {
-        LocalDateTime currentTime = LocalDateTime.now();
+        updateTimeAndDaysUntil(LocalDateTime.now());
+    }
+
+    private void updateTimeAndDaysUntil(LocalDateTime currentTime) {
         LocalDateTime meetingTime = startDate.value;
         Duration timeUntil = Duration.between(currentTime, meetingTime);
         Period period = Period.between(currentTime.toLocalDate(), meetingTime.toLocalDate());
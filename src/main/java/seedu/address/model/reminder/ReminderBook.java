@@ -2,14 +2,9 @@ package seedu.address.model.reminder;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import javafx.collections.ObservableList;
-import seedu.address.model.meeting.Meeting;
-import seedu.address.model.meeting.MeetingBook;
 
 public class ReminderBook implements ReadOnlyReminderBook{
 
@@ -37,11 +32,6 @@ public class ReminderBook implements ReadOnlyReminderBook{
         resetData(toBeCopied);
     }
 
-    public ReminderBook(MeetingBook meetingBook){
-        this();
-        refreshRemindersFromMeetings(meetingBook);
-    }
-
     //// list overwrite operations
 
     /**
@@ -60,19 +50,6 @@ public class ReminderBook implements ReadOnlyReminderBook{
     }
 
 
-    public void refreshRemindersFromMeetings(MeetingBook meetingBook){
-        ObservableList<Meeting> meetinglist = meetingBook.getMeetingList();
-//        List<Reminder> remindersList = meetinglist.stream().map(Reminder::new).sorted(new Comparator<Reminder>() {
-//            @Override
-//            public int compare(Reminder reminder1, Reminder reminder2) {
-//                return reminder1.getRawTimeUntilStart().compareTo(reminder2.getRawTimeUntilStart());
-//            }
-//        }).collect(Collectors.toList());
-        List<Reminder> remindersList = meetinglist.stream().map(Reminder::new).sorted(Comparator.comparing(
-                Reminder::getRawTimeUntilStart)).collect(Collectors.toList());
-        setReminders(remindersList);
-    }
-
     /**
      * Returns an unmodifiable view of the reminders list.
      */
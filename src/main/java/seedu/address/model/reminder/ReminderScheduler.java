@@ -0,0 +1,220 @@
+package seedu.address.model.reminder;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.meeting.DateTime;
+import seedu.address.model.meeting.Meeting;
+
+/**
+ * Reminds its listeners of meetings a while before they start.
+ *
+ * The next upcoming start of every meeting is kept in a queue ordered by when it is due, that is when its reminder
+ * should be published. The queue is kept up to date with the changes to the list of meetings, in O(log n) time for
+ * each meeting added or removed, and finds the next reminder due in O(log n) time. A single timer, started when the
+ * first listener is added, sleeps until the next reminder is due, so nothing runs while no reminder is due.
+ * When a reminder of a repeating meeting is published, the next occurrence of the meeting takes its place. A reminder
+ * that could not be published before its meeting started, as the app was not running, is dropped.
+ */
+public class ReminderScheduler {
+
+    /** How long before a meeting starts its reminder is published. */
+    public static final Duration DEFAULT_LEAD_TIME = Duration.ofMinutes(10);
+
+    private static final Logger logger = LogsCenter.getLogger(ReminderScheduler.class);
+
+    /**
+     * The next upcoming start of a meeting.
+     */
+    private static class Entry {
+        private final Meeting meeting;
+        private final LocalDateTime start;
+        private final LocalDateTime due;
+        private final long sequence;
+
+        private Entry(Meeting meeting, LocalDateTime start, LocalDateTime due, long sequence) {
+            this.meeting = meeting;
+            this.start = start;
+            this.due = due;
+            this.sequence = sequence;
+        }
+    }
+
+    private final Duration leadTime;
+    private final Clock clock;
+
+    // ties are broken by the order the entries were made in, so entries due at the same time are all kept
+    private final TreeSet<Entry> queue = new TreeSet<>(Comparator.<Entry, LocalDateTime>comparing(entry -> entry.due)
+            .thenComparingLong(entry -> entry.sequence));
+    private final Map<Meeting, Entry> entries = new IdentityHashMap<>();
+    private final List<Consumer<Reminder>> listeners = new ArrayList<>();
+    private long nextSequence = 0;
+
+    private Timer timer;
+    private TimerTask wakeUp;
+    private LocalDateTime wakeUpTime;
+
+    /**
+     * Creates a scheduler of reminders of the meetings in {@code meetings}, published {@code leadTime} before they
+     * start by {@code clock}, that follows the changes to {@code meetings}.
+     */
+    public ReminderScheduler(ObservableList<Meeting> meetings, Duration leadTime, Clock clock) {
+        requireAllNonNull(meetings, leadTime, clock);
+        this.leadTime = leadTime;
+        this.clock = clock;
+        meetings.forEach(this::schedule);
+        meetings.addListener((ListChangeListener<Meeting>) this::onMeetingsChanged);
+    }
+
+    private synchronized void onMeetingsChanged(ListChangeListener.Change<? extends Meeting> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(this::unschedule);
+            change.getAddedSubList().forEach(this::schedule);
+        }
+        rescheduleTimer();
+    }
+
+    /**
+     * Adds {@code listener} to be given each reminder as it becomes due, and starts the timer if needed. Listeners
+     * are called on the timer's thread.
+     */
+    public synchronized void addListener(Consumer<Reminder> listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+        if (timer == null) {
+            timer = new Timer("reminders", true);
+        }
+        rescheduleTimer();
+    }
+
+    /**
+     * Stops the timer. No more reminders are published.
+     */
+    public synchronized void stop() {
+        if (timer != null) {
+            timer.cancel();
+            timer = null;
+            wakeUp = null;
+            wakeUpTime = null;
+        }
+    }
+
+    /**
+     * Returns the reminders of the upcoming start of every meeting, soonest first.
+     */
+    public synchronized List<Reminder> getUpcomingReminders() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return queue.stream().map(entry -> toReminder(entry, now)).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns when the next reminder is due, if any meeting is upcoming.
+     */
+    synchronized Optional<LocalDateTime> getNextDueTime() {
+        return queue.isEmpty() ? Optional.empty() : Optional.of(queue.first().due);
+    }
+
+    /**
+     * Publishes the reminders that are due, and returns them.
+     */
+    List<Reminder> publishDueReminders() {
+        List<Reminder> dueReminders = new ArrayList<>();
+        List<Consumer<Reminder>> listenersToNotify;
+        synchronized (this) {
+            LocalDateTime now = LocalDateTime.now(clock);
+            while (!queue.isEmpty() && !queue.first().due.isAfter(now)) {
+                Entry entry = queue.pollFirst();
+                entries.remove(entry.meeting);
+                // a reminder missed until after its meeting started is dropped
+                if (!entry.start.isBefore(now)) {
+                    dueReminders.add(toReminder(entry, now));
+                }
+                // the next occurrence of a repeating meeting comes after this one
+                LocalDateTime afterStart = entry.start.plusSeconds(1);
+                enqueue(entry.meeting, afterStart.isAfter(now) ? afterStart : now);
+            }
+            listenersToNotify = new ArrayList<>(listeners);
+            wakeUpTime = null;
+            rescheduleTimer();
+        }
+        // listeners are called without holding the lock, so that they may look at the scheduler
+        for (Reminder reminder : dueReminders) {
+            listenersToNotify.forEach(listener -> listener.accept(reminder));
+        }
+        return dueReminders;
+    }
+
+    private void schedule(Meeting meeting) {
+        enqueue(meeting, LocalDateTime.now(clock));
+    }
+
+    /**
+     * Queues the first start of {@code meeting} at or after {@code from}, if any.
+     */
+    private void enqueue(Meeting meeting, LocalDateTime from) {
+        meeting.getFirstOccurrenceFrom(from).ifPresent(occurrence -> {
+            LocalDateTime start = occurrence.getStartLocalDateTime();
+            Entry entry = new Entry(meeting, start, start.minus(leadTime), nextSequence++);
+            queue.add(entry);
+            entries.put(meeting, entry);
+        });
+    }
+
+    private void unschedule(Meeting meeting) {
+        Entry entry = entries.remove(meeting);
+        if (entry != null) {
+            queue.remove(entry);
+        }
+    }
+
+    /**
+     * Makes the timer wake up when the next reminder is due, if it does not already.
+     */
+    private void rescheduleTimer() {
+        LocalDateTime nextDueTime = queue.isEmpty() ? null : queue.first().due;
+        if (timer == null || (nextDueTime != null && nextDueTime.equals(wakeUpTime))) {
+            return;
+        }
+        if (wakeUp != null) {
+            wakeUp.cancel();
+            wakeUp = null;
+            wakeUpTime = null;
+        }
+        if (nextDueTime == null) {
+            return;
+        }
+        wakeUp = new TimerTask() {
+            @Override
+            public void run() {
+                publishDueReminders();
+            }
+        };
+        wakeUpTime = nextDueTime;
+        timer.schedule(wakeUp, Date.from(nextDueTime.atZone(clock.getZone()).toInstant()));
+        logger.fine("Next reminder due at " + nextDueTime);
+    }
+
+    private Reminder toReminder(Entry entry, LocalDateTime now) {
+        return new Reminder(entry.meeting.getName(), new DateTime(entry.start), entry.meeting.getPriority(), now);
+    }
+}
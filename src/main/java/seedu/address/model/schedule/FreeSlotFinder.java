@@ -0,0 +1,91 @@
+package seedu.address.model.schedule;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Finds the periods within the working hours of a range of dates that are free of a set of busy schedulables, such
+ * as the meetings of every attendee of a meeting to be planned.
+ *
+ * The busy periods are sorted and merged once, then swept together with the working hours of each day in order, so
+ * finding the slots takes O(B log B + D) time for B busy periods and D days, however many attendees there are.
+ */
+public class FreeSlotFinder {
+
+    public static final String FREE_SLOT_NAME = "Free";
+
+    private final LocalDate firstDate;
+    private final LocalDate lastDate;
+    private final WorkingHours workingHours;
+    private final Duration minimumDuration;
+
+    /**
+     * Creates a finder for the slots of at least {@code minimumDuration} within {@code workingHours} on each day
+     * from {@code firstDate} to {@code lastDate} inclusive.
+     */
+    public FreeSlotFinder(LocalDate firstDate, LocalDate lastDate, WorkingHours workingHours,
+                          Duration minimumDuration) {
+        requireAllNonNull(firstDate, lastDate, workingHours, minimumDuration);
+        checkArgument(!lastDate.isBefore(firstDate), "The last date cannot be before the first date");
+        checkArgument(!minimumDuration.isNegative() && !minimumDuration.isZero(), "The duration must be positive");
+        this.firstDate = firstDate;
+        this.lastDate = lastDate;
+        this.workingHours = workingHours;
+        this.minimumDuration = minimumDuration;
+    }
+
+    /**
+     * Returns up to {@code limit} of the earliest free slots, in order. Each slot is as long as the free time allows
+     * within the working hours of its day, and is at least the minimum duration long.
+     */
+    public List<SimplePeriod> findEarliest(Collection<? extends Schedulable> busy, int limit) {
+        checkArgument(limit > 0, "The limit must be positive");
+        // repeating meetings are only expanded into their occurrences within the dates searched
+        LocalDateTime searchStart = workingHours.getStartOn(firstDate);
+        LocalDateTime searchEnd = workingHours.getEndOn(lastDate);
+        List<Schedulable> busyOccurrences = new ArrayList<>();
+        for (Schedulable schedulable : busy) {
+            busyOccurrences.addAll(schedulable.getOccurrencesBetween(searchStart, searchEnd));
+        }
+        List<SimplePeriod> busyPeriods = SchedulableUtil.mergeOverlapping(busyOccurrences);
+        List<SimplePeriod> slots = new ArrayList<>();
+        int firstRelevant = 0;
+        for (LocalDate date = firstDate; !date.isAfter(lastDate) && slots.size() < limit; date = date.plusDays(1)) {
+            LocalDateTime dayStart = workingHours.getStartOn(date);
+            LocalDateTime dayEnd = workingHours.getEndOn(date);
+            // busy periods ending before today's working hours are never relevant again, as the days only get later
+            while (firstRelevant < busyPeriods.size()
+                    && !busyPeriods.get(firstRelevant).getTerminateLocalDateTime().isAfter(dayStart)) {
+                firstRelevant++;
+            }
+            LocalDateTime freeFrom = dayStart;
+            for (int i = firstRelevant; i < busyPeriods.size() && slots.size() < limit; i++) {
+                SimplePeriod busyPeriod = busyPeriods.get(i);
+                if (!busyPeriod.getStartLocalDateTime().isBefore(dayEnd)) {
+                    break;
+                }
+                addIfLongEnough(slots, freeFrom, busyPeriod.getStartLocalDateTime());
+                if (busyPeriod.getTerminateLocalDateTime().isAfter(freeFrom)) {
+                    freeFrom = busyPeriod.getTerminateLocalDateTime();
+                }
+            }
+            if (slots.size() < limit) {
+                addIfLongEnough(slots, freeFrom, dayEnd);
+            }
+        }
+        return slots;
+    }
+
+    private void addIfLongEnough(List<SimplePeriod> slots, LocalDateTime start, LocalDateTime end) {
+        if (Duration.between(start, end).compareTo(minimumDuration) >= 0) {
+            slots.add(new SimplePeriod(FREE_SLOT_NAME, start, end));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Finds the best time for a meeting of a fixed duration within the working hours of a range of dates, avoiding a set
+ * of busy schedulables.
+ *
+ * A meeting is only ever placed at the start or at the end of a free slot, as a placement in the middle of a slot
+ * would split its free time in two. Each placement costs the minutes from the start of the search to the start of the
+ * meeting, plus {@value #FRAGMENT_COST_MINUTES} minutes for each piece of free time it leaves in its slot that is too
+ * short for another meeting as long. The cheapest placement is the best, and the earliest of those if tied.
+ *
+ * As the cost of a placement is never less than its start, the slots are visited in order and the search stops as
+ * soon as a slot starts too late to beat the best placement so far.
+ */
+public class MeetingPlacementFinder {
+
+    public static final String PLACEMENT_NAME = "Placement";
+
+    /** How many minutes later a meeting may be placed to avoid leaving a piece of free time too short to use. */
+    public static final long FRAGMENT_COST_MINUTES = 120;
+
+    private final FreeSlotFinder freeSlotFinder;
+    private final LocalDateTime searchStart;
+    private final Duration duration;
+
+    /**
+     * Creates a finder placing a meeting of {@code duration} within {@code workingHours} on a day from
+     * {@code firstDate} to {@code lastDate} inclusive.
+     */
+    public MeetingPlacementFinder(LocalDate firstDate, LocalDate lastDate, WorkingHours workingHours,
+                                  Duration duration) {
+        requireAllNonNull(firstDate, lastDate, workingHours, duration);
+        this.freeSlotFinder = new FreeSlotFinder(firstDate, lastDate, workingHours, duration);
+        this.searchStart = workingHours.getStartOn(firstDate);
+        this.duration = duration;
+    }
+
+    /**
+     * Returns the best period for the meeting that does not overlap any of {@code busy}, or an empty
+     * {@code Optional} if there is no free slot long enough.
+     */
+    public Optional<SimplePeriod> findBest(Collection<? extends Schedulable> busy) {
+        requireNonNull(busy);
+        List<SimplePeriod> slots = freeSlotFinder.findEarliest(busy, Integer.MAX_VALUE);
+        LocalDateTime bestStart = null;
+        long bestCost = Long.MAX_VALUE;
+        for (SimplePeriod slot : slots) {
+            if (getMinutesFromSearchStart(slot.getStartLocalDateTime()) >= bestCost) {
+                break;
+            }
+            LocalDateTime atStart = slot.getStartLocalDateTime();
+            LocalDateTime atEnd = slot.getTerminateLocalDateTime().minus(duration);
+            for (LocalDateTime start : List.of(atStart, atEnd)) {
+                long cost = getCost(slot, start);
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    bestStart = start;
+                }
+            }
+        }
+        return Optional.ofNullable(bestStart)
+                .map(start -> new SimplePeriod(PLACEMENT_NAME, start, start.plus(duration)));
+    }
+
+    private long getCost(SimplePeriod slot, LocalDateTime start) {
+        Duration freeBefore = Duration.between(slot.getStartLocalDateTime(), start);
+        Duration freeAfter = Duration.between(start.plus(duration), slot.getTerminateLocalDateTime());
+        return getMinutesFromSearchStart(start)
+                + FRAGMENT_COST_MINUTES * (countIfFragment(freeBefore) + countIfFragment(freeAfter));
+    }
+
+    private int countIfFragment(Duration freeTime) {
+        return !freeTime.isZero() && freeTime.compareTo(duration) < 0 ? 1 : 0;
+    }
+
+    private long getMinutesFromSearchStart(LocalDateTime time) {
+        return Duration.between(searchStart, time).toMinutes();
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.schedule;
 
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Represents objects that can be scheduled by a Scheduler. A schedulable object has
@@ -36,6 +37,15 @@ public interface Schedulable {
      */
     public boolean isConflict(Schedulable schedulable);
 
+    /**
+     * Returns the occurrences of this object that are active, at least partly, from {@code from} (inclusive) to
+     * {@code to} (exclusive), in order. An object that does not repeat is its only occurrence.
+     */
+    public default List<? extends Schedulable> getOccurrencesBetween(LocalDateTime from, LocalDateTime to) {
+        boolean isOverlapping = getStartLocalDateTime().isBefore(to) && getTerminateLocalDateTime().isAfter(from);
+        return isOverlapping ? List.of(this) : List.of();
+    }
+
 
 
 }
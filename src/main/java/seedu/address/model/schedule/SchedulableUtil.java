@@ -3,6 +3,8 @@ package seedu.address.model.schedule;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -11,6 +13,8 @@ import java.util.List;
  */
 public class SchedulableUtil {
 
+    private static final String MERGED_PERIOD_NAME = "Busy";
+
     /**
      * Splits a schedulable into multiple schedulables on different days. For example if a schedulable is scheduled
      * on friday 2pm  to Sunday 2pm, it should split into schedulables
@@ -62,6 +66,37 @@ public class SchedulableUtil {
 
 
 
+    /**
+     * Merges the periods of the given schedulables that overlap or touch, such that every instant covered by a
+     * schedulable is covered by exactly one of the returned periods.
+     * @return the merged periods, sorted by start time.
+     */
+    public static List<SimplePeriod> mergeOverlapping(Collection<? extends Schedulable> schedulables) {
+        List<Schedulable> byStart = new ArrayList<>(schedulables);
+        byStart.sort(Comparator.comparing(Schedulable::getStartLocalDateTime));
+
+        List<SimplePeriod> merged = new ArrayList<>();
+        LocalDateTime start = null;
+        LocalDateTime end = null;
+        for (Schedulable schedulable : byStart) {
+            if (start != null && !schedulable.getStartLocalDateTime().isAfter(end)) {
+                if (schedulable.getTerminateLocalDateTime().isAfter(end)) {
+                    end = schedulable.getTerminateLocalDateTime();
+                }
+                continue;
+            }
+            if (start != null) {
+                merged.add(new SimplePeriod(MERGED_PERIOD_NAME, start, end));
+            }
+            start = schedulable.getStartLocalDateTime();
+            end = schedulable.getTerminateLocalDateTime();
+        }
+        if (start != null) {
+            merged.add(new SimplePeriod(MERGED_PERIOD_NAME, start, end));
+        }
+        return merged;
+    }
+
     /**
      * Applies a positive offset to a Schedulable object by adding a positive number of hours and minutes to its
      * start and end times.
@@ -0,0 +1,92 @@
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Represents the hours of each day during which meetings may be scheduled, such as 09:00-18:00.
+ * Guarantees: immutable; is valid as declared in {@link #isValidWorkingHours(String)}
+ */
+public class WorkingHours {
+
+    public static final String MESSAGE_CONSTRAINTS = "Working hours should be given as HH:MM-HH:MM, "
+            + "with the first time earlier than the second, such as 09:00-18:00";
+
+    public static final WorkingHours DEFAULT = new WorkingHours(LocalTime.of(9, 0), LocalTime.of(18, 0));
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    public final LocalTime start;
+    public final LocalTime end;
+
+    /**
+     * Constructs a {@code WorkingHours}.
+     *
+     * @param workingHours Valid working hours.
+     */
+    public WorkingHours(String workingHours) {
+        requireNonNull(workingHours);
+        checkArgument(isValidWorkingHours(workingHours), MESSAGE_CONSTRAINTS);
+        String[] times = workingHours.split("-");
+        this.start = LocalTime.parse(times[0], TIME_FORMATTER);
+        this.end = LocalTime.parse(times[1], TIME_FORMATTER);
+    }
+
+    private WorkingHours(LocalTime start, LocalTime end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Returns true if a given string is valid working hours.
+     */
+    public static boolean isValidWorkingHours(String test) {
+        String[] times = test.split("-");
+        if (times.length != 2) {
+            return false;
+        }
+        try {
+            return LocalTime.parse(times[0], TIME_FORMATTER).isBefore(LocalTime.parse(times[1], TIME_FORMATTER));
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the start of the working hours on {@code date}.
+     */
+    public LocalDateTime getStartOn(LocalDate date) {
+        return date.atTime(start);
+    }
+
+    /**
+     * Returns the end of the working hours on {@code date}.
+     */
+    public LocalDateTime getEndOn(LocalDate date) {
+        return date.atTime(end);
+    }
+
+    @Override
+    public String toString() {
+        return start.format(TIME_FORMATTER) + "-" + end.format(TIME_FORMATTER);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof WorkingHours // instanceof handles nulls
+                && start.equals(((WorkingHours) other).start)
+                && end.equals(((WorkingHours) other).end)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return start.hashCode() * 31 + end.hashCode();
+    }
+}
@@ -13,9 +13,9 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.connection.PersonMeetingConnection;
+import seedu.address.model.connection.PersonMeetingList;
 import seedu.address.model.meeting.Meeting;
 import seedu.address.model.meeting.ReadOnlyMeetingBook;
-import seedu.address.model.meeting.UniqueMeetingList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.ReadOnlyAddressBook;
 
@@ -40,8 +40,8 @@ public class JsonSerializableConnection {
      */
     public JsonSerializableConnection(PersonMeetingConnection source) {
         requireNonNull(source);
-        HashMap<Person, UniqueMeetingList> map = source.getMeetingPersonMap();
-        for (Map.Entry<Person, UniqueMeetingList> dict : map.entrySet()) {
+        HashMap<Person, PersonMeetingList> map = source.getMeetingPersonMap();
+        for (Map.Entry<Person, PersonMeetingList> dict : map.entrySet()) {
             Person personKey = dict.getKey();
             for (Meeting meeting : dict.getValue()) {
                 connections.add(new JsonAdaptedPersonMeetingConnection(personKey, meeting));
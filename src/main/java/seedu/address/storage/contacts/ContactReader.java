@@ -0,0 +1,37 @@
+package seedu.address.storage.contacts;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads the contacts of a contacts file one at a time, so that the file is never held in memory.
+ */
+public interface ContactReader extends Closeable {
+
+    /**
+     * Returns the next contact, or an empty {@code Optional} at the end of the file.
+     *
+     * @throws IllegalValueException if the file is not laid out as expected, so that no contacts can be read.
+     */
+    Optional<ContactRecord> readContact() throws IOException, IllegalValueException;
+
+    /**
+     * Opens the contacts file at {@code filePath}: a vCard file if its name ends with .vcf or .vcard, and a CSV file
+     * otherwise.
+     */
+    static ContactReader open(Path filePath) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8);
+        String fileName = String.valueOf(filePath.getFileName()).toLowerCase(Locale.ROOT);
+        return fileName.endsWith(".vcf") || fileName.endsWith(".vcard")
+                ? new VCardContactReader(reader)
+                : new CsvContactReader(reader);
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.storage.contacts;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonName;
+import seedu.address.model.person.Phone;
+
+/**
+ * The fields of a contact read from a contacts file, as they were written there.
+ */
+public class ContactRecord {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+
+    /** Characters that are written between the digits of phone numbers for readability. */
+    private static final String PHONE_SEPARATORS = "[\\s\\-().]";
+
+    private final int lineNumber;
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final String address;
+    private final List<String> groups = new ArrayList<>();
+
+    /**
+     * Creates a record of the contact starting on line {@code lineNumber}. Fields that were not given are null or
+     * blank, and are left empty in the person.
+     */
+    public ContactRecord(int lineNumber, String name, String phone, String email, String address,
+                         List<String> groups) {
+        this.lineNumber = lineNumber;
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        if (groups != null) {
+            this.groups.addAll(groups);
+        }
+    }
+
+    /**
+     * Returns the number of the line, counting from 1, on which the contact starts in its file.
+     */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Converts this record into the model's {@code Person} object.
+     *
+     * @throws IllegalValueException if the record has no name, or any of its fields is not valid.
+     */
+    public Person toModelType() throws IllegalValueException {
+        if (isBlank(name)) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    PersonName.class.getSimpleName()));
+        }
+        if (!PersonName.isValidName(name.trim())) {
+            throw new IllegalValueException(PersonName.MESSAGE_CONSTRAINTS);
+        }
+        final PersonName modelPersonName = new PersonName(name.trim());
+
+        String phoneValue = isBlank(phone) ? Phone.PLACE_HOLDER : phone.replaceAll(PHONE_SEPARATORS, "");
+        if (!Phone.isValidPhone(phoneValue)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        final Phone modelPhone = new Phone(phoneValue);
+
+        String emailValue = isBlank(email) ? Email.PLACE_HOLDER : email.trim();
+        if (!Email.isValidEmail(emailValue)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+        final Email modelEmail = new Email(emailValue);
+
+        String addressValue = isBlank(address) ? Address.PLACE_HOLDER : address.trim();
+        if (!Address.isValidAddress(addressValue)) {
+            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+        }
+        final Address modelAddress = new Address(addressValue);
+
+        final Set<Group> modelGroups = new HashSet<>();
+        for (String group : groups) {
+            if (isBlank(group)) {
+                continue;
+            }
+            if (!Group.isValidGroupName(group.trim())) {
+                throw new IllegalValueException(Group.MESSAGE_CONSTRAINTS);
+            }
+            modelGroups.add(new Group(group.trim()));
+        }
+        return new Person(modelPersonName, modelPhone, modelEmail, modelAddress, modelGroups);
+    }
+
+    private static boolean isBlank(String field) {
+        return field == null || field.isBlank();
+    }
+}
@@ -0,0 +1,154 @@
+package seedu.address.storage.contacts;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads the contacts of a CSV file, one row at a time.
+ * The first row is a header naming the columns of each field: {@code name}, which is required, {@code phone},
+ * {@code email}, {@code address} and {@code groups}, in any order and case. Other columns are ignored. Groups are
+ * separated by semicolons. Fields may be quoted, to hold commas, quotes (written twice) and line breaks.
+ */
+public class CsvContactReader implements ContactReader {
+
+    public static final String MESSAGE_MISSING_NAME_COLUMN = "The first row of a CSV file should name its columns, "
+            + "including a name column";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final String GROUP_SEPARATOR = ";";
+
+    private final BufferedReader reader;
+    // the column of each field named in the header, which is read with the first row
+    private Map<String, Integer> columns;
+    private int lineNumber = 1;
+    private int rowLineNumber;
+    private boolean isStartOfFile = true;
+
+    /**
+     * Creates a reader of the contacts in {@code reader}.
+     */
+    public CsvContactReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+    }
+
+    @Override
+    public Optional<ContactRecord> readContact() throws IOException, IllegalValueException {
+        if (columns == null) {
+            readHeader();
+        }
+        Optional<List<String>> row = readNonBlankRow();
+        if (row.isEmpty()) {
+            return Optional.empty();
+        }
+        List<String> fields = row.get();
+        String groups = getField(fields, "groups");
+        return Optional.of(new ContactRecord(rowLineNumber, getField(fields, "name"), getField(fields, "phone"),
+                getField(fields, "email"), getField(fields, "address"),
+                groups == null ? List.of() : Arrays.asList(groups.split(GROUP_SEPARATOR))));
+    }
+
+    private void readHeader() throws IOException, IllegalValueException {
+        columns = new HashMap<>();
+        List<String> header = readNonBlankRow().orElse(List.of());
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("name")) {
+            throw new IllegalValueException(MESSAGE_MISSING_NAME_COLUMN);
+        }
+    }
+
+    private String getField(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        return index == null || index >= fields.size() ? null : fields.get(index);
+    }
+
+    /**
+     * Returns the fields of the next row that is not blank, or an empty {@code Optional} at the end of the file.
+     */
+    private Optional<List<String>> readNonBlankRow() throws IOException {
+        List<String> row;
+        do {
+            row = readRow();
+        } while (row != null && row.size() == 1 && row.get(0).isBlank());
+        return Optional.ofNullable(row);
+    }
+
+    /**
+     * Returns the fields of the next row, or null at the end of the file.
+     */
+    private List<String> readRow() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        rowLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        while (c != -1) {
+            if (isQuoted) {
+                if (c == QUOTE) {
+                    reader.mark(1);
+                    if (reader.read() == QUOTE) {
+                        field.append(QUOTE);
+                    } else {
+                        reader.reset();
+                        isQuoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == QUOTE) {
+                isQuoted = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Returns the next character, counting lines and skipping a byte order mark at the start of the file.
+     */
+    private int read() throws IOException {
+        int c = reader.read();
+        if (isStartOfFile) {
+            isStartOfFile = false;
+            if (c == BYTE_ORDER_MARK) {
+                c = reader.read();
+            }
+        }
+        if (c == '\n') {
+            lineNumber++;
+        }
+        return c;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
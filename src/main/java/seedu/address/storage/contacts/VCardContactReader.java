@@ -0,0 +1,119 @@
+package seedu.address.storage.contacts;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.storage.ics.ContentLineReader;
+import seedu.address.storage.ics.IcsContentLine;
+
+/**
+ * Reads the contacts of a vCard (.vcf) file, one card at a time.
+ * A contact is made from the formatted name (FN), or the structured name (N) if there is none, the first telephone
+ * number (TEL), email (EMAIL) and address (ADR), and the categories (CATEGORIES) as groups.
+ */
+public class VCardContactReader implements ContactReader {
+
+    private static final String COMPONENT_NAME = "VCARD";
+    private static final String TEL_URI_SCHEME = "tel:";
+
+    private final ContentLineReader reader;
+
+    /**
+     * Creates a reader of the contacts in {@code reader}.
+     */
+    public VCardContactReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = new ContentLineReader(reader);
+    }
+
+    /**
+     * Returns the next contact, or an empty {@code Optional} at the end of the file. A card that is not ended
+     * before the end of the file is left out.
+     */
+    @Override
+    public Optional<ContactRecord> readContact() throws IOException {
+        Card card = null;
+        Optional<IcsContentLine> parsedLine;
+        while ((parsedLine = reader.readContentLine()).isPresent()) {
+            IcsContentLine contentLine = parsedLine.get();
+            boolean isCard = contentLine.getValue().trim().equalsIgnoreCase(COMPONENT_NAME);
+            if (contentLine.getName().equals("BEGIN") && isCard) {
+                card = new Card(reader.getLineNumber());
+            } else if (contentLine.getName().equals("END") && isCard && card != null) {
+                return Optional.of(card.toContactRecord());
+            } else if (card != null) {
+                card.add(contentLine);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * The fields of a card, as they are read.
+     */
+    private static class Card {
+        private final int lineNumber;
+        private String formattedName;
+        private String structuredName;
+        private String phone;
+        private String email;
+        private String address;
+        private final List<String> groups = new ArrayList<>();
+
+        Card(int lineNumber) {
+            this.lineNumber = lineNumber;
+        }
+
+        void add(IcsContentLine contentLine) {
+            switch (contentLine.getName()) {
+            case "FN":
+                formattedName = firstNonNull(formattedName, contentLine.getText());
+                break;
+            case "N":
+                // family name, given names, additional names, prefixes and suffixes
+                List<String> parts = contentLine.getTextParts();
+                structuredName = firstNonNull(structuredName, String.join(" ",
+                        parts.size() > 1 ? parts.get(1) : "", parts.get(0)).trim());
+                break;
+            case "TEL":
+                String number = contentLine.getText().trim();
+                phone = firstNonNull(phone, number.startsWith(TEL_URI_SCHEME)
+                        ? number.substring(TEL_URI_SCHEME.length())
+                        : number);
+                break;
+            case "EMAIL":
+                email = firstNonNull(email, contentLine.getText());
+                break;
+            case "ADR":
+                address = firstNonNull(address, contentLine.getTextParts().stream().map(String::trim)
+                        .filter(part -> !part.isEmpty()).collect(Collectors.joining(", ")));
+                break;
+            case "CATEGORIES":
+                groups.addAll(contentLine.getTextList());
+                break;
+            default:
+                break;
+            }
+        }
+
+        ContactRecord toContactRecord() {
+            String name = formattedName == null || formattedName.isBlank() ? structuredName : formattedName;
+            return new ContactRecord(lineNumber, name, phone, email, address, groups);
+        }
+
+        private static String firstNonNull(String field, String value) {
+            return field == null ? value : field;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.storage.ics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Optional;
+
+/**
+ * Reads the content lines of an iCalendar or vCard file, which share a syntax, one at a time.
+ * Folded lines are unfolded as they are read, and lines that are not content lines are skipped.
+ */
+public class ContentLineReader implements Closeable {
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final BufferedReader reader;
+    // the line after the content line last read, read ahead to tell whether it continues that content line
+    private String nextLine;
+    private boolean hasNextLine = false;
+    private int lineNumber = 0;
+    private int contentLineNumber = 0;
+
+    /**
+     * Creates a reader of the content lines in {@code reader}.
+     */
+    public ContentLineReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+    }
+
+    /**
+     * Returns the next content line, or an empty {@code Optional} at the end of the file.
+     */
+    public Optional<IcsContentLine> readContentLine() throws IOException {
+        String line;
+        while ((line = readUnfoldedLine()) != null) {
+            Optional<IcsContentLine> contentLine = IcsContentLine.parse(line);
+            if (contentLine.isPresent()) {
+                return contentLine;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the number of the line, counting from 1, on which the content line last read starts.
+     */
+    public int getLineNumber() {
+        return contentLineNumber;
+    }
+
+    /**
+     * Returns the next line, joined with the lines continuing it, or null at the end of the file.
+     */
+    private String readUnfoldedLine() throws IOException {
+        String line;
+        if (hasNextLine) {
+            line = nextLine;
+        } else {
+            line = readLine();
+            if (line != null && !line.isEmpty() && line.charAt(0) == BYTE_ORDER_MARK) {
+                line = line.substring(1);
+            }
+        }
+        if (line == null) {
+            hasNextLine = true;
+            nextLine = null;
+            return null;
+        }
+        contentLineNumber = lineNumber;
+
+        StringBuilder contentLine = new StringBuilder(line);
+        String next = readLine();
+        while (next != null && isContinuation(next)) {
+            contentLine.append(next, 1, next.length());
+            next = readLine();
+        }
+        nextLine = next;
+        hasNextLine = true;
+        return contentLine.toString();
+    }
+
+    private String readLine() throws IOException {
+        String line = reader.readLine();
+        if (line != null) {
+            lineNumber++;
+        }
+        return line;
+    }
+
+    private static boolean isContinuation(String line) {
+        return !line.isEmpty() && (line.charAt(0) == ' ' || line.charAt(0) == '\t');
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.storage.ics;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A content line of an iCalendar or vCard file, such as {@code DTSTART;TZID=Asia/Singapore:20210315T090000}, after
+ * unfolding.
+ */
+public class IcsContentLine {
+
+    private final String name;
+    private final Map<String, String> parameters;
+    private final String value;
+
+    IcsContentLine(String name, Map<String, String> parameters, String value) {
+        this.name = name;
+        this.parameters = parameters;
+        this.value = value;
+    }
+
+    /**
+     * Parses {@code line} into its name, parameters and value, or returns an empty {@code Optional} if it has no
+     * value. Names and parameter names are in upper case; quotes around parameter values are removed.
+     */
+    static Optional<IcsContentLine> parse(String line) {
+        Map<String, String> parameters = new HashMap<>();
+        String name = null;
+        int partStart = 0;
+        boolean isQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                isQuoted = !isQuoted;
+            } else if (!isQuoted && (c == ';' || c == ':')) {
+                String part = line.substring(partStart, i);
+                if (name == null) {
+                    name = part.trim().toUpperCase(Locale.ROOT);
+                } else {
+                    addParameter(parameters, part);
+                }
+                if (c == ':') {
+                    return name.isEmpty()
+                            ? Optional.empty()
+                            : Optional.of(new IcsContentLine(name, parameters, line.substring(i + 1)));
+                }
+                partStart = i + 1;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static void addParameter(Map<String, String> parameters, String parameter) {
+        int equals = parameter.indexOf('=');
+        if (equals < 0) {
+            return;
+        }
+        String parameterValue = parameter.substring(equals + 1);
+        if (parameterValue.length() >= 2 && parameterValue.startsWith("\"") && parameterValue.endsWith("\"")) {
+            parameterValue = parameterValue.substring(1, parameterValue.length() - 1);
+        }
+        parameters.put(parameter.substring(0, equals).trim().toUpperCase(Locale.ROOT), parameterValue);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Optional<String> getParameter(String parameterName) {
+        return Optional.ofNullable(parameters.get(parameterName));
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the value as text, with escaped characters unescaped.
+     */
+    public String getText() {
+        return IcsFormat.unescapeText(value);
+    }
+
+    /**
+     * Returns the value as a list of texts separated by commas, with escaped characters unescaped.
+     */
+    public List<String> getTextList() {
+        return IcsFormat.splitTextList(value);
+    }
+
+    /**
+     * Returns the value as the parts of a structured value separated by semicolons, such as the parts of an
+     * address, with escaped characters unescaped.
+     */
+    public List<String> getTextParts() {
+        return IcsFormat.splitText(value, ';');
+    }
+}
@@ -0,0 +1,312 @@
+package seedu.address.storage.ics;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.group.Group;
+import seedu.address.model.meeting.DateTime;
+import seedu.address.model.meeting.Description;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.Priority;
+import seedu.address.model.meeting.Recurrence;
+
+/**
+ * An event (VEVENT) read from an iCalendar file, that can be converted into the model's {@code Meeting}.
+ */
+public class IcsEvent {
+
+    public static final String COMPONENT_NAME = "VEVENT";
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Event's %s property is missing!";
+    public static final String MESSAGE_INVALID_DATE_TIME = "Event's date or time %s is not valid.";
+    public static final String MESSAGE_UNSUPPORTED_RECURRENCE = "Event's repeat rule %s is not supported. Only daily, "
+            + "weekly or monthly rules with an end are.";
+    public static final String MESSAGE_CANCELLED = "Event is cancelled.";
+    public static final String MESSAGE_CHANGED_OCCURRENCE = "Event changes one occurrence of a repeating event.";
+
+    private static final Pattern WEEKS_FORMAT = Pattern.compile("P(?<weeks>\\d+)W");
+    private static final String MAILTO = "mailto:";
+
+    private final Map<String, List<IcsContentLine>> properties = new HashMap<>();
+
+    void add(IcsContentLine contentLine) {
+        properties.computeIfAbsent(contentLine.getName(), unused -> new ArrayList<>()).add(contentLine);
+    }
+
+    private Optional<IcsContentLine> getProperty(String name) {
+        return Optional.ofNullable(properties.get(name)).map(lines -> lines.get(0));
+    }
+
+    private List<IcsContentLine> getProperties(String name) {
+        return properties.getOrDefault(name, List.of());
+    }
+
+    /**
+     * Returns the email addresses of the attendees of this event, in lower case.
+     */
+    public List<String> getAttendeeEmails() {
+        List<String> emails = new ArrayList<>();
+        for (IcsContentLine attendee : getProperties("ATTENDEE")) {
+            String value = attendee.getValue().trim();
+            if (value.regionMatches(true, 0, MAILTO, 0, MAILTO.length())) {
+                emails.add(value.substring(MAILTO.length()).toLowerCase(Locale.ROOT));
+            }
+        }
+        return emails;
+    }
+
+    /**
+     * Converts this event into the model's {@code Meeting} object. Times are converted to local times in
+     * {@code zone}, and characters a meeting's name or group cannot have are left out.
+     *
+     * @throws IllegalValueException if the event cannot be a meeting.
+     */
+    public Meeting toModelType(ZoneId zone) throws IllegalValueException {
+        if (getProperty("RECURRENCE-ID").isPresent()) {
+            throw new IllegalValueException(MESSAGE_CHANGED_OCCURRENCE);
+        }
+        if (getProperty("STATUS").map(status -> status.getValue().trim().equalsIgnoreCase("CANCELLED"))
+                .orElse(false)) {
+            throw new IllegalValueException(MESSAGE_CANCELLED);
+        }
+
+        String summary = getProperty("SUMMARY").map(line -> IcsFormat.unescapeText(line.getValue()))
+                .orElseThrow(() -> new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "SUMMARY")));
+        String name = toAlphanumeric(summary);
+        if (!MeetingName.isValidName(name)) {
+            throw new IllegalValueException(MeetingName.MESSAGE_CONSTRAINTS);
+        }
+
+        IcsContentLine startLine = getProperty("DTSTART")
+                .orElseThrow(() -> new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "DTSTART")));
+        LocalDateTime start = toLocalDateTime(startLine, startLine.getValue().trim(), zone);
+        LocalDateTime end = getEnd(startLine, start, zone);
+
+        Description description = new Description(getProperty("DESCRIPTION")
+                .map(line -> IcsFormat.unescapeText(line.getValue())).orElse(""));
+        Priority priority = new Priority(getProperty("PRIORITY").map(line -> toPriority(line.getValue()))
+                .orElse("1"));
+        Set<Group> groups = new HashSet<>();
+        for (IcsContentLine categories : getProperties("CATEGORIES")) {
+            IcsFormat.splitTextList(categories.getValue()).stream()
+                    .map(IcsEvent::toAlphanumeric)
+                    .filter(Group::isValidGroupName)
+                    .map(Group::new)
+                    .forEach(groups::add);
+        }
+        Optional<Recurrence> recurrence = getRecurrence(start, zone);
+
+        try {
+            return new Meeting(new MeetingName(name), new DateTime(start.truncatedTo(ChronoUnit.MINUTES)),
+                    new DateTime(end.truncatedTo(ChronoUnit.MINUTES)), priority, description, groups, recurrence);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private LocalDateTime getEnd(IcsContentLine startLine, LocalDateTime start, ZoneId zone)
+            throws IllegalValueException {
+        Optional<IcsContentLine> endLine = getProperty("DTEND");
+        if (endLine.isPresent()) {
+            return toLocalDateTime(endLine.get(), endLine.get().getValue().trim(), zone);
+        }
+        Optional<IcsContentLine> durationLine = getProperty("DURATION");
+        if (durationLine.isPresent()) {
+            String duration = durationLine.get().getValue().trim().toUpperCase(Locale.ROOT);
+            try {
+                Matcher weeks = WEEKS_FORMAT.matcher(duration);
+                return weeks.matches()
+                        ? start.plusWeeks(Long.parseLong(weeks.group("weeks")))
+                        : start.plus(Duration.parse(duration));
+            } catch (DateTimeParseException | ArithmeticException e) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_DATE_TIME, duration));
+            }
+        }
+        // an event on a date without an end lasts the day
+        return isDate(startLine, startLine.getValue().trim()) ? start.plusDays(1) : start;
+    }
+
+    /**
+     * Converts {@code value}, a date or date-time of {@code contentLine}, into a local time in {@code zone}.
+     * Dates start at midnight, and date-times without a known time zone are taken to be local times already.
+     */
+    private static LocalDateTime toLocalDateTime(IcsContentLine contentLine, String value, ZoneId zone)
+            throws IllegalValueException {
+        try {
+            if (isDate(contentLine, value)) {
+                return LocalDate.parse(value.substring(0, 8), IcsFormat.DATE).atStartOfDay();
+            }
+            if (value.endsWith("Z") || value.endsWith("z")) {
+                return LocalDateTime.parse(value.substring(0, value.length() - 1), IcsFormat.DATE_TIME)
+                        .atOffset(ZoneOffset.UTC).atZoneSameInstant(zone).toLocalDateTime();
+            }
+            LocalDateTime localDateTime = LocalDateTime.parse(value, IcsFormat.DATE_TIME);
+            Optional<ZoneId> eventZone = contentLine.getParameter("TZID").flatMap(IcsEvent::toZoneId);
+            return eventZone.isEmpty()
+                    ? localDateTime
+                    : localDateTime.atZone(eventZone.get()).withZoneSameInstant(zone).toLocalDateTime();
+        } catch (DateTimeParseException | StringIndexOutOfBoundsException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_DATE_TIME, value));
+        }
+    }
+
+    private static boolean isDate(IcsContentLine contentLine, String value) {
+        return contentLine.getParameter("VALUE").map(type -> type.equalsIgnoreCase("DATE")).orElse(false)
+                || value.length() == 8;
+    }
+
+    private static Optional<ZoneId> toZoneId(String timeZoneId) {
+        try {
+            return Optional.of(ZoneId.of(timeZoneId.startsWith("/") ? timeZoneId.substring(1) : timeZoneId));
+        } catch (DateTimeException e) {
+            // a time zone defined only in the file, such as one named by another calendar app
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Converts the repeat rule and exception dates of this event, if it repeats, into a {@code Recurrence} of a
+     * meeting first starting at {@code start}.
+     */
+    private Optional<Recurrence> getRecurrence(LocalDateTime start, ZoneId zone) throws IllegalValueException {
+        Optional<IcsContentLine> ruleLine = getProperty("RRULE");
+        if (ruleLine.isEmpty()) {
+            return Optional.empty();
+        }
+        String rule = ruleLine.get().getValue().trim();
+        IllegalValueException unsupported = new IllegalValueException(
+                String.format(MESSAGE_UNSUPPORTED_RECURRENCE, rule));
+        Map<String, String> parts = new HashMap<>();
+        for (String part : rule.toUpperCase(Locale.ROOT).split(";")) {
+            String[] keyAndValue = part.split("=", 2);
+            if (keyAndValue.length != 2) {
+                throw unsupported;
+            }
+            parts.put(keyAndValue[0].trim(), keyAndValue[1].trim());
+        }
+
+        Recurrence.Frequency frequency;
+        int interval;
+        try {
+            frequency = Recurrence.Frequency.valueOf(parts.getOrDefault("FREQ", ""));
+            interval = Integer.parseInt(parts.getOrDefault("INTERVAL", "1"));
+        } catch (IllegalArgumentException e) {
+            throw unsupported;
+        }
+        if (interval < 1 || interval > Recurrence.MAX_INTERVAL || !isOnFirstDay(parts, frequency, start)) {
+            throw unsupported;
+        }
+        Set<String> knownParts = Set.of("FREQ", "INTERVAL", "UNTIL", "COUNT", "BYDAY", "BYMONTHDAY", "WKST");
+        if (!knownParts.containsAll(parts.keySet())) {
+            throw unsupported;
+        }
+
+        LocalDate until;
+        if (parts.containsKey("UNTIL")) {
+            until = toLocalDateTime(ruleLine.get(), parts.get("UNTIL"), zone).toLocalDate();
+        } else if (parts.containsKey("COUNT")) {
+            until = getLastDate(frequency, interval, start.toLocalDate(), parseCount(parts.get("COUNT"), unsupported));
+        } else {
+            // a meeting must stop repeating at some date
+            throw unsupported;
+        }
+
+        Set<LocalDate> exceptions = new HashSet<>();
+        for (IcsContentLine exceptionLine : getProperties("EXDATE")) {
+            for (String exception : exceptionLine.getValue().split(",")) {
+                exceptions.add(toLocalDateTime(exceptionLine, exception.trim(), zone).toLocalDate());
+            }
+        }
+        return Optional.of(new Recurrence(frequency, interval, until, exceptions));
+    }
+
+    /**
+     * Returns true if the days of the week or month the rule repeats on, if given, are only the day of
+     * {@code start}, as a meeting repeats on the day it first starts.
+     */
+    private static boolean isOnFirstDay(Map<String, String> parts, Recurrence.Frequency frequency,
+                                        LocalDateTime start) {
+        // days of the week are given by their first two letters, such as MO
+        String dayOfWeek = start.getDayOfWeek().name().substring(0, 2);
+        boolean isOnDayOfWeek = !parts.containsKey("BYDAY")
+                || (frequency == Recurrence.Frequency.WEEKLY && parts.get("BYDAY").equals(dayOfWeek));
+        boolean isOnDayOfMonth = !parts.containsKey("BYMONTHDAY")
+                || (frequency == Recurrence.Frequency.MONTHLY
+                        && parts.get("BYMONTHDAY").equals(String.valueOf(start.getDayOfMonth())));
+        return isOnDayOfWeek && isOnDayOfMonth;
+    }
+
+    private static int parseCount(String count, IllegalValueException unsupported) throws IllegalValueException {
+        try {
+            int parsedCount = Integer.parseInt(count);
+            if (parsedCount < 1) {
+                throw unsupported;
+            }
+            return parsedCount;
+        } catch (NumberFormatException e) {
+            throw unsupported;
+        }
+    }
+
+    /**
+     * Returns the date of occurrence {@code count} of a meeting first starting on {@code firstDate}. Months without
+     * the day of the first date are skipped, and not counted.
+     */
+    private static LocalDate getLastDate(Recurrence.Frequency frequency, int interval, LocalDate firstDate,
+                                         int count) {
+        switch (frequency) {
+        case DAILY:
+            return firstDate.plusDays((long) (count - 1) * interval);
+        case WEEKLY:
+            return firstDate.plusWeeks((long) (count - 1) * interval);
+        default:
+            LocalDate lastDate = firstDate;
+            int occurrences = 1;
+            for (long months = interval; occurrences < count; months += interval) {
+                lastDate = firstDate.plusMonths(months);
+                if (lastDate.getDayOfMonth() == firstDate.getDayOfMonth()) {
+                    occurrences++;
+                }
+            }
+            return lastDate;
+        }
+    }
+
+    /**
+     * Converts an iCalendar priority, from 1 (highest) to 9 (lowest) or 0 if undefined, into a meeting's priority,
+     * from 5 (highest) to 1, two iCalendar priorities to each.
+     */
+    private static String toPriority(String icsPriority) {
+        try {
+            int priority = Integer.parseInt(icsPriority.trim());
+            return priority < 1 || priority > 9 ? "1" : String.valueOf(5 - (priority - 1) / 2);
+        } catch (NumberFormatException e) {
+            return "1";
+        }
+    }
+
+    /**
+     * Returns {@code text} with every run of characters other than letters, digits and spaces replaced with a space.
+     */
+    private static String toAlphanumeric(String text) {
+        return text.replaceAll("[^\\p{Alnum} ]+", " ").replaceAll(" {2,}", " ").trim();
+    }
+}
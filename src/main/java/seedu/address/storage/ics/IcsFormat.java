@@ -0,0 +1,69 @@
+package seedu.address.storage.ics;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Formats and escaping of the values of iCalendar content lines.
+ */
+class IcsFormat {
+
+    /** Dates, such as 20210315. */
+    static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    /** Local times on a date, such as 20210315T090000. A time in UTC ends with Z. */
+    static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss");
+
+    private IcsFormat() {}
+
+    /**
+     * Escapes the backslashes, separators and line breaks in {@code text}.
+     */
+    static String escapeText(String text) {
+        return text.replace("\\", "\\\\").replace(";", "\\;").replace(",", "\\,")
+                .replace("\r\n", "\\n").replace("\n", "\\n");
+    }
+
+    /**
+     * Reverses {@link #escapeText(String)}.
+     */
+    static String unescapeText(String text) {
+        StringBuilder unescaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c != '\\' || i == text.length() - 1) {
+                unescaped.append(c);
+                continue;
+            }
+            char escaped = text.charAt(++i);
+            unescaped.append(escaped == 'n' || escaped == 'N' ? '\n' : escaped);
+        }
+        return unescaped.toString();
+    }
+
+    /**
+     * Splits {@code text} at the commas that are not escaped, and unescapes each part.
+     */
+    static List<String> splitTextList(String text) {
+        return splitText(text, ',');
+    }
+
+    /**
+     * Splits {@code text} at the {@code separator}s that are not escaped, and unescapes each part.
+     */
+    static List<String> splitText(String text, char separator) {
+        List<String> parts = new ArrayList<>();
+        int partStart = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\\') {
+                i++;
+            } else if (text.charAt(i) == separator) {
+                parts.add(unescapeText(text.substring(partStart, i)));
+                partStart = i + 1;
+            }
+        }
+        parts.add(unescapeText(text.substring(partStart)));
+        return parts;
+    }
+}
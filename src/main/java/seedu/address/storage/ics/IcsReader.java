@@ -0,0 +1,66 @@
+package seedu.address.storage.ics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Optional;
+
+/**
+ * Reads the events of an iCalendar (.ics) file one at a time, so that only the event being read is kept in memory
+ * however long the file is.
+ * Components other than events, such as time zones, and components nested in events, such as alarms, are skipped.
+ */
+public class IcsReader implements Closeable {
+
+    private final ContentLineReader reader;
+
+    /**
+     * Creates a reader of the events in {@code reader}.
+     */
+    public IcsReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = new ContentLineReader(reader);
+    }
+
+    /**
+     * Returns the next event, or an empty {@code Optional} at the end of the file. An event that is not ended
+     * before the end of the file is left out.
+     */
+    public Optional<IcsEvent> readEvent() throws IOException {
+        IcsEvent event = null;
+        int nestedComponents = 0;
+        Optional<IcsContentLine> parsedLine;
+        while ((parsedLine = reader.readContentLine()).isPresent()) {
+            IcsContentLine contentLine = parsedLine.get();
+            boolean isEvent = contentLine.getValue().trim().equalsIgnoreCase(IcsEvent.COMPONENT_NAME);
+            switch (contentLine.getName()) {
+            case "BEGIN":
+                if (event != null) {
+                    nestedComponents++;
+                } else if (isEvent) {
+                    event = new IcsEvent();
+                }
+                break;
+            case "END":
+                if (event != null && nestedComponents > 0) {
+                    nestedComponents--;
+                } else if (event != null && isEvent) {
+                    return Optional.of(event);
+                }
+                break;
+            default:
+                if (event != null && nestedComponents == 0) {
+                    event.add(contentLine);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.address.storage.ics;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.Recurrence;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes meetings to an iCalendar (.ics) file as events, one at a time, so that the file is never held in memory.
+ * Times are written as local times, without a time zone. The calendar is ended when the writer is closed.
+ */
+public class IcsWriter implements Closeable {
+
+    private static final String LINE_BREAK = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final Writer writer;
+    private final String stamp;
+
+    /**
+     * Creates a writer of a calendar to {@code writer}, stamped as made at {@code stamp}, and begins the calendar.
+     */
+    public IcsWriter(Writer writer, Instant stamp) throws IOException {
+        requireAllNonNull(writer, stamp);
+        this.writer = writer;
+        this.stamp = IcsFormat.DATE_TIME.format(stamp.atOffset(ZoneOffset.UTC)) + "Z";
+        writeLine("BEGIN:VCALENDAR");
+        writeLine("VERSION:2.0");
+        writeLine("PRODID:-//MeetBuddy//MeetBuddy//EN");
+    }
+
+    /**
+     * Writes {@code meeting} as an event, with {@code persons} as its attendees.
+     */
+    public void writeMeeting(Meeting meeting, Collection<Person> persons) throws IOException {
+        requireAllNonNull(meeting, persons);
+        LocalDateTime start = meeting.getStartLocalDateTime();
+        writeLine("BEGIN:" + IcsEvent.COMPONENT_NAME);
+        writeLine("UID:" + IcsFormat.DATE_TIME.format(start) + "-" + Integer.toHexString(Objects.hash(
+                meeting.getName(), meeting.getStart(), meeting.getTerminate())) + "@meetbuddy");
+        writeLine("DTSTAMP:" + stamp);
+        writeLine("DTSTART:" + IcsFormat.DATE_TIME.format(start));
+        writeLine("DTEND:" + IcsFormat.DATE_TIME.format(meeting.getTerminateLocalDateTime()));
+        writeLine("SUMMARY:" + IcsFormat.escapeText(meeting.getName().fullName));
+        if (!meeting.getDescription().fullDescription.isEmpty()) {
+            writeLine("DESCRIPTION:" + IcsFormat.escapeText(meeting.getDescription().fullDescription));
+        }
+        // the reverse of the conversion of priorities when reading, leaving the lowest priority undefined
+        if (meeting.getPriority().priority > 1) {
+            writeLine("PRIORITY:" + (11 - 2 * meeting.getPriority().priority));
+        }
+        if (!meeting.getGroups().isEmpty()) {
+            writeLine("CATEGORIES:" + meeting.getGroups().stream().map(group -> group.groupName).sorted()
+                    .map(IcsFormat::escapeText).collect(Collectors.joining(",")));
+        }
+        if (meeting.getRecurrence().isPresent()) {
+            writeRecurrence(meeting.getRecurrence().get(), start);
+        }
+        for (Person person : persons) {
+            if (!person.getEmail().value.equals(Email.PLACE_HOLDER)) {
+                writeLine("ATTENDEE;CN=\"" + person.getName().fullName + "\":mailto:" + person.getEmail().value);
+            }
+        }
+        writeLine("END:" + IcsEvent.COMPONENT_NAME);
+    }
+
+    /**
+     * Writes {@code recurrence} as a repeat rule with the dates skipped, which have the same type of value as the
+     * start of the event {@code start}.
+     */
+    private void writeRecurrence(Recurrence recurrence, LocalDateTime start) throws IOException {
+        writeLine("RRULE:FREQ=" + recurrence.frequency
+                + (recurrence.interval > 1 ? ";INTERVAL=" + recurrence.interval : "")
+                + ";UNTIL=" + IcsFormat.DATE_TIME.format(recurrence.until.atTime(23, 59, 59)));
+        if (!recurrence.getExceptions().isEmpty()) {
+            writeLine("EXDATE:" + recurrence.getExceptions().stream().sorted()
+                    .map(date -> IcsFormat.DATE_TIME.format(date.atTime(start.toLocalTime())))
+                    .collect(Collectors.joining(",")));
+        }
+    }
+
+    /**
+     * Writes {@code line}, folded into lines of at most 75 octets, each after the first starting with a space.
+     */
+    private void writeLine(String line) throws IOException {
+        int octets = 0;
+        int i = 0;
+        while (i < line.length()) {
+            int codePoint = line.codePointAt(i);
+            int codePointOctets = new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8).length;
+            if (octets + codePointOctets > MAX_LINE_OCTETS) {
+                writer.write(LINE_BREAK);
+                writer.write(' ');
+                octets = 1;
+            }
+            writer.write(Character.toChars(codePoint));
+            octets += codePointOctets;
+            i += Character.charCount(codePoint);
+        }
+        writer.write(LINE_BREAK);
+    }
+
+    /**
+     * Ends the calendar and closes the underlying writer.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            writeLine("END:VCALENDAR");
+        } finally {
+            writer.close();
+        }
+    }
+}
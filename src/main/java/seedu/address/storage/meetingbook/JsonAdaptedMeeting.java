@@ -3,10 +3,12 @@ package seedu.address.storage.meetingbook;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -17,6 +19,7 @@ import seedu.address.model.meeting.Description;
 import seedu.address.model.meeting.Meeting;
 import seedu.address.model.meeting.MeetingName;
 import seedu.address.model.meeting.Priority;
+import seedu.address.model.meeting.Recurrence;
 import seedu.address.storage.addressbook.JsonAdaptedGroup;
 
 
@@ -35,6 +38,10 @@ public class JsonAdaptedMeeting {
 
     private final List<JsonAdaptedGroup> group = new ArrayList<>();
 
+    // Left out of the file for meetings that do not repeat
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String recurrence;
+
     /**
      * Constructs a {@code JsonAdoptedMeeting} with the given meeting details.
      */
@@ -45,7 +52,8 @@ public class JsonAdaptedMeeting {
                               @JsonProperty("endDateTime") String endDateTime,
                               @JsonProperty("description") String description,
                               @JsonProperty("priority") String priority,
-                              @JsonProperty("group") List<JsonAdaptedGroup> group) {
+                              @JsonProperty("group") List<JsonAdaptedGroup> group,
+                              @JsonProperty("recurrence") String recurrence) {
         this.name = name;
         this.startDateTime = startDateTime;
         this.endDateTime = endDateTime;
@@ -54,6 +62,15 @@ public class JsonAdaptedMeeting {
         if (group != null) {
             this.group.addAll(group);
         }
+        this.recurrence = recurrence;
+    }
+
+    /**
+     * Constructs a {@code JsonAdoptedMeeting} with the given details of a meeting that does not repeat.
+     */
+    public JsonAdaptedMeeting(String name, String startDateTime, String endDateTime, String description,
+                              String priority, List<JsonAdaptedGroup> group) {
+        this(name, startDateTime, endDateTime, description, priority, group, null);
     }
 
 
@@ -69,6 +86,7 @@ public class JsonAdaptedMeeting {
         group.addAll(source.getGroups().stream()
                 .map(JsonAdaptedGroup::new)
                 .collect(Collectors.toList()));
+        recurrence = source.getRecurrence().map(Recurrence::toString).orElse(null);
     }
 
     /**
@@ -121,9 +139,15 @@ public class JsonAdaptedMeeting {
 
         final Priority modelPriority = new Priority(priority);
         final Set<Group> modelTags = new HashSet<>(meetingGroups);
+
+        if (recurrence != null && !Recurrence.isValidRecurrence(recurrence)) {
+            throw new IllegalValueException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+        final Optional<Recurrence> modelRecurrence = Optional.ofNullable(recurrence).map(Recurrence::new);
+
         try {
             return new Meeting(modelMeetingName, modelStart, modelTerminate,
-                    modelPriority, modelDescription, modelTags);
+                    modelPriority, modelDescription, modelTags, modelRecurrence);
         } catch (IllegalArgumentException e) {
             throw new IllegalValueException(e.getMessage());
         }
@@ -12,6 +12,7 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.meeting.ClashCheck;
 import seedu.address.model.meeting.MeetingBook;
 import seedu.address.model.meeting.ReadOnlyMeetingBook;
 
@@ -25,9 +26,20 @@ public class JsonMeetingBookStorage implements MeetingBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonMeetingBookStorage.class);
 
     private Path filePath;
+    private final ClashCheck clashCheck;
 
     public JsonMeetingBookStorage(Path filePath) {
+        this(filePath, ClashCheck.ALL_MEETINGS);
+    }
+
+    /**
+     * Creates a storage of the meeting book at {@code filePath} whose meetings are read as clashing as decided by
+     * {@code clashCheck}, so that meetings saved while they were allowed to overlap can be read back.
+     */
+    public JsonMeetingBookStorage(Path filePath, ClashCheck clashCheck) {
+        requireNonNull(clashCheck);
         this.filePath = filePath;
+        this.clashCheck = clashCheck;
     }
 
     public Path getMeetingBookFilePath() {
@@ -54,7 +66,7 @@ public class JsonMeetingBookStorage implements MeetingBookStorage {
         }
 
         try {
-            return Optional.of(jsonMeetingBook.get().toModelType());
+            return Optional.of(jsonMeetingBook.get().toModelType(clashCheck));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found for Meeting Book in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
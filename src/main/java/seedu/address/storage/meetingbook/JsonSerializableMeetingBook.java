@@ -9,6 +9,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.meeting.ClashCheck;
 import seedu.address.model.meeting.Meeting;
 import seedu.address.model.meeting.MeetingBook;
 import seedu.address.model.meeting.ReadOnlyMeetingBook;
@@ -42,12 +43,23 @@ public class JsonSerializableMeetingBook {
     }
 
     /**
-     * Converts this meeting book into the model's {@code MeetingBook} object.
+     * Converts this meeting book into the model's {@code MeetingBook} object, in which no two meetings may overlap.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public MeetingBook toModelType() throws IllegalValueException {
+        return toModelType(ClashCheck.ALL_MEETINGS);
+    }
+
+    /**
+     * Converts this meeting book into the model's {@code MeetingBook} object, in which meetings may overlap if
+     * {@code clashCheck} checks clashes for each attendee, as the meetings were allowed to when they were saved.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public MeetingBook toModelType(ClashCheck clashCheck) throws IllegalValueException {
         MeetingBook meetingBook = new MeetingBook();
+        meetingBook.setOverlapAllowed(clashCheck == ClashCheck.PER_ATTENDEE);
         for (JsonAdaptedMeeting jsonAdaptedMeeting : meetings) {
             Meeting meeting = jsonAdaptedMeeting.toModelType();
             if (meetingBook.hasMeeting(meeting)) {
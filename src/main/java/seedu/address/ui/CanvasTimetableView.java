@@ -0,0 +1,254 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Tooltip;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.parser.DateTimeUtil;
+import seedu.address.model.schedule.Schedulable;
+
+/**
+ * Renders a timetable onto a single {@code Canvas} instead of one node per meeting slot.
+ * The geometry comes from the same {@code TimetablePlacementPolicy} as {@code TimetableView}, so both renderers
+ * place slots identically. Hovering over a slot shows its details in a tooltip and clicking a slot selects it.
+ * Only the canvas is in the scene graph, so layout and CSS passes do not grow with the number of meetings.
+ */
+public class CanvasTimetableView extends UiPart<Region> {
+
+    public static final double HEADER_HEIGHT = 40;
+
+    private static final String FXML = "CanvasTimetableWindow.fxml";
+
+    private static final Color EVEN_COLUMN_COLOR = Color.web("#e0dddd");
+    private static final Color ODD_COLUMN_COLOR = Color.WHITE;
+    private static final Color DAY_LABEL_COLOR = Color.web("#6f387c");
+    private static final Color SLOT_COLOR = Color.ORANGE;
+    private static final Color SELECTED_SLOT_COLOR = Color.web("#ff7f50");
+    private static final Color SLOT_BORDER_COLOR = Color.rgb(0, 0, 0, 0.6);
+    private static final Color HEADER_COLOR = Color.web("#496160");
+    private static final Font HEADER_FONT = Font.font("Arial Black", 13.0);
+    private static final Font DAY_LABEL_FONT = Font.font(13.0);
+    private static final double SLOT_INSET = 2;
+    private static final double SLOT_ARC = 8;
+    private static final double TOOLTIP_OFFSET = 12;
+
+    private final Logger logger = LogsCenter.getLogger(CanvasTimetableView.class);
+
+    @FXML
+    private Pane canvasHolder;
+
+    private final Canvas canvas = new Canvas();
+
+    private final Tooltip tooltip = new Tooltip();
+
+    private TimetablePlacementPolicy timetablePlacementPolicy;
+
+    private TimetableCanvasLayout layout;
+
+    private ObservableList<? extends Schedulable> schedulables;
+
+    private LocalDate firstDayOfTimetable;
+
+    private TimetableCanvasLayout.SlotGeometry hoveredSlot;
+
+    private Schedulable selectedSchedulable;
+
+    private final ListChangeListener<Schedulable> meetingsListener = change -> {
+        while (change.next()) {
+            if (change.wasAdded() || change.wasRemoved()) {
+                this.populateWithData(change.getList());
+                return;
+            }
+        }
+    };
+
+    private final ChangeListener<LocalDate> dateListener = (observable, oldValue, newValue) -> {
+        firstDayOfTimetable = newValue;
+        timetablePlacementPolicy = new TimetablePlacementPolicy(newValue);
+        populateWithData(schedulables);
+    };
+
+    /**
+     * Renders the given schedulables in a week starting on the date held by {@code firstDayOfTimetable}, and
+     * redraws whenever either of them changes.
+     */
+    public CanvasTimetableView(ObservableList<? extends Schedulable> schedulables,
+                               ObservableValue<LocalDate> firstDayOfTimetable) {
+        super(FXML);
+        requireNonNull(schedulables);
+        requireNonNull(firstDayOfTimetable);
+        this.schedulables = schedulables;
+        this.firstDayOfTimetable = firstDayOfTimetable.getValue();
+        this.timetablePlacementPolicy = new TimetablePlacementPolicy(firstDayOfTimetable.getValue());
+
+        canvas.setManaged(false);
+        canvas.setHeight(HEADER_HEIGHT + TimetablePlacementPolicy.TIMETABLE_DISPLAY_SIZE);
+        canvas.widthProperty().bind(canvasHolder.widthProperty());
+        canvas.widthProperty().addListener((observable, oldValue, newValue) -> redraw());
+        canvasHolder.setPrefHeight(canvas.getHeight());
+        canvasHolder.getChildren().add(canvas);
+
+        canvas.addEventHandler(MouseEvent.MOUSE_MOVED, this::handleMouseMoved);
+        canvas.addEventHandler(MouseEvent.MOUSE_EXITED, event -> hideTooltip());
+        canvas.addEventHandler(MouseEvent.MOUSE_CLICKED, this::handleMouseClicked);
+
+        populateWithData(schedulables);
+        schedulables.addListener(this.meetingsListener);
+        firstDayOfTimetable.addListener(this.dateListener);
+    }
+
+    /**
+     * Lays out and repaints the timetable with the given placement policy.
+     */
+    public void setTimetablePlacementPolicy(TimetablePlacementPolicy policy) {
+        requireNonNull(policy);
+        this.timetablePlacementPolicy = policy;
+        populateWithData(schedulables);
+    }
+
+    /**
+     * Lays out the given schedulables again and repaints the whole timetable.
+     */
+    public void populateWithData(List<? extends Schedulable> schedulables) {
+        layout = new TimetableCanvasLayout(schedulables, timetablePlacementPolicy);
+        hideTooltip();
+        redraw();
+        logger.fine("Drew " + layout.getNumberOfSlots() + " timetable slots onto the canvas");
+    }
+
+    /**
+     * Returns the schedulable selected by the last click on the timetable, if any.
+     */
+    public Optional<Schedulable> getSelectedSchedulable() {
+        return Optional.ofNullable(selectedSchedulable);
+    }
+
+    private double getColumnWidth() {
+        return canvas.getWidth() / TimetablePlacementPolicy.NUMBER_OF_COLUMNS;
+    }
+
+    /**
+     * Paints the column backgrounds, day labels and every slot in the current layout.
+     */
+    private void redraw() {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        double columnWidth = getColumnWidth();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        for (int column = 0; column < TimetablePlacementPolicy.NUMBER_OF_COLUMNS; column++) {
+            double x = column * columnWidth;
+            gc.setFill(column % 2 == 0 ? EVEN_COLUMN_COLOR : ODD_COLUMN_COLOR);
+            gc.fillRect(x, HEADER_HEIGHT, columnWidth, TimetablePlacementPolicy.TIMETABLE_DISPLAY_SIZE);
+            drawDayLabel(gc, column, x, columnWidth);
+            for (TimetableCanvasLayout.SlotGeometry slot : layout.getSlotsInColumn(column)) {
+                drawSlot(gc, slot, columnWidth);
+            }
+        }
+    }
+
+    private void drawDayLabel(GraphicsContext gc, int column, double x, double columnWidth) {
+        LocalDate date = firstDayOfTimetable.plusDays(column);
+        gc.setFill(DAY_LABEL_COLOR);
+        gc.setFont(DAY_LABEL_FONT);
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+        gc.fillText(DateTimeUtil.prettyPrintFormatLocalDate(date) + "\n" + date.getDayOfWeek().name(),
+                x + columnWidth / 2, HEADER_HEIGHT / 2);
+    }
+
+    private void drawSlot(GraphicsContext gc, TimetableCanvasLayout.SlotGeometry slot, double columnWidth) {
+        double x = slot.getColumn() * columnWidth + SLOT_INSET;
+        double y = HEADER_HEIGHT + slot.getTop();
+        double width = columnWidth - 2 * SLOT_INSET;
+        double height = slot.getLength();
+        boolean isSelected = slot.getSource().equals(selectedSchedulable);
+
+        gc.setFill(isSelected ? SELECTED_SLOT_COLOR : SLOT_COLOR);
+        gc.fillRoundRect(x, y, width, height, SLOT_ARC, SLOT_ARC);
+        gc.setStroke(SLOT_BORDER_COLOR);
+        gc.setLineWidth(isSelected ? 2 : 1);
+        gc.strokeRoundRect(x, y, width, height, SLOT_ARC, SLOT_ARC);
+
+        if (height < TimetableSlot.MINIMUM_LENGTH_FOR_HEADER) {
+            return; // Prevent overflow of text
+        }
+        gc.save();
+        gc.beginPath();
+        gc.rect(x, y, width, height);
+        gc.clip();
+        gc.setFill(HEADER_COLOR);
+        gc.setFont(HEADER_FONT);
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.TOP);
+        gc.fillText(slot.getHeader(), x + width / 2, y, width);
+        gc.restore();
+    }
+
+    private Optional<TimetableCanvasLayout.SlotGeometry> hitTest(double x, double y) {
+        if (y < HEADER_HEIGHT || getColumnWidth() <= 0) {
+            return Optional.empty();
+        }
+        int column = (int) (x / getColumnWidth());
+        return layout.hitTest(column, y - HEADER_HEIGHT);
+    }
+
+    private void handleMouseMoved(MouseEvent event) {
+        TimetableCanvasLayout.SlotGeometry slot = hitTest(event.getX(), event.getY()).orElse(null);
+        if (slot == hoveredSlot) {
+            return;
+        }
+        hoveredSlot = slot;
+        if (slot == null) {
+            tooltip.hide();
+            return;
+        }
+        tooltip.setText(getTooltipText(slot.getSource()));
+        tooltip.show(canvas, event.getScreenX() + TOOLTIP_OFFSET, event.getScreenY() + TOOLTIP_OFFSET);
+    }
+
+    private void handleMouseClicked(MouseEvent event) {
+        Schedulable clicked = hitTest(event.getX(), event.getY())
+                .map(TimetableCanvasLayout.SlotGeometry::getSource)
+                .orElse(null);
+        if (clicked == null ? selectedSchedulable == null : clicked.equals(selectedSchedulable)) {
+            return;
+        }
+        selectedSchedulable = clicked;
+        redraw();
+    }
+
+    private void hideTooltip() {
+        hoveredSlot = null;
+        tooltip.hide();
+    }
+
+    /**
+     * Returns the full name and time range of a schedulable, including the dates, since a slot only shows the
+     * part of the schedulable that falls on its day.
+     */
+    private static String getTooltipText(Schedulable schedulable) {
+        return schedulable.getNameString()
+                + "\n"
+                + DateTimeUtil.prettyPrintFormatDateTime(schedulable.getStartLocalDateTime())
+                + " - "
+                + DateTimeUtil.prettyPrintFormatDateTime(schedulable.getTerminateLocalDateTime());
+    }
+}
@@ -1,12 +1,12 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -14,6 +14,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
@@ -21,6 +22,8 @@ public class CommandBox extends UiPart<Region> {
     @FXML
     private TextField commandTextField;
 
+    private boolean isBusy = false;
+
     /**
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
      */
@@ -33,19 +36,38 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Handles the Enter button pressed event.
+     * The command runs in the background; the command box stays editable meanwhile, but does not accept another
+     * command until the current one finishes.
      */
     @FXML
     private void handleCommandEntered() {
         String commandText = commandTextField.getText();
-        if (commandText.equals("")) {
+        if (commandText.equals("") || isBusy) {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        setBusy(true);
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            setBusy(false);
+            if (error != null) {
+                setStyleToIndicateCommandFailure();
+            } else if (commandTextField.getText().equals(commandText)) {
+                // Keep anything typed while the command was running
+                commandTextField.setText("");
+            }
+        });
+    }
+
+    /**
+     * Sets whether the command box is waiting for a command to finish.
+     */
+    private void setBusy(boolean isBusy) {
+        this.isBusy = isBusy;
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        if (!isBusy) {
+            styleClass.remove(BUSY_STYLE_CLASS);
+        } else if (!styleClass.contains(BUSY_STYLE_CLASS)) {
+            styleClass.add(BUSY_STYLE_CLASS);
         }
     }
 
@@ -75,11 +97,13 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns a future holding the result.
+         * The future must be completed on the JavaFX application thread, exceptionally with a
+         * {@code CommandException} or {@code ParseException} if the command fails.
          *
          * @see seedu.address.logic.Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
@@ -0,0 +1,216 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.person.Person;
+
+/**
+ * Runs commands on a dedicated background thread, so that parsing, model changes and saving do not block the
+ * JavaFX application thread.
+ *
+ * The model is only ever touched by the background thread. The UI observes mirrors of the model's lists instead,
+ * and snapshots of anything else it shows, such as the attendees of the meetings, and all changes made by a command
+ * are published to them together with the result of the command, in a single {@code Platform.runLater} once the
+ * command has finished.
+ */
+public class CommandRunner {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final Logger logger = LogsCenter.getLogger(CommandRunner.class);
+
+    private final Logic logic;
+    private final ExecutorService executor;
+    private final Consumer<Runnable> fxThreadExecutor;
+
+    private final FxListMirror<Person> filteredPersonList;
+    private final FxListMirror<Meeting> filteredMeetingList;
+    private final FxListMirror<Meeting> allMeetingList;
+    private final FxValueMirror<LocalDate> timetableStartDate;
+    /** The sorted names of the attendees of each filtered meeting that has any, for the UI. */
+    private final ReadOnlyObjectWrapper<Map<Meeting, List<String>>> attendeeNames;
+    /** The data version of the model that {@code attendeeNames} was taken at. Only used on the background thread. */
+    private long attendeeNamesVersion;
+
+    /**
+     * Creates a {@code CommandRunner} that executes commands with the given {@code Logic}.
+     * Must be called on the JavaFX application thread, before any command is executed.
+     */
+    public CommandRunner(Logic logic) {
+        this(logic, Platform::runLater);
+    }
+
+    /**
+     * Creates a {@code CommandRunner} that hands updates for the UI to {@code fxThreadExecutor}.
+     */
+    CommandRunner(Logic logic, Consumer<Runnable> fxThreadExecutor) {
+        requireNonNull(logic);
+        requireNonNull(fxThreadExecutor);
+        this.logic = logic;
+        this.fxThreadExecutor = fxThreadExecutor;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-executor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        filteredPersonList = new FxListMirror<>(logic.getFilteredPersonList());
+        filteredMeetingList = new FxListMirror<>(logic.getFilteredMeetingList());
+        allMeetingList = new FxListMirror<>(logic.getAllMeetingList());
+        timetableStartDate = new FxValueMirror<>(logic.getTimeTableStartDate());
+        attendeeNamesVersion = logic.getDataVersion();
+        attendeeNames = new ReadOnlyObjectWrapper<>(snapshotAttendeeNames());
+    }
+
+    /**
+     * Executes the command in the background and returns a future holding its result.
+     * The future is completed on the JavaFX application thread, after the changes made by the command have been
+     * published to the lists returned by this runner. It is completed exceptionally with a
+     * {@code CommandException} or {@code ParseException} if the command fails.
+     *
+     * @see seedu.address.logic.Logic#execute(String)
+     */
+    public CompletableFuture<CommandResult> execute(String commandText) {
+        requireNonNull(commandText);
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> runCommand(commandText, result));
+        } catch (RejectedExecutionException e) {
+            logger.warning("Command received after shut down: " + commandText);
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private void runCommand(String commandText, CompletableFuture<CommandResult> result) {
+        CommandResult commandResult = null;
+        Exception failure = null;
+        try {
+            commandResult = logic.execute(commandText);
+        } catch (CommandException | ParseException e) {
+            failure = e;
+        } catch (RuntimeException e) {
+            logger.warning("Unexpected error while executing " + commandText + ": " + e);
+            failure = e;
+        }
+
+        List<Runnable> updates = takeUpdates();
+        CommandResult finalCommandResult = commandResult;
+        Exception finalFailure = failure;
+        fxThreadExecutor.accept(() -> {
+            updates.forEach(Runnable::run);
+            if (finalFailure != null) {
+                result.completeExceptionally(finalFailure);
+            } else {
+                result.complete(finalCommandResult);
+            }
+        });
+    }
+
+    private List<Runnable> takeUpdates() {
+        List<Runnable> updates = new ArrayList<>();
+        filteredPersonList.takeUpdate().ifPresent(updates::add);
+        Optional<Runnable> filteredMeetingListUpdate = filteredMeetingList.takeUpdate();
+        // the attendees are published first, so that the meeting cards shown by the list update see them
+        takeAttendeeNamesUpdate(filteredMeetingListUpdate.isPresent()).ifPresent(updates::add);
+        filteredMeetingListUpdate.ifPresent(updates::add);
+        allMeetingList.takeUpdate().ifPresent(updates::add);
+        timetableStartDate.takeUpdate().ifPresent(updates::add);
+        return updates;
+    }
+
+    /**
+     * Returns the update that publishes a new snapshot of the attendees of the filtered meetings, if the filtered
+     * meetings or the data the snapshot is drawn from changed since the last snapshot.
+     */
+    private Optional<Runnable> takeAttendeeNamesUpdate(boolean hasFilteredMeetingsChanged) {
+        long dataVersion = logic.getDataVersion();
+        if (!hasFilteredMeetingsChanged && dataVersion == attendeeNamesVersion) {
+            return Optional.empty();
+        }
+        attendeeNamesVersion = dataVersion;
+        Map<Meeting, List<String>> snapshot = snapshotAttendeeNames();
+        return Optional.of(() -> attendeeNames.set(snapshot));
+    }
+
+    private Map<Meeting, List<String>> snapshotAttendeeNames() {
+        Map<Meeting, List<String>> snapshot = new IdentityHashMap<>();
+        for (Meeting meeting : logic.getFilteredMeetingList()) {
+            List<String> names = meeting.getConnectionToPerson().stream()
+                    .map(person -> person.getName().fullName)
+                    .sorted()
+                    .collect(Collectors.toList());
+            if (!names.isEmpty()) {
+                snapshot.put(meeting, names);
+            }
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * Stops accepting commands and waits for the commands already submitted, and their saves, to finish.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Commands still running after " + SHUTDOWN_TIMEOUT_SECONDS + " seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Returns a mirror of {@link Logic#getFilteredPersonList()} for the JavaFX application thread. */
+    public ObservableList<Person> getFilteredPersonList() {
+        return filteredPersonList.getMirror();
+    }
+
+    /** Returns a mirror of {@link Logic#getFilteredMeetingList()} for the JavaFX application thread. */
+    public ObservableList<Meeting> getFilteredMeetingList() {
+        return filteredMeetingList.getMirror();
+    }
+
+    /** Returns a mirror of {@link Logic#getAllMeetingList()} for the JavaFX application thread. */
+    public ObservableList<Meeting> getAllMeetingList() {
+        return allMeetingList.getMirror();
+    }
+
+    /**
+     * Returns the sorted names of the attendees of each meeting of {@link #getFilteredMeetingList()} that has any,
+     * for the JavaFX application thread. Meetings are looked up by identity.
+     */
+    public ObservableValue<Map<Meeting, List<String>>> getAttendeeNames() {
+        return attendeeNames.getReadOnlyProperty();
+    }
+
+    /** Returns a mirror of {@link Logic#getTimeTableStartDate()} for the JavaFX application thread. */
+    public ObservableValue<LocalDate> getTimeTableStartDate() {
+        return timetableStartDate.getMirror();
+    }
+}
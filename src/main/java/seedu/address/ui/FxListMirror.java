@@ -0,0 +1,125 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of an {@code ObservableList} that is mutated on a background thread, for the UI to observe on the
+ * JavaFX application thread.
+ * Changes to the source are recorded as the ranges they replace. The thread that mutates the source later calls
+ * {@link #takeUpdate()}, and the returned update replays the recorded changes on the JavaFX application thread, so
+ * that the UI only redraws what changed. When the whole source is replaced, or too many changes were recorded, the
+ * update replaces the whole mirror instead.
+ */
+public class FxListMirror<T> {
+
+    /** The number of recorded changes beyond which the whole mirror is replaced instead. */
+    static final int MAX_RECORDED_CHANGES = 32;
+
+    private final ObservableList<T> source;
+    private final ObservableList<T> mirror;
+    private final ObservableList<T> unmodifiableMirror;
+
+    // only used on the thread that mutates the source
+    private final List<RangeChange<T>> recordedChanges = new ArrayList<>();
+    private boolean isReset = false;
+    /** The size of the source after the recorded changes. */
+    private int size;
+
+    /**
+     * Creates a mirror holding the current contents of {@code source}.
+     * Must be called before the source is mutated on another thread.
+     */
+    public FxListMirror(ObservableList<T> source) {
+        requireNonNull(source);
+        this.source = source;
+        this.mirror = FXCollections.observableArrayList(source);
+        this.unmodifiableMirror = FXCollections.unmodifiableObservableList(mirror);
+        this.size = source.size();
+        source.addListener(this::recordChange);
+    }
+
+    private void recordChange(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                // the elements are the same, only their contents changed
+                continue;
+            }
+            // a permutation is recorded as the replacement of the permuted range with its new order
+            int from = change.getFrom();
+            int removedSize = change.wasPermutated() ? change.getTo() - from : change.getRemovedSize();
+            int addedSize = change.wasPermutated() ? change.getTo() - from : change.getAddedSize();
+            boolean isWholeListReplaced = from == 0 && removedSize == size && size > 0;
+            size += addedSize - removedSize;
+            if (isReset) {
+                continue;
+            }
+            List<T> added = new ArrayList<>(change.getList().subList(from, from + addedSize));
+            recordedChanges.add(new RangeChange<>(from, removedSize, added));
+            if (isWholeListReplaced || recordedChanges.size() > MAX_RECORDED_CHANGES) {
+                recordedChanges.clear();
+                isReset = true;
+            }
+        }
+    }
+
+    /**
+     * Returns the update that brings the mirror up to date with the source, if the source changed since the last
+     * call. Must be called on the thread that mutates the source.
+     */
+    public Optional<Runnable> takeUpdate() {
+        if (isReset) {
+            isReset = false;
+            List<T> snapshot = new ArrayList<>(source);
+            return Optional.of(() -> mirror.setAll(snapshot));
+        }
+        if (recordedChanges.isEmpty()) {
+            return Optional.empty();
+        }
+        List<RangeChange<T>> changes = new ArrayList<>(recordedChanges);
+        recordedChanges.clear();
+        return Optional.of(() -> changes.forEach(change -> change.applyTo(mirror)));
+    }
+
+    /**
+     * Returns the mirror as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<T> getMirror() {
+        return unmodifiableMirror;
+    }
+
+    /**
+     * A change that replaces {@code removedSize} elements from {@code from} with the elements {@code added}.
+     */
+    private static class RangeChange<T> {
+        private final int from;
+        private final int removedSize;
+        private final List<T> added;
+
+        RangeChange(int from, int removedSize, List<T> added) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.added = added;
+        }
+
+        void applyTo(ObservableList<T> list) {
+            if (removedSize == 1 && added.size() == 1) {
+                list.set(from, added.get(0));
+                return;
+            }
+            if (removedSize > 0) {
+                list.remove(from, from + removedSize);
+            }
+            if (!added.isEmpty()) {
+                list.addAll(from, added);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.value.ObservableValue;
+
+/**
+ * A copy of an {@code ObservableValue} that is changed on a background thread, for the UI to observe on the
+ * JavaFX application thread. Works like {@link FxListMirror}.
+ */
+public class FxValueMirror<T> {
+
+    private final ObservableValue<T> source;
+    private final ReadOnlyObjectWrapper<T> mirror;
+
+    private volatile boolean isStale = false;
+
+    /**
+     * Creates a mirror holding the current value of {@code source}.
+     * Must be called before the source is changed on another thread.
+     */
+    public FxValueMirror(ObservableValue<T> source) {
+        requireNonNull(source);
+        this.source = source;
+        this.mirror = new ReadOnlyObjectWrapper<>(source.getValue());
+        source.addListener((observable, oldValue, newValue) -> isStale = true);
+    }
+
+    /**
+     * Returns the update that copies the current value of the source into the mirror, if the source changed since
+     * the last call. Must be called on the thread that changes the source.
+     */
+    public Optional<Runnable> takeUpdate() {
+        if (!isStale) {
+            return Optional.empty();
+        }
+        isStale = false;
+        T value = source.getValue();
+        return Optional.of(() -> mirror.set(value));
+    }
+
+    public ObservableValue<T> getMirror() {
+        return mirror.getReadOnlyProperty();
+    }
+}
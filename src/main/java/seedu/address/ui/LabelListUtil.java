@@ -0,0 +1,40 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Pane;
+
+/**
+ * Helper functions for panes that hold nothing but a row of {@code Label}s, such as the group labels of a card.
+ */
+public class LabelListUtil {
+
+    /**
+     * Makes the labels in {@code pane} show exactly {@code texts}, in order.
+     * Existing labels are kept and only relabelled where their text differs; labels are only created or removed
+     * when the number of texts changes. This lets a recycled card be rebound without rebuilding its labels.
+     */
+    public static void setLabelTexts(Pane pane, List<String> texts) {
+        requireNonNull(pane);
+        requireNonNull(texts);
+        ObservableList<Node> labels = pane.getChildren();
+        int numberToKeep = Math.min(labels.size(), texts.size());
+        for (int i = 0; i < numberToKeep; i++) {
+            Label label = (Label) labels.get(i);
+            if (!label.getText().equals(texts.get(i))) {
+                label.setText(texts.get(i));
+            }
+        }
+        if (labels.size() > texts.size()) {
+            labels.remove(texts.size(), labels.size());
+        }
+        for (int i = numberToKeep; i < texts.size(); i++) {
+            labels.add(new Label(texts.get(i)));
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -17,8 +19,6 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.meeting.Meeting;
 
 
@@ -29,11 +29,13 @@ import seedu.address.model.meeting.Meeting;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_REMINDER = "Reminder: %1$s starts at %2$s";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandRunner commandRunner;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
@@ -81,6 +83,7 @@ public class MainWindow extends UiPart<Stage> {
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandRunner = new CommandRunner(logic);
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -132,11 +135,13 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(commandRunner.getFilteredPersonList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.addReminderListener(reminder -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(String.format(
+                MESSAGE_REMINDER, reminder.getMeetingName(), reminder.getStartDate().toIsoFormatString()))));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(
                 logic.getAddressBookFilePath(),
@@ -147,12 +152,20 @@ public class MainWindow extends UiPart<Stage> {
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
-        ObservableList<Meeting> meetingObservableList = logic.getAllMeetingList();
-        TimetableView timetableView = new TimetableView(meetingObservableList, logic.getTimeTableStartDate());
-        timetableHolder.getChildren().add(timetableView.getRoot());
+        ObservableList<Meeting> meetingObservableList = commandRunner.getAllMeetingList();
+        if (logic.getGuiSettings().getTimetableRenderer() == GuiSettings.TimetableRenderer.CANVAS) {
+            CanvasTimetableView timetableView =
+                    new CanvasTimetableView(meetingObservableList, commandRunner.getTimeTableStartDate());
+            timetableHolder.getChildren().add(timetableView.getRoot());
+        } else {
+            TimetableView timetableView =
+                    new TimetableView(meetingObservableList, commandRunner.getTimeTableStartDate());
+            timetableHolder.getChildren().add(timetableView.getRoot());
+        }
 
         // Yuheng To Maurice: I made my modification to the logic so now you can add meetings into the UI.
-        meetingDashboard = new MeetingDashboard(logic.getFilteredMeetingList());
+        meetingDashboard = new MeetingDashboard(commandRunner.getFilteredMeetingList(),
+                commandRunner.getAttendeeNames());
         meetingDashboardPlaceholder.getChildren().add(meetingDashboard.getRoot());
     }
 
@@ -189,25 +202,41 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     private void handleExit() {
+        // commands still running are finished first, as they may change the user prefs too
+        commandRunner.shutdown();
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
-                (int) primaryStage.getX(), (int) primaryStage.getY());
+                (int) primaryStage.getX(), (int) primaryStage.getY(),
+                logic.getGuiSettings().getTimetableRenderer());
         logic.setGuiSettings(guiSettings);
         helpWindow.hide();
         primaryStage.hide();
     }
 
+    /**
+     * Stops accepting commands and waits for the commands still running, and their saves, to finish.
+     */
+    void stopCommands() {
+        commandRunner.shutdown();
+    }
+
     public PersonListPanel getPersonListPanel() {
         return personListPanel;
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command in the background and returns a future holding the result.
+     * The result display is updated on the JavaFX application thread once the command finishes.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return commandRunner.execute(commandText).whenComplete((commandResult, error) -> {
+            if (error != null) {
+                logger.info("Invalid command: " + commandText);
+                resultDisplay.setFeedbackToUser(error.getMessage());
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -218,12 +247,6 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        });
     }
 }
@@ -1,7 +1,11 @@
 package seedu.address.ui;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -19,7 +23,7 @@ import seedu.address.model.meeting.Meeting;
 public class MeetingCard extends UiPart<Region> {
     private static final String FXML = "MeetingCard.fxml";
 
-    public final Meeting meeting;
+    private Meeting meeting;
 
     @FXML
     private HBox meetingPane;
@@ -41,31 +45,54 @@ public class MeetingCard extends UiPart<Region> {
     private FlowPane personsRelated;
 
     /**
-     * Creates a {@code meetingCard} with the given {@code meeting} and index to display.
+     * Creates an empty {@code meetingCard}. Call {@link #bind(Meeting, int, List)} before displaying it.
      */
-    public MeetingCard(Meeting meeting, int displayedIndex) {
+    public MeetingCard() {
         super(FXML);
+    }
+
+    /**
+     * Creates a {@code meetingCard} with the given {@code meeting}, index and names of attendees to display.
+     */
+    public MeetingCard(Meeting meeting, int displayedIndex, List<String> attendeeNames) {
+        this();
+        bind(meeting, displayedIndex, attendeeNames);
+    }
+
+    /**
+     * Rebinds this card in place to display the given {@code meeting}, index and names of attendees, which are
+     * snapshotted where the model is changed, as the card must not read the connections of the meeting itself.
+     * Group and attendee labels are relabelled rather than rebuilt.
+     */
+    public void bind(Meeting meeting, int displayedIndex, List<String> attendeeNames) {
+        requireAllNonNull(meeting, attendeeNames);
         this.meeting = meeting;
         id.setText(displayedIndex + ". ");
         name.setText(meeting.getName().toString());
         LocalDateTime startDateTime = meeting.getStartLocalDateTime();
         LocalDateTime endDateTime = meeting.getTerminateLocalDateTime();
         startDate.setText(DateTimeUtil.prettyPrintFormatDateTime(startDateTime));
-        endDate.setText(DateTimeUtil.prettyPrintFormatDateTime(endDateTime));
+        endDate.setText(DateTimeUtil.prettyPrintFormatDateTime(endDateTime)
+                + meeting.getRecurrence().map(recurrence -> " (repeats " + recurrence.toDisplayString() + ")")
+                        .orElse(""));
         description.setText(meeting.getDescription().toString());
         priority.setText(meeting.getPriority().toString());
-        meeting.getGroups().stream()
-                .sorted(Comparator.comparing(tag -> tag.groupName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.groupName)));
+        LabelListUtil.setLabelTexts(tags, meeting.getGroups().stream()
+                .map(tag -> tag.groupName)
+                .sorted()
+                .collect(Collectors.toList()));
 
         // Only when the person meeting connection exist then it will be shown on the meeting card.
-        if (!meeting.getConnectionToPerson().isEmpty()) {
-            personsRelated.getChildren().add(new Label("People Attending:"));
-            meeting.getConnectionToPerson().stream()
-                    .sorted(Comparator.comparing(person -> person.getName().fullName))
-                    .forEach(person -> personsRelated.getChildren()
-                            .add(new Label("  [" + person.getName().fullName + "]")));
+        List<String> personsRelatedTexts = new ArrayList<>();
+        if (!attendeeNames.isEmpty()) {
+            personsRelatedTexts.add("People Attending:");
+            attendeeNames.forEach(personName -> personsRelatedTexts.add("  [" + personName + "]"));
         }
+        LabelListUtil.setLabelTexts(personsRelated, personsRelatedTexts);
+    }
+
+    public Meeting getMeeting() {
+        return meeting;
     }
 
     @Override
@@ -1,7 +1,10 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -22,19 +25,28 @@ public class MeetingDashboard extends UiPart<Region> {
     @FXML
     private ListView<Meeting> meetingListView;
 
+    private final ObservableValue<Map<Meeting, List<String>>> attendeeNames;
+
     /**
-     * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * Creates a {@code MeetingDashboard} with the given {@code ObservableList}, whose meetings are shown with the
+     * names of their attendees in {@code attendeeNames}.
      */
-    public MeetingDashboard(ObservableList<Meeting> meetingObservableList) {
+    public MeetingDashboard(ObservableList<Meeting> meetingObservableList,
+                            ObservableValue<Map<Meeting, List<String>>> attendeeNames) {
         super(FXML);
+        this.attendeeNames = attendeeNames;
         meetingListView.setItems(meetingObservableList);
         meetingListView.setCellFactory(listView -> new MeetingListViewCell());
+        attendeeNames.addListener((observable, oldNames, newNames) -> meetingListView.refresh());
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Meeting} using a {@code MeetingCard}.
+     * Each cell owns a single card that is rebound whenever the cell is given a different meeting.
      */
     class MeetingListViewCell extends ListCell<Meeting> {
+        private MeetingCard meetingCard;
+
         @Override
         protected void updateItem(Meeting meeting, boolean empty) {
             super.updateItem(meeting, empty);
@@ -43,7 +55,11 @@ public class MeetingDashboard extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new MeetingCard(meeting, getIndex() + 1).getRoot());
+                if (meetingCard == null) {
+                    meetingCard = new MeetingCard();
+                }
+                meetingCard.bind(meeting, getIndex() + 1, attendeeNames.getValue().getOrDefault(meeting, List.of()));
+                setGraphic(meetingCard.getRoot());
             }
         }
     }
@@ -1,6 +1,8 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import static java.util.Objects.requireNonNull;
+
+import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -29,7 +31,9 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
+
+    private Image displayedPicture;
 
     @FXML
     private HBox cardPane;
@@ -48,34 +52,74 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private Circle circle;
 
+    /**
+     * Creates an empty {@code PersonCard}. Call {@link #bind(Person, int)} before displaying it.
+     */
+    public PersonCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code PersonCard} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        bind(person, displayedIndex);
+    }
+
+    /**
+     * Rebinds this card in place to display the given {@code Person} and index.
+     * Group labels are relabelled rather than rebuilt, and the profile picture fill is only replaced when the
+     * picture changes.
+     */
+    public void bind(Person person, int displayedIndex) {
+        requireNonNull(person);
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
-        person.getGroups().stream()
-                .sorted(Comparator.comparing(tag -> tag.groupName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.groupName)));
+        LabelListUtil.setLabelTexts(tags, person.getGroups().stream()
+                .map(tag -> tag.groupName)
+                .sorted()
+                .collect(Collectors.toList()));
         setUpProfilePicture(person);
     }
 
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Fills the profile picture circle with the picture of the given person, or blue if there is none.
+     * A picture still being fetched is shown once it has loaded, unless the card shows another person by then.
+     */
     public void setUpProfilePicture(Person person) {
-        Image image;
         ProfilePicture profilePicture = person.getProfilePicture();
-        if (person.getProfilePicture() != null) {
-            image = profilePicture.picture;
-            circle.setFill(new ImagePattern(image));
-        } else {
+        Image image = profilePicture == null ? null : profilePicture.picture;
+        if (image != null && image == displayedPicture) {
+            return;
+        }
+        displayedPicture = image;
+        if (image == null) {
+            circle.setFill(Color.BLUE);
+        } else if (image.getProgress() < 1) {
             circle.setFill(Color.BLUE);
+            image.progressProperty().addListener((observable, oldProgress, newProgress) -> {
+                if (newProgress.doubleValue() >= 1 && image == displayedPicture) {
+                    fillWithPicture(image);
+                }
+            });
+        } else {
+            fillWithPicture(image);
         }
     }
 
+    private void fillWithPicture(Image image) {
+        circle.setFill(image.isError() ? Color.BLUE : new ImagePattern(image));
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -0,0 +1,172 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.parser.DateTimeUtil;
+import seedu.address.model.schedule.Schedulable;
+
+/**
+ * Computes where every slot of a week goes on the {@code CanvasTimetableView}, using a
+ * {@code TimetablePlacementPolicy} for the geometry, and answers hit-tests against the computed slots.
+ * The layout only depends on the data and the policy, so it is computed once per data or week change and
+ * reused for every repaint, hover and click.
+ */
+public class TimetableCanvasLayout {
+
+    private final List<List<SlotGeometry>> columns = new ArrayList<>();
+    /** The length of the longest slot in each column, which bounds how far back a hit-test has to look. */
+    private final double[] longestLengths = new double[TimetablePlacementPolicy.NUMBER_OF_COLUMNS];
+    private int numberOfSlots = 0;
+
+    /**
+     * Lays out the given schedulables according to the given placement policy.
+     * Schedulables outside the range of the policy are left out, repeating ones are laid out once for each of their
+     * occurrences in range, and those spanning several days are broken into one slot per day.
+     */
+    public TimetableCanvasLayout(List<? extends Schedulable> schedulables, TimetablePlacementPolicy policy) {
+        requireNonNull(schedulables);
+        requireNonNull(policy);
+        for (int i = 0; i < TimetablePlacementPolicy.NUMBER_OF_COLUMNS; i++) {
+            columns.add(new ArrayList<>());
+        }
+        List<Schedulable> occurrences = schedulables.stream()
+                .flatMap(policy::getOccurrencesInRange)
+                .collect(Collectors.toList());
+        for (Schedulable occurrence : occurrences) {
+            policy.breakIntoDayUnits(occurrence).forEach(dayUnit -> {
+                int column = policy.getColumnPlacement(dayUnit).ordinal();
+                double length = policy.getLengthOfSlot(dayUnit);
+                columns.get(column).add(new SlotGeometry(occurrence, column,
+                        policy.getVerticalPosition(dayUnit), length, getHeader(dayUnit)));
+                longestLengths[column] = Math.max(longestLengths[column], length);
+                numberOfSlots++;
+            });
+        }
+        for (List<SlotGeometry> column : columns) {
+            column.sort(Comparator.comparingDouble(SlotGeometry::getTop));
+        }
+    }
+
+    /**
+     * Given the schedulable object, returns a nice header consisting of the name, followed by the timestamp below
+     * (h:mm a - h:mm a)
+     */
+    public static String getHeader(Schedulable schedulable) {
+        LocalTime startTime = schedulable.getStartLocalDateTime().toLocalTime();
+        LocalTime endTime = schedulable.getTerminateLocalDateTime().toLocalTime();
+        return schedulable.getNameString()
+                + "\n"
+                + DateTimeUtil.prettyPrintFormatLocalTime(startTime)
+                + " - "
+                + DateTimeUtil.prettyPrintFormatLocalTime(endTime);
+    }
+
+    /**
+     * Returns the slots in the given column (0 to 6), sorted by their vertical position.
+     */
+    public List<SlotGeometry> getSlotsInColumn(int column) {
+        return Collections.unmodifiableList(columns.get(column));
+    }
+
+    /**
+     * Returns the total number of slots in this layout.
+     */
+    public int getNumberOfSlots() {
+        return numberOfSlots;
+    }
+
+    /**
+     * Returns the slot covering the vertical position {@code y} of the given column, if any.
+     * The slots of a column are sorted by their top, so the lookup is a binary search followed by a look back over
+     * only the slots starting within the longest slot's length above {@code y}.
+     */
+    public Optional<SlotGeometry> hitTest(int column, double y) {
+        if (column < 0 || column >= columns.size()) {
+            return Optional.empty();
+        }
+        List<SlotGeometry> slots = columns.get(column);
+        int low = 0;
+        int high = slots.size() - 1;
+        int lastStartingAbove = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (slots.get(mid).getTop() <= y) {
+                lastStartingAbove = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        // a slot starting further above than the longest slot's length cannot reach down to y
+        double earliestTop = y - longestLengths[column];
+        for (int i = lastStartingAbove; i >= 0 && slots.get(i).getTop() >= earliestTop; i--) {
+            if (slots.get(i).contains(y)) {
+                return Optional.of(slots.get(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * The position of one slot in the timetable.
+     */
+    public static class SlotGeometry {
+        private final Schedulable source;
+        private final int column;
+        private final double top;
+        private final double length;
+        private final String header;
+
+        /**
+         * Every field must be present and not null.
+         */
+        public SlotGeometry(Schedulable source, int column, double top, double length, String header) {
+            requireNonNull(source);
+            requireNonNull(header);
+            this.source = source;
+            this.column = column;
+            this.top = top;
+            this.length = length;
+            this.header = header;
+        }
+
+        /**
+         * Returns the schedulable, or the occurrence of a repeating one, this slot was cut from. All slots of a
+         * multi-day schedulable share it.
+         */
+        public Schedulable getSource() {
+            return source;
+        }
+
+        public int getColumn() {
+            return column;
+        }
+
+        public double getTop() {
+            return top;
+        }
+
+        public double getLength() {
+            return length;
+        }
+
+        public String getHeader() {
+            return header;
+        }
+
+        /**
+         * Returns true if the vertical position {@code y} lies within this slot.
+         */
+        public boolean contains(double y) {
+            return y >= top && y <= top + length;
+        }
+    }
+}
@@ -87,6 +87,17 @@ public class TimetablePlacementPolicy {
                 || startTimeOfSchedulable.compareTo(endDateTime) >= 0);
     }
 
+    /**
+     * Returns the occurrences of a schedulable that lie within the range of the timetable. A schedulable that does
+     * not repeat is its only occurrence.
+     *
+     * @param schedulable
+     * @return
+     */
+    public Stream<? extends Schedulable> getOccurrencesInRange(Schedulable schedulable) {
+        return schedulable.getOccurrencesBetween(startDateTime, endDateTime).stream();
+    }
+
     /**
      * Gets the column to put a schedulable in.
      * The schedulable start date must lie within the timetable Range.
@@ -1,43 +1,80 @@
 package seedu.address.ui;
 
-import javafx.fxml.FXML;
+import javafx.geometry.Pos;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
 
 /**
  * Renders a slot in the timetable.
+ * The node tree is built in code rather than loaded from FXML, so that slots are cheap to create and can be
+ * recycled by a {@code TimetableSlotPool} across redraws. Only the size and the header text are rebound.
  */
-public class TimetableSlot extends UiPart<Region> {
-    private static final String FXML = "TimetableSlot.fxml";
+public class TimetableSlot implements TimetableSlotPool.Rebindable {
+    public static final String SLOT_STYLE_CLASS = "meeting-slot-background";
+    public static final String HEADER_STYLE_CLASS = "meetingslotheader";
 
-    private final double slotLength;
+    /** Slots shorter than this (in pixels) do not show their header, to prevent overflow of text. */
+    public static final double MINIMUM_LENGTH_FOR_HEADER = 13;
 
-    @FXML
-    private StackPane meetingSlot;
-    @FXML
-    private Label meetingLabel;
+    private static final Color HEADER_COLOR = Color.web("#496160");
+    private static final Font HEADER_FONT = Font.font("Arial Black", 13.0);
 
+    private final StackPane meetingSlot;
+    private final Label meetingLabel;
+
+    private double slotLength;
+
+    /**
+     * Constructs an empty slot. Call {@link #rebind(double, String)} before displaying it.
+     */
+    public TimetableSlot() {
+        meetingLabel = new Label();
+        meetingLabel.getStyleClass().add(HEADER_STYLE_CLASS);
+        meetingLabel.setTextFill(HEADER_COLOR);
+        meetingLabel.setFont(HEADER_FONT);
+        meetingLabel.setWrapText(true);
+
+        meetingSlot = new StackPane(meetingLabel);
+        meetingSlot.setAlignment(Pos.TOP_CENTER);
+        meetingSlot.getStyleClass().add(SLOT_STYLE_CLASS);
+    }
 
     /**
      * Constructs the Ui for the slot given the (pixel) length of the slot and the header string.
      * @param slotLength
      * @param header
      */
-
     public TimetableSlot(double slotLength, String header) {
-        super(FXML);
+        this();
+        rebind(slotLength, header);
+    }
+
+    /**
+     * Rebinds this slot to a new (pixel) length and header string, reusing the existing nodes.
+     */
+    @Override
+    public void rebind(double slotLength, String header) {
         this.slotLength = slotLength;
-        if (slotLength < 13) {
-            this.meetingLabel.setText(""); // Prevent overflow of text
+        if (slotLength < MINIMUM_LENGTH_FOR_HEADER) {
+            meetingLabel.setText(""); // Prevent overflow of text
         } else {
-            this.meetingLabel.setText(header);
+            meetingLabel.setText(header);
         }
         meetingSlot.setPrefHeight(slotLength);
         meetingSlot.setMinHeight(slotLength);
         meetingSlot.setMaxHeight(slotLength);
     }
 
+    /**
+     * Returns the root node of this slot.
+     */
+    public Region getRoot() {
+        return meetingSlot;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj == null) {
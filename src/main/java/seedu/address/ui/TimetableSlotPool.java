@@ -0,0 +1,72 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Keeps a pool of timetable slots so that redrawing the timetable (e.g. on a week change) rebinds
+ * existing slot nodes instead of creating a new node tree for every meeting fragment.
+ * The pool grows to the largest number of slots shown at once and never shrinks.
+ */
+public class TimetableSlotPool<T extends TimetableSlotPool.Rebindable> {
+
+    private final Supplier<T> slotFactory;
+    private final Deque<T> freeSlots = new ArrayDeque<>();
+    private final List<T> slotsInUse = new ArrayList<>();
+
+    /**
+     * Creates an empty pool that makes new slots with {@code slotFactory} when none are free.
+     */
+    public TimetableSlotPool(Supplier<T> slotFactory) {
+        requireNonNull(slotFactory);
+        this.slotFactory = slotFactory;
+    }
+
+    /**
+     * Returns a slot bound to the given (pixel) length and header, reusing a free slot if there is one.
+     */
+    public T acquire(double slotLength, String header) {
+        T slot = freeSlots.isEmpty() ? slotFactory.get() : freeSlots.pop();
+        slot.rebind(slotLength, header);
+        slotsInUse.add(slot);
+        return slot;
+    }
+
+    /**
+     * Returns every slot handed out since the last release back to the pool.
+     * The caller must have detached the slots from the scene graph.
+     */
+    public void releaseAll() {
+        freeSlots.addAll(slotsInUse);
+        slotsInUse.clear();
+    }
+
+    /**
+     * Returns the number of slots currently handed out.
+     */
+    public int getNumberOfSlotsInUse() {
+        return slotsInUse.size();
+    }
+
+    /**
+     * Returns the total number of slots created by this pool.
+     */
+    public int getPoolSize() {
+        return slotsInUse.size() + freeSlots.size();
+    }
+
+    /**
+     * A slot whose contents can be replaced, so that it can be handed out again.
+     */
+    public interface Rebindable {
+        /**
+         * Rebinds this slot to a new (pixel) length and header string.
+         */
+        void rebind(double slotLength, String header);
+    }
+}
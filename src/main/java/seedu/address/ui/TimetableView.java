@@ -3,7 +3,6 @@ package seedu.address.ui;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
-import java.time.LocalTime;
 import java.util.List;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -87,6 +86,8 @@ public class TimetableView extends UiPart<Region> {
      */
     private TimetablePlacementPolicy timetablePlacementPolicy;
 
+    private final TimetableSlotPool<TimetableSlot> timetableSlotPool = new TimetableSlotPool<>(TimetableSlot::new);
+
     private ObservableList<? extends Schedulable> schedulables;
 
     private ObservableValue<LocalDate> firstDayOfTimetable;
@@ -94,7 +95,9 @@ public class TimetableView extends UiPart<Region> {
     private final ListChangeListener<Schedulable> meetingsListener = change -> {
         while (change.next()) {
             if (change.wasAdded() || change.wasRemoved()) {
+                // A batched change may hold many sub-changes, but one redraw covers all of them.
                 this.populateWithData(change.getList());
+                return;
             }
         }
     };
@@ -167,6 +170,7 @@ public class TimetableView extends UiPart<Region> {
      */
     private List<? extends Schedulable> splitByDaysAndFilter(List<? extends Schedulable> schedulables) {
         return schedulables.stream()
+                .flatMap(timetablePlacementPolicy::getOccurrencesInRange)
                 .filter(timetablePlacementPolicy ::isWithinRange)
                 .flatMap(timetablePlacementPolicy :: breakIntoDayUnits)
                 .collect(Collectors.toList());
@@ -176,13 +180,14 @@ public class TimetableView extends UiPart<Region> {
 
     /**
      * Returns a timetable slot of the appropriate dimensions and header to insert into the timetable.
+     * The slot is taken from the slot pool, and is returned to it on the next {@link #resetColumns()}.
      * @param schedulable
      * @return
      */
     public TimetableSlot createTimetableSlot(Schedulable schedulable) {
         double slotLength = timetablePlacementPolicy.getLengthOfSlot(schedulable);
         String header = getHeader(schedulable);
-        return new TimetableSlot(slotLength, header);
+        return timetableSlotPool.acquire(slotLength, header);
     }
 
 
@@ -194,13 +199,7 @@ public class TimetableView extends UiPart<Region> {
      */
 
     public String getHeader(Schedulable schedulable) {
-        LocalTime startTime = schedulable.getStartLocalDateTime().toLocalTime();
-        LocalTime endTime = schedulable.getTerminateLocalDateTime().toLocalTime();
-        return schedulable.getNameString()
-                + "\n"
-                + DateTimeUtil.prettyPrintFormatLocalTime(startTime)
-                + " - "
-                + DateTimeUtil.prettyPrintFormatLocalTime(endTime);
+        return TimetableCanvasLayout.getHeader(schedulable);
     }
 
 
@@ -255,11 +254,11 @@ public class TimetableView extends UiPart<Region> {
         scheduleToPut.setLeftAnchor(timetableSlot.getRoot(), 0.0);
         scheduleToPut.setRightAnchor(timetableSlot.getRoot(), 0.0);
 
-        scheduleToPut.getChildren().addAll(timetableSlot.getRoot());
+        scheduleToPut.getChildren().add(timetableSlot.getRoot());
     }
 
     /**
-     * resets to an empty timetable.
+     * resets to an empty timetable. All slots currently displayed are returned to the slot pool.
      */
     public void resetColumns() {
         dayScheduleOne.getChildren().clear();
@@ -269,6 +268,7 @@ public class TimetableView extends UiPart<Region> {
         dayScheduleFive.getChildren().clear();
         dayScheduleSix.getChildren().clear();
         dayScheduleSeven.getChildren().clear();
+        timetableSlotPool.releaseAll();
     }
 
     /**
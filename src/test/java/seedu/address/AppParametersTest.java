@@ -1,8 +1,11 @@
 package seedu.address;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -37,8 +40,46 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_scriptPath_success() {
+        parametersStub.namedParameters.put("script", "setup.txt");
+        expected.setScriptPath(Paths.get("setup.txt"));
+        expected.setScriptOutputPath(Paths.get("setup.txt.out"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        parametersStub.namedParameters.put("script-output", "setup.log");
+        parametersStub.unnamedParameters.add("--continue");
+        expected.setScriptOutputPath(Paths.get("setup.log"));
+        expected.setContinuingOnError(true);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidScriptPath_noScript() {
+        parametersStub.namedParameters.put("script", "a\0");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_rawArgs_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setHeadless(true);
+        expected.setPort(4000);
+        assertEquals(expected, AppParameters.parse(List.of("--config=config.json", "--headless", "--port=4000")));
+        assertTrue(AppParameters.parse(List.of("--script=setup.txt")).isHeadless());
+        assertFalse(AppParameters.parse(List.of()).isHeadless());
+    }
+
+    @Test
+    public void parse_invalidPort_readFromStandardInput() {
+        expected.setHeadless(true);
+        assertEquals(expected, AppParameters.parse(List.of("--headless", "--port=70000")));
+        assertEquals(expected, AppParameters.parse(List.of("--headless", "--port=abc")));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
+        private List<String> unnamedParameters = new ArrayList<>();
 
         @Override
         public List<String> getRaw() {
@@ -47,7 +88,7 @@ public class AppParametersTest {
 
         @Override
         public List<String> getUnnamed() {
-            throw new AssertionError("should not be called");
+            return Collections.unmodifiableList(unnamedParameters);
         }
 
         @Override
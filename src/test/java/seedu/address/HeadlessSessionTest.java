@@ -0,0 +1,108 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.meetings.MeetingStatsCommand;
+import seedu.address.logic.commands.persons.ListPersonCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.addressbook.JsonAddressBookStorage;
+import seedu.address.storage.connection.JsonConnectionStorage;
+import seedu.address.storage.meetingbook.JsonMeetingBookStorage;
+import seedu.address.storage.notebook.JsonNoteBookStorage;
+
+public class HeadlessSessionTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model;
+    private HeadlessSession session;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        session = new HeadlessSession(new LogicManager(model, makeStorage()));
+    }
+
+    private StorageManager makeStorage() {
+        return new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonMeetingBookStorage(temporaryFolder.resolve("meetingBook.json")),
+                new JsonNoteBookStorage(temporaryFolder.resolve("noteBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonConnectionStorage(temporaryFolder.resolve("connections.json")));
+    }
+
+    @Test
+    public void run_commands_resultsWithStatus() throws Exception {
+        String output = run("addp n/Amy Bee\n\nunknown\nlistp\n");
+        String[] lines = output.split("\\R");
+        assertEquals(HeadlessSession.STATUS_OK + " 1", lines[0]);
+        assertTrue(lines[1].startsWith("New person added: Amy Bee"));
+        assertEquals(HeadlessSession.STATUS_ERROR + " 1", lines[2]);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, lines[3]);
+        assertEquals(HeadlessSession.STATUS_OK + " 1", lines[4]);
+        assertEquals(ListPersonCommand.MESSAGE_SUCCESS, lines[5]);
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertEquals(3, session.getCommandCount());
+        assertTrue(session.getThroughput() > 0);
+    }
+
+    @Test
+    public void run_unexpectedError_sessionContinues() throws Exception {
+        Model failingModel = new ModelManager() {
+            @Override
+            public void addPerson(Person person) {
+                throw new IllegalStateException("Failed to add");
+            }
+        };
+        session = new HeadlessSession(new LogicManager(failingModel, makeStorage()));
+
+        String[] lines = run("addp n/Amy Bee\nlistp\n").split("\\R");
+        assertEquals(HeadlessSession.STATUS_ERROR + " 1", lines[0]);
+        assertEquals("Failed to add", lines[1]);
+        assertEquals(HeadlessSession.STATUS_OK + " 1", lines[2]);
+        assertEquals(2, session.getCommandCount());
+    }
+
+    @Test
+    public void run_exit_restNotRun() throws Exception {
+        String output = run("exit\naddp n/Amy Bee\n");
+        assertEquals(HeadlessSession.STATUS_OK + " 1" + System.lineSeparator()
+                + ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + System.lineSeparator(), output);
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void run_multilineResult_lineCountGiven() throws Exception {
+        run("addm n/Review st/2021-03-03 10:00 ed/2021-03-03 11:00\n");
+        String[] lines = run("stats st/2021-03-01 ed/2021-03-07\n").split("\\R");
+        assertEquals(HeadlessSession.STATUS_OK + " 2", lines[0]);
+        assertEquals(String.format(MeetingStatsCommand.MESSAGE_TOTAL, "2021-03-01", "2021-03-07", "1h"), lines[1]);
+        assertEquals(3, lines.length);
+    }
+
+    private String run(String input) throws Exception {
+        StringWriter output = new StringWriter();
+        session.run(new BufferedReader(new StringReader(input)), new PrintWriter(output));
+        return output.toString();
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchableObservableListTest {
+
+    private final BatchableObservableList<String> list = new BatchableObservableList<>(Arrays.asList("a", "b", "c"));
+    private final List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        list.addListener((ListChangeListener<String>) changes::add);
+    }
+
+    @Test
+    public void mutation_outsideBatch_notifiesEveryChange() {
+        list.add("d");
+        list.remove("a");
+        assertEquals(2, changes.size());
+        assertEquals(Arrays.asList("b", "c", "d"), list);
+    }
+
+    @Test
+    public void mutation_insideBatch_notifiesOnceAtEnd() {
+        list.beginBatch();
+        list.add("d");
+        list.set(0, "e");
+        list.remove("b");
+        assertEquals(0, changes.size());
+        list.endBatch();
+
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList("e", "c", "d"), list);
+    }
+
+    @Test
+    public void mutation_nestedBatches_notifiesOnceAtOutermostEnd() {
+        list.beginBatch();
+        list.beginBatch();
+        list.add("d");
+        list.endBatch();
+        list.remove("a");
+        assertEquals(0, changes.size());
+        list.endBatch();
+
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void endBatch_withoutBeginBatch_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, list::endBatch);
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class FuzzyWordIndexTest {
+
+    private final FuzzyWordIndex<String> index = new FuzzyWordIndex<>(name -> Arrays.asList(name.split(" ")), false);
+
+    @Test
+    public void findItemsNear_invalidKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.findItemsNear(" ", 1));
+        assertThrows(IllegalArgumentException.class, () -> index.findItemsNear("two words", 1));
+        assertThrows(IllegalArgumentException.class, () -> index.findItemsNear("word", -1));
+    }
+
+    @Test
+    public void findItemsNear_matchesNaiveScan() {
+        List<String> names = Arrays.asList("Alice Pauline", "Benson Meier", "Carl Kurz", "Daniel Meier", "Elle Meyer",
+                "Fiona Kunz", "George Best", "Hoon Meier", "Ida Mueller", "Alicia Keys", "Alex Yeoh");
+        index.setItems(names);
+        for (String keyword : Arrays.asList("meyer", "Alise", "kurtz", "Best", "x", "Muller", "alx")) {
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                assertEquals(scan(names, keyword, maxDistance), index.findItemsNear(keyword, maxDistance));
+            }
+        }
+    }
+
+    @Test
+    public void findItemsNear_ignoresCase() {
+        index.add("Elle Meyer");
+        assertEquals(Map.of("Elle Meyer", 0), index.findItemsNear("MEYER", 0));
+    }
+
+    @Test
+    public void remove_itemNoLongerFound() {
+        index.add("Benson Meier");
+        index.add("Daniel Meier");
+        index.remove("Benson Meier");
+        assertEquals(Map.of("Daniel Meier", 1), index.findItemsNear("Meyer", 1));
+
+        index.remove("Daniel Meier");
+        assertTrue(index.findItemsNear("Meier", 3).isEmpty());
+        // the tree is rebuilt once most of its words are unused
+        assertEquals(0, index.getNumberOfWordsInTree());
+
+        index.add("Daniel Meier");
+        assertEquals(Map.of("Daniel Meier", 0), index.findItemsNear("Daniel", 0));
+    }
+
+    private static Map<String, Integer> scan(List<String> names, String keyword, int maxDistance) {
+        Map<String, Integer> matches = new HashMap<>();
+        for (String name : names) {
+            for (String word : name.split(" ")) {
+                int distance = StringUtil.editDistance(StringUtil.foldCase(keyword), StringUtil.foldCase(word));
+                if (distance <= maxDistance) {
+                    matches.merge(name, distance, Math::min);
+                }
+            }
+        }
+        return matches;
+    }
+}
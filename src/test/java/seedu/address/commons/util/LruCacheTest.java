@@ -0,0 +1,47 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class LruCacheTest {
+
+    private final LruCache<String, Integer> cache = new LruCache<>(2);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LruCache<String, Integer>(0));
+    }
+
+    @Test
+    public void put_full_evictsLeastRecentlyUsed() {
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a"); // b is now the least recently used
+        cache.put("c", 3);
+        assertEquals(Optional.of(1), cache.get("a"));
+        assertFalse(cache.get("b").isPresent());
+        assertEquals(Optional.of(3), cache.get("c"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void put_existingKey_replacesValue() {
+        cache.put("a", 1);
+        cache.put("a", 2);
+        assertEquals(Optional.of(2), cache.get("a"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void clear_removesEveryEntry() {
+        cache.put("a", 1);
+        cache.clear();
+        assertFalse(cache.get("a").isPresent());
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class SortKeyTest {
+
+    @Test
+    public void ofText_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> SortKey.ofText(null));
+    }
+
+    @Test
+    public void compareTo_text_ignoresCase() {
+        assertEquals(0, SortKey.ofText("Alice Pauline").compareTo(SortKey.ofText("alice PAULINE")));
+        assertTrue(SortKey.ofText("alice").compareTo(SortKey.ofText("Bob")) < 0);
+        assertTrue(SortKey.ofText("BOB").compareTo(SortKey.ofText("alice")) > 0);
+        assertEquals(SortKey.ofText("Meier"), SortKey.ofText("MEIER"));
+    }
+
+    @Test
+    public void compareTo_numbers_comparedNumerically() {
+        assertTrue(SortKey.ofNumber(9).compareTo(SortKey.ofNumber(10)) < 0);
+        assertTrue(SortKey.ofNumber(-1).compareTo(SortKey.ofNumber(-2)) > 0);
+        assertEquals(0, SortKey.ofNumber(3).compareTo(SortKey.ofNumber(3)));
+    }
+
+    @Test
+    public void compareTo_numberAndText_numberFirst() {
+        assertTrue(SortKey.ofNumber(Long.MAX_VALUE).compareTo(SortKey.ofText("")) < 0);
+        assertTrue(SortKey.ofText("").compareTo(SortKey.ofNumber(Long.MIN_VALUE)) > 0);
+    }
+}
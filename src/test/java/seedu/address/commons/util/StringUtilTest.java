@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,41 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_equalIgnoringCase_sameFoldedForm() {
+        assertEquals(StringUtil.foldCase("aBc"), StringUtil.foldCase("AbC"));
+        // Kelvin sign is equalsIgnoreCase to k
+        assertEquals(StringUtil.foldCase("\u212A"), StringUtil.foldCase("k"));
+        assertFalse(StringUtil.foldCase("abc").equals(StringUtil.foldCase("abd")));
+    }
+
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null));
+    }
+
+    @Test
+    public void editDistance() {
+        assertEquals(0, StringUtil.editDistance("", ""));
+        assertEquals(3, StringUtil.editDistance("", "abc"));
+        assertEquals(0, StringUtil.editDistance("alice", "alice"));
+        assertEquals(1, StringUtil.editDistance("alice", "alise")); // substitution
+        assertEquals(1, StringUtil.editDistance("alice", "alce")); // deletion
+        assertEquals(1, StringUtil.editDistance("alice", "allice")); // insertion
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+        assertEquals(StringUtil.editDistance("sitting", "kitten"), StringUtil.editDistance("kitten", "sitting"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
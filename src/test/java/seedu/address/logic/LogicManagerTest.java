@@ -6,12 +6,15 @@ import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.persons.PersonCommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.address.logic.commands.persons.PersonCommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.persons.PersonCommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.persons.PersonCommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.persons.PersonCommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -105,6 +108,26 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void runScript_validScript_savedOnce() throws Exception {
+        JsonAddressBookSaveCountingStub addressBookStorage =
+                new JsonAddressBookSaveCountingStub(temporaryFolder.resolve("scriptAddressBook.json"));
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonMeetingBookStorage(temporaryFolder.resolve("scriptMeetingBook.json")),
+                new JsonNoteBookStorage(temporaryFolder.resolve("scriptNoteBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("scriptUserPrefs.json")),
+                new JsonConnectionStorage(temporaryFolder.resolve("scriptConnections.json")));
+        logic = new LogicManager(model, storage);
+
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(AddPersonCommand.COMMAND_WORD + NAME_DESC_AMY,
+                AddPersonCommand.COMMAND_WORD + NAME_DESC_BOB));
+        logic.runScript(scriptPath, temporaryFolder.resolve("script.out"), false);
+
+        assertEquals(1, addressBookStorage.saveCount);
+        assertEquals(2, storage.readAddressBook().get().getPersonList().size());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -168,6 +191,23 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * A stub class to count the calls to the save method.
+     */
+    private static class JsonAddressBookSaveCountingStub extends JsonAddressBookStorage {
+        private int saveCount = 0;
+
+        private JsonAddressBookSaveCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
     /**
      * A stub class to throw an {@code IOException} when the save method is called.
      */
@@ -0,0 +1,161 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.persons.PersonCommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.persons.PersonCommandTestUtil.NAME_DESC_BOB;
+import static seedu.address.logic.commands.persons.PersonCommandTestUtil.VALID_NAME_AMY;
+import static seedu.address.logic.commands.persons.PersonCommandTestUtil.VALID_NAME_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.persons.AddPersonCommand;
+import seedu.address.logic.commands.persons.ListPersonCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+
+public class RunScriptCommandTest {
+
+    private static final String ADD_AMY = AddPersonCommand.COMMAND_WORD + NAME_DESC_AMY;
+    private static final String ADD_BOB = AddPersonCommand.COMMAND_WORD + NAME_DESC_BOB;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Path scriptPath;
+    private Path outputPath;
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        scriptPath = temporaryFolder.resolve("script.txt");
+        outputPath = temporaryFolder.resolve("script.txt.out");
+        model = new ModelManager();
+    }
+
+    @Test
+    public void execute_validScript_allRunAndResultsWritten() throws Exception {
+        Files.write(scriptPath, List.of("# sets up the team", ADD_AMY, "", "  " + ADD_BOB + "  "));
+        CommandResult result = new RunScriptCommand(scriptPath, outputPath, false).execute(model);
+
+        assertEquals(String.format(RunScriptCommand.MESSAGE_SUCCESS, 2, scriptPath, outputPath),
+                result.getFeedbackToUser());
+        assertEquals(List.of(VALID_NAME_AMY, VALID_NAME_BOB), getNames(model));
+        List<String> output = Files.readAllLines(outputPath, StandardCharsets.UTF_8);
+        assertEquals(RunScriptCommand.OUTPUT_COMMAND_MARKER + ADD_AMY, output.get(0));
+        assertTrue(output.get(1).startsWith(String.format(AddPersonCommand.MESSAGE_SUCCESS, "")));
+        assertEquals(RunScriptCommand.OUTPUT_COMMAND_MARKER + ADD_BOB, output.get(2));
+    }
+
+    @Test
+    public void execute_failingCommand_stopped() throws Exception {
+        Files.write(scriptPath, List.of(ADD_AMY, "unknown", ADD_BOB));
+        CommandResult result = new RunScriptCommand(scriptPath, outputPath, false).execute(model);
+
+        assertEquals(String.format(RunScriptCommand.MESSAGE_SUCCESS, 2, scriptPath, outputPath)
+                + String.format(RunScriptCommand.MESSAGE_FAILED_COMMANDS, 1)
+                + String.format(RunScriptCommand.MESSAGE_STOPPED, 2, MESSAGE_UNKNOWN_COMMAND),
+                result.getFeedbackToUser());
+        // the commands before the failing one are kept
+        assertEquals(List.of(VALID_NAME_AMY), getNames(model));
+        List<String> output = Files.readAllLines(outputPath, StandardCharsets.UTF_8);
+        assertEquals(RunScriptCommand.OUTPUT_ERROR_MARKER + MESSAGE_UNKNOWN_COMMAND, output.get(output.size() - 1));
+    }
+
+    @Test
+    public void execute_failingCommandContinuingOnError_restRun() throws Exception {
+        Files.write(scriptPath, List.of(ADD_AMY, ADD_AMY, ADD_BOB));
+        CommandResult result = new RunScriptCommand(scriptPath, outputPath, true).execute(model);
+
+        assertEquals(String.format(RunScriptCommand.MESSAGE_SUCCESS, 3, scriptPath, outputPath)
+                + String.format(RunScriptCommand.MESSAGE_FAILED_COMMANDS, 1), result.getFeedbackToUser());
+        assertEquals(List.of(VALID_NAME_AMY, VALID_NAME_BOB), getNames(model));
+        assertTrue(Files.readAllLines(outputPath, StandardCharsets.UTF_8).contains(
+                RunScriptCommand.OUTPUT_ERROR_MARKER + AddPersonCommand.MESSAGE_DUPLICATE_PERSON));
+    }
+
+    @Test
+    public void execute_unexpectedError_stopped() throws Exception {
+        Files.write(scriptPath, List.of(ADD_AMY, ADD_BOB));
+        CommandResult result = new RunScriptCommand(scriptPath, outputPath, false).execute(new FailingModelStub());
+
+        assertEquals(String.format(RunScriptCommand.MESSAGE_SUCCESS, 1, scriptPath, outputPath)
+                + String.format(RunScriptCommand.MESSAGE_FAILED_COMMANDS, 1)
+                + String.format(RunScriptCommand.MESSAGE_STOPPED, 1, FailingModelStub.MESSAGE_FAILED),
+                result.getFeedbackToUser());
+        List<String> output = Files.readAllLines(outputPath, StandardCharsets.UTF_8);
+        assertEquals(RunScriptCommand.OUTPUT_ERROR_MARKER + FailingModelStub.MESSAGE_FAILED, output.get(1));
+    }
+
+    @Test
+    public void execute_unexpectedErrorContinuingOnError_restRun() throws Exception {
+        Files.write(scriptPath, List.of(ADD_AMY, ListPersonCommand.COMMAND_WORD));
+        CommandResult result = new RunScriptCommand(scriptPath, outputPath, true).execute(new FailingModelStub());
+
+        assertEquals(String.format(RunScriptCommand.MESSAGE_SUCCESS, 2, scriptPath, outputPath)
+                + String.format(RunScriptCommand.MESSAGE_FAILED_COMMANDS, 1), result.getFeedbackToUser());
+        List<String> output = Files.readAllLines(outputPath, StandardCharsets.UTF_8);
+        assertEquals(RunScriptCommand.OUTPUT_ERROR_MARKER + FailingModelStub.MESSAGE_FAILED, output.get(1));
+        assertEquals(RunScriptCommand.OUTPUT_COMMAND_MARKER + ListPersonCommand.COMMAND_WORD, output.get(2));
+    }
+
+    @Test
+    public void execute_nestedScript_failed() throws Exception {
+        Files.write(scriptPath, List.of(RunScriptCommand.COMMAND_WORD + " " + scriptPath, ADD_AMY));
+        CommandResult result = new RunScriptCommand(scriptPath, outputPath, false).execute(model);
+
+        assertEquals(String.format(RunScriptCommand.MESSAGE_SUCCESS, 1, scriptPath, outputPath)
+                + String.format(RunScriptCommand.MESSAGE_FAILED_COMMANDS, 1)
+                + String.format(RunScriptCommand.MESSAGE_STOPPED, 1, RunScriptCommand.MESSAGE_NESTED_SCRIPT),
+                result.getFeedbackToUser());
+        assertTrue(getNames(model).isEmpty());
+    }
+
+    @Test
+    public void execute_missingScript_throwsCommandException() {
+        RunScriptCommand command = new RunScriptCommand(scriptPath, outputPath, false);
+        assertThrows(CommandException.class, () -> command.execute(model));
+        assertFalse(Files.exists(outputPath));
+    }
+
+    @Test
+    public void equals() {
+        RunScriptCommand command = new RunScriptCommand(scriptPath, outputPath, false);
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new RunScriptCommand(scriptPath, outputPath, false)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new RunScriptCommand(scriptPath, outputPath, true)));
+        assertFalse(command.equals(new RunScriptCommand(scriptPath, scriptPath, false)));
+        assertFalse(command.equals(new RunScriptCommand(outputPath, outputPath, false)));
+    }
+
+    private static List<String> getNames(Model model) {
+        return model.getAddressBook().getPersonList().stream().map(Person::getName)
+                .map(name -> name.fullName).collect(Collectors.toList());
+    }
+
+    /**
+     * A model whose persons cannot be added, failing with an unchecked exception.
+     */
+    private static class FailingModelStub extends ModelManager {
+        static final String MESSAGE_FAILED = "Failed to add";
+
+        @Override
+        public void addPerson(Person person) {
+            throw new IllegalStateException(MESSAGE_FAILED);
+        }
+    }
+}
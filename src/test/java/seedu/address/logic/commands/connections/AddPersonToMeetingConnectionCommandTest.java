@@ -13,12 +13,15 @@ import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 
@@ -32,9 +35,15 @@ import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.analytics.MeetingAnalytics;
 import seedu.address.model.connection.PersonMeetingConnection;
+import seedu.address.model.connection.PersonMeetingList;
 import seedu.address.model.group.Group;
+import seedu.address.model.meeting.DateTime;
+import seedu.address.model.meeting.Description;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.Priority;
 import seedu.address.model.meeting.ReadOnlyMeetingBook;
 import seedu.address.model.meeting.UniqueMeetingList;
 import seedu.address.model.note.Note;
@@ -43,6 +52,7 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.ReadOnlyAddressBook;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.reminder.ReadOnlyReminderBook;
+import seedu.address.model.reminder.ReminderScheduler;
 
 class AddPersonToMeetingConnectionCommandTest {
     private static String MESSAGE_SUCCESS = "Successfully add persons related to the meeting! "
@@ -163,6 +173,11 @@ class AddPersonToMeetingConnectionCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> toAdd) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -202,6 +217,46 @@ class AddPersonToMeetingConnectionCommandTest {
             return upl.asUnmodifiableObservableList();
         }
 
+        @Override
+        public Set<Person> findPersonsWithNameKeywords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Person, Integer> findPersonsWithNameKeywordsNear(List<String> keywords, int maxDistance) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Set<Meeting>> findMeetingNameCandidates(MeetingName name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Set<Meeting>> findMeetingDescriptionCandidates(Description description) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Meeting, Integer> findMeetingsWithNameNear(MeetingName name, int maxDistance) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Meeting> findMeetingsInGroup(Group group) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Meeting> findMeetingsWithPriority(Priority priority) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Meeting> findMeetingsOnDateOf(DateTime time) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -212,6 +267,11 @@ class AddPersonToMeetingConnectionCommandTest {
 
         }
 
+        @Override
+        public void rankFilteredPersonList(Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setMeetingBook(ReadOnlyMeetingBook meetingBook) {
             throw new AssertionError("This method should not be called.");
@@ -248,6 +308,21 @@ class AddPersonToMeetingConnectionCommandTest {
             filteredMeetings.add(editedMeeting);
         }
 
+        @Override
+        public void updateMeetings(List<Meeting> targets, List<Meeting> editedMeetings) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addMeetings(List<Meeting> toAdd) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Meeting, List<Meeting>> getClashesAfterAdding(List<Meeting> toAdd) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Meeting> getFilteredMeetingList() {
             UniqueMeetingList uml = new UniqueMeetingList();
@@ -267,6 +342,11 @@ class AddPersonToMeetingConnectionCommandTest {
 
         }
 
+        @Override
+        public void rankFilteredMeetingList(Comparator<Meeting> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Meeting> getUnmodifiableMeetingList() {
             throw new AssertionError("This method should not be called");
@@ -334,7 +414,7 @@ class AddPersonToMeetingConnectionCommandTest {
          */
         @Override
         public ObservableList<Meeting> getFilteredMeetingListByPersonConnection(Person person) {
-            UniqueMeetingList meetings = connection.getMeetingsByPerson(person);
+            PersonMeetingList meetings = connection.getMeetingsByPerson(person);
             assert meetings != null;
             return meetings.asUnmodifiableObservableList();
         }
@@ -352,8 +432,8 @@ class AddPersonToMeetingConnectionCommandTest {
          * Empty list will be returned if there is no value found in the hashMap.
          */
         @Override
-        public UniqueMeetingList getUniqueMeetingListByPersonConnection(Person person) {
-            UniqueMeetingList meetings = connection.getMeetingsByPerson(person);
+        public PersonMeetingList getMeetingListByPersonConnection(Person person) {
+            PersonMeetingList meetings = connection.getMeetingsByPerson(person);
             return meetings;
         }
         /**
@@ -398,6 +478,11 @@ class AddPersonToMeetingConnectionCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Map<Note, Double> searchNotes(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Note> getFilteredNoteList() {
             throw new AssertionError("This method should not be called.");
@@ -408,6 +493,11 @@ class AddPersonToMeetingConnectionCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void sortFilteredNoteList(Comparator<Note> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Path getNoteBookFilePath() {
             throw new AssertionError("This method should not be called.");
@@ -444,6 +534,31 @@ class AddPersonToMeetingConnectionCommandTest {
 
         }
 
+        @Override
+        public ReminderScheduler getReminderScheduler() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public MeetingAnalytics getMeetingAnalytics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getDataVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void executeInBatch(Runnable mutations) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public <T> T getCachedQueryResult(String descriptor, Supplier<T> query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean clashes(Meeting toCheck) {
             throw new AssertionError("This method should not be called.");
@@ -461,6 +576,17 @@ class AddPersonToMeetingConnectionCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Map<Meeting, List<Meeting>> getClashesAfterReplacing(Collection<Meeting> targets,
+                                                                    List<Meeting> editedMeetings) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Meeting> findMeetingsOverlapping(LocalDateTime start, LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         /**
          * Gets the meeting ( if any ) scheduled  at this point in time in the model.
          */
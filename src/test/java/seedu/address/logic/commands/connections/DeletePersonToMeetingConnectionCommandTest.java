@@ -13,12 +13,15 @@ import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 
@@ -32,9 +35,15 @@ import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.analytics.MeetingAnalytics;
 import seedu.address.model.connection.PersonMeetingConnection;
+import seedu.address.model.connection.PersonMeetingList;
 import seedu.address.model.group.Group;
+import seedu.address.model.meeting.DateTime;
+import seedu.address.model.meeting.Description;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.Priority;
 import seedu.address.model.meeting.ReadOnlyMeetingBook;
 import seedu.address.model.meeting.UniqueMeetingList;
 import seedu.address.model.note.Note;
@@ -43,6 +52,7 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.ReadOnlyAddressBook;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.reminder.ReadOnlyReminderBook;
+import seedu.address.model.reminder.ReminderScheduler;
 
 class DeletePersonToMeetingConnectionCommandTest {
     private static String MESSAGE_SUCCESS = "Successfully delete persons related to the meeting! ";
@@ -161,6 +171,11 @@ class DeletePersonToMeetingConnectionCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> toAdd) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -200,6 +215,46 @@ class DeletePersonToMeetingConnectionCommandTest {
             return upl.asUnmodifiableObservableList();
         }
 
+        @Override
+        public Set<Person> findPersonsWithNameKeywords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Person, Integer> findPersonsWithNameKeywordsNear(List<String> keywords, int maxDistance) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Set<Meeting>> findMeetingNameCandidates(MeetingName name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Set<Meeting>> findMeetingDescriptionCandidates(Description description) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Meeting, Integer> findMeetingsWithNameNear(MeetingName name, int maxDistance) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Meeting> findMeetingsInGroup(Group group) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Meeting> findMeetingsWithPriority(Priority priority) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Meeting> findMeetingsOnDateOf(DateTime time) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -210,6 +265,11 @@ class DeletePersonToMeetingConnectionCommandTest {
 
         }
 
+        @Override
+        public void rankFilteredPersonList(Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setMeetingBook(ReadOnlyMeetingBook meetingBook) {
             throw new AssertionError("This method should not be called.");
@@ -246,6 +306,21 @@ class DeletePersonToMeetingConnectionCommandTest {
             filteredMeetings.add(editedMeeting);
         }
 
+        @Override
+        public void updateMeetings(List<Meeting> targets, List<Meeting> editedMeetings) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addMeetings(List<Meeting> toAdd) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Meeting, List<Meeting>> getClashesAfterAdding(List<Meeting> toAdd) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Meeting> getFilteredMeetingList() {
             UniqueMeetingList uml = new UniqueMeetingList();
@@ -265,6 +340,11 @@ class DeletePersonToMeetingConnectionCommandTest {
 
         }
 
+        @Override
+        public void rankFilteredMeetingList(Comparator<Meeting> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Meeting> getUnmodifiableMeetingList() {
             throw new AssertionError("This method should not be called");
@@ -332,7 +412,7 @@ class DeletePersonToMeetingConnectionCommandTest {
          */
         @Override
         public ObservableList<Meeting> getFilteredMeetingListByPersonConnection(Person person) {
-            UniqueMeetingList meetings = connection.getMeetingsByPerson(person);
+            PersonMeetingList meetings = connection.getMeetingsByPerson(person);
             assert meetings != null;
             return meetings.asUnmodifiableObservableList();
         }
@@ -350,8 +430,8 @@ class DeletePersonToMeetingConnectionCommandTest {
          * Empty list will be returned if there is no value found in the hashMap.
          */
         @Override
-        public UniqueMeetingList getUniqueMeetingListByPersonConnection(Person person) {
-            UniqueMeetingList meetings = connection.getMeetingsByPerson(person);
+        public PersonMeetingList getMeetingListByPersonConnection(Person person) {
+            PersonMeetingList meetings = connection.getMeetingsByPerson(person);
             return meetings;
         }
         /**
@@ -396,6 +476,11 @@ class DeletePersonToMeetingConnectionCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Map<Note, Double> searchNotes(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Note> getFilteredNoteList() {
             throw new AssertionError("This method should not be called.");
@@ -406,6 +491,11 @@ class DeletePersonToMeetingConnectionCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void sortFilteredNoteList(Comparator<Note> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Path getNoteBookFilePath() {
             throw new AssertionError("This method should not be called.");
@@ -442,6 +532,31 @@ class DeletePersonToMeetingConnectionCommandTest {
 
         }
 
+        @Override
+        public ReminderScheduler getReminderScheduler() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public MeetingAnalytics getMeetingAnalytics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getDataVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void executeInBatch(Runnable mutations) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public <T> T getCachedQueryResult(String descriptor, Supplier<T> query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean clashes(Meeting toCheck) {
             throw new AssertionError("This method should not be called.");
@@ -459,6 +574,17 @@ class DeletePersonToMeetingConnectionCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Map<Meeting, List<Meeting>> getClashesAfterReplacing(Collection<Meeting> targets,
+                                                                    List<Meeting> editedMeetings) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Meeting> findMeetingsOverlapping(LocalDateTime start, LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         /**
          * Gets the meeting ( if any ) scheduled  at this point in time in the model.
          */
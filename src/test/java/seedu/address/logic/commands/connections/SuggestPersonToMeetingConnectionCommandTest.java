@@ -0,0 +1,128 @@
+package seedu.address.logic.commands.connections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.meetings.MeetingCommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.MeetingBuilder;
+
+public class SuggestPersonToMeetingConnectionCommandTest {
+
+    private final Meeting kickOff = new MeetingBuilder().withName("Kick Off").withStart("2021-03-01 09:00")
+            .withTerminate("2021-03-01 10:00").withGroups("SoC").build();
+    private final Meeting lunch = new MeetingBuilder().withName("Lunch").withStart("2021-03-02 12:00")
+            .withTerminate("2021-03-02 13:00").withGroups().build();
+    private final Meeting review = new MeetingBuilder().withName("Review").withStart("2021-03-08 09:00")
+            .withTerminate("2021-03-08 10:00").withGroups("SoC").build();
+    private final Meeting party = new MeetingBuilder().withName("Party").withStart("2021-03-09 18:00")
+            .withTerminate("2021-03-09 20:00").withGroups("Friends").build();
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        model.addPerson(CARL);
+        model.addPerson(DANIEL);
+        model.addMeeting(kickOff);
+        model.addMeeting(lunch);
+        model.addMeeting(review);
+        model.addMeeting(party);
+        model.addPersonMeetingConnection(ALICE, kickOff);
+        model.addPersonMeetingConnection(BENSON, kickOff);
+        model.addPersonMeetingConnection(CARL, kickOff);
+        model.addPersonMeetingConnection(ALICE, lunch);
+        model.addPersonMeetingConnection(BENSON, lunch);
+        model.addPersonMeetingConnection(ALICE, review);
+    }
+
+    @Test
+    public void execute_meetingWithHistory_suggestionsByScore() throws CommandException {
+        SuggestPersonToMeetingConnectionCommand command =
+                new SuggestPersonToMeetingConnectionCommand(getIndex(review), 5);
+        // Benson met Alice twice and was in a meeting of SoC; Carl met Alice once and was in a meeting of SoC
+        String expectedMessage = String.format(SuggestPersonToMeetingConnectionCommand.MESSAGE_SUCCESS,
+                review.getName())
+                + String.format(SuggestPersonToMeetingConnectionCommand.MESSAGE_SUGGESTION_SHOWN, BENSON.getName(), 3,
+                        getIndex(BENSON).getOneBased())
+                + String.format(SuggestPersonToMeetingConnectionCommand.MESSAGE_SUGGESTION_SHOWN, CARL.getName(), 2,
+                        getIndex(CARL).getOneBased());
+        assertEquals(expectedMessage, command.execute(model).getFeedbackToUser());
+
+        command = new SuggestPersonToMeetingConnectionCommand(getIndex(review), 1);
+        assertEquals(String.format(SuggestPersonToMeetingConnectionCommand.MESSAGE_SUCCESS, review.getName())
+                + String.format(SuggestPersonToMeetingConnectionCommand.MESSAGE_SUGGESTION_SHOWN, BENSON.getName(), 3,
+                        getIndex(BENSON).getOneBased()), command.execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_personNotDisplayed_suggestedWithoutIndex() throws CommandException {
+        model.updateFilteredPersonList(person -> person.equals(ALICE));
+        SuggestPersonToMeetingConnectionCommand command =
+                new SuggestPersonToMeetingConnectionCommand(getIndex(review), 1);
+        assertEquals(String.format(SuggestPersonToMeetingConnectionCommand.MESSAGE_SUCCESS, review.getName())
+                + String.format(SuggestPersonToMeetingConnectionCommand.MESSAGE_SUGGESTION, BENSON.getName(), 3),
+                command.execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_connectionRemoved_suggestionsUpdated() throws CommandException {
+        model.deleteSinglePersonMeetingConnection(CARL, kickOff);
+        SuggestPersonToMeetingConnectionCommand command =
+                new SuggestPersonToMeetingConnectionCommand(getIndex(review), 5);
+        assertEquals(String.format(SuggestPersonToMeetingConnectionCommand.MESSAGE_SUCCESS, review.getName())
+                + String.format(SuggestPersonToMeetingConnectionCommand.MESSAGE_SUGGESTION_SHOWN, BENSON.getName(), 3,
+                        getIndex(BENSON).getOneBased()), command.execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noHistory_noSuggestions() throws CommandException {
+        SuggestPersonToMeetingConnectionCommand command =
+                new SuggestPersonToMeetingConnectionCommand(getIndex(party), 5);
+        assertEquals(String.format(SuggestPersonToMeetingConnectionCommand.MESSAGE_NO_SUGGESTIONS, party.getName()),
+                command.execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_invalidMeetingIndex_failure() {
+        SuggestPersonToMeetingConnectionCommand command =
+                new SuggestPersonToMeetingConnectionCommand(Index.fromOneBased(5), 5);
+        assertCommandFailure(command, model, Messages.MESSAGE_INVALID_MEETING_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        SuggestPersonToMeetingConnectionCommand command = new SuggestPersonToMeetingConnectionCommand(INDEX_FIRST, 5);
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new SuggestPersonToMeetingConnectionCommand(INDEX_FIRST, 5)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new SuggestPersonToMeetingConnectionCommand(INDEX_FIRST, 3)));
+        assertFalse(command.equals(new SuggestPersonToMeetingConnectionCommand(Index.fromOneBased(2), 5)));
+    }
+
+    private Index getIndex(Meeting meeting) {
+        return Index.fromZeroBased(model.getFilteredMeetingList().indexOf(meeting));
+    }
+
+    private Index getIndex(Person person) {
+        return Index.fromZeroBased(model.getFilteredPersonList().indexOf(person));
+    }
+}
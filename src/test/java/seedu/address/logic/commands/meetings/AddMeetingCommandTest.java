@@ -12,11 +12,14 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 
@@ -27,18 +30,24 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.analytics.MeetingAnalytics;
 import seedu.address.model.connection.PersonMeetingConnection;
+import seedu.address.model.connection.PersonMeetingList;
 import seedu.address.model.group.Group;
+import seedu.address.model.meeting.DateTime;
+import seedu.address.model.meeting.Description;
 import seedu.address.model.meeting.Meeting;
 import seedu.address.model.meeting.MeetingBook;
+import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.Priority;
 import seedu.address.model.meeting.ReadOnlyMeetingBook;
-import seedu.address.model.meeting.UniqueMeetingList;
 import seedu.address.model.note.Note;
 import seedu.address.model.note.ReadOnlyNoteBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.ReadOnlyAddressBook;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.reminder.ReadOnlyReminderBook;
+import seedu.address.model.reminder.ReminderScheduler;
 import seedu.address.testutil.MeetingBuilder;
 
 class AddMeetingCommandTest {
@@ -131,6 +140,11 @@ class AddMeetingCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> toAdd) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -166,6 +180,46 @@ class AddMeetingCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Set<Person> findPersonsWithNameKeywords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Person, Integer> findPersonsWithNameKeywordsNear(List<String> keywords, int maxDistance) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Set<Meeting>> findMeetingNameCandidates(MeetingName name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Set<Meeting>> findMeetingDescriptionCandidates(Description description) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Meeting, Integer> findMeetingsWithNameNear(MeetingName name, int maxDistance) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Meeting> findMeetingsInGroup(Group group) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Meeting> findMeetingsWithPriority(Priority priority) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Meeting> findMeetingsOnDateOf(DateTime time) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -176,6 +230,11 @@ class AddMeetingCommandTest {
 
         }
 
+        @Override
+        public void rankFilteredPersonList(Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setMeetingBook(ReadOnlyMeetingBook meetingBook) {
             throw new AssertionError("This method should not be called.");
@@ -211,6 +270,21 @@ class AddMeetingCommandTest {
 
         }
 
+        @Override
+        public void updateMeetings(List<Meeting> targets, List<Meeting> editedMeetings) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addMeetings(List<Meeting> toAdd) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Meeting, List<Meeting>> getClashesAfterAdding(List<Meeting> toAdd) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Meeting> getFilteredMeetingList() {
             throw new AssertionError("This method should not be called.");
@@ -226,6 +300,11 @@ class AddMeetingCommandTest {
 
         }
 
+        @Override
+        public void rankFilteredMeetingList(Comparator<Meeting> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Meeting> getUnmodifiableMeetingList() {
             throw new AssertionError("This method should not be called");
@@ -303,6 +382,11 @@ class AddMeetingCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Map<Note, Double> searchNotes(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Note> getFilteredNoteList() {
             throw new AssertionError("This method should not be called.");
@@ -313,6 +397,11 @@ class AddMeetingCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void sortFilteredNoteList(Comparator<Note> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Path getNoteBookFilePath() {
             throw new AssertionError("This method should not be called.");
@@ -331,7 +420,7 @@ class AddMeetingCommandTest {
         }
 
         @Override
-        public UniqueMeetingList getUniqueMeetingListByPersonConnection(Person person) {
+        public PersonMeetingList getMeetingListByPersonConnection(Person person) {
             return null;
         }
 
@@ -364,6 +453,31 @@ class AddMeetingCommandTest {
 
         }
 
+        @Override
+        public ReminderScheduler getReminderScheduler() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public MeetingAnalytics getMeetingAnalytics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getDataVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void executeInBatch(Runnable mutations) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public <T> T getCachedQueryResult(String descriptor, Supplier<T> query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean clashes(Meeting toCheck) {
             throw new AssertionError("This method should not be called.");
@@ -381,6 +495,17 @@ class AddMeetingCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Map<Meeting, List<Meeting>> getClashesAfterReplacing(Collection<Meeting> targets,
+                                                                    List<Meeting> editedMeetings) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Meeting> findMeetingsOverlapping(LocalDateTime start, LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         /**
          * Gets the meeting ( if any ) scheduled  at this point in time in the model.
          */
@@ -5,16 +5,23 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.commands.meetings.MeetingCommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalMeetings.MEETING4;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 
@@ -26,12 +33,20 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.persons.AddPersonCommand;
 import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.analytics.MeetingAnalytics;
 import seedu.address.model.connection.PersonMeetingConnection;
+import seedu.address.model.connection.PersonMeetingList;
 import seedu.address.model.group.Group;
+import seedu.address.model.meeting.ClashCheck;
+import seedu.address.model.meeting.DateTime;
+import seedu.address.model.meeting.Description;
 import seedu.address.model.meeting.Meeting;
 import seedu.address.model.meeting.MeetingBook;
+import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.Priority;
 import seedu.address.model.meeting.ReadOnlyMeetingBook;
 import seedu.address.model.meeting.UniqueMeetingList;
 import seedu.address.model.note.Note;
@@ -43,6 +58,7 @@ import seedu.address.model.person.ReadOnlyAddressBook;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.reminder.ReadOnlyReminderBook;
 import seedu.address.model.reminder.ReminderBook;
+import seedu.address.model.reminder.ReminderScheduler;
 import seedu.address.model.schedule.TimetablePrefs;
 import seedu.address.testutil.MeetingBuilder;
 import seedu.address.testutil.PersonBuilder;
@@ -94,6 +110,33 @@ public class AddMeetingCommandWithConnectionTest {
 
     }
 
+    @Test
+    public void execute_perAttendeeClashCheck_onlyDoubleBookingsRejected() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setMeetingClashCheck(ClashCheck.PER_ATTENDEE);
+        Model model = new ModelManager(new AddressBook(), new MeetingBook(), new NoteBook(), userPrefs,
+                new PersonMeetingConnection());
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        model.addMeeting(MEETING4); // 10:00 to 12:00
+        model.addPersonMeetingConnection(ALICE, MEETING4);
+
+        // overlapping meeting without ALICE -> added
+        Meeting overlapping = new MeetingBuilder().withName("Project Sync").withStart("2020-03-10 11:00")
+                .withTerminate("2020-03-10 13:00").build();
+        new AddMeetingCommand(overlapping).setConnectionToPerson(Set.of(Index.fromOneBased(2))).execute(model);
+        assertTrue(model.hasMeeting(overlapping));
+
+        // overlapping both meetings with both persons -> each double-booked person reported
+        Meeting doubleBooking = new MeetingBuilder().withName("Lunch").withStart("2020-03-10 11:30")
+                .withTerminate("2020-03-10 12:30").build();
+        String expectedMessage = String.format(AttendeeUtil.MESSAGE_DOUBLE_BOOKED,
+                ALICE.getName() + ": " + MEETING4.getNameString() + "\n"
+                + BENSON.getName() + ": " + overlapping.getNameString());
+        assertCommandFailure(new AddMeetingCommand(doubleBooking)
+                .setConnectionToPerson(Set.of(Index.fromOneBased(1), Index.fromOneBased(2))), model, expectedMessage);
+    }
+
     @Test
     public void equals() {
         Meeting meeting1 = new MeetingBuilder().withName("Meeting1").build();
@@ -231,6 +274,11 @@ public class AddMeetingCommandWithConnectionTest {
             updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         }
 
+        @Override
+        public void addPersons(List<Person> toAdd) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
             requireAllNonNull(target, editedPerson);
@@ -243,6 +291,46 @@ public class AddMeetingCommandWithConnectionTest {
             return addressBook.findPersonsInGroup(group);
         }
 
+        @Override
+        public Set<Person> findPersonsWithNameKeywords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Person, Integer> findPersonsWithNameKeywordsNear(List<String> keywords, int maxDistance) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Set<Meeting>> findMeetingNameCandidates(MeetingName name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Set<Meeting>> findMeetingDescriptionCandidates(Description description) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Meeting, Integer> findMeetingsWithNameNear(MeetingName name, int maxDistance) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Meeting> findMeetingsInGroup(Group group) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Meeting> findMeetingsWithPriority(Priority priority) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Meeting> findMeetingsOnDateOf(DateTime time) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         //=========== MeetingBook ================================================================================
 
         @Override
@@ -282,6 +370,21 @@ public class AddMeetingCommandWithConnectionTest {
         public void updateMeeting(Meeting target, Meeting editedMeeting) {
         }
 
+        @Override
+        public void updateMeetings(List<Meeting> targets, List<Meeting> editedMeetings) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addMeetings(List<Meeting> toAdd) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Meeting, List<Meeting>> getClashesAfterAdding(List<Meeting> toAdd) {
+            throw new AssertionError("This method should not be called.");
+        }
+
 
         //TODO: Set MeetingBook file path in userPrefs? low priority feature(nice to have)
 
@@ -306,6 +409,17 @@ public class AddMeetingCommandWithConnectionTest {
             return meetingBook.getClashes(toCheck);
         }
 
+        @Override
+        public Map<Meeting, List<Meeting>> getClashesAfterReplacing(Collection<Meeting> targets,
+                                                                    List<Meeting> editedMeetings) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Meeting> findMeetingsOverlapping(LocalDateTime start, LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         /**
          * Gets the meeting ( if any ) scheduled  at this point in time in the model.
          */
@@ -376,7 +490,7 @@ public class AddMeetingCommandWithConnectionTest {
          */
         @Override
         public ObservableList<Meeting> getFilteredMeetingListByPersonConnection(Person person) {
-            UniqueMeetingList meetings = connection.getMeetingsByPerson(person);
+            PersonMeetingList meetings = connection.getMeetingsByPerson(person);
             assert meetings != null;
             return meetings.asUnmodifiableObservableList();
         }
@@ -392,7 +506,7 @@ public class AddMeetingCommandWithConnectionTest {
         }
 
         @Override
-        public UniqueMeetingList getUniqueMeetingListByPersonConnection(Person person) {
+        public PersonMeetingList getMeetingListByPersonConnection(Person person) {
             return null;
         }
 
@@ -409,6 +523,31 @@ public class AddMeetingCommandWithConnectionTest {
         @Override
         public void refreshReminderBook() {}
 
+        @Override
+        public void executeInBatch(Runnable mutations) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReminderScheduler getReminderScheduler() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public MeetingAnalytics getMeetingAnalytics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getDataVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public <T> T getCachedQueryResult(String descriptor, Supplier<T> query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         //=========== Filtered Person List Accessors =============================================================
 
         /**
@@ -431,6 +570,11 @@ public class AddMeetingCommandWithConnectionTest {
 
         }
 
+        @Override
+        public void rankFilteredPersonList(Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         //=========== Filtered Meeting List Accessors =============================================================
 
         /**
@@ -453,6 +597,11 @@ public class AddMeetingCommandWithConnectionTest {
 
         }
 
+        @Override
+        public void rankFilteredMeetingList(Comparator<Meeting> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         //======================= Note methods ================================================
 
         @Override
@@ -485,6 +634,11 @@ public class AddMeetingCommandWithConnectionTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Map<Note, Double> searchNotes(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Note> getFilteredNoteList() {
             throw new AssertionError("This method should not be called.");
@@ -495,6 +649,11 @@ public class AddMeetingCommandWithConnectionTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void sortFilteredNoteList(Comparator<Note> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Path getNoteBookFilePath() {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,117 @@
+package seedu.address.logic.commands.meetings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.meetings.MeetingCommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalMeetings.MEETING3;
+import static seedu.address.testutil.TypicalMeetings.MEETING4;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.connection.PersonMeetingConnection;
+import seedu.address.model.group.Group;
+import seedu.address.model.meeting.Description;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingBook;
+import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.Priority;
+import seedu.address.model.note.NoteBook;
+import seedu.address.model.person.AddressBook;
+import seedu.address.model.schedule.WorkingHours;
+import seedu.address.testutil.MeetingBuilder;
+
+public class AutoScheduleMeetingCommandTest {
+
+    private static final LocalDate FIRST_LECTURE_DATE = LocalDate.of(2020, 3, 10);
+    private static final LocalDate SECOND_LECTURE_DATE = LocalDate.of(2020, 3, 11);
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(new AddressBook(), new MeetingBook(), new NoteBook(), new UserPrefs(),
+                new PersonMeetingConnection());
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        model.addMeeting(MEETING4); // 10:00 to 12:00 on the first lecture date
+        model.addMeeting(MEETING3); // 14:00 to 16:00 on the second lecture date
+        model.addPersonMeetingConnection(ALICE, MEETING3);
+    }
+
+    @Test
+    public void execute_freeTimeFound_meetingAddedAndRelated() throws CommandException {
+        // 09:00 to 10:00 fits exactly before the lecture, without clashing with it
+        AutoScheduleMeetingCommand command = createCommand(Set.of(Index.fromOneBased(1)), FIRST_LECTURE_DATE,
+                SECOND_LECTURE_DATE, 60, WorkingHours.DEFAULT);
+        Meeting expectedMeeting = new MeetingBuilder().withName("Project Sync").withStart("2020-03-10 09:00")
+                .withTerminate("2020-03-10 10:00").withPriority("2").withDescription("Weekly")
+                .withGroups("SoC").build();
+
+        String feedback = command.execute(model).getFeedbackToUser();
+        assertTrue(model.hasMeeting(expectedMeeting));
+        Meeting addedMeeting = model.getMeetingBook().getMeetingList().stream()
+                .filter(expectedMeeting::isSameMeeting).findFirst().get();
+        assertEquals(String.format(AutoScheduleMeetingCommand.MESSAGE_SUCCESS, addedMeeting), feedback);
+        assertTrue(model.getPersonMeetingConnection().getMeetingsByPerson(ALICE).contains(expectedMeeting));
+        assertFalse(model.getPersonMeetingConnection().getMeetingsByPerson(BENSON).contains(expectedMeeting));
+    }
+
+    @Test
+    public void execute_relatedPersonBusy_meetingAfterTheirMeeting() throws CommandException {
+        AutoScheduleMeetingCommand command = createCommand(Set.of(Index.fromOneBased(1)), SECOND_LECTURE_DATE,
+                SECOND_LECTURE_DATE, 120, new WorkingHours("14:00-18:00"));
+        command.execute(model);
+        assertTrue(model.hasMeeting(new MeetingBuilder().withName("Project Sync").withStart("2020-03-11 16:00")
+                .withTerminate("2020-03-11 18:00").build()));
+    }
+
+    @Test
+    public void execute_noFreeTimeLongEnough_throwsCommandException() {
+        AutoScheduleMeetingCommand command = createCommand(Set.of(), SECOND_LECTURE_DATE, SECOND_LECTURE_DATE, 90,
+                new WorkingHours("13:00-17:00"));
+        assertCommandFailure(command, model, String.format(AutoScheduleMeetingCommand.MESSAGE_NO_TIME_FOUND, 90,
+                SECOND_LECTURE_DATE, SECOND_LECTURE_DATE));
+    }
+
+    @Test
+    public void execute_invalidPersonIndex_throwsCommandException() {
+        AutoScheduleMeetingCommand command = createCommand(Set.of(Index.fromOneBased(3)), FIRST_LECTURE_DATE,
+                FIRST_LECTURE_DATE, 60, WorkingHours.DEFAULT);
+        assertCommandFailure(command, model, Messages.MESSAGE_INVALID_PERSONS_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        AutoScheduleMeetingCommand command = createCommand(Set.of(), FIRST_LECTURE_DATE, FIRST_LECTURE_DATE, 60,
+                WorkingHours.DEFAULT);
+        assertTrue(command.equals(createCommand(Set.of(), FIRST_LECTURE_DATE, FIRST_LECTURE_DATE, 60,
+                WorkingHours.DEFAULT)));
+        assertFalse(command.equals(createCommand(Set.of(Index.fromOneBased(1)), FIRST_LECTURE_DATE,
+                FIRST_LECTURE_DATE, 60, WorkingHours.DEFAULT)));
+        assertFalse(command.equals(createCommand(Set.of(), FIRST_LECTURE_DATE, SECOND_LECTURE_DATE, 60,
+                WorkingHours.DEFAULT)));
+        assertFalse(command.equals(null));
+    }
+
+    private static AutoScheduleMeetingCommand createCommand(Set<Index> personIndexes, LocalDate firstDate,
+                                                            LocalDate lastDate, int minutes,
+                                                            WorkingHours workingHours) {
+        return new AutoScheduleMeetingCommand(new MeetingName("Project Sync"), new Description("Weekly"),
+                new Priority("2"), Set.of(new Group("SoC")), personIndexes, firstDate, lastDate,
+                Duration.ofMinutes(minutes), workingHours);
+    }
+}
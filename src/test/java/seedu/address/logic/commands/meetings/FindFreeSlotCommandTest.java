@@ -0,0 +1,98 @@
+package seedu.address.logic.commands.meetings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.meetings.MeetingCommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalMeetings.MEETING3;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.connection.PersonMeetingConnection;
+import seedu.address.model.group.Group;
+import seedu.address.model.meeting.MeetingBook;
+import seedu.address.model.note.NoteBook;
+import seedu.address.model.person.AddressBook;
+import seedu.address.model.schedule.WorkingHours;
+
+public class FindFreeSlotCommandTest {
+
+    private static final LocalDate LECTURE_DATE = LocalDate.of(2020, 3, 11);
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(new AddressBook(), new MeetingBook(), new NoteBook(), new UserPrefs(),
+                new PersonMeetingConnection());
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        model.addMeeting(MEETING3); // 14:00 to 16:00 on the lecture date
+        model.addPersonMeetingConnection(ALICE, MEETING3);
+    }
+
+    @Test
+    public void execute_personWithMeeting_slotsAroundMeeting() throws CommandException {
+        FindFreeSlotCommand command = new FindFreeSlotCommand(Set.of(Index.fromOneBased(1)), Set.of(),
+                LECTURE_DATE, LECTURE_DATE, Duration.ofMinutes(60), WorkingHours.DEFAULT);
+        String expectedSlots = "1. 2020-03-11 09:00 to 2020-03-11 14:00\n2. 2020-03-11 16:00 to 2020-03-11 18:00";
+        assertEquals(String.format(FindFreeSlotCommand.MESSAGE_SLOTS_FOUND, 60, 1, expectedSlots),
+                command.execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_groupWithoutMeetings_wholeWorkingHours() throws CommandException {
+        // only Benson is in CS2106, and he has no meetings
+        FindFreeSlotCommand command = new FindFreeSlotCommand(Set.of(), Set.of(new Group("CS2106")),
+                LECTURE_DATE, LECTURE_DATE, Duration.ofMinutes(60), new WorkingHours("14:00-16:00"));
+        assertEquals(String.format(FindFreeSlotCommand.MESSAGE_SLOTS_FOUND, 60, 1,
+                "1. 2020-03-11 14:00 to 2020-03-11 16:00"), command.execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noSlotLongEnough_noSlotsFound() throws CommandException {
+        FindFreeSlotCommand command = new FindFreeSlotCommand(Set.of(Index.fromOneBased(1)),
+                Set.of(new Group("CS2106")), LECTURE_DATE, LECTURE_DATE, Duration.ofMinutes(60),
+                new WorkingHours("13:30-16:30"));
+        assertEquals(String.format(FindFreeSlotCommand.MESSAGE_NO_SLOTS_FOUND, 60, 2, LECTURE_DATE, LECTURE_DATE),
+                command.execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_invalidPersonIndex_throwsCommandException() {
+        FindFreeSlotCommand command = new FindFreeSlotCommand(Set.of(Index.fromOneBased(3)), Set.of(),
+                LECTURE_DATE, LECTURE_DATE, Duration.ofMinutes(60), WorkingHours.DEFAULT);
+        assertCommandFailure(command, model, Messages.MESSAGE_INVALID_PERSONS_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_emptyGroup_throwsCommandException() {
+        FindFreeSlotCommand command = new FindFreeSlotCommand(Set.of(), Set.of(new Group("nobody")),
+                LECTURE_DATE, LECTURE_DATE, Duration.ofMinutes(60), WorkingHours.DEFAULT);
+        assertCommandFailure(command, model, FindFreeSlotCommand.MESSAGE_NO_ATTENDEES);
+    }
+
+    @Test
+    public void equals() {
+        FindFreeSlotCommand command = new FindFreeSlotCommand(Set.of(Index.fromOneBased(1)), Set.of(),
+                LECTURE_DATE, LECTURE_DATE, Duration.ofMinutes(60), WorkingHours.DEFAULT);
+        assertTrue(command.equals(new FindFreeSlotCommand(Set.of(Index.fromOneBased(1)), Set.of(),
+                LECTURE_DATE, LECTURE_DATE, Duration.ofMinutes(60), WorkingHours.DEFAULT)));
+        assertFalse(command.equals(new FindFreeSlotCommand(Set.of(Index.fromOneBased(1)), Set.of(),
+                LECTURE_DATE, LECTURE_DATE, Duration.ofMinutes(30), WorkingHours.DEFAULT)));
+        assertFalse(command.equals(null));
+    }
+}
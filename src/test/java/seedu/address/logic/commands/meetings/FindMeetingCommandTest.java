@@ -1,11 +1,16 @@
 package seedu.address.logic.commands.meetings;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.meetings.MeetingCommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.meetings.MeetingCommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalMeetings.MEETING3;
+import static seedu.address.testutil.TypicalMeetings.MEETING4;
 import static seedu.address.testutil.TypicalMeetings.getTypicalMeetingBook;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -19,7 +24,13 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.connection.PersonMeetingConnection;
+import seedu.address.model.group.Group;
+import seedu.address.model.meeting.Description;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.MeetingSortDirection;
+import seedu.address.model.meeting.MeetingSortOption;
+import seedu.address.model.meeting.Priority;
 import seedu.address.model.note.NoteBook;
 import seedu.address.model.person.AddressBook;
 
@@ -48,5 +59,43 @@ class FindMeetingCommandTest {
         assertCommandFailure(command, model, Messages.MESSAGE_INVALID_PERSONS_DISPLAYED_INDEX);
     }
 
+    @Test
+    void execute_nameAndDescription_onlyMatchingMeetingsListed() throws CommandException {
+        List<MeetingFilter> filters = List.of(MeetingFilter.nameContains(new MeetingName("ONLINE Lecture")),
+                MeetingFilter.descriptionContains(new Description("Damith")));
+        new FindMeetingCommand(filters, Set.of(), false).execute(model);
+        assertEquals(List.of(MEETING3), model.getFilteredMeetingList());
+    }
+
+    @Test
+    void execute_explain_planShown() throws CommandException {
+        List<MeetingFilter> filters = List.of(MeetingFilter.inGroup(new Group("Lectures")),
+                MeetingFilter.hasPriority(new Priority("5")));
+        CommandResult result = new FindMeetingCommand(filters, Set.of(), true).execute(model);
+        assertEquals(List.of(MEETING3, MEETING4), model.getFilteredMeetingList());
+        assertTrue(result.getFeedbackToUser().startsWith(
+                String.format(Messages.MESSAGE_MEETINGS_LISTED_OVERVIEW, 2) + "\nQuery plan over 5 meetings:"));
+        assertTrue(result.getFeedbackToUser().contains("index lookup [group Lectures]: 2 candidates"));
+    }
+
+    @Test
+    void execute_fuzzyName_meetingsRankedByDistance() throws CommandException {
+        List<MeetingFilter> filters = List.of(MeetingFilter.nameNear(new MeetingName("cs2106 Lectre"), 1));
+        new FindMeetingCommand(filters, Set.of(), false).execute(model);
+        assertEquals(List.of(MEETING4, MEETING3), model.getFilteredMeetingList());
+    }
+
+    @Test
+    void execute_fuzzyNameThenList_sortOrderRestored() throws CommandException {
+        new SortMeetingCommand(MeetingSortOption.NAME, MeetingSortDirection.DESC).execute(model);
+        List<Meeting> sortedMeetings = new ArrayList<>(model.getFilteredMeetingList());
+
+        List<MeetingFilter> filters = List.of(MeetingFilter.nameNear(new MeetingName("cs2106 Lectre"), 1));
+        new FindMeetingCommand(filters, Set.of(), false).execute(model);
+        assertEquals(List.of(MEETING4, MEETING3), model.getFilteredMeetingList());
+
+        new ListMeetingCommand().execute(model);
+        assertEquals(sortedMeetings, model.getFilteredMeetingList());
+    }
 
 }
@@ -0,0 +1,100 @@
+package seedu.address.logic.commands.meetings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.meetings.MeetingCommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.connection.PersonMeetingConnection;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingBook;
+import seedu.address.model.note.NoteBook;
+import seedu.address.model.person.AddressBook;
+import seedu.address.testutil.MeetingBuilder;
+
+public class ImportCalendarCommandTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "ImportCalendarCommandTest");
+    private static final Path CALENDAR_FILE = TEST_DATA_FOLDER.resolve("calendar.ics");
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Meeting lecture = new MeetingBuilder().withName("Lecture").withStart("2021-03-15 14:00")
+            .withTerminate("2021-03-15 16:00").build();
+    private final Meeting projectSync = new MeetingBuilder().withName("Project Sync").withStart("2021-03-15 09:00")
+            .withTerminate("2021-03-15 10:00").build();
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = createModel();
+        model.addMeeting(lecture);
+        model.addPersonMeetingConnection(BENSON, lecture);
+    }
+
+    @Test
+    public void execute_duplicatesAndClashesSkipped_restImportedAndRelated() throws CommandException {
+        String feedback = new ImportCalendarCommand(CALENDAR_FILE).execute(model).getFeedbackToUser();
+
+        // Lecture is already there, Lab clashes with it, Standup with Project Sync, and the last event has no name
+        assertEquals(String.format(ImportCalendarCommand.MESSAGE_SUCCESS, 1, CALENDAR_FILE)
+                + String.format(ImportCalendarCommand.MESSAGE_SKIPPED, 1, 2, 1), feedback);
+        assertTrue(model.hasMeeting(projectSync));
+        assertEquals(2, model.getMeetingBook().getMeetingList().size());
+        assertTrue(model.getPersonMeetingConnection().getMeetingsByPerson(ALICE).contains(projectSync));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path missingFile = TEST_DATA_FOLDER.resolve("missing.ics");
+        assertCommandFailure(new ImportCalendarCommand(missingFile), model,
+                String.format(ImportCalendarCommand.MESSAGE_READ_FAILED, missingFile, missingFile));
+    }
+
+    @Test
+    public void execute_exportedThenImported_sameMeetingsAndRelations() throws CommandException {
+        Path exportFile = temporaryFolder.resolve("exported").resolve("meetings.ics");
+        model.addMeeting(projectSync);
+        model.addPersonMeetingConnection(ALICE, projectSync);
+        assertEquals(String.format(ExportCalendarCommand.MESSAGE_SUCCESS, 2, exportFile),
+                new ExportCalendarCommand(exportFile).execute(model).getFeedbackToUser());
+
+        Model importingModel = createModel();
+        assertEquals(String.format(ImportCalendarCommand.MESSAGE_SUCCESS, 2, exportFile),
+                new ImportCalendarCommand(exportFile).execute(importingModel).getFeedbackToUser());
+        assertEquals(model.getMeetingBook().getMeetingList(), importingModel.getMeetingBook().getMeetingList());
+        assertTrue(importingModel.getPersonMeetingConnection().getMeetingsByPerson(BENSON).contains(lecture));
+        assertFalse(importingModel.getPersonMeetingConnection().getMeetingsByPerson(ALICE).contains(lecture));
+    }
+
+    @Test
+    public void equals() {
+        ImportCalendarCommand command = new ImportCalendarCommand(CALENDAR_FILE);
+        assertTrue(command.equals(new ImportCalendarCommand(CALENDAR_FILE)));
+        assertFalse(command.equals(new ImportCalendarCommand(TEST_DATA_FOLDER)));
+        assertFalse(command.equals(new ExportCalendarCommand(CALENDAR_FILE)));
+    }
+
+    private static Model createModel() {
+        Model model = new ModelManager(new AddressBook(), new MeetingBook(), new NoteBook(), new UserPrefs(),
+                new PersonMeetingConnection());
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        return model;
+    }
+}
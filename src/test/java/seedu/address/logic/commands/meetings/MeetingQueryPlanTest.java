@@ -0,0 +1,75 @@
+package seedu.address.logic.commands.meetings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalMeetings.MEETING2;
+import static seedu.address.testutil.TypicalMeetings.MEETING3;
+import static seedu.address.testutil.TypicalMeetings.MEETING4;
+import static seedu.address.testutil.TypicalMeetings.getTypicalMeetingBook;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.connection.PersonMeetingConnection;
+import seedu.address.model.group.Group;
+import seedu.address.model.meeting.DateTime;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.Priority;
+import seedu.address.model.note.NoteBook;
+import seedu.address.model.person.AddressBook;
+
+public class MeetingQueryPlanTest {
+
+    private final Model model = new ModelManager(new AddressBook(), getTypicalMeetingBook(), new NoteBook(),
+            new UserPrefs(), new PersonMeetingConnection());
+
+    @Test
+    public void execute_indexedFilters_intersectedSmallestFirst() {
+        MeetingQueryPlan plan = MeetingQueryPlan.plan(model, List.of(
+                MeetingFilter.hasPriority(new Priority("5")),
+                MeetingFilter.inGroup(new Group("Lectures")),
+                MeetingFilter.nameContains(new MeetingName("CS2106"))));
+        assertEquals(Set.of(MEETING4), plan.execute());
+
+        String description = plan.describe();
+        // the name lookup has the fewest candidates, so it is looked up first
+        assertTrue(description.indexOf("[name contains \"CS2106\"]: 1 candidates")
+                < description.indexOf("[group Lectures]: 2 candidates"));
+        assertTrue(description.indexOf("[group Lectures]: 2 candidates")
+                < description.indexOf("[priority 5]: 3 candidates"));
+        assertTrue(description.contains("intersect, smallest first: 1 survivors"));
+        assertTrue(description.endsWith("1 matches"));
+    }
+
+    @Test
+    public void execute_timeFilter_onlyMeetingsContainingTime() {
+        MeetingQueryPlan plan = MeetingQueryPlan.plan(model, List.of(
+                MeetingFilter.containsTime(new DateTime("2020-03-11 15:00"))));
+        assertEquals(Set.of(MEETING3), plan.execute());
+
+        plan = MeetingQueryPlan.plan(model, List.of(MeetingFilter.containsTime(new DateTime("2020-03-11 17:00"))));
+        assertTrue(plan.execute().isEmpty());
+    }
+
+    @Test
+    public void execute_noIndexedFilter_scansAllMeetings() {
+        MeetingQueryPlan plan = MeetingQueryPlan.plan(model, List.of(
+                MeetingFilter.scanOnly("ends with Seminar", meeting -> meeting.getName().toString()
+                        .endsWith("Seminar"))));
+        Set<Meeting> matches = plan.execute();
+        assertEquals(Set.of(MEETING2), matches);
+        assertTrue(plan.describe().contains("1. scan all meetings"));
+    }
+
+    @Test
+    public void execute_noFilters_allMeetingsMatch() {
+        MeetingQueryPlan plan = MeetingQueryPlan.plan(model, List.of());
+        assertEquals(model.getUnmodifiableMeetingList().size(), plan.execute().size());
+    }
+}
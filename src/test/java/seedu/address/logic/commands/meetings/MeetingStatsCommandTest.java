@@ -0,0 +1,93 @@
+package seedu.address.logic.commands.meetings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.meetings.MeetingCommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.group.Group;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.testutil.MeetingBuilder;
+
+public class MeetingStatsCommandTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2021, 3, 15);
+    private static final LocalDate SUNDAY = LocalDate.of(2021, 3, 21);
+
+    private final Meeting standUp = new MeetingBuilder().withName("Stand Up").withStart("2021-03-15 09:00")
+            .withTerminate("2021-03-15 09:30").withGroups("SoC").build();
+    private final Meeting review = new MeetingBuilder().withName("Review").withStart("2021-03-17 14:00")
+            .withTerminate("2021-03-17 16:00").withGroups().build();
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        model.addMeeting(standUp);
+        model.addMeeting(review);
+        model.addPersonMeetingConnection(ALICE, standUp);
+        model.addPersonMeetingConnection(BENSON, standUp);
+        model.addPersonMeetingConnection(ALICE, review);
+    }
+
+    @Test
+    public void execute_everyone_totalAndBusiestDays() throws CommandException {
+        MeetingStatsCommand command = new MeetingStatsCommand(Optional.empty(), Optional.empty(), MONDAY, SUNDAY);
+        assertEquals(String.format(MeetingStatsCommand.MESSAGE_TOTAL, MONDAY, SUNDAY, "2h 30m")
+                + String.format(MeetingStatsCommand.MESSAGE_BUSIEST_DAYS, "Wed 2021-03-17 (2h), Mon 2021-03-15 (30m)"),
+                command.execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_person_withCoAttendees() throws CommandException {
+        MeetingStatsCommand command = new MeetingStatsCommand(Optional.of(INDEX_FIRST), Optional.empty(),
+                MONDAY, MONDAY);
+        assertEquals(String.format(MeetingStatsCommand.MESSAGE_TOTAL_OF, ALICE.getName(), MONDAY, MONDAY, "30m")
+                + String.format(MeetingStatsCommand.MESSAGE_BUSIEST_DAYS, "Mon 2021-03-15 (30m)")
+                + String.format(MeetingStatsCommand.MESSAGE_TOP_CO_ATTENDEES, BENSON.getName() + " (30m)"),
+                command.execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_groupWithoutMeetings_totalOnly() throws CommandException {
+        MeetingStatsCommand command = new MeetingStatsCommand(Optional.empty(), Optional.of(new Group("Friends")),
+                MONDAY, SUNDAY);
+        assertEquals(String.format(MeetingStatsCommand.MESSAGE_TOTAL_OF, "group Friends", MONDAY, SUNDAY, "0m"),
+                command.execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_invalidPersonIndex_failure() {
+        MeetingStatsCommand command = new MeetingStatsCommand(Optional.of(Index.fromOneBased(3)), Optional.empty(),
+                MONDAY, SUNDAY);
+        assertCommandFailure(command, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        MeetingStatsCommand command = new MeetingStatsCommand(Optional.empty(), Optional.empty(), MONDAY, SUNDAY);
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new MeetingStatsCommand(Optional.empty(), Optional.empty(), MONDAY, SUNDAY)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new MeetingStatsCommand(Optional.empty(), Optional.empty(), MONDAY, MONDAY)));
+        assertFalse(command.equals(new MeetingStatsCommand(Optional.of(INDEX_FIRST), Optional.empty(),
+                MONDAY, SUNDAY)));
+    }
+}
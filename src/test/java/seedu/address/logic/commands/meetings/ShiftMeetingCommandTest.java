@@ -0,0 +1,108 @@
+package seedu.address.logic.commands.meetings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.meetings.MeetingCommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.connection.PersonMeetingConnection;
+import seedu.address.model.group.Group;
+import seedu.address.model.meeting.ClashCheck;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingBook;
+import seedu.address.model.note.NoteBook;
+import seedu.address.model.person.AddressBook;
+import seedu.address.testutil.MeetingBuilder;
+
+public class ShiftMeetingCommandTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2021, 3, 15, 0, 0);
+    private static final LocalDateTime TUESDAY = LocalDateTime.of(2021, 3, 16, 0, 0);
+
+    private final Meeting standUp = new MeetingBuilder().withName("Stand Up").withStart("2021-03-15 09:00")
+            .withTerminate("2021-03-15 10:00").withGroups("SoC").build();
+    private final Meeting review = new MeetingBuilder().withName("Review").withStart("2021-03-15 10:00")
+            .withTerminate("2021-03-15 11:00").withGroups("SoC").build();
+    private final Meeting lunch = new MeetingBuilder().withName("Lunch").withStart("2021-03-15 12:00")
+            .withTerminate("2021-03-15 13:00").withGroups("Friends").build();
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(new AddressBook(), new MeetingBook(), new NoteBook(), new UserPrefs(),
+                new PersonMeetingConnection());
+        model.addPerson(ALICE);
+        model.addMeeting(standUp);
+        model.addMeeting(review);
+        model.addMeeting(lunch);
+        model.addPersonMeetingConnection(ALICE, standUp);
+    }
+
+    @Test
+    public void execute_backToBackMeetingsShifted_allMovedAndRelated() throws CommandException {
+        // each meeting would clash with the other if moved one at a time
+        ShiftMeetingCommand command = new ShiftMeetingCommand(MONDAY, TUESDAY, Duration.ofHours(1),
+                Set.of(new Group("SoC")));
+        assertEquals(String.format(ShiftMeetingCommand.MESSAGE_SUCCESS, 2, "+1h"),
+                command.execute(model).getFeedbackToUser());
+
+        Meeting movedStandUp = new MeetingBuilder(standUp).withStart("2021-03-15 10:00")
+                .withTerminate("2021-03-15 11:00").build();
+        assertTrue(model.hasMeeting(movedStandUp));
+        assertTrue(model.hasMeeting(new MeetingBuilder(review).withStart("2021-03-15 11:00")
+                .withTerminate("2021-03-15 12:00").build()));
+        assertFalse(model.hasMeeting(standUp));
+        assertTrue(model.hasMeeting(lunch));
+        assertTrue(model.getPersonMeetingConnection().getMeetingsByPerson(ALICE).contains(movedStandUp));
+    }
+
+    @Test
+    public void execute_clashWithMeetingStaying_throwsCommandException() {
+        ShiftMeetingCommand command = new ShiftMeetingCommand(MONDAY, TUESDAY, Duration.ofHours(2),
+                Set.of(new Group("SoC")));
+        assertCommandFailure(command, model, String.format(ShiftMeetingCommand.MESSAGE_CLASH_MEETINGS,
+                "Review: Lunch"));
+        assertTrue(model.hasMeeting(standUp));
+    }
+
+    @Test
+    public void execute_perAttendeeClashWithoutSharedPerson_success() throws CommandException {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setMeetingClashCheck(ClashCheck.PER_ATTENDEE);
+        model.setUserPrefs(userPrefs);
+        new ShiftMeetingCommand(MONDAY, TUESDAY, Duration.ofHours(2), Set.of(new Group("SoC"))).execute(model);
+        assertTrue(model.hasMeeting(new MeetingBuilder(review).withStart("2021-03-15 12:00")
+                .withTerminate("2021-03-15 13:00").build()));
+    }
+
+    @Test
+    public void execute_noMeetingInRange_throwsCommandException() {
+        ShiftMeetingCommand command = new ShiftMeetingCommand(TUESDAY, TUESDAY.plusDays(1), Duration.ofDays(-1),
+                Set.of());
+        assertCommandFailure(command, model, String.format(ShiftMeetingCommand.MESSAGE_NO_MEETINGS,
+                "2021-03-16 00:00", "2021-03-17 00:00"));
+    }
+
+    @Test
+    public void equals() {
+        ShiftMeetingCommand command = new ShiftMeetingCommand(MONDAY, TUESDAY, Duration.ofHours(1), Set.of());
+        assertTrue(command.equals(new ShiftMeetingCommand(MONDAY, TUESDAY, Duration.ofHours(1), Set.of())));
+        assertFalse(command.equals(new ShiftMeetingCommand(MONDAY, TUESDAY, Duration.ofHours(-1), Set.of())));
+        assertFalse(command.equals(new ShiftMeetingCommand(MONDAY, TUESDAY, Duration.ofHours(1),
+                Set.of(new Group("SoC")))));
+        assertFalse(command.equals(null));
+    }
+}
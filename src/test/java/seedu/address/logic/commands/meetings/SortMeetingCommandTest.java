@@ -1,13 +1,19 @@
 package seedu.address.logic.commands.meetings;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.testutil.TypicalMeetings.MEETING1;
 import static seedu.address.testutil.TypicalMeetings.MEETING4;
 import static seedu.address.testutil.TypicalMeetings.MEETING5;
 import static seedu.address.testutil.TypicalMeetings.getTypicalMeetingBook;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -20,6 +26,7 @@ import seedu.address.model.meeting.MeetingSortDirection;
 import seedu.address.model.meeting.MeetingSortOption;
 import seedu.address.model.note.NoteBook;
 import seedu.address.model.person.AddressBook;
+import seedu.address.testutil.MeetingBuilder;
 
 class SortMeetingCommandTest {
 
@@ -71,5 +78,24 @@ class SortMeetingCommandTest {
         assertEquals(MEETING1, filteredList.get(0));
         assertEquals(new CommandResult("Sorted meetings"), results);
     }
+    @Test
+    void executeStart_meetingAdded_insertedInPlace() throws CommandException {
+        new SortMeetingCommand(MeetingSortOption.START, MeetingSortDirection.ASC).execute(model);
+        List<ListChangeListener.Change<? extends Meeting>> changes = new ArrayList<>();
+        model.getFilteredMeetingList().addListener((ListChangeListener<Meeting>) changes::add);
+
+        Meeting earliest = new MeetingBuilder().withName("Breakfast")
+                .withStart("2000-01-01 07:00").withTerminate("2000-01-01 08:00").build();
+        model.addMeeting(earliest);
+
+        // the sorted view reports the meeting as added in place, not as a permutation of the whole list
+        ListChangeListener.Change<? extends Meeting> change = changes.get(0);
+        change.next();
+        assertFalse(change.wasPermutated());
+        assertEquals(0, change.getFrom());
+        assertEquals(Collections.singletonList(earliest), change.getAddedSubList());
+        assertFalse(change.next());
+        assertEquals(earliest, model.getFilteredMeetingList().get(0));
+    }
 
 }
@@ -0,0 +1,73 @@
+package seedu.address.logic.commands.notes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_NOTES_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalNotes.NOTE1;
+import static seedu.address.testutil.TypicalNotes.NOTE2;
+import static seedu.address.testutil.TypicalNotes.NOTE4;
+import static seedu.address.testutil.TypicalNotes.NOTE5;
+import static seedu.address.testutil.TypicalNotes.getTypicalNoteBook;
+import static seedu.address.testutil.TypicalNotes.getTypicalNotes;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ListAllCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.connection.PersonMeetingConnection;
+import seedu.address.model.meeting.MeetingBook;
+import seedu.address.model.person.AddressBook;
+import seedu.address.testutil.NoteBuilder;
+
+public class FindNoteCommandTest {
+
+    private Model model = new ModelManager(new AddressBook(), new MeetingBook(), getTypicalNoteBook(),
+            new UserPrefs(), new PersonMeetingConnection());
+
+    @Test
+    public void equals() {
+        FindNoteCommand findFirstCommand = new FindNoteCommand(Collections.singletonList("first"));
+        FindNoteCommand findSecondCommand = new FindNoteCommand(Collections.singletonList("second"));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FindNoteCommand(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_keywords_notesListedMostRelevantFirst() {
+        model.addNote(new NoteBuilder().withContent("Table of tutorial slots").build());
+        CommandResult result = new FindNoteCommand(Arrays.asList("table", "tennis")).execute(model);
+        assertEquals(String.format(MESSAGE_NOTES_LISTED_OVERVIEW, 2), result.getFeedbackToUser());
+        assertEquals(NOTE5, model.getFilteredNoteList().get(0));
+    }
+
+    @Test
+    public void execute_prefix_notesListed() {
+        new FindNoteCommand(Arrays.asList("cs21*", "badm*")).execute(model);
+        assertEquals(3, model.getFilteredNoteList().size());
+        assertTrue(model.getFilteredNoteList().containsAll(Arrays.asList(NOTE1, NOTE2, NOTE4)));
+    }
+
+    @Test
+    public void execute_listAfterFind_allNotesInOriginalOrder() {
+        new FindNoteCommand(Collections.singletonList("play")).execute(model);
+        new ListAllCommand().execute(model);
+        assertEquals(getTypicalNotes(), model.getFilteredNoteList());
+    }
+}
@@ -8,11 +8,16 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.analytics.MeetingAnalytics;
 import seedu.address.model.connection.PersonMeetingConnection;
+import seedu.address.model.connection.PersonMeetingList;
 import seedu.address.model.group.Group;
+import seedu.address.model.meeting.DateTime;
+import seedu.address.model.meeting.Description;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.Priority;
 import seedu.address.model.meeting.ReadOnlyMeetingBook;
-import seedu.address.model.meeting.UniqueMeetingList;
 import seedu.address.model.note.Note;
 import seedu.address.model.note.ReadOnlyNoteBook;
 import seedu.address.model.person.AddressBook;
@@ -20,6 +25,7 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.ReadOnlyAddressBook;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.reminder.ReadOnlyReminderBook;
+import seedu.address.model.reminder.ReminderScheduler;
 import seedu.address.testutil.PersonBuilder;
 
 import java.nio.file.Path;
@@ -27,6 +33,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 import static org.junit.jupiter.api.Assertions.*;
@@ -123,6 +130,11 @@ public class AddPersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> toAdd) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -153,6 +165,46 @@ public class AddPersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Set<Person> findPersonsWithNameKeywords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Person, Integer> findPersonsWithNameKeywordsNear(List<String> keywords, int maxDistance) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Set<Meeting>> findMeetingNameCandidates(MeetingName name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Set<Meeting>> findMeetingDescriptionCandidates(Description description) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Meeting, Integer> findMeetingsWithNameNear(MeetingName name, int maxDistance) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Meeting> findMeetingsInGroup(Group group) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Meeting> findMeetingsWithPriority(Priority priority) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Meeting> findMeetingsOnDateOf(DateTime time) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -168,6 +220,11 @@ public class AddPersonCommandTest {
 
         }
 
+        @Override
+        public void rankFilteredPersonList(Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setMeetingBook(ReadOnlyMeetingBook meetingBook) {
             throw new AssertionError("This method should not be called.");
@@ -203,6 +260,21 @@ public class AddPersonCommandTest {
 
         }
 
+        @Override
+        public void updateMeetings(List<Meeting> targets, List<Meeting> editedMeetings) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addMeetings(List<Meeting> toAdd) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Meeting, List<Meeting>> getClashesAfterAdding(List<Meeting> toAdd) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Meeting> getFilteredMeetingList() {
             throw new AssertionError("This method should not be called.");
@@ -218,6 +290,11 @@ public class AddPersonCommandTest {
 
         }
 
+        @Override
+        public void rankFilteredMeetingList(Comparator<Meeting> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Meeting> getUnmodifiableMeetingList() {
             throw new AssertionError("This method should not be called");
@@ -295,6 +372,11 @@ public class AddPersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Map<Note, Double> searchNotes(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Note> getFilteredNoteList() {
             throw new AssertionError("This method should not be called.");
@@ -305,6 +387,11 @@ public class AddPersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void sortFilteredNoteList(Comparator<Note> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Path getNoteBookFilePath() {
             throw new AssertionError("This method should not be called.");
@@ -323,7 +410,7 @@ public class AddPersonCommandTest {
         }
 
         @Override
-        public UniqueMeetingList getUniqueMeetingListByPersonConnection(Person person) {
+        public PersonMeetingList getMeetingListByPersonConnection(Person person) {
             return null;
         }
 
@@ -353,6 +440,31 @@ public class AddPersonCommandTest {
 
         }
 
+        @Override
+        public ReminderScheduler getReminderScheduler() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public MeetingAnalytics getMeetingAnalytics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getDataVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void executeInBatch(Runnable mutations) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public <T> T getCachedQueryResult(String descriptor, Supplier<T> query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean clashes(Meeting toCheck) {
             throw new AssertionError("This method should not be called.");
@@ -368,6 +480,17 @@ public class AddPersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Map<Meeting, List<Meeting>> getClashesAfterReplacing(Collection<Meeting> targets,
+                                                                    List<Meeting> editedMeetings) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Meeting> findMeetingsOverlapping(LocalDateTime start, LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Optional<Meeting> getMeetingAtInstant(LocalDateTime localDateTime) {
             throw new AssertionError("This method should not be called.");
@@ -5,13 +5,18 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.persons.PersonCommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -19,6 +24,9 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortDirection;
+import seedu.address.model.person.PersonSortOption;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindPersonCommand}.
@@ -74,6 +82,44 @@ public class FindPersonCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_fuzzyKeyword_personsRankedByDistance() {
+        FindPersonCommand command = new FindPersonCommand(preparePredicate("Meyer"), 1);
+        command.execute(model);
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getFilteredPersonList());
+
+        // a typo beyond the maximum distance
+        new FindPersonCommand(preparePredicate("Myr"), 1).execute(model);
+        assertTrue(model.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void execute_fuzzyThenList_sortOrderRestored() throws Exception {
+        new SortPersonCommand(PersonSortOption.NAME, PersonSortDirection.DESC).execute(model);
+        List<Person> sortedPersons = new ArrayList<>(model.getFilteredPersonList());
+
+        // persons at the same distance stay sorted
+        new FindPersonCommand(preparePredicate("Meyer"), 1).execute(model);
+        assertEquals(Arrays.asList(ELLE, DANIEL, BENSON), model.getFilteredPersonList());
+
+        new ListPersonCommand().execute(model);
+        assertEquals(sortedPersons, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_repeatedAfterChange_findsNewPerson() {
+        new FindPersonCommand(preparePredicate("Meier")).execute(model);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+
+        // same keywords in another case and order -> same result
+        new FindPersonCommand(preparePredicate("meier MEIER")).execute(model);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+
+        model.addPerson(HOON);
+        new FindPersonCommand(preparePredicate("Meier")).execute(model);
+        assertEquals(Arrays.asList(BENSON, DANIEL, HOON), model.getFilteredPersonList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
@@ -0,0 +1,94 @@
+package seedu.address.logic.commands.persons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.persons.PersonCommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.connection.PersonMeetingConnection;
+import seedu.address.model.meeting.MeetingBook;
+import seedu.address.model.note.NoteBook;
+import seedu.address.model.person.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonName;
+import seedu.address.model.person.Phone;
+import seedu.address.storage.contacts.ContactRecord;
+import seedu.address.storage.contacts.CsvContactReader;
+import seedu.address.testutil.PersonBuilder;
+
+public class ImportPersonCommandTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "ImportPersonCommandTest");
+    private static final Path CSV_FILE = TEST_DATA_FOLDER.resolve("contacts.csv");
+    private static final Path VCARD_FILE = TEST_DATA_FOLDER.resolve("contacts.vcf");
+
+    private final Person carl = new PersonBuilder().withName("Carl Kurz").withPhone("95355633")
+            .withEmail("heinz@example.com").withAddress("wall street, #01-01").withGroups("CS2103", "friends")
+            .build();
+    private final Person elle = new PersonBuilder().withName("Elle Meyer").withPhone("9482224")
+            .withEmail("werner@example.com").withAddress("michegan ave").build();
+    private final Person fiona = new PersonBuilder().withName("Fiona Kunz").withPhone(Phone.PLACE_HOLDER)
+            .withEmail(Email.PLACE_HOLDER).withAddress(Address.PLACE_HOLDER).build();
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(new AddressBook(), new MeetingBook(), new NoteBook(), new UserPrefs(),
+                new PersonMeetingConnection());
+        model.addPerson(ALICE);
+    }
+
+    @Test
+    public void execute_csvWithDuplicatesAndInvalidRows_restImported() throws CommandException {
+        String feedback = new ImportPersonCommand(CSV_FILE).execute(model).getFeedbackToUser();
+
+        // Alice is already there, Carl is in the file twice, and the rows of Daniel and the blank name are invalid
+        assertEquals(String.format(ImportPersonCommand.MESSAGE_SUCCESS, 3, CSV_FILE)
+                + String.format(ImportPersonCommand.MESSAGE_SKIPPED, 2, 2)
+                + String.format(ImportPersonCommand.MESSAGE_INVALID_CONTACT, 5, PersonName.MESSAGE_CONSTRAINTS)
+                + String.format(ImportPersonCommand.MESSAGE_INVALID_CONTACT, 10, String.format(
+                        ContactRecord.MISSING_FIELD_MESSAGE_FORMAT, PersonName.class.getSimpleName())), feedback);
+        assertEquals(List.of(ALICE, carl, elle, fiona), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_vCard_imported() throws CommandException {
+        assertEquals(String.format(ImportPersonCommand.MESSAGE_SUCCESS, 2, VCARD_FILE),
+                new ImportPersonCommand(VCARD_FILE).execute(model).getFeedbackToUser());
+        // the city and postal code of Carl are in the vCard, and the address of Elle is not
+        Person carlWithCity = new PersonBuilder(carl).withAddress("wall street, #01-01, Singapore, 123456").build();
+        Person elleWithoutAddress = new PersonBuilder(elle).withAddress(Address.PLACE_HOLDER).build();
+        assertEquals(List.of(ALICE, carlWithCity, elleWithoutAddress), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_missingNameColumn_throwsCommandException() {
+        Path noNameFile = TEST_DATA_FOLDER.resolve("noNameColumn.csv");
+        assertCommandFailure(new ImportPersonCommand(noNameFile), model,
+                String.format(ImportPersonCommand.MESSAGE_READ_FAILED, noNameFile,
+                        CsvContactReader.MESSAGE_MISSING_NAME_COLUMN));
+    }
+
+    @Test
+    public void equals() {
+        ImportPersonCommand command = new ImportPersonCommand(CSV_FILE);
+        assertTrue(command.equals(new ImportPersonCommand(CSV_FILE)));
+        assertFalse(command.equals(new ImportPersonCommand(VCARD_FILE)));
+        assertFalse(command.equals(null));
+    }
+}
@@ -136,6 +136,31 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_overlappingPrefixes_longestRecognized() {
+        Prefix prSlash = new Prefix("pr/");
+        String argsString = "p/ not a prefix pr/3 p/1 pr/ p/2";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, prSlash);
+        assertPreamblePresent(argMultimap, "p/ not a prefix");
+        assertArgumentPresent(argMultimap, pSlash, "1", "2");
+        assertArgumentPresent(argMultimap, prSlash, "3", "");
+    }
+
+    @Test
+    public void tokenize_manyArguments_allValuesKept() {
+        Prefix nonAsciiPrefix = new Prefix("\u00e9/");
+        StringBuilder argsString = new StringBuilder("preamble");
+        String[] expectedValues = new String[100];
+        for (int i = 0; i < expectedValues.length; i++) {
+            expectedValues[i] = "value " + i;
+            argsString.append(" p/").append(expectedValues[i]).append(" \u00e9/").append(i);
+        }
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString.toString(), pSlash, nonAsciiPrefix);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlash, expectedValues);
+        assertEquals("99", argMultimap.getValue(nonAsciiPrefix).get());
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
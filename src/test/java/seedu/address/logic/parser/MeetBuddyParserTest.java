@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.notes.FindNoteCommand;
 import seedu.address.logic.commands.persons.AddPersonCommand;
 import seedu.address.logic.commands.persons.DeletePersonCommand;
 import seedu.address.logic.commands.persons.EditPersonCommand;
@@ -69,6 +70,14 @@ public class MeetBuddyParserTest {
         assertEquals(new FindPersonCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_findNote() throws Exception {
+        List<String> keywords = Arrays.asList("foo", "bar*");
+        FindNoteCommand command = (FindNoteCommand) parser.parseCommand(
+                FindNoteCommand.COMMAND_WORD + "  foo \t bar*");
+        assertEquals(new FindNoteCommand(keywords), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
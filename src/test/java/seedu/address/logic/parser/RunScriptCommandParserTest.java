@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RunScriptCommand;
+
+public class RunScriptCommandParserTest {
+
+    private final RunScriptCommandParser parser = new RunScriptCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " data/setup.txt", new RunScriptCommand(Paths.get("data/setup.txt"),
+                Paths.get("data/setup.txt.out"), false));
+        assertParseSuccess(parser, " --continue data/my setup.txt out/data/setup.log",
+                new RunScriptCommand(Paths.get("data/my setup.txt"), Paths.get("data/setup.log"), true));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunScriptCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "  ", expectedMessage);
+        assertParseFailure(parser, " --continue", expectedMessage);
+        assertParseFailure(parser, " out/data/setup.log", expectedMessage);
+        assertParseFailure(parser, " data/setup.txt out/", expectedMessage);
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.logic.parser.connections;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.connections.SuggestPersonToMeetingConnectionCommand;
+
+public class SuggestPersonToMeetingConnectionParserTest {
+
+    private final SuggestPersonToMeetingConnectionParser parser = new SuggestPersonToMeetingConnectionParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " 1", new SuggestPersonToMeetingConnectionCommand(INDEX_FIRST,
+                SuggestPersonToMeetingConnectionCommand.DEFAULT_COUNT));
+        assertParseSuccess(parser, " 1 k/3", new SuggestPersonToMeetingConnectionCommand(INDEX_FIRST, 3));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseFailure(parser, " k/3", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                SuggestPersonToMeetingConnectionCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " 1 k/0", SuggestPersonToMeetingConnectionParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " 1 k/51", SuggestPersonToMeetingConnectionParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " 1 k/three", SuggestPersonToMeetingConnectionParser.MESSAGE_INVALID_COUNT);
+    }
+}
@@ -29,6 +29,9 @@ import static seedu.address.logic.commands.meetings.MeetingCommandTestUtil.VALID
 import static seedu.address.logic.commands.meetings.MeetingCommandTestUtil.VALID_TERMINATE_MEETING1;
 import static seedu.address.logic.commands.persons.PersonCommandTestUtil.GROUP_DESC_FRIEND;
 import static seedu.address.logic.commands.persons.PersonCommandTestUtil.INVALID_GROUP_DESC;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalMeetings.MEETING1;
@@ -41,6 +44,7 @@ import seedu.address.model.meeting.DateTime;
 import seedu.address.model.meeting.Meeting;
 import seedu.address.model.meeting.MeetingName;
 import seedu.address.model.meeting.Priority;
+import seedu.address.model.meeting.Recurrence;
 import seedu.address.testutil.MeetingBuilder;
 
 class AddMeetingCommandParserTest {
@@ -124,6 +128,27 @@ class AddMeetingCommandParserTest {
             "Index of a person or a meeting is not a non-zero unsigned integer.");
     }
 
+    @Test
+    public void parse_recurrence() {
+        Meeting expectedMeeting = new MeetingBuilder(MEETING1).withGroups(VALID_GROUP_MEETING1)
+                .withRecurrence("FREQ=WEEKLY;UNTIL=2021-06-30").build();
+        assertParseSuccess(parser, NAME_DESC_MEETING1 + START_DESC_MEETING1 + END_DESC_MEETING1
+                + PRIORITY_DESC_MEETING1 + DESCRIPTION_DESC_MEETING1 + GROUP_DESC_MEETING1
+                + " " + PREFIX_RECURRENCE + "freq=weekly;until=2021-06-30", new AddMeetingCommand(expectedMeeting));
+
+        assertParseFailure(parser, NAME_DESC_MEETING1 + START_DESC_MEETING1 + END_DESC_MEETING1
+                + " " + PREFIX_RECURRENCE + "FREQ=HOURLY;UNTIL=2021-06-30", Recurrence.MESSAGE_CONSTRAINTS);
+
+        // parts that are not supported are rejected rather than ignored
+        assertParseFailure(parser, NAME_DESC_MEETING1 + START_DESC_MEETING1 + END_DESC_MEETING1
+                + " " + PREFIX_RECURRENCE + "FREQ=WEEKLY;BYDAY=MO,WE;UNTIL=2021-06-30", Recurrence.MESSAGE_CONSTRAINTS);
+
+        // the meeting would repeat before it ends
+        assertParseFailure(parser, NAME_DESC_MEETING1 + " " + PREFIX_START_TIME + "2021-03-01 10:00 "
+                + PREFIX_END_TIME + "2021-03-02 11:00 " + PREFIX_RECURRENCE + "FREQ=DAILY;UNTIL=2021-06-30",
+                Recurrence.MESSAGE_MEETING_CONSTRAINTS);
+    }
+
     @Test
     public void parse_optionalFieldsMissing_success() {
         // zero group
@@ -0,0 +1,66 @@
+package seedu.address.logic.parser.meetings;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.meetings.AutoScheduleMeetingCommand;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.group.Group;
+import seedu.address.model.meeting.Description;
+import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.Priority;
+import seedu.address.model.schedule.WorkingHours;
+
+public class AutoScheduleMeetingCommandParserTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2021, 3, 15);
+    private static final LocalDate FRIDAY = LocalDate.of(2021, 3, 19);
+
+    private final AutoScheduleMeetingCommandParser parser = new AutoScheduleMeetingCommandParser();
+
+    @Test
+    public void parse_allFields_success() {
+        assertParseSuccess(parser, " n/Project Sync st/2021-03-15 ed/2021-03-19 dur/90 desc/Weekly pr/3 "
+                + "hours/10:00-17:00 g/SoC p/1 p/2",
+                new AutoScheduleMeetingCommand(new MeetingName("Project Sync"), new Description("Weekly"),
+                        new Priority("3"), Set.of(new Group("SoC")),
+                        Set.of(Index.fromOneBased(1), Index.fromOneBased(2)), MONDAY, FRIDAY,
+                        Duration.ofMinutes(90), new WorkingHours("10:00-17:00")));
+    }
+
+    @Test
+    public void parse_optionalFieldsMissing_defaults() {
+        assertParseSuccess(parser, " n/Project Sync st/2021-03-15 ed/2021-03-15 dur/30",
+                new AutoScheduleMeetingCommand(new MeetingName("Project Sync"), new Description(""),
+                        new Priority("1"), Set.of(), Set.of(), MONDAY, MONDAY, Duration.ofMinutes(30),
+                        WorkingHours.DEFAULT));
+    }
+
+    @Test
+    public void parse_compulsoryFieldMissing_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                AutoScheduleMeetingCommand.MESSAGE_USAGE);
+        // no name
+        assertParseFailure(parser, " st/2021-03-15 ed/2021-03-19 dur/30", expectedMessage);
+        // no duration
+        assertParseFailure(parser, " n/Project Sync st/2021-03-15 ed/2021-03-19", expectedMessage);
+        // no last date
+        assertParseFailure(parser, " n/Project Sync st/2021-03-15 dur/30", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseFailure(parser, " n/Project Sync st/2021-03-19 ed/2021-03-15 dur/30",
+                FindFreeSlotCommandParser.MESSAGE_LAST_DATE_BEFORE_FIRST);
+        assertParseFailure(parser, " n/Project Sync st/2021-03-15 ed/2021-03-19 dur/10080",
+                ParserUtil.MESSAGE_INVALID_DURATION);
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic.parser.meetings;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.meetings.FindFreeSlotCommand;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.group.Group;
+import seedu.address.model.schedule.WorkingHours;
+
+public class FindFreeSlotCommandParserTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2021, 3, 15);
+    private static final LocalDate FRIDAY = LocalDate.of(2021, 3, 19);
+
+    private final FindFreeSlotCommandParser parser = new FindFreeSlotCommandParser();
+
+    @Test
+    public void parse_allFields_success() {
+        assertParseSuccess(parser, " p/1 p/2 g/SoC st/2021-03-15 ed/2021-03-19 dur/90 hours/10:00-17:00",
+                new FindFreeSlotCommand(Set.of(Index.fromOneBased(1), Index.fromOneBased(2)),
+                        Set.of(new Group("SoC")), MONDAY, FRIDAY, Duration.ofMinutes(90),
+                        new WorkingHours("10:00-17:00")));
+    }
+
+    @Test
+    public void parse_noWorkingHours_defaultWorkingHours() {
+        assertParseSuccess(parser, " g/SoC st/2021-03-15 ed/2021-03-15 dur/30",
+                new FindFreeSlotCommand(Set.of(), Set.of(new Group("SoC")), MONDAY, MONDAY,
+                        Duration.ofMinutes(30), WorkingHours.DEFAULT));
+    }
+
+    @Test
+    public void parse_missingFields_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindFreeSlotCommand.MESSAGE_USAGE);
+        // no attendees
+        assertParseFailure(parser, " st/2021-03-15 ed/2021-03-19 dur/30", expectedMessage);
+        // no duration
+        assertParseFailure(parser, " p/1 st/2021-03-15 ed/2021-03-19", expectedMessage);
+        // preamble
+        assertParseFailure(parser, " 1 p/1 st/2021-03-15 ed/2021-03-19 dur/30", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseFailure(parser, " p/1 st/2021-03-19 ed/2021-03-15 dur/30",
+                FindFreeSlotCommandParser.MESSAGE_LAST_DATE_BEFORE_FIRST);
+        assertParseFailure(parser, " p/1 st/2021-03-15 ed/2021-03-19 dur/5", ParserUtil.MESSAGE_INVALID_DURATION);
+        assertParseFailure(parser, " p/1 st/2021-03-15 ed/2021-03-19 dur/30 hours/18:00-09:00",
+                WorkingHours.MESSAGE_CONSTRAINTS);
+    }
+}
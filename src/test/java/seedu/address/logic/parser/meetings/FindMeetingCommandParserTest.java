@@ -1,6 +1,7 @@
 package seedu.address.logic.parser.meetings;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.FLAG_FUZZY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
@@ -11,12 +12,14 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.meetings.FindMeetingCommand;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.meeting.DateTime;
 
@@ -61,6 +64,25 @@ class FindMeetingCommandParserTest {
                 "findm: " + DateTime.MESSAGE_CONSTRAINTS);
     }
 
+    @Test
+    public void parse_explain() {
+        assertParseSuccess(parser, " " + FindMeetingCommand.EXPLAIN_FLAG + " " + PREFIX_NAME + "n",
+                new FindMeetingCommand(List.of(), Set.of(), true));
+        assertParseFailure(parser, " explain " + PREFIX_NAME + "n",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindMeetingCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_fuzzy() {
+        assertParseSuccess(parser, " " + FLAG_FUZZY + "=1 " + FindMeetingCommand.EXPLAIN_FLAG + " " + PREFIX_NAME + "n",
+                new FindMeetingCommand(List.of(), Set.of(), true));
+        // fuzzy search needs a name
+        assertParseFailure(parser, " " + FLAG_FUZZY + " " + PREFIX_PRIORITY + "3",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindMeetingCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " " + FLAG_FUZZY + "=7 " + PREFIX_NAME + "n",
+                ParserUtil.MESSAGE_INVALID_FUZZY_FLAG);
+    }
+
     @Test
     public void parse_all() throws ParseException {
         Set<Index> oneSet = new HashSet<>();
@@ -0,0 +1,58 @@
+package seedu.address.logic.parser.meetings;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.meetings.MeetingStatsCommand;
+import seedu.address.logic.parser.DateTimeUtil;
+import seedu.address.model.analytics.WeeklyTally;
+import seedu.address.model.group.Group;
+
+public class MeetingStatsCommandParserTest {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2021, 3, 1);
+    private static final LocalDate LAST_DATE = LocalDate.of(2021, 3, 31);
+
+    private final MeetingStatsCommandParser parser = new MeetingStatsCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " p/1 st/2021-03-01 ed/2021-03-31",
+                new MeetingStatsCommand(Optional.of(INDEX_FIRST), Optional.empty(), FIRST_DATE, LAST_DATE));
+        assertParseSuccess(parser, " g/SoC st/2021-03-01 ed/2021-03-31",
+                new MeetingStatsCommand(Optional.empty(), Optional.of(new Group("SoC")), FIRST_DATE, LAST_DATE));
+        assertParseSuccess(parser, " st/2021-03-01 ed/2021-03-01",
+                new MeetingStatsCommand(Optional.empty(), Optional.empty(), FIRST_DATE, FIRST_DATE));
+    }
+
+    @Test
+    public void parse_noDates_currentWeek() {
+        LocalDate monday = WeeklyTally.getWeek(LocalDate.now());
+        assertParseSuccess(parser, "",
+                new MeetingStatsCommand(Optional.empty(), Optional.empty(), monday, monday.plusDays(6)));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MeetingStatsCommand.MESSAGE_USAGE);
+        // both a person and a group
+        assertParseFailure(parser, " p/1 g/SoC", expectedMessage);
+        // only one date
+        assertParseFailure(parser, " st/2021-03-01", expectedMessage);
+        assertParseFailure(parser, " ed/2021-03-31", expectedMessage);
+        // preamble
+        assertParseFailure(parser, " 1", expectedMessage);
+
+        assertParseFailure(parser, " st/2021-03-31 ed/2021-03-01",
+                MeetingStatsCommandParser.MESSAGE_LAST_DATE_BEFORE_FIRST);
+        assertParseFailure(parser, " st/2021-01-01 ed/2022-01-02", MeetingStatsCommandParser.MESSAGE_PERIOD_TOO_LONG);
+        assertParseFailure(parser, " st/2021-03-01 ed/31-03-2021", DateTimeUtil.MESSAGE_INVALID_DATE_FORMAT);
+    }
+}
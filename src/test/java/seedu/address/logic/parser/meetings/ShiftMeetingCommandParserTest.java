@@ -0,0 +1,52 @@
+package seedu.address.logic.parser.meetings;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.meetings.ShiftMeetingCommand;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.group.Group;
+
+public class ShiftMeetingCommandParserTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2021, 3, 15, 0, 0);
+    private static final LocalDateTime FRIDAY = LocalDateTime.of(2021, 3, 19, 18, 0);
+
+    private final ShiftMeetingCommandParser parser = new ShiftMeetingCommandParser();
+
+    @Test
+    public void parse_allFields_success() {
+        assertParseSuccess(parser, " st/2021-03-15 00:00 ed/2021-03-19 18:00 by/+1w g/SoC g/CS2103",
+                new ShiftMeetingCommand(MONDAY, FRIDAY, Duration.ofDays(7),
+                        Set.of(new Group("SoC"), new Group("CS2103"))));
+        assertParseSuccess(parser, " st/2021-03-15 00:00 ed/2021-03-19 18:00 by/-90m",
+                new ShiftMeetingCommand(MONDAY, FRIDAY, Duration.ofMinutes(-90), Set.of()));
+    }
+
+    @Test
+    public void parse_compulsoryFieldMissing_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShiftMeetingCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " st/2021-03-15 00:00 ed/2021-03-19 18:00", expectedMessage);
+        assertParseFailure(parser, " st/2021-03-15 00:00 by/+1d", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        String range = " st/2021-03-15 00:00 ed/2021-03-19 18:00";
+        assertParseFailure(parser, " st/2021-03-19 18:00 ed/2021-03-15 00:00 by/+1d",
+                ShiftMeetingCommandParser.MESSAGE_END_NOT_AFTER_START);
+        // no sign
+        assertParseFailure(parser, range + " by/1d", ParserUtil.MESSAGE_INVALID_OFFSET);
+        // zero
+        assertParseFailure(parser, range + " by/+0h", ParserUtil.MESSAGE_INVALID_OFFSET);
+        // unknown unit
+        assertParseFailure(parser, range + " by/+2y", ParserUtil.MESSAGE_INVALID_OFFSET);
+    }
+}
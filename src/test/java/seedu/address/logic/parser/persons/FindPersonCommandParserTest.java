@@ -1,6 +1,7 @@
 package seedu.address.logic.parser.persons;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.FLAG_FUZZY;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
@@ -9,6 +10,7 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.persons.FindPersonCommand;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 public class FindPersonCommandParserTest {
@@ -32,4 +34,21 @@ public class FindPersonCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindPersonCommand);
     }
 
+    @Test
+    public void parse_fuzzyFlag_returnsFuzzyFindCommand() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Alise", "Bob"));
+        assertParseSuccess(parser, FLAG_FUZZY + " Alise Bob",
+                new FindPersonCommand(predicate, ParserUtil.DEFAULT_FUZZY_DISTANCE));
+        assertParseSuccess(parser, FLAG_FUZZY + "=1 Alise Bob", new FindPersonCommand(predicate, 1));
+    }
+
+    @Test
+    public void parse_invalidFuzzyFlag_throwsParseException() {
+        assertParseFailure(parser, FLAG_FUZZY,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPersonCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, FLAG_FUZZY + "=0 Alice", ParserUtil.MESSAGE_INVALID_FUZZY_FLAG);
+        assertParseFailure(parser, FLAG_FUZZY + "=9 Alice", ParserUtil.MESSAGE_INVALID_FUZZY_FLAG);
+        assertParseFailure(parser, FLAG_FUZZY + "=a Alice", ParserUtil.MESSAGE_INVALID_FUZZY_FLAG);
+    }
+
 }
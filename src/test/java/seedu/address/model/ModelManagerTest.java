@@ -5,21 +5,28 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalMeetings.MEETING1;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.connection.PersonMeetingConnection;
 import seedu.address.model.group.Group;
 import seedu.address.model.meeting.MeetingBook;
 import seedu.address.model.person.AddressBook;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
 
 public class ModelManagerTest {
@@ -157,4 +164,58 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    @Test
+    public void executeInBatch_manyChanges_filteredListNotifiedOnce() {
+        modelManager.addPerson(ALICE);
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) changes::add);
+
+        modelManager.executeInBatch(() -> {
+            modelManager.addPerson(BENSON);
+            modelManager.deletePerson(ALICE);
+        });
+
+        assertEquals(1, changes.size());
+        assertEquals(Collections.singletonList(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getCachedQueryResult_unchangedModel_returnsCachedResult() {
+        int[] runs = new int[1];
+        Supplier<String> query = () -> "result " + ++runs[0];
+        assertEquals("result 1", modelManager.getCachedQueryResult("query", query));
+        assertEquals("result 1", modelManager.getCachedQueryResult("query", query));
+        assertEquals("result 2", modelManager.getCachedQueryResult("other query", query));
+        assertEquals(2, runs[0]);
+    }
+
+    @Test
+    public void getCachedQueryResult_modelChanged_runsQueryAgain() {
+        int[] runs = new int[1];
+        Supplier<Integer> query = () -> ++runs[0];
+        modelManager.getCachedQueryResult("query", query);
+
+        modelManager.addPerson(ALICE);
+        assertEquals(2, modelManager.getCachedQueryResult("query", query));
+
+        modelManager.addMeeting(MEETING1);
+        assertEquals(3, modelManager.getCachedQueryResult("query", query));
+
+        modelManager.addPersonMeetingConnection(ALICE, MEETING1);
+        assertEquals(4, modelManager.getCachedQueryResult("query", query));
+        assertEquals(4, modelManager.getCachedQueryResult("query", query));
+    }
+
+    @Test
+    public void getCachedQueryResult_manyQueries_evictsLeastRecentlyUsed() {
+        int[] runs = new int[1];
+        Supplier<Integer> query = () -> ++runs[0];
+        for (int i = 0; i <= ModelManager.QUERY_CACHE_CAPACITY; i++) {
+            modelManager.getCachedQueryResult("query " + i, query);
+        }
+        assertEquals(ModelManager.QUERY_CACHE_CAPACITY + 2, modelManager.getCachedQueryResult("query 0", query));
+        assertEquals(ModelManager.QUERY_CACHE_CAPACITY + 1,
+                modelManager.getCachedQueryResult("query " + ModelManager.QUERY_CACHE_CAPACITY, query));
+    }
 }
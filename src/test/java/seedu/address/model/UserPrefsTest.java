@@ -23,4 +23,10 @@ public class UserPrefsTest {
         UserPrefs userPrefs = new UserPrefs();
         assertThrows(NullPointerException.class, () -> userPrefs.setMeetingBookFilePath(null));
     }
+
+    @Test
+    public void setMeetingClashCheck_nullClashCheck_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setMeetingClashCheck(null));
+    }
 }
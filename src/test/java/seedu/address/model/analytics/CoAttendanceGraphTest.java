@@ -0,0 +1,63 @@
+package seedu.address.model.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.group.Group;
+
+public class CoAttendanceGraphTest {
+
+    private static final Group SOC = new Group("SoC");
+
+    private CoAttendanceGraph graph;
+
+    @BeforeEach
+    public void setUp() {
+        graph = new CoAttendanceGraph();
+        // Alice, Benson and Carl in a meeting of SoC, then Alice and Benson in a meeting without groups
+        graph.addAttendance(ALICE, List.of(), Set.of(SOC));
+        graph.addAttendance(BENSON, List.of(ALICE), Set.of(SOC));
+        graph.addAttendance(CARL, List.of(ALICE, BENSON), Set.of(SOC));
+        graph.addAttendance(ALICE, List.of(), Set.of());
+        graph.addAttendance(BENSON, List.of(ALICE), Set.of());
+    }
+
+    @Test
+    public void addAttendance_countsBothWays() {
+        assertEquals(2, graph.getSharedMeetingCount(ALICE, BENSON));
+        assertEquals(2, graph.getSharedMeetingCount(BENSON, ALICE));
+        assertEquals(1, graph.getSharedMeetingCount(CARL, ALICE));
+        assertEquals(0, graph.getSharedMeetingCount(ALICE, DANIEL));
+    }
+
+    @Test
+    public void removeAttendance_countsDropped() {
+        graph.removeAttendance(CARL, List.of(ALICE, BENSON), Set.of(SOC));
+        assertEquals(0, graph.getSharedMeetingCount(ALICE, CARL));
+        assertEquals(2, graph.getSharedMeetingCount(ALICE, BENSON));
+        assertTrue(graph.getLikelyAttendees(List.of(), Set.of(SOC), 5).stream()
+                .noneMatch(entry -> entry.getKey().equals(CARL)));
+    }
+
+    @Test
+    public void getLikelyAttendees_byAttendeesAndGroups() {
+        assertEquals(List.of(Map.entry(BENSON, 2), Map.entry(CARL, 1)),
+                graph.getLikelyAttendees(List.of(ALICE), Set.of(), 5));
+        // Carl shared a meeting with each attendee and was in a meeting of SoC
+        assertEquals(List.of(Map.entry(CARL, 3)), graph.getLikelyAttendees(List.of(ALICE, BENSON), Set.of(SOC), 5));
+        // ties are broken by name
+        assertEquals(List.of(Map.entry(ALICE, 1)), graph.getLikelyAttendees(List.of(), Set.of(SOC), 1));
+        assertTrue(graph.getLikelyAttendees(List.of(DANIEL), Set.of(new Group("Other")), 5).isEmpty());
+    }
+}
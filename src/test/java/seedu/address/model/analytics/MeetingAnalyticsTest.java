@@ -0,0 +1,128 @@
+package seedu.address.model.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModelManager;
+import seedu.address.model.group.Group;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.testutil.MeetingBuilder;
+
+public class MeetingAnalyticsTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2021, 3, 15);
+    private static final LocalDate SUNDAY = LocalDate.of(2021, 3, 21);
+
+    private final Meeting standup = new MeetingBuilder().withName("Standup").withGroups("SoC")
+            .withStart("2021-03-15 09:00").withTerminate("2021-03-15 09:30").build();
+    private final Meeting review = new MeetingBuilder().withName("Review").withGroups()
+            .withStart("2021-03-17 14:00").withTerminate("2021-03-17 16:00").build();
+
+    private ModelManager model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        model.addPerson(CARL);
+        model.addMeeting(standup);
+        model.addMeeting(review);
+        model.addPersonMeetingConnection(ALICE, standup);
+        model.addPersonMeetingConnection(BENSON, standup);
+        model.addPersonMeetingConnection(ALICE, review);
+        model.addPersonMeetingConnection(CARL, review);
+    }
+
+    @Test
+    public void getStats_meetingsInPeriod_totalled() {
+        MeetingStats stats = model.getMeetingAnalytics().getStats(MONDAY, SUNDAY);
+        assertEquals(150, stats.getTotalMinutes());
+        assertEquals(Map.of(MONDAY, 30L, MONDAY.plusDays(2), 120L), stats.getMinutesByDay());
+        assertEquals(Map.entry(MONDAY.plusDays(2), 120L), stats.getBusiestDays(1).get(0));
+
+        assertEquals(30, model.getMeetingAnalytics().getStats(MONDAY, MONDAY.plusDays(1)).getTotalMinutes());
+        assertEquals(0, model.getMeetingAnalytics().getStats(SUNDAY, SUNDAY).getTotalMinutes());
+    }
+
+    @Test
+    public void getStatsOf_person_withCoAttendees() {
+        MeetingStats stats = model.getMeetingAnalytics().getStatsOf(ALICE, MONDAY, SUNDAY);
+        assertEquals(150, stats.getTotalMinutes());
+        assertEquals(List.of(Map.entry(CARL, 120L), Map.entry(BENSON, 30L)), stats.getTopCoAttendees(5));
+
+        stats = model.getMeetingAnalytics().getStatsOf(BENSON, MONDAY, SUNDAY);
+        assertEquals(30, stats.getTotalMinutes());
+        assertEquals(Map.of(ALICE, 30L), stats.getCoAttendeeMinutes());
+    }
+
+    @Test
+    public void getStatsOf_group_onlyMeetingsInGroup() {
+        assertEquals(30, model.getMeetingAnalytics().getStatsOf(new Group("SoC"), MONDAY, SUNDAY)
+                .getTotalMinutes());
+        assertEquals(0, model.getMeetingAnalytics().getStatsOf(new Group("Other"), MONDAY, SUNDAY)
+                .getTotalMinutes());
+    }
+
+    @Test
+    public void connectionsChanged_statsUpdated() {
+        model.deleteSinglePersonMeetingConnection(CARL, review);
+        MeetingStats stats = model.getMeetingAnalytics().getStatsOf(ALICE, MONDAY, SUNDAY);
+        assertEquals(Map.of(BENSON, 30L), stats.getCoAttendeeMinutes());
+        assertEquals(0, model.getMeetingAnalytics().getStatsOf(CARL, MONDAY, SUNDAY).getTotalMinutes());
+
+        model.deleteAllPersonMeetingConnectionByPerson(ALICE);
+        assertEquals(0, model.getMeetingAnalytics().getStatsOf(ALICE, MONDAY, SUNDAY).getTotalMinutes());
+        assertTrue(model.getMeetingAnalytics().getStatsOf(BENSON, MONDAY, SUNDAY).getCoAttendeeMinutes().isEmpty());
+        assertEquals(150, model.getMeetingAnalytics().getStats(MONDAY, SUNDAY).getTotalMinutes());
+    }
+
+    @Test
+    public void meetingsChanged_statsUpdated() {
+        model.deleteMeeting(review);
+        assertEquals(30, model.getMeetingAnalytics().getStats(MONDAY, SUNDAY).getTotalMinutes());
+        assertEquals(Map.of(BENSON, 30L),
+                model.getMeetingAnalytics().getStatsOf(ALICE, MONDAY, SUNDAY).getCoAttendeeMinutes());
+
+        Meeting longerStandup = new MeetingBuilder(standup).withTerminate("2021-03-15 10:00").build();
+        model.updateMeeting(standup, longerStandup);
+        assertEquals(60, model.getMeetingAnalytics().getStats(MONDAY, SUNDAY).getTotalMinutes());
+    }
+
+    @Test
+    public void getStats_overnightMeeting_splitByDay() {
+        Meeting overnight = new MeetingBuilder().withName("Overnight").withStart("2021-03-21 22:00")
+                .withTerminate("2021-03-22 01:30").build();
+        model.addMeeting(overnight);
+        assertEquals(Map.of(SUNDAY, 120L), model.getMeetingAnalytics().getStats(SUNDAY, SUNDAY)
+                .getMinutesByDay());
+        assertEquals(90, model.getMeetingAnalytics().getStats(SUNDAY.plusDays(1), SUNDAY.plusDays(1))
+                .getTotalMinutes());
+    }
+
+    @Test
+    public void getStats_recurringMeeting_occurrencesInPeriodCounted() {
+        Meeting weekly = new MeetingBuilder().withName("Weekly").withGroups("SoC").withStart("2021-03-01 10:00")
+                .withTerminate("2021-03-01 11:00").withRecurrence("FREQ=WEEKLY;UNTIL=2021-12-31").build();
+        model.addMeeting(weekly);
+        model.addPersonMeetingConnection(BENSON, weekly);
+        model.addPersonMeetingConnection(CARL, weekly);
+
+        assertEquals(210, model.getMeetingAnalytics().getStats(MONDAY, SUNDAY).getTotalMinutes());
+        assertEquals(90, model.getMeetingAnalytics().getStatsOf(new Group("SoC"), MONDAY, SUNDAY)
+                .getTotalMinutes());
+        MeetingStats stats = model.getMeetingAnalytics().getStatsOf(BENSON, MONDAY, MONDAY.plusDays(13));
+        assertEquals(150, stats.getTotalMinutes());
+        assertEquals(Map.of(ALICE, 30L, CARL, 120L), stats.getCoAttendeeMinutes());
+    }
+}
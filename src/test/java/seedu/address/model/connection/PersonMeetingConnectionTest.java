@@ -12,11 +12,17 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.HOON;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.connection.exceptions.DuplicateConnectionException;
-import seedu.address.model.meeting.UniqueMeetingList;
+import seedu.address.model.meeting.Meeting;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.MeetingBuilder;
 
 
 class PersonMeetingConnectionTest {
@@ -39,7 +45,7 @@ class PersonMeetingConnectionTest {
     void resetData() {
         PersonMeetingConnection reset = new PersonMeetingConnection();
         reset.resetData(connection);
-        UniqueMeetingList expected = new UniqueMeetingList();
+        PersonMeetingList expected = new PersonMeetingList();
         expected.add(MEETING1);
         expected.add(MEETING2);
         expected.add(MEETING3);
@@ -51,7 +57,7 @@ class PersonMeetingConnectionTest {
 
     @Test
     void getMeetingsByPerson() {
-        UniqueMeetingList expected = new UniqueMeetingList();
+        PersonMeetingList expected = new PersonMeetingList();
         expected.add(MEETING1);
         expected.add(MEETING2);
         expected.add(MEETING3);
@@ -91,7 +97,7 @@ class PersonMeetingConnectionTest {
         connection.addPersonMeetingConnection(BOB, MEETING4);
 
 
-        UniqueMeetingList expectedMeetings = new UniqueMeetingList();
+        PersonMeetingList expectedMeetings = new PersonMeetingList();
         expectedMeetings.add(MEETING1);
         expectedMeetings.add(MEETING2);
         expectedMeetings.add(MEETING3);
@@ -118,7 +124,7 @@ class PersonMeetingConnectionTest {
         connection.deleteSinglePersonMeetingConnection(AMY, MEETING3);
 
 
-        UniqueMeetingList expectedMeetings = new UniqueMeetingList();
+        PersonMeetingList expectedMeetings = new PersonMeetingList();
         expectedMeetings.add(MEETING1);
         expectedMeetings.add(MEETING2);
         assertEquals(connection.getMeetingsByPerson(AMY), expectedMeetings);
@@ -141,13 +147,13 @@ class PersonMeetingConnectionTest {
         connection.deleteAllPersonMeetingConnectionByPerson(AMY);
         connection.deleteAllPersonMeetingConnectionByPerson(CARL);
 
-        UniqueMeetingList expectedMeetings = new UniqueMeetingList();
+        PersonMeetingList expectedMeetings = new PersonMeetingList();
         expectedMeetings.add(MEETING1);
         expectedMeetings.add(MEETING2);
         expectedMeetings.add(MEETING3);
-        assertEquals(connection.getMeetingsByPerson(AMY), new UniqueMeetingList());
+        assertEquals(connection.getMeetingsByPerson(AMY), new PersonMeetingList());
         assertEquals(connection.getMeetingsByPerson(BOB), expectedMeetings);
-        assertEquals(connection.getMeetingsByPerson(CARL), new UniqueMeetingList());
+        assertEquals(connection.getMeetingsByPerson(CARL), new PersonMeetingList());
 
 
     }
@@ -167,6 +173,19 @@ class PersonMeetingConnectionTest {
         assertEquals(connection.getPersonsByMeeting(MEETING4), new UniquePersonList());
     }
 
+    @Test
+    void findDoubleBookings() {
+        connection.addPersonMeetingConnection(CARL, MEETING4);
+        Meeting overlapping = new MeetingBuilder(MEETING1).withName("Standup").withStart("2021-01-01 19:30")
+                .withTerminate("2021-01-01 20:30").build();
+
+        assertEquals(Map.of(AMY, List.of(MEETING1), BOB, List.of(MEETING1)),
+                connection.findDoubleBookings(overlapping, Set.of(AMY, BOB, CARL, HOON), Optional.empty()));
+
+        // the meeting being replaced is not a double booking
+        assertEquals(Map.of(), connection.findDoubleBookings(overlapping, Set.of(AMY), Optional.of(MEETING1)));
+    }
+
     @Test
     void duplicatePersonMeetingConnection_throwsDuplicateConnectionException() {
         assertThrows(DuplicateConnectionException.class, ()->connection.addPersonMeetingConnection(AMY, MEETING1));
@@ -0,0 +1,72 @@
+package seedu.address.model.connection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalMeetings.MEETING1;
+import static seedu.address.testutil.TypicalMeetings.MEETING2;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.exceptions.DuplicateMeetingException;
+import seedu.address.model.meeting.exceptions.MeetingNotFoundException;
+import seedu.address.model.meeting.exceptions.MeetingTimeClashException;
+import seedu.address.testutil.MeetingBuilder;
+
+public class PersonMeetingListTest {
+    private final PersonMeetingList meetings = new PersonMeetingList();
+
+    @Test
+    public void contains_meetingWithSameIdentityFieldsInList_returnsTrue() {
+        assertFalse(meetings.contains(MEETING1));
+        meetings.add(MEETING1);
+        assertTrue(meetings.contains(MEETING1));
+        assertTrue(meetings.contains(new MeetingBuilder(MEETING1).withPriority("1").build()));
+    }
+
+    @Test
+    public void add_duplicateMeeting_throwsDuplicateMeetingException() {
+        meetings.add(MEETING1);
+        assertThrows(DuplicateMeetingException.class, () -> meetings.add(MEETING1));
+    }
+
+    @Test
+    public void add_clashingMeeting_throwsMeetingTimeClashException() {
+        meetings.add(MEETING1);
+        Meeting overlapping = new MeetingBuilder().withName("Standup").withStart("2021-01-01 19:30")
+                .withTerminate("2021-01-01 20:30").build();
+        assertEquals(List.of(MEETING1), meetings.getClashes(overlapping));
+        assertThrows(MeetingTimeClashException.class, () -> meetings.add(overlapping));
+        assertEquals(List.of(MEETING1), meetings.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_meetingInList_removedFromListAndIndex() {
+        meetings.add(MEETING1);
+        meetings.add(MEETING2);
+        meetings.remove(MEETING1);
+        assertEquals(List.of(MEETING2), meetings.asUnmodifiableObservableList());
+        assertFalse(meetings.contains(MEETING1));
+        assertTrue(meetings.getClashes(MEETING1).isEmpty());
+
+        meetings.remove(MEETING2);
+        assertTrue(meetings.isEmpty());
+        assertThrows(MeetingNotFoundException.class, () -> meetings.remove(MEETING2));
+    }
+
+    @Test
+    public void equals() {
+        meetings.add(MEETING1);
+        PersonMeetingList sameMeetings = new PersonMeetingList();
+        sameMeetings.add(MEETING1);
+        assertEquals(sameMeetings, meetings);
+        assertEquals(sameMeetings.hashCode(), meetings.hashCode());
+        assertNotEquals(new PersonMeetingList(), meetings);
+        assertNotEquals(null, meetings);
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.model.meeting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalMeetings.MEETING3;
+import static seedu.address.testutil.TypicalMeetings.MEETING4;
+import static seedu.address.testutil.TypicalMeetings.MEETING5;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.group.Group;
+import seedu.address.testutil.MeetingBuilder;
+
+public class MeetingAttributeIndexTest {
+
+    private final MeetingAttributeIndex index = new MeetingAttributeIndex();
+
+    @Test
+    public void findMeetingsInGroup() {
+        index.setMeetings(List.of(MEETING3, MEETING4, MEETING5));
+        assertEquals(Set.of(MEETING3, MEETING4), index.findMeetingsInGroup(new Group("Lectures")));
+        assertTrue(index.findMeetingsInGroup(new Group("Nothing")).isEmpty());
+    }
+
+    @Test
+    public void findMeetingsWithPriority() {
+        index.setMeetings(List.of(MEETING3, MEETING4, MEETING5));
+        assertEquals(Set.of(MEETING5), index.findMeetingsWithPriority(new Priority("3")));
+        index.remove(MEETING5);
+        assertTrue(index.findMeetingsWithPriority(new Priority("3")).isEmpty());
+    }
+
+    @Test
+    public void findMeetingsOnDateOf_multiDayMeeting_foundOnEveryDay() {
+        Meeting overnight = new MeetingBuilder().withName("Hackathon")
+                .withStart("2020-04-01 20:00").withTerminate("2020-04-03 08:00").build();
+        index.add(overnight);
+        index.add(MEETING3);
+        assertEquals(Set.of(overnight), index.findMeetingsOnDateOf(new DateTime("2020-04-01 08:00")));
+        assertEquals(Set.of(overnight), index.findMeetingsOnDateOf(new DateTime("2020-04-02 12:00")));
+        assertEquals(Set.of(overnight), index.findMeetingsOnDateOf(new DateTime("2020-04-03 08:00")));
+        assertTrue(index.findMeetingsOnDateOf(new DateTime("2020-04-04 08:00")).isEmpty());
+        assertEquals(Set.of(MEETING3), index.findMeetingsOnDateOf(new DateTime("2020-03-11 08:00")));
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.meeting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalMeetings.MEETING3;
+import static seedu.address.testutil.TypicalMeetings.MEETING4;
+import static seedu.address.testutil.TypicalMeetings.MEETING5;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.MeetingBuilder;
+
+public class MeetingIntervalIndexTest {
+
+    private final MeetingIntervalIndex index = new MeetingIntervalIndex();
+
+    @Test
+    public void findOverlapping_sortedByStart() {
+        index.setMeetings(List.of(MEETING5, MEETING3, MEETING4));
+        assertEquals(List.of(MEETING4, MEETING3, MEETING5), index.findOverlapping(
+                LocalDateTime.of(2020, 3, 1, 0, 0), LocalDateTime.of(2020, 4, 1, 0, 0)));
+    }
+
+    @Test
+    public void findOverlapping_touchingPeriods_notOverlapping() {
+        index.add(MEETING3); // 14:00 to 16:00
+        assertTrue(index.findOverlapping(LocalDateTime.of(2020, 3, 11, 16, 0),
+                LocalDateTime.of(2020, 3, 11, 17, 0)).isEmpty());
+        assertTrue(index.findOverlapping(LocalDateTime.of(2020, 3, 11, 13, 0),
+                LocalDateTime.of(2020, 3, 11, 14, 0)).isEmpty());
+        assertEquals(List.of(MEETING3), index.findOverlapping(LocalDateTime.of(2020, 3, 11, 15, 59),
+                LocalDateTime.of(2020, 3, 11, 17, 0)));
+    }
+
+    @Test
+    public void findOverlapping_longMeetingStartingEarlier_found() {
+        Meeting hackathon = new MeetingBuilder().withName("Hackathon")
+                .withStart("2020-03-05 20:00").withTerminate("2020-03-11 08:00").build();
+        index.add(hackathon);
+        index.add(MEETING3);
+        assertEquals(List.of(hackathon), index.findOverlapping(LocalDateTime.of(2020, 3, 10, 9, 0),
+                LocalDateTime.of(2020, 3, 10, 10, 0)));
+    }
+
+    @Test
+    public void findOverlapping_seriesRunningDuringPeriod_found() {
+        Meeting weekly = new MeetingBuilder().withStart("2020-01-06 10:00").withTerminate("2020-01-06 11:00")
+                .withRecurrence("FREQ=WEEKLY;UNTIL=2020-12-31").build();
+        index.add(weekly);
+        index.add(MEETING3);
+        assertEquals(List.of(weekly, MEETING3), index.findOverlapping(LocalDateTime.of(2020, 3, 11, 0, 0),
+                LocalDateTime.of(2020, 3, 12, 0, 0)));
+        assertTrue(index.findOverlapping(LocalDateTime.of(2021, 1, 1, 0, 0),
+                LocalDateTime.of(2021, 1, 31, 0, 0)).isEmpty());
+        index.remove(weekly);
+        assertEquals(List.of(MEETING3), index.findOverlapping(LocalDateTime.of(2020, 3, 11, 0, 0),
+                LocalDateTime.of(2020, 3, 12, 0, 0)));
+    }
+
+    @Test
+    public void remove_meetingNoLongerFound() {
+        index.add(MEETING3);
+        index.add(MEETING4);
+        index.remove(MEETING3);
+        assertEquals(List.of(MEETING4), index.findOverlapping(LocalDateTime.of(2020, 3, 1, 0, 0),
+                LocalDateTime.of(2020, 4, 1, 0, 0)));
+    }
+}
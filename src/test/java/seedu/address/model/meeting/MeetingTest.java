@@ -1,15 +1,21 @@
 package seedu.address.model.meeting;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.group.Group;
+import seedu.address.testutil.MeetingBuilder;
 
 
 class MeetingTest {
@@ -20,6 +26,8 @@ class MeetingTest {
     private static final Priority PRIORITY = new Priority("4");
     private static final Description DESCRIPTION = new Description("This is the time skinnychenpi write this test.");
     private static final Group GROUP = new Group("MeetingTest");
+    private static final Meeting WEEKLY_ON_MONDAYS = new MeetingBuilder().withStart("2021-03-01 10:00")
+            .withTerminate("2021-03-01 11:00").withRecurrence("FREQ=WEEKLY;UNTIL=2021-12-31;EXDATE=2021-03-15").build();
     private Set<Group> groups = new HashSet<>();
 
     @Test
@@ -44,6 +52,94 @@ class MeetingTest {
                 PRIORITY, DESCRIPTION, groups));
     }
 
+    @Test
+    public void constructor_repeatsBeforeEnding_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new MeetingBuilder().withStart("2021-03-01 10:00")
+                .withTerminate("2021-03-02 11:00").withRecurrence("FREQ=DAILY;UNTIL=2021-12-31").build());
+    }
+
+    @Test
+    public void equals_differentRecurrence_notEqual() {
+        Meeting meeting = new MeetingBuilder().build();
+        assertNotEquals(meeting, new MeetingBuilder(meeting).withRecurrence("FREQ=DAILY;UNTIL=2021-12-31").build());
+    }
+
+    @Test
+    public void getOccurrencesBetween_series_onlyOccurrencesInPeriod() {
+        List<LocalDateTime> starts = WEEKLY_ON_MONDAYS.getOccurrencesBetween(LocalDateTime.of(2021, 3, 8, 0, 0),
+                LocalDateTime.of(2021, 3, 23, 0, 0)).stream()
+                .map(Meeting::getStartLocalDateTime)
+                .collect(Collectors.toList());
+        // 15 March is skipped
+        assertEquals(List.of(LocalDateTime.of(2021, 3, 8, 10, 0), LocalDateTime.of(2021, 3, 22, 10, 0)), starts);
+    }
+
+    @Test
+    public void containsTime_series() {
+        assertTrue(WEEKLY_ON_MONDAYS.containsTime(new DateTime("2021-03-22 10:30")));
+        assertTrue(WEEKLY_ON_MONDAYS.containsTime(LocalDateTime.of(2021, 3, 22, 10, 0)));
+        assertFalse(WEEKLY_ON_MONDAYS.containsTime(LocalDateTime.of(2021, 3, 22, 11, 0)));
+        assertFalse(WEEKLY_ON_MONDAYS.containsTime(new DateTime("2021-03-15 10:30")));
+        assertFalse(WEEKLY_ON_MONDAYS.containsTime(new DateTime("2022-01-03 10:30")));
+    }
+
+    @Test
+    public void isConflict_seriesAndSingleMeeting() {
+        Meeting onMonday = new MeetingBuilder().withStart("2021-06-07 10:30")
+                .withTerminate("2021-06-07 11:30").build();
+        Meeting onTuesday = new MeetingBuilder().withStart("2021-06-08 10:30")
+                .withTerminate("2021-06-08 11:30").build();
+        assertTrue(WEEKLY_ON_MONDAYS.isConflict(onMonday));
+        assertTrue(onMonday.isConflict(WEEKLY_ON_MONDAYS));
+        assertFalse(WEEKLY_ON_MONDAYS.isConflict(onTuesday));
+        assertFalse(onTuesday.isConflict(WEEKLY_ON_MONDAYS));
+    }
+
+    @Test
+    public void isConflict_seriesAndSeries() {
+        Meeting overlappingDaily = new MeetingBuilder().withStart("2021-06-01 09:30").withTerminate("2021-06-01 10:30")
+                .withRecurrence("FREQ=DAILY;UNTIL=2031-12-31").build();
+        Meeting touchingDaily = new MeetingBuilder().withStart("2021-06-01 11:00").withTerminate("2021-06-01 12:00")
+                .withRecurrence("FREQ=DAILY;UNTIL=2031-12-31").build();
+        assertTrue(WEEKLY_ON_MONDAYS.isConflict(overlappingDaily));
+        assertTrue(overlappingDaily.isConflict(WEEKLY_ON_MONDAYS));
+        assertFalse(WEEKLY_ON_MONDAYS.isConflict(touchingDaily));
+
+        // every other week, a week apart, never meet however long they run
+        Meeting evenWeeks = new MeetingBuilder().withStart("2021-03-01 10:00").withTerminate("2021-03-01 11:00")
+                .withRecurrence("FREQ=WEEKLY;INTERVAL=2;UNTIL=2121-12-31").build();
+        Meeting oddWeeks = new MeetingBuilder().withStart("2021-03-08 10:00").withTerminate("2021-03-08 11:00")
+                .withRecurrence("FREQ=WEEKLY;INTERVAL=2;UNTIL=2121-12-31").build();
+        assertFalse(evenWeeks.isConflict(oddWeeks));
+
+        // series running at different times never clash
+        Meeting later = new MeetingBuilder().withStart("2022-01-03 10:00").withTerminate("2022-01-03 11:00")
+                .withRecurrence("FREQ=WEEKLY;UNTIL=2022-12-31").build();
+        assertFalse(WEEKLY_ON_MONDAYS.isConflict(later));
+    }
+
+    @Test
+    public void isConflict_seriesWithSkippedDates() {
+        Meeting twoMondays = new MeetingBuilder().withStart("2021-03-15 10:30").withTerminate("2021-03-15 11:30")
+                .withRecurrence("FREQ=WEEKLY;UNTIL=2021-03-22").build();
+        assertTrue(WEEKLY_ON_MONDAYS.isConflict(twoMondays));
+
+        Meeting skippingBoth = new MeetingBuilder(WEEKLY_ON_MONDAYS)
+                .withRecurrence("FREQ=WEEKLY;UNTIL=2021-12-31;EXDATE=2021-03-15,2021-03-22").build();
+        assertFalse(skippingBoth.isConflict(twoMondays));
+    }
+
+    @Test
+    public void isConflict_monthlySeries() {
+        // 31 May 2021 is the only 31st falling on a Monday that year
+        Meeting monthly = new MeetingBuilder().withStart("2021-01-31 10:00").withTerminate("2021-01-31 11:00")
+                .withRecurrence("FREQ=MONTHLY;UNTIL=2021-12-31").build();
+        assertTrue(monthly.isConflict(WEEKLY_ON_MONDAYS));
+        Meeting untilMay = new MeetingBuilder(WEEKLY_ON_MONDAYS)
+                .withRecurrence("FREQ=WEEKLY;UNTIL=2021-05-30").build();
+        assertFalse(monthly.isConflict(untilMay));
+    }
+
     //    @Test
     //    public void asObservableList_modifyList_throwsUnsupportedOperationException() {
     //        Person person = new PersonBuilder().build();
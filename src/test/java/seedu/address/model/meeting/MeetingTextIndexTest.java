@@ -0,0 +1,91 @@
+package seedu.address.model.meeting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalMeetings.MEETING3;
+import static seedu.address.testutil.TypicalMeetings.MEETING4;
+import static seedu.address.testutil.TypicalMeetings.MEETING5;
+import static seedu.address.testutil.TypicalMeetings.MEETING6;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.MeetingBuilder;
+
+public class MeetingTextIndexTest {
+    private static final List<Meeting> MEETINGS = Arrays.asList(MEETING3, MEETING4, MEETING5, MEETING6);
+
+    private final MeetingTextIndex index = new MeetingTextIndex();
+
+    @Test
+    public void findNameCandidates_includesEveryMatch() {
+        index.setMeetings(MEETINGS);
+        for (String query : Arrays.asList("ONLINE", "CS210", "Lecture", "Club", "ton", "CS2103 ONLINE", "online")) {
+            MeetingName name = new MeetingName(query);
+            Set<Meeting> candidates = index.findNameCandidates(name).get();
+            assertEquals(filter(meeting -> meeting.containsName(name)), verify(candidates, name));
+            assertTrue(candidates.containsAll(filter(meeting -> meeting.containsName(name))));
+        }
+    }
+
+    @Test
+    public void findNameCandidates_matchesCaseSensitively() {
+        index.setMeetings(MEETINGS);
+        assertTrue(index.findNameCandidates(new MeetingName("online")).get().isEmpty());
+        assertEquals(Set.of(MEETING3, MEETING4), index.findNameCandidates(new MeetingName("ONLINE")).get());
+    }
+
+    @Test
+    public void findNameCandidates_shortQuery_returnsEmpty() {
+        index.setMeetings(MEETINGS);
+        assertFalse(index.findNameCandidates(new MeetingName("CS")).isPresent());
+    }
+
+    @Test
+    public void findDescriptionCandidates_includesEveryMatch() {
+        index.setMeetings(MEETINGS);
+        assertEquals(Set.of(MEETING3, MEETING4),
+                index.findDescriptionCandidates(new Description("Taught by")).get());
+        assertEquals(Set.of(MEETING5), index.findDescriptionCandidates(new Description("chess")).get());
+        assertTrue(index.findDescriptionCandidates(new Description("Damith Djordje")).get().isEmpty());
+    }
+
+    @Test
+    public void remove_meeting_noLongerFound() {
+        MEETINGS.forEach(index::add);
+        index.remove(MEETING3);
+        assertEquals(Set.of(MEETING4), index.findNameCandidates(new MeetingName("ONLINE")).get());
+        assertEquals(Set.of(MEETING4), index.findDescriptionCandidates(new Description("Taught")).get());
+    }
+
+    @Test
+    public void uniqueMeetingList_mutations_keepIndexUpToDate() {
+        UniqueMeetingList meetings = new UniqueMeetingList();
+        meetings.setMeetings(Arrays.asList(MEETING3, MEETING5));
+        meetings.add(MEETING6);
+        assertEquals(Set.of(MEETING6), meetings.findNameCandidates(new MeetingName("Badminton")).get());
+
+        Meeting renamed = new MeetingBuilder(MEETING5).withName("Go Club Meetings").build();
+        meetings.updateMeeting(MEETING5, renamed);
+        assertTrue(meetings.findNameCandidates(new MeetingName("Chess")).get().isEmpty());
+        assertEquals(Set.of(renamed), meetings.findNameCandidates(new MeetingName("Club")).get());
+
+        // removal by an equal, but different, meeting
+        meetings.remove(new MeetingBuilder(MEETING3).build());
+        assertTrue(meetings.findNameCandidates(new MeetingName("ONLINE")).get().isEmpty());
+    }
+
+    private static Set<Meeting> verify(Set<Meeting> candidates, MeetingName name) {
+        return candidates.stream().filter(meeting -> meeting.containsName(name)).collect(Collectors.toSet());
+    }
+
+    private static Set<Meeting> filter(Predicate<Meeting> predicate) {
+        return MEETINGS.stream().filter(predicate).collect(Collectors.toSet());
+    }
+}
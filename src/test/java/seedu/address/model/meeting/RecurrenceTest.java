@@ -0,0 +1,90 @@
+package seedu.address.model.meeting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class RecurrenceTest {
+
+    private static final LocalDateTime FIRST_START = LocalDateTime.of(2021, 1, 31, 10, 0);
+
+    @Test
+    public void constructor_invalidRecurrence_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Recurrence("FREQ=YEARLY;UNTIL=2021-05-01"));
+    }
+
+    @Test
+    public void isValidRecurrence() {
+        // missing parts
+        assertFalse(Recurrence.isValidRecurrence(""));
+        assertFalse(Recurrence.isValidRecurrence("FREQ=DAILY"));
+        assertFalse(Recurrence.isValidRecurrence("UNTIL=2021-05-01"));
+
+        // invalid parts
+        assertFalse(Recurrence.isValidRecurrence("FREQ=DAILY;UNTIL=2021-13-01"));
+        assertFalse(Recurrence.isValidRecurrence("FREQ=DAILY;UNTIL=2021-05-01;INTERVAL=0"));
+        assertFalse(Recurrence.isValidRecurrence("FREQ=DAILY;UNTIL=2021-05-01;INTERVAL=1000"));
+        assertFalse(Recurrence.isValidRecurrence("FREQ=DAILY;UNTIL=2021-05-01;EXDATE=2021-04-01,"));
+        assertFalse(Recurrence.isValidRecurrence("FREQ=DAILY;FREQ=WEEKLY;UNTIL=2021-05-01"));
+        assertFalse(Recurrence.isValidRecurrence("FREQ=DAILY;UNTIL=2021-05-01;"));
+
+        // unsupported parts
+        assertFalse(Recurrence.isValidRecurrence("FREQ=WEEKLY;BYDAY=MO,WE;UNTIL=2021-05-01"));
+        assertFalse(Recurrence.isValidRecurrence("FREQ=DAILY;COUNT=3;UNTIL=2021-05-01"));
+
+        // valid recurrences
+        assertTrue(Recurrence.isValidRecurrence("FREQ=DAILY;UNTIL=2021-05-01"));
+        assertTrue(Recurrence.isValidRecurrence("until=2021-05-01; freq=monthly"));
+        assertTrue(Recurrence.isValidRecurrence(
+                "FREQ=WEEKLY;INTERVAL=2;UNTIL=2021-05-01;EXDATE=2021-04-02,2021-03-05"));
+    }
+
+    @Test
+    public void toString_parsedBack_equal() {
+        Recurrence recurrence = new Recurrence("exdate=2021-04-02,2021-03-05;until=2021-05-01;freq=weekly;interval=2");
+        assertEquals("FREQ=WEEKLY;INTERVAL=2;UNTIL=2021-05-01;EXDATE=2021-03-05,2021-04-02", recurrence.toString());
+        assertEquals(recurrence, new Recurrence(recurrence.toString()));
+        assertEquals(new Recurrence(Recurrence.Frequency.WEEKLY, 2, LocalDate.of(2021, 5, 1),
+                Set.of(LocalDate.of(2021, 3, 5), LocalDate.of(2021, 4, 2))), recurrence);
+    }
+
+    @Test
+    public void hasOccurrence_monthly_skipsShortMonthsAndExceptions() {
+        Recurrence recurrence = new Recurrence("FREQ=MONTHLY;UNTIL=2021-08-30;EXDATE=2021-05-31");
+        assertTrue(recurrence.hasOccurrence(FIRST_START, 0));
+        assertFalse(recurrence.hasOccurrence(FIRST_START, 1)); // February has no 31st
+        assertTrue(recurrence.hasOccurrence(FIRST_START, 2));
+        assertFalse(recurrence.hasOccurrence(FIRST_START, 4)); // 31 May is skipped
+        assertTrue(recurrence.hasOccurrence(FIRST_START, 6));
+        assertFalse(recurrence.hasOccurrence(FIRST_START, 7)); // after the last date
+        assertFalse(recurrence.hasOccurrence(FIRST_START, -1));
+    }
+
+    @Test
+    public void getIndexAtOrBefore() {
+        Recurrence weekly = new Recurrence("FREQ=WEEKLY;INTERVAL=2;UNTIL=2021-12-31");
+        assertEquals(-1, weekly.getIndexAtOrBefore(FIRST_START, FIRST_START.minusMinutes(1)));
+        assertEquals(0, weekly.getIndexAtOrBefore(FIRST_START, FIRST_START.plusDays(13)));
+        assertEquals(1, weekly.getIndexAtOrBefore(FIRST_START, FIRST_START.plusDays(14)));
+
+        Recurrence monthly = new Recurrence("FREQ=MONTHLY;UNTIL=2021-12-31");
+        assertEquals(2, monthly.getIndexAtOrBefore(FIRST_START, LocalDateTime.of(2021, 3, 31, 10, 0)));
+        assertEquals(11, monthly.getLastIndex(FIRST_START));
+    }
+
+    @Test
+    public void canRepeat() {
+        Recurrence daily = new Recurrence("FREQ=DAILY;UNTIL=2021-12-31");
+        assertTrue(daily.canRepeat(FIRST_START, Duration.ofHours(24)));
+        assertFalse(daily.canRepeat(FIRST_START, Duration.ofHours(25)));
+        assertFalse(daily.canRepeat(LocalDateTime.of(2022, 1, 1, 10, 0), Duration.ofHours(1)));
+    }
+}
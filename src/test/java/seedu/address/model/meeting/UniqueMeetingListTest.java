@@ -7,6 +7,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalMeetings.MEETING1;
 import static seedu.address.testutil.TypicalMeetings.MEETING2;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.model.meeting.exceptions.DuplicateMeetingException;
 import seedu.address.model.meeting.exceptions.MeetingNotFoundException;
+import seedu.address.model.meeting.exceptions.MeetingTimeClashException;
 import seedu.address.testutil.MeetingBuilder;
 
 
@@ -45,6 +47,108 @@ class UniqueMeetingListTest {
         assertTrue(uniqueMeetingList.contains(editedMeeting1));
     }
 
+    @Test
+    public void add_overlapAllowed_success() {
+        uniqueMeetingList.setOverlapAllowed(true);
+        uniqueMeetingList.add(MEETING1);
+        Meeting overlapping = new MeetingBuilder().withName("Standup").withStart("2021-01-01 19:30")
+                .withTerminate("2021-01-01 20:30").build();
+        assertFalse(uniqueMeetingList.clashes(overlapping));
+        uniqueMeetingList.add(overlapping);
+        assertTrue(uniqueMeetingList.contains(overlapping));
+        assertEquals(List.of(MEETING1, overlapping), uniqueMeetingList.getClashes(
+                new MeetingBuilder().withName("Lunch").withStart("2021-01-01 19:45").withTerminate("2021-01-01 20:15")
+                        .build()));
+    }
+
+    @Test
+    public void add_clashesWithOccurrenceOfSeries_throwsMeetingTimeClashException() {
+        Meeting weekly = new MeetingBuilder().withStart("2021-03-01 10:00").withTerminate("2021-03-01 11:00")
+                .withRecurrence("FREQ=WEEKLY;UNTIL=2021-12-31").build();
+        uniqueMeetingList.add(weekly);
+        Meeting onMonday = new MeetingBuilder().withName("Standup").withStart("2021-11-29 10:45")
+                .withTerminate("2021-11-29 11:15").build();
+        assertThrows(MeetingTimeClashException.class, () -> uniqueMeetingList.add(onMonday));
+        assertEquals(List.of(weekly), uniqueMeetingList.getClashes(onMonday));
+
+        Meeting onTuesday = new MeetingBuilder(onMonday).withStart("2021-11-30 10:45")
+                .withTerminate("2021-11-30 11:15").build();
+        uniqueMeetingList.add(onTuesday);
+        assertTrue(uniqueMeetingList.getMeetingAtInstant(LocalDateTime.of(2021, 12, 6, 10, 30)).isPresent());
+    }
+
+    @Test
+    public void updateMeetings_backToBackMeetingsMovedTogether_success() {
+        Meeting first = new MeetingBuilder().withName("First").withStart("2021-03-15 09:00")
+                .withTerminate("2021-03-15 10:00").build();
+        Meeting second = new MeetingBuilder().withName("Second").withStart("2021-03-15 10:00")
+                .withTerminate("2021-03-15 11:00").build();
+        uniqueMeetingList.add(first);
+        uniqueMeetingList.add(second);
+        Meeting movedFirst = new MeetingBuilder(first).withStart("2021-03-15 10:00")
+                .withTerminate("2021-03-15 11:00").build();
+        Meeting movedSecond = new MeetingBuilder(second).withStart("2021-03-15 11:00")
+                .withTerminate("2021-03-15 12:00").build();
+        // moving the first meeting alone would clash with the second
+        assertThrows(MeetingTimeClashException.class, () -> uniqueMeetingList.setMeeting(first, movedFirst));
+
+        List<Meeting> targets = List.of(first, second);
+        List<Meeting> movedMeetings = List.of(movedFirst, movedSecond);
+        assertTrue(uniqueMeetingList.getClashesAfterReplacing(targets, movedMeetings).isEmpty());
+        uniqueMeetingList.updateMeetings(targets, movedMeetings);
+        assertEquals(movedMeetings, uniqueMeetingList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void updateMeetings_clashWithMeetingStaying_throwsMeetingTimeClashException() {
+        Meeting staying = new MeetingBuilder().withName("Staying").withStart("2021-03-15 11:30")
+                .withTerminate("2021-03-15 12:30").build();
+        Meeting moving = new MeetingBuilder().withName("Moving").withStart("2021-03-15 09:00")
+                .withTerminate("2021-03-15 10:00").build();
+        uniqueMeetingList.add(staying);
+        uniqueMeetingList.add(moving);
+        Meeting moved = new MeetingBuilder(moving).withStart("2021-03-15 11:00")
+                .withTerminate("2021-03-15 12:00").build();
+
+        assertEquals(List.of(staying), uniqueMeetingList.getClashesAfterReplacing(List.of(moving), List.of(moved))
+                .get(moved));
+        assertThrows(MeetingTimeClashException.class, () -> uniqueMeetingList.updateMeetings(List.of(moving),
+                List.of(moved)));
+        assertEquals(List.of(staying, moving), uniqueMeetingList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_meetingsNotClashing_success() {
+        uniqueMeetingList.add(MEETING1);
+        Meeting first = new MeetingBuilder().withName("First").withStart("2021-03-15 09:00")
+                .withTerminate("2021-03-15 10:00").build();
+        Meeting second = new MeetingBuilder().withName("Second").withStart("2021-03-15 10:00")
+                .withTerminate("2021-03-15 11:00").build();
+
+        assertTrue(uniqueMeetingList.getClashesAfterAdding(List.of(first, second)).isEmpty());
+        uniqueMeetingList.addAll(List.of(first, second));
+        assertEquals(List.of(MEETING1, first, second), uniqueMeetingList.asUnmodifiableObservableList());
+        assertTrue(uniqueMeetingList.contains(second));
+    }
+
+    @Test
+    public void addAll_meetingsClashingWithEachOther_throwsMeetingTimeClashException() {
+        Meeting first = new MeetingBuilder().withName("First").withStart("2021-03-15 09:00")
+                .withTerminate("2021-03-15 10:00").build();
+        Meeting second = new MeetingBuilder().withName("Second").withStart("2021-03-15 09:30")
+                .withTerminate("2021-03-15 10:30").build();
+
+        assertEquals(1, uniqueMeetingList.getClashesAfterAdding(List.of(first, second)).size());
+        assertThrows(MeetingTimeClashException.class, () -> uniqueMeetingList.addAll(List.of(first, second)));
+        assertTrue(uniqueMeetingList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void addAll_meetingInList_throwsDuplicateMeetingException() {
+        uniqueMeetingList.add(MEETING1);
+        assertThrows(DuplicateMeetingException.class, () -> uniqueMeetingList.addAll(List.of(MEETING1)));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueMeetingList.add(null));
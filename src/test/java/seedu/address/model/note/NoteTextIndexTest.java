@@ -0,0 +1,77 @@
+package seedu.address.model.note;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalNotes.NOTE1;
+import static seedu.address.testutil.TypicalNotes.NOTE2;
+import static seedu.address.testutil.TypicalNotes.NOTE4;
+import static seedu.address.testutil.TypicalNotes.NOTE5;
+import static seedu.address.testutil.TypicalNotes.getTypicalNotes;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.NoteBuilder;
+
+public class NoteTextIndexTest {
+
+    private final NoteTextIndex index = new NoteTextIndex();
+
+    @Test
+    public void getTerms_splitsOnNonAlphanumerics() {
+        assertEquals(Arrays.asList("cs2103t", "e", "mail", "e"), NoteTextIndex.getTerms("CS2103T: e-mail, E!"));
+        assertTrue(NoteTextIndex.getTerms(" -- ").isEmpty());
+    }
+
+    @Test
+    public void search_anyKeyword_matchesIgnoringCase() {
+        index.setNotes(getTypicalNotes());
+        assertEquals(Set.of(NOTE4, NOTE5), index.search(Collections.singletonList("PLAY")).keySet());
+        assertEquals(Set.of(NOTE1, NOTE2), index.search(Arrays.asList("tutorial", "lab")).keySet());
+        assertTrue(index.search(Collections.singletonList("swim")).isEmpty());
+    }
+
+    @Test
+    public void search_prefix_matchesWordsStartingWithPrefix() {
+        index.setNotes(getTypicalNotes());
+        assertEquals(Set.of(NOTE1, NOTE2), index.search(Collections.singletonList("cs210*")).keySet());
+        assertTrue(index.search(Collections.singletonList("cs210")).isEmpty());
+    }
+
+    @Test
+    public void search_ranksByRelevance() {
+        Note rare = new NoteBuilder().withContent("Quiz on graphs").build();
+        Note repeated = new NoteBuilder().withContent("Quiz quiz quiz").build();
+        Note verbose = new NoteBuilder().withContent("Quiz reminder for the module on databases and networks").build();
+        index.setNotes(Arrays.asList(rare, repeated, verbose, NOTE4, NOTE5));
+
+        Map<Note, Double> scores = index.search(Collections.singletonList("quiz"));
+        // more occurrences rank higher, and longer notes rank lower
+        assertTrue(scores.get(repeated) > scores.get(rare));
+        assertTrue(scores.get(rare) > scores.get(verbose));
+
+        // a keyword found in fewer notes counts for more
+        scores = index.search(Arrays.asList("quiz", "graphs"));
+        assertTrue(scores.get(rare) > scores.get(repeated));
+    }
+
+    @Test
+    public void uniqueNoteList_mutations_keepIndexUpToDate() {
+        UniqueNoteList notes = new UniqueNoteList();
+        notes.setNotes(getTypicalNotes());
+        Note edited = new NoteBuilder().withContent("Play squash").build();
+        notes.setNote(NOTE4, edited);
+        List<String> play = Collections.singletonList("play");
+        assertEquals(Set.of(edited, NOTE5), notes.search(play).keySet());
+
+        // removal by an equal note differing in case
+        notes.remove(new NoteBuilder().withContent("PLAY TABLE TENNIS").build());
+        assertEquals(Set.of(edited), notes.search(play).keySet());
+        assertTrue(notes.search(Collections.singletonList("tennis")).isEmpty());
+    }
+}
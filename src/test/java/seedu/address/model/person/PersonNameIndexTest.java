@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonNameIndexTest {
+
+    private final PersonNameIndex index = new PersonNameIndex();
+
+    @Test
+    public void findPersonsWithAnyWord_sameAsPredicate() {
+        index.setPersons(getTypicalPersons());
+        List<List<String>> queries = Arrays.asList(
+                Collections.singletonList("Meier"),
+                Collections.singletonList("mEIER"),
+                Arrays.asList("alice", "Kurz", "nobody"),
+                Collections.singletonList("Meie"),
+                Arrays.asList("Pauline", "Best"));
+        for (List<String> keywords : queries) {
+            Set<Person> expected = getTypicalPersons().stream()
+                    .filter(new NameContainsKeywordsPredicate(keywords))
+                    .collect(Collectors.toSet());
+            assertEquals(expected, index.findPersonsWithAnyWord(keywords));
+        }
+    }
+
+    @Test
+    public void findPersonsWithAnyWord_afterRemoveAndEdit() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(DANIEL);
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL)),
+                index.findPersonsWithAnyWord(Collections.singletonList("meier")));
+
+        index.remove(BENSON);
+        assertEquals(Collections.singleton(DANIEL), index.findPersonsWithAnyWord(Collections.singletonList("meier")));
+
+        Person editedDaniel = new PersonBuilder(DANIEL).withName("Daniel Lee").build();
+        index.remove(DANIEL);
+        index.add(editedDaniel);
+        assertTrue(index.findPersonsWithAnyWord(Collections.singletonList("meier")).isEmpty());
+        assertEquals(Collections.singleton(editedDaniel),
+                index.findPersonsWithAnyWord(Collections.singletonList("LEE")));
+    }
+
+    @Test
+    public void findPersonsWithAnyWord_invalidKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                index.findPersonsWithAnyWord(Collections.singletonList(" ")));
+        assertThrows(IllegalArgumentException.class, () ->
+                index.findPersonsWithAnyWord(Collections.singletonList("two words")));
+    }
+}
@@ -58,6 +58,33 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_newPersons_addsPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(List.of(BOB));
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB).withGroups(VALID_GROUP_HUSBAND)
+                .build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(ALICE)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BOB, editedBob)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void contains_personRemovedOrRenamed_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.remove(BOB);
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
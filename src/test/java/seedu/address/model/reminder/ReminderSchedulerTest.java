@@ -0,0 +1,131 @@
+package seedu.address.model.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.testutil.MeetingBuilder;
+
+public class ReminderSchedulerTest {
+
+    private static final Duration LEAD_TIME = Duration.ofMinutes(10);
+
+    private final Meeting past = new MeetingBuilder().withName("Past").withStart("2021-03-01 10:00")
+            .withTerminate("2021-03-01 11:00").build();
+    private final Meeting later = new MeetingBuilder().withName("Later").withStart("2021-03-20 10:00")
+            .withTerminate("2021-03-20 11:00").build();
+    private final Meeting sooner = new MeetingBuilder().withName("Sooner").withStart("2021-03-12 14:00")
+            .withTerminate("2021-03-12 15:00").build();
+
+    private MutableClock clock;
+    private ObservableList<Meeting> meetings;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new MutableClock(LocalDateTime.of(2021, 3, 10, 9, 0));
+        meetings = FXCollections.observableArrayList(past, later, sooner);
+    }
+
+    @Test
+    public void getUpcomingReminders_pastMeetingSkipped_soonestFirst() {
+        ReminderScheduler scheduler = new ReminderScheduler(meetings, LEAD_TIME, clock);
+        assertEquals(List.of("Sooner", "Later"), getNames(scheduler.getUpcomingReminders()));
+        assertEquals(Optional.of(LocalDateTime.of(2021, 3, 12, 13, 50)), scheduler.getNextDueTime());
+    }
+
+    @Test
+    public void meetingsChanged_queueUpdated() {
+        ReminderScheduler scheduler = new ReminderScheduler(meetings, LEAD_TIME, clock);
+        meetings.remove(sooner);
+        assertEquals(Optional.of(LocalDateTime.of(2021, 3, 20, 9, 50)), scheduler.getNextDueTime());
+
+        Meeting soonest = new MeetingBuilder().withName("Soonest").withStart("2021-03-11 09:00")
+                .withTerminate("2021-03-11 10:00").build();
+        meetings.set(meetings.indexOf(later), soonest);
+        assertEquals(List.of("Soonest"), getNames(scheduler.getUpcomingReminders()));
+
+        meetings.clear();
+        assertEquals(Optional.empty(), scheduler.getNextDueTime());
+    }
+
+    @Test
+    public void publishDueReminders_onlyDueRemindersPublished() {
+        ReminderScheduler scheduler = new ReminderScheduler(meetings, LEAD_TIME, clock);
+        assertTrue(scheduler.publishDueReminders().isEmpty());
+
+        // within the lead time of the sooner meeting
+        clock.setTime(LocalDateTime.of(2021, 3, 12, 13, 55));
+        List<Reminder> published = scheduler.publishDueReminders();
+        assertEquals(List.of("Sooner"), getNames(published));
+        assertEquals(Duration.ofMinutes(5), published.get(0).getRawTimeUntilStart());
+        assertEquals(List.of("Later"), getNames(scheduler.getUpcomingReminders()));
+    }
+
+    @Test
+    public void publishDueReminders_repeatingMeeting_nextOccurrenceQueued() {
+        Meeting weekly = new MeetingBuilder().withName("Weekly").withStart("2021-03-01 10:00")
+                .withTerminate("2021-03-01 11:00").withRecurrence("FREQ=WEEKLY;UNTIL=2021-03-31").build();
+        ReminderScheduler scheduler = new ReminderScheduler(FXCollections.observableArrayList(weekly), LEAD_TIME,
+                clock);
+        // the occurrences before now are skipped
+        assertEquals(Optional.of(LocalDateTime.of(2021, 3, 15, 9, 50)), scheduler.getNextDueTime());
+
+        clock.setTime(LocalDateTime.of(2021, 3, 15, 9, 50));
+        assertEquals(List.of("Weekly"), getNames(scheduler.publishDueReminders()));
+        assertEquals(Optional.of(LocalDateTime.of(2021, 3, 22, 9, 50)), scheduler.getNextDueTime());
+
+        // the reminder of 22 March is missed until its meeting has started, so only the one of 29 March is published
+        clock.setTime(LocalDateTime.of(2021, 3, 29, 9, 55));
+        assertEquals(List.of("Weekly"), getNames(scheduler.publishDueReminders()));
+        assertEquals(Optional.empty(), scheduler.getNextDueTime());
+    }
+
+    private static List<String> getNames(List<Reminder> reminders) {
+        return reminders.stream().map(reminder -> reminder.getMeetingName().fullName).collect(Collectors.toList());
+    }
+
+    /**
+     * A clock that shows the time it is set to.
+     */
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(LocalDateTime time) {
+            setTime(time);
+        }
+
+        private void setTime(LocalDateTime time) {
+            instant = time.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class FreeSlotFinderTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2021, 3, 15);
+    private static final WorkingHours NINE_TO_SIX = new WorkingHours("09:00-18:00");
+
+    @Test
+    public void constructor_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new FreeSlotFinder(MONDAY, MONDAY.minusDays(1), NINE_TO_SIX, Duration.ofMinutes(30)));
+        assertThrows(IllegalArgumentException.class, () ->
+                new FreeSlotFinder(MONDAY, MONDAY, NINE_TO_SIX, Duration.ZERO));
+    }
+
+    @Test
+    public void findEarliest_noBusyPeriods_wholeWorkingDays() {
+        FreeSlotFinder finder = new FreeSlotFinder(MONDAY, MONDAY.plusDays(1), NINE_TO_SIX, Duration.ofMinutes(30));
+        assertEquals(List.of(slot(MONDAY, "09:00", MONDAY, "18:00"), slot(MONDAY.plusDays(1), "09:00",
+                MONDAY.plusDays(1), "18:00")), finder.findEarliest(List.of(), 5));
+    }
+
+    @Test
+    public void findEarliest_busyPeriods_gapsLongEnough() {
+        FreeSlotFinder finder = new FreeSlotFinder(MONDAY, MONDAY, NINE_TO_SIX, Duration.ofMinutes(60));
+        List<Schedulable> busy = List.of(
+                busy(MONDAY, "08:00", MONDAY, "10:00"),
+                busy(MONDAY, "10:30", MONDAY, "12:00"), // 30 minute gap before it is too short
+                busy(MONDAY, "11:00", MONDAY, "13:00"), // overlaps the previous one
+                busy(MONDAY, "14:00", MONDAY, "17:30"));
+        assertEquals(List.of(slot(MONDAY, "13:00", MONDAY, "14:00")), finder.findEarliest(busy, 5));
+    }
+
+    @Test
+    public void findEarliest_busyAcrossDays_skipsCoveredHours() {
+        FreeSlotFinder finder = new FreeSlotFinder(MONDAY, MONDAY.plusDays(2), NINE_TO_SIX, Duration.ofMinutes(60));
+        List<Schedulable> busy = List.of(busy(MONDAY, "12:00", MONDAY.plusDays(1), "16:00"));
+        assertEquals(List.of(
+                slot(MONDAY, "09:00", MONDAY, "12:00"),
+                slot(MONDAY.plusDays(1), "16:00", MONDAY.plusDays(1), "18:00"),
+                slot(MONDAY.plusDays(2), "09:00", MONDAY.plusDays(2), "18:00")), finder.findEarliest(busy, 5));
+    }
+
+    @Test
+    public void findEarliest_limit_earliestSlotsOnly() {
+        FreeSlotFinder finder = new FreeSlotFinder(MONDAY, MONDAY.plusDays(9), NINE_TO_SIX, Duration.ofMinutes(60));
+        List<SimplePeriod> slots = finder.findEarliest(List.of(), 3);
+        assertEquals(3, slots.size());
+        assertEquals(MONDAY.plusDays(2), slots.get(2).getStartLocalDateTime().toLocalDate());
+    }
+
+    @Test
+    public void findEarliest_fiftyAttendeesOverAQuarter_fast() {
+        // every attendee has a meeting each day, at staggered times, so that only the afternoons are free
+        List<Schedulable> busy = new ArrayList<>();
+        for (int attendee = 0; attendee < 50; attendee++) {
+            for (int day = 0; day < 91; day++) {
+                LocalDateTime start = MONDAY.plusDays(day).atTime(9, 0).plusMinutes(5L * attendee);
+                busy.add(new SimplePeriod("meeting", start, start.plusMinutes(30)));
+            }
+        }
+        FreeSlotFinder finder = new FreeSlotFinder(MONDAY, MONDAY.plusDays(90), NINE_TO_SIX, Duration.ofMinutes(60));
+        assertTimeout(Duration.ofSeconds(1), () -> {
+            List<SimplePeriod> slots = finder.findEarliest(busy, 5);
+            assertEquals(5, slots.size());
+            assertTrue(slots.stream().noneMatch(slot -> busy.stream().anyMatch(slot::isConflict)));
+        });
+    }
+
+    private static SimplePeriod slot(LocalDate startDate, String startTime, LocalDate endDate, String endTime) {
+        return new SimplePeriod(FreeSlotFinder.FREE_SLOT_NAME, startDate.atTime(LocalTime.parse(startTime)),
+                endDate.atTime(LocalTime.parse(endTime)));
+    }
+
+    private static Schedulable busy(LocalDate startDate, String startTime, LocalDate endDate, String endTime) {
+        return slot(startDate, startTime, endDate, endTime);
+    }
+}
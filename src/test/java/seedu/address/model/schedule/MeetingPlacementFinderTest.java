@@ -0,0 +1,80 @@
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class MeetingPlacementFinderTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2021, 3, 15);
+    private static final WorkingHours NINE_TO_SIX = new WorkingHours("09:00-18:00");
+
+    @Test
+    public void findBest_noBusyPeriods_startOfWorkingHours() {
+        MeetingPlacementFinder finder = new MeetingPlacementFinder(MONDAY, MONDAY, NINE_TO_SIX,
+                Duration.ofMinutes(60));
+        assertEquals(Optional.of(placement(MONDAY.atTime(9, 0), 60)), finder.findBest(List.of()));
+    }
+
+    @Test
+    public void findBest_exactFit_preferredOverLeavingFragment() {
+        // an hour from 09:00 leaves 30 minutes free before 10:30, while 10:45 fits between two meetings exactly
+        List<Schedulable> busy = List.of(
+                busy(MONDAY.atTime(10, 30), MONDAY.atTime(10, 45)),
+                busy(MONDAY.atTime(11, 45), MONDAY.atTime(18, 0)));
+        MeetingPlacementFinder finder = new MeetingPlacementFinder(MONDAY, MONDAY, NINE_TO_SIX,
+                Duration.ofMinutes(60));
+        assertEquals(Optional.of(placement(MONDAY.atTime(10, 45), 60)), finder.findBest(busy));
+    }
+
+    @Test
+    public void findBest_fragmentMuchEarlier_earliestPreferred() {
+        // leaving 30 minutes free is better than waiting until the next day
+        List<Schedulable> busy = List.of(busy(MONDAY.atTime(10, 30), MONDAY.plusDays(1).atTime(9, 0)));
+        MeetingPlacementFinder finder = new MeetingPlacementFinder(MONDAY, MONDAY.plusDays(1), NINE_TO_SIX,
+                Duration.ofMinutes(60));
+        assertEquals(Optional.of(placement(MONDAY.atTime(9, 0), 60)), finder.findBest(busy));
+    }
+
+    @Test
+    public void findBest_noSlotLongEnough_empty() {
+        List<Schedulable> busy = List.of(busy(MONDAY.atTime(9, 30), MONDAY.atTime(17, 30)));
+        MeetingPlacementFinder finder = new MeetingPlacementFinder(MONDAY, MONDAY, NINE_TO_SIX,
+                Duration.ofMinutes(45));
+        assertFalse(finder.findBest(busy).isPresent());
+    }
+
+    @Test
+    public void findBest_busyQuarter_fast() {
+        // meetings every working hour for three months, except the last afternoon
+        List<Schedulable> busy = new ArrayList<>();
+        LocalDate lastDate = MONDAY.plusDays(90);
+        for (LocalDate date = MONDAY; !date.isAfter(lastDate); date = date.plusDays(1)) {
+            int lastHour = date.equals(lastDate) ? 12 : 17;
+            for (int hour = 9; hour <= lastHour; hour++) {
+                busy.add(busy(date.atTime(hour, 0), date.atTime(hour + 1, 0)));
+            }
+        }
+        MeetingPlacementFinder finder = new MeetingPlacementFinder(MONDAY, lastDate, NINE_TO_SIX,
+                Duration.ofMinutes(120));
+        assertTimeout(Duration.ofMillis(500), () ->
+                assertEquals(Optional.of(placement(lastDate.atTime(13, 0), 120)), finder.findBest(busy)));
+    }
+
+    private static SimplePeriod placement(LocalDateTime start, int minutes) {
+        return new SimplePeriod(MeetingPlacementFinder.PLACEMENT_NAME, start, start.plusMinutes(minutes));
+    }
+
+    private static Schedulable busy(LocalDateTime start, LocalDateTime end) {
+        return new SimplePeriod("busy", start, end);
+    }
+}
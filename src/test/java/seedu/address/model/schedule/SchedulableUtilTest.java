@@ -1,8 +1,10 @@
 package seedu.address.model.schedule;
 
 import org.junit.jupiter.api.Test;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.schedule.TypicalSchedules.LONG_SCHEDULABLE;
 import static seedu.address.model.schedule.TypicalSchedules.LONG_SCHEDULABLE_PART_ONE;
@@ -43,5 +45,20 @@ public class SchedulableUtilTest {
                 LONG_SCHEDULABLE_PART_THREE)));
     }
 
-
+    @Test
+    public void mergeOverlapping_overlappingAndTouching_merged() {
+        LocalDateTime nine = LocalDateTime.of(2021, 3, 15, 9, 0);
+        List<SimplePeriod> merged = SchedulableUtil.mergeOverlapping(List.of(
+                new SimplePeriod("c", nine.plusHours(5), nine.plusHours(6)),
+                new SimplePeriod("a", nine, nine.plusHours(2)),
+                new SimplePeriod("b", nine.plusHours(1), nine.plusHours(3)),
+                new SimplePeriod("inside", nine.plusMinutes(30), nine.plusHours(1)),
+                new SimplePeriod("touching", nine.plusHours(6), nine.plusHours(7))));
+        assertEquals(2, merged.size());
+        assertEquals(nine, merged.get(0).getStartLocalDateTime());
+        assertEquals(nine.plusHours(3), merged.get(0).getTerminateLocalDateTime());
+        assertEquals(nine.plusHours(5), merged.get(1).getStartLocalDateTime());
+        assertEquals(nine.plusHours(7), merged.get(1).getTerminateLocalDateTime());
+        assertTrue(SchedulableUtil.mergeOverlapping(List.of()).isEmpty());
+    }
 }
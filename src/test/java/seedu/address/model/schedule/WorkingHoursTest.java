@@ -0,0 +1,39 @@
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+public class WorkingHoursTest {
+
+    @Test
+    public void constructor_invalidWorkingHours_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new WorkingHours("18:00-09:00"));
+    }
+
+    @Test
+    public void isValidWorkingHours() {
+        assertTrue(WorkingHours.isValidWorkingHours("09:00-18:00"));
+        assertTrue(WorkingHours.isValidWorkingHours("00:00-23:59"));
+        assertFalse(WorkingHours.isValidWorkingHours("")); // empty string
+        assertFalse(WorkingHours.isValidWorkingHours("09:00")); // only one time
+        assertFalse(WorkingHours.isValidWorkingHours("9:00-18:00")); // single digit hour
+        assertFalse(WorkingHours.isValidWorkingHours("09:00-09:00")); // empty
+        assertFalse(WorkingHours.isValidWorkingHours("09:00-24:00")); // not a time
+    }
+
+    @Test
+    public void getStartOnAndEndOn() {
+        WorkingHours workingHours = new WorkingHours("10:00-17:30");
+        LocalDate date = LocalDate.of(2021, 3, 15);
+        assertEquals(LocalDateTime.of(2021, 3, 15, 10, 0), workingHours.getStartOn(date));
+        assertEquals(LocalDateTime.of(2021, 3, 15, 17, 30), workingHours.getEndOn(date));
+        assertEquals("10:00-17:30", workingHours.toString());
+    }
+}
@@ -2,10 +2,14 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.TypicalMeetings.MEETING1;
 import static seedu.address.testutil.TypicalMeetings.getTypicalMeetingBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +18,8 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.connection.PersonMeetingConnection;
+import seedu.address.model.meeting.ClashCheck;
+import seedu.address.model.meeting.Meeting;
 import seedu.address.model.meeting.MeetingBook;
 import seedu.address.model.meeting.ReadOnlyMeetingBook;
 import seedu.address.model.person.AddressBook;
@@ -22,6 +28,7 @@ import seedu.address.storage.addressbook.JsonAddressBookStorage;
 import seedu.address.storage.connection.JsonConnectionStorage;
 import seedu.address.storage.meetingbook.JsonMeetingBookStorage;
 import seedu.address.storage.notebook.JsonNoteBookStorage;
+import seedu.address.testutil.MeetingBuilder;
 import seedu.address.testutil.TypicalConnections;
 
 public class StorageManagerTest {
@@ -103,6 +110,35 @@ public class StorageManagerTest {
         assertEquals(retrievedConnection, typicalPersonMeetingConnection);
     }
 
+    @Test
+    public void readSave_overlappingMeetingsCheckedPerAttendee_success() throws Exception {
+        storageManager = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonMeetingBookStorage(getTempFilePath("mb"), ClashCheck.PER_ATTENDEE),
+                new JsonNoteBookStorage(getTempFilePath("nb")), new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonConnectionStorage(getTempFilePath("connections")));
+        Meeting overlappingMeeting = new MeetingBuilder(MEETING1).withName("Overlapping Meeting").build();
+        MeetingBook originalMeetingBook = new MeetingBook();
+        originalMeetingBook.setOverlapAllowed(true);
+        originalMeetingBook.addMeeting(MEETING1);
+        originalMeetingBook.addMeeting(overlappingMeeting);
+        AddressBook originalAddressBook = getTypicalAddressBook();
+        PersonMeetingConnection originalConnection = new PersonMeetingConnection();
+        originalConnection.addPersonMeetingConnection(ALICE, MEETING1);
+        originalConnection.addPersonMeetingConnection(BENSON, overlappingMeeting);
+
+        storageManager.saveAddressBook(originalAddressBook);
+        storageManager.saveMeetingBook(originalMeetingBook);
+        storageManager.saveConnection(originalConnection);
+
+        ReadOnlyMeetingBook retrievedMeetingBook = storageManager.readMeetingBook().get();
+        assertEquals(originalMeetingBook, new MeetingBook(retrievedMeetingBook));
+        PersonMeetingConnection retrievedConnection =
+                storageManager.readConnection(retrievedMeetingBook, storageManager.readAddressBook().get()).get();
+        assertEquals(List.of(MEETING1), retrievedConnection.getMeetingsByPerson(ALICE).asUnmodifiableObservableList());
+        assertEquals(List.of(overlappingMeeting),
+                retrievedConnection.getMeetingsByPerson(BENSON).asUnmodifiableObservableList());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
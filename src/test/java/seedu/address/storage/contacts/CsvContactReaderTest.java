@@ -0,0 +1,66 @@
+package seedu.address.storage.contacts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class CsvContactReaderTest {
+
+    @Test
+    public void readContact_columnsInAnyOrder_fieldsMatchedByHeader() throws Exception {
+        List<ContactRecord> records = readContacts("\uFEFFgroups,EMAIL,Phone,Ignored,Name\r\n"
+                + "friends;CS2103,amy@gmail.com,(853) 552-55,x,Amy Bee\r\n");
+        assertEquals(1, records.size());
+        assertEquals(2, records.get(0).getLineNumber());
+        Person expected = new PersonBuilder().withPhone("85355255").withAddress(Address.PLACE_HOLDER)
+                .withGroups("friends", "CS2103").build();
+        assertEquals(expected, records.get(0).toModelType());
+    }
+
+    @Test
+    public void readContact_quotedFields_separatorsQuotesAndLineBreaksKept() throws Exception {
+        List<ContactRecord> records = readContacts("name,address\n"
+                + "\n"
+                + "Amy Bee,\"123, Jurong West Ave 6, \"\"Block\"\" 8\"\n"
+                + "\"Bob\nChoo\",\n"
+                + "Carl Kurz\n");
+        assertEquals(3, records.size());
+        assertEquals("123, Jurong West Ave 6, \"Block\" 8",
+                records.get(0).toModelType().getAddress().value);
+        // a line break in a quoted field does not end the row, but is not valid in a name
+        assertThrows(IllegalValueException.class, () -> records.get(1).toModelType());
+        assertEquals(List.of(3, 4, 6), List.of(records.get(0).getLineNumber(), records.get(1).getLineNumber(),
+                records.get(2).getLineNumber()));
+    }
+
+    @Test
+    public void readContact_noNameColumn_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvContactReader.MESSAGE_MISSING_NAME_COLUMN, () ->
+                readContacts("fullname,phone\nAmy Bee,85355255\n"));
+        assertThrows(IllegalValueException.class, CsvContactReader.MESSAGE_MISSING_NAME_COLUMN, () ->
+                readContacts(""));
+    }
+
+    private static List<ContactRecord> readContacts(String csv) throws Exception {
+        List<ContactRecord> records = new ArrayList<>();
+        try (CsvContactReader reader = new CsvContactReader(new StringReader(csv))) {
+            Optional<ContactRecord> record = reader.readContact();
+            while (record.isPresent()) {
+                records.add(record.get());
+                record = reader.readContact();
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.storage.contacts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class VCardContactReaderTest {
+
+    @Test
+    public void readContact_foldedAndStructuredFields_readAsPerson() throws Exception {
+        List<ContactRecord> records = readContacts("BEGIN:VCARD",
+                "VERSION:3.0",
+                "N:Bee;Amy;;Ms;",
+                "TEL;TYPE=CELL:8535 5255",
+                "TEL;TYPE=WORK:61234567",
+                "ADR;TYPE=HOME:;;123\\, Jurong West Ave 6\\, #0",
+                " 8-111;;;;",
+                "CATEGORIES:friends,CS2103",
+                "END:VCARD");
+        assertEquals(1, records.size());
+        assertEquals(1, records.get(0).getLineNumber());
+        Person expected = new PersonBuilder().withEmail(Email.PLACE_HOLDER).withGroups("friends", "CS2103").build();
+        assertEquals(expected, records.get(0).toModelType());
+    }
+
+    @Test
+    public void readContact_severalCards_eachReadAndUnendedCardLeftOut() throws Exception {
+        List<ContactRecord> records = readContacts("BEGIN:VCARD",
+                "FN:Amy Bee",
+                "N:Ignored;Name;;;",
+                "EMAIL:amy@gmail.com",
+                "END:VCARD",
+                "BEGIN:VCARD",
+                "FN:Bob Choo",
+                "TEL;VALUE=uri:tel:22222222",
+                "END:VCARD",
+                "BEGIN:VCARD",
+                "FN:Carl Kurz");
+        assertEquals(2, records.size());
+        assertEquals("Amy Bee", records.get(0).toModelType().getName().fullName);
+        assertEquals("amy@gmail.com", records.get(0).toModelType().getEmail().value);
+        assertEquals("22222222", records.get(1).toModelType().getPhone().value);
+        assertEquals(6, records.get(1).getLineNumber());
+    }
+
+    private static List<ContactRecord> readContacts(String... lines) throws Exception {
+        List<ContactRecord> records = new ArrayList<>();
+        try (VCardContactReader reader = new VCardContactReader(new StringReader(String.join("\r\n", lines)))) {
+            Optional<ContactRecord> record = reader.readContact();
+            while (record.isPresent()) {
+                records.add(record.get());
+                record = reader.readContact();
+            }
+        }
+        return records;
+    }
+}
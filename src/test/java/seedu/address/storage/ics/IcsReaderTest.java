@@ -0,0 +1,128 @@
+package seedu.address.storage.ics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.group.Group;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.Recurrence;
+import seedu.address.testutil.MeetingBuilder;
+
+public class IcsReaderTest {
+
+    private static final ZoneId SINGAPORE = ZoneId.of("Asia/Singapore");
+
+    @Test
+    public void readEvent_foldedAndEscapedLines_unfoldedAndUnescaped() throws Exception {
+        List<IcsEvent> events = readEvents("BEGIN:VCALENDAR",
+                "BEGIN:VTIMEZONE", "TZID:Custom", "END:VTIMEZONE",
+                "BEGIN:VEVENT",
+                "SUMMARY:CS2103 - Project",
+                "  Meeting",
+                "DESCRIPTION:Agenda: demo\\, review\\nBring laptops",
+                "DTSTART:20210315T090000",
+                "DTEND:20210315T103000",
+                "PRIORITY:3",
+                "CATEGORIES:SoC,Project Team",
+                "ATTENDEE;CN=\"Meier; Benson\":mailto:JohnD@example.com",
+                "BEGIN:VALARM", "DESCRIPTION:Alarm", "END:VALARM",
+                "END:VEVENT",
+                "END:VCALENDAR");
+        assertEquals(1, events.size());
+
+        Meeting expected = new MeetingBuilder().withName("CS2103 Project Meeting").withStart("2021-03-15 09:00")
+                .withTerminate("2021-03-15 10:30").withPriority("4")
+                .withDescription("Agenda: demo, review\nBring laptops").withGroups("SoC", "Project Team").build();
+        Meeting meeting = events.get(0).toModelType(SINGAPORE);
+        assertEquals(expected, meeting);
+        assertEquals(expected.getDescription(), meeting.getDescription());
+        assertEquals(List.of("johnd@example.com"), events.get(0).getAttendeeEmails());
+    }
+
+    @Test
+    public void toModelType_timeZones_convertedToLocalTimes() throws Exception {
+        List<IcsEvent> events = readEvents(
+                "BEGIN:VEVENT", "SUMMARY:Utc", "DTSTART:20210315T010000Z", "DURATION:PT45M", "END:VEVENT",
+                "BEGIN:VEVENT", "SUMMARY:London", "DTSTART;TZID=Europe/London:20210315T090000",
+                "DTEND;TZID=Europe/London:20210315T100000", "END:VEVENT",
+                "BEGIN:VEVENT", "SUMMARY:All Day", "DTSTART;VALUE=DATE:20210316", "END:VEVENT");
+
+        Meeting utc = events.get(0).toModelType(SINGAPORE);
+        assertEquals(LocalDateTime.of(2021, 3, 15, 9, 0), utc.getStartLocalDateTime());
+        assertEquals(LocalDateTime.of(2021, 3, 15, 9, 45), utc.getTerminateLocalDateTime());
+        assertEquals(LocalDateTime.of(2021, 3, 15, 17, 0), events.get(1).toModelType(SINGAPORE)
+                .getStartLocalDateTime());
+        Meeting allDay = events.get(2).toModelType(SINGAPORE);
+        assertEquals(LocalDateTime.of(2021, 3, 16, 0, 0), allDay.getStartLocalDateTime());
+        assertEquals(LocalDateTime.of(2021, 3, 17, 0, 0), allDay.getTerminateLocalDateTime());
+    }
+
+    @Test
+    public void toModelType_repeatRules() throws Exception {
+        List<IcsEvent> events = readEvents(
+                "BEGIN:VEVENT", "SUMMARY:Weekly", "DTSTART:20210301T100000", "DTEND:20210301T110000",
+                "RRULE:FREQ=WEEKLY;BYDAY=MO;UNTIL=20210331T235959", "EXDATE:20210315T100000", "END:VEVENT",
+                "BEGIN:VEVENT", "SUMMARY:Monthly", "DTSTART:20210131T100000", "DTEND:20210131T110000",
+                "RRULE:FREQ=MONTHLY;COUNT=3", "END:VEVENT");
+
+        assertEquals(Optional.of(new Recurrence(Recurrence.Frequency.WEEKLY, 1, LocalDate.of(2021, 3, 31),
+                Set.of(LocalDate.of(2021, 3, 15)))), events.get(0).toModelType(SINGAPORE).getRecurrence());
+        // February, April and June have no 31st, so are not counted
+        assertEquals(LocalDate.of(2021, 5, 31), events.get(1).toModelType(SINGAPORE).getRecurrence().get().until);
+    }
+
+    @Test
+    public void toModelType_invalidEvents_throwsIllegalValueException() throws Exception {
+        List<IcsEvent> events = readEvents(
+                "BEGIN:VEVENT", "DTSTART:20210301T100000", "DTEND:20210301T110000", "END:VEVENT",
+                "BEGIN:VEVENT", "SUMMARY:Forever", "DTSTART:20210301T100000", "DTEND:20210301T110000",
+                "RRULE:FREQ=WEEKLY", "END:VEVENT",
+                "BEGIN:VEVENT", "SUMMARY:Too Short", "DTSTART:20210301T100000", "DTEND:20210301T100500",
+                "END:VEVENT",
+                "BEGIN:VEVENT", "SUMMARY:Bad Time", "DTSTART:2021-03-01", "END:VEVENT",
+                "BEGIN:VEVENT", "SUMMARY:Cancelled", "STATUS:CANCELLED", "DTSTART:20210301T100000",
+                "DTEND:20210301T110000", "END:VEVENT");
+        assertEquals(5, events.size());
+        for (IcsEvent event : events) {
+            assertThrows(IllegalValueException.class, () -> event.toModelType(SINGAPORE));
+        }
+    }
+
+    @Test
+    public void readEvent_unendedEvent_leftOut() throws Exception {
+        assertTrue(readEvents("BEGIN:VEVENT", "SUMMARY:Unended", "DTSTART:20210301T100000").isEmpty());
+    }
+
+    @Test
+    public void toModelType_categoriesWithSymbols_symbolsLeftOut() throws Exception {
+        IcsEvent event = readEvents("BEGIN:VEVENT", "SUMMARY:Lunch", "DTSTART:20210301T120000",
+                "DTEND:20210301T130000", "CATEGORIES:Friends & Family,!!!", "END:VEVENT").get(0);
+        assertEquals(Set.of(new Group("Friends Family")), event.toModelType(SINGAPORE).getGroups());
+    }
+
+    private static List<IcsEvent> readEvents(String... lines) throws IOException {
+        List<IcsEvent> events = new ArrayList<>();
+        try (IcsReader reader = new IcsReader(new StringReader(String.join("\r\n", lines)))) {
+            Optional<IcsEvent> event = reader.readEvent();
+            while (event.isPresent()) {
+                events.add(event.get());
+                event = reader.readEvent();
+            }
+        }
+        return events;
+    }
+}
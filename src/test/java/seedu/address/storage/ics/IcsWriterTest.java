@@ -0,0 +1,62 @@
+package seedu.address.storage.ics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.meeting.Meeting;
+import seedu.address.testutil.MeetingBuilder;
+
+public class IcsWriterTest {
+
+    private static final Instant STAMP = Instant.parse("2021-03-10T01:00:00Z");
+
+    @Test
+    public void writeMeeting_readBack_sameMeeting() throws Exception {
+        Meeting weekly = new MeetingBuilder().withName("Weekly Sync").withStart("2021-03-01 10:00")
+                .withTerminate("2021-03-01 11:00").withPriority("3").withDescription("Notes; links, and\nmore")
+                .withGroups("SoC", "CS2103").withRecurrence("FREQ=WEEKLY;INTERVAL=2;UNTIL=2021-05-01;EXDATE=2021-03-29")
+                .build();
+        Meeting lecture = new MeetingBuilder().withName("Lecture").withStart("2021-03-02 14:00")
+                .withTerminate("2021-03-02 16:00").withPriority("1").withDescription("").build();
+
+        StringWriter output = new StringWriter();
+        try (IcsWriter writer = new IcsWriter(output, STAMP)) {
+            writer.writeMeeting(weekly, List.of(ALICE));
+            writer.writeMeeting(lecture, List.of());
+        }
+
+        try (IcsReader reader = new IcsReader(new StringReader(output.toString()))) {
+            IcsEvent weeklyEvent = reader.readEvent().get();
+            Meeting readWeekly = weeklyEvent.toModelType(ZoneId.systemDefault());
+            assertEquals(weekly, readWeekly);
+            assertEquals(weekly.getRecurrence(), readWeekly.getRecurrence());
+            assertEquals(weekly.getDescription(), readWeekly.getDescription());
+            assertEquals(List.of("alice@example.com"), weeklyEvent.getAttendeeEmails());
+            assertEquals(lecture, reader.readEvent().get().toModelType(ZoneId.systemDefault()));
+            assertTrue(reader.readEvent().isEmpty());
+        }
+    }
+
+    @Test
+    public void writeMeeting_longLine_foldedWithinLimit() throws Exception {
+        String description = "Discuss " + "the project plan ".repeat(20);
+        StringWriter output = new StringWriter();
+        try (IcsWriter writer = new IcsWriter(output, STAMP)) {
+            writer.writeMeeting(new MeetingBuilder().withDescription(description).build(), List.of());
+        }
+        List<String> lines = Arrays.asList(output.toString().split("\r\n"));
+        assertTrue(lines.stream().allMatch(line -> line.length() <= 75));
+        assertTrue(lines.contains("DTSTAMP:20210310T010000Z"));
+        assertEquals("END:VCALENDAR", lines.get(lines.size() - 1));
+    }
+}
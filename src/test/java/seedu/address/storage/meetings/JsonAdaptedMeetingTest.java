@@ -17,9 +17,11 @@ import seedu.address.model.meeting.Description;
 import seedu.address.model.meeting.Meeting;
 import seedu.address.model.meeting.MeetingName;
 import seedu.address.model.meeting.Priority;
+import seedu.address.model.meeting.Recurrence;
 import seedu.address.model.person.PersonName;
 import seedu.address.storage.addressbook.JsonAdaptedGroup;
 import seedu.address.storage.meetingbook.JsonAdaptedMeeting;
+import seedu.address.testutil.MeetingBuilder;
 
 
 public class JsonAdaptedMeetingTest {
@@ -45,6 +47,19 @@ public class JsonAdaptedMeetingTest {
         assertEquals(jsonMeeting.toModelType(), MEETING1);
     }
 
+    @Test
+    public void toModelType_recurringMeeting_success() throws Exception {
+        Meeting recurring = new MeetingBuilder(MEETING1).withRecurrence("FREQ=WEEKLY;UNTIL=2022-12-31").build();
+        assertEquals(recurring, new JsonAdaptedMeeting(recurring).toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidRecurrence_throwsIllegalValueException() {
+        JsonAdaptedMeeting jsonMeeting = new JsonAdaptedMeeting(VALID_NAME, VALID_START, VALID_END,
+                VALID_DESCRIPTION, VALID_PRIORITY, VALID_TAGS, "FREQ=HOURLY;UNTIL=2022-12-31");
+        assertThrows(IllegalValueException.class, Recurrence.MESSAGE_CONSTRAINTS, jsonMeeting::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedMeeting jsonMeeting =
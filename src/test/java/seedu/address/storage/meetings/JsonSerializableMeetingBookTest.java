@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.meeting.ClashCheck;
 import seedu.address.model.meeting.MeetingBook;
 import seedu.address.storage.meetingbook.JsonSerializableMeetingBook;
 import seedu.address.testutil.TypicalMeetings;
@@ -54,5 +55,11 @@ public class JsonSerializableMeetingBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_clashingMeetingsCheckedPerAttendee_success() throws Exception {
+        JsonSerializableMeetingBook dataFromFile = JsonUtil.readJsonFile(CLASHING_MEETINGS_FILE,
+                JsonSerializableMeetingBook.class).get();
+        assertEquals(2, dataFromFile.toModelType(ClashCheck.PER_ATTENDEE).getMeetingList().size());
+    }
 
 }
@@ -1,6 +1,7 @@
 package seedu.address.testutil;
 
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.model.group.Group;
@@ -9,6 +10,7 @@ import seedu.address.model.meeting.Description;
 import seedu.address.model.meeting.Meeting;
 import seedu.address.model.meeting.MeetingName;
 import seedu.address.model.meeting.Priority;
+import seedu.address.model.meeting.Recurrence;
 import seedu.address.model.util.SampleDataUtil;
 
 /**
@@ -28,6 +30,7 @@ public class MeetingBuilder {
     private Priority priority;
     private Description description;
     private Set<Group> groups;
+    private Optional<Recurrence> recurrence;
 
     /**
      * Creates a {@code MeetingBuilder} with the default details.
@@ -39,6 +42,7 @@ public class MeetingBuilder {
         priority = new Priority(DEFAULT_PRIORITY);
         description = new Description(DEFAULT_DESCRIPTION);
         groups = new HashSet<>();
+        recurrence = Optional.empty();
     }
 
     /**
@@ -51,6 +55,7 @@ public class MeetingBuilder {
         priority = meetingToCopy.getPriority();
         description = meetingToCopy.getDescription();
         groups = new HashSet<>(meetingToCopy.getGroups());
+        recurrence = meetingToCopy.getRecurrence();
     }
 
     /**
@@ -101,8 +106,16 @@ public class MeetingBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Recurrence} of the {@code Meeting} that we are building.
+     */
+    public MeetingBuilder withRecurrence(String recurrence) {
+        this.recurrence = Optional.of(new Recurrence(recurrence));
+        return this;
+    }
+
     public Meeting build() {
-        return new Meeting(meetingName, start, terminate, priority, description, groups);
+        return new Meeting(meetingName, start, terminate, priority, description, groups, recurrence);
     }
 
 }
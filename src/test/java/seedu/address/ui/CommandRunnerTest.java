@@ -0,0 +1,125 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.persons.PersonCommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.persons.PersonCommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.persons.PersonCommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.persons.PersonCommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.testutil.TypicalMeetings.MEETING1;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.connections.AddPersonToMeetingConnectionCommand;
+import seedu.address.logic.commands.meetings.ListMeetingCommand;
+import seedu.address.logic.commands.persons.AddPersonCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.addressbook.JsonAddressBookStorage;
+import seedu.address.storage.connection.JsonConnectionStorage;
+import seedu.address.storage.meetingbook.JsonMeetingBookStorage;
+import seedu.address.storage.notebook.JsonNoteBookStorage;
+
+public class CommandRunnerTest {
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final BlockingQueue<Runnable> fxThreadQueue = new LinkedBlockingQueue<>();
+    private CommandRunner commandRunner;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonMeetingBookStorage(temporaryFolder.resolve("meetingBook.json")),
+                new JsonNoteBookStorage(temporaryFolder.resolve("noteBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonConnectionStorage(temporaryFolder.resolve("connections.json")));
+        commandRunner = new CommandRunner(new LogicManager(model, storage), fxThreadQueue::add);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        commandRunner.shutdown();
+    }
+
+    @Test
+    public void execute_validCommand_changesPublishedWithResult() throws Exception {
+        String addCommand = AddPersonCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        CompletableFuture<CommandResult> result = commandRunner.execute(addCommand);
+
+        Runnable uiUpdate = fxThreadQueue.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        // the model has changed, but the UI does not see it until the update runs on the UI thread
+        assertEquals(1, model.getFilteredPersonList().size());
+        assertTrue(commandRunner.getFilteredPersonList().isEmpty());
+        assertFalse(result.isDone());
+
+        uiUpdate.run();
+        assertEquals(model.getFilteredPersonList(), commandRunner.getFilteredPersonList());
+        assertEquals(String.format(AddPersonCommand.MESSAGE_SUCCESS, model.getFilteredPersonList().get(0)),
+                result.get().getFeedbackToUser());
+        assertTrue(fxThreadQueue.isEmpty());
+    }
+
+    @Test
+    public void execute_invalidCommand_completesExceptionally() throws Exception {
+        CompletableFuture<CommandResult> result = commandRunner.execute("uicfhmowqewca");
+        fxThreadQueue.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS).run();
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, result::get);
+        assertTrue(thrown.getCause() instanceof ParseException);
+        assertTrue(commandRunner.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void execute_connectionAdded_attendeeNamesPublished() throws Exception {
+        model.addPerson(ALICE);
+        model.addMeeting(MEETING1);
+        commandRunner.execute(ListMeetingCommand.COMMAND_WORD);
+        fxThreadQueue.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS).run();
+        assertTrue(commandRunner.getAttendeeNames().getValue().isEmpty());
+
+        commandRunner.execute(AddPersonToMeetingConnectionCommand.COMMAND_WORD + " 1 p/1");
+        Runnable uiUpdate = fxThreadQueue.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertTrue(commandRunner.getAttendeeNames().getValue().isEmpty());
+
+        uiUpdate.run();
+        assertEquals(List.of(ALICE.getName().fullName),
+                commandRunner.getAttendeeNames().getValue().get(commandRunner.getFilteredMeetingList().get(0)));
+    }
+
+    @Test
+    public void shutdown_commandSubmitted_waitsForCommand() {
+        String addCommand = AddPersonCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        commandRunner.execute(addCommand);
+        commandRunner.shutdown();
+
+        assertEquals(1, model.getFilteredPersonList().size());
+        // commands received after shutting down are rejected
+        assertTrue(commandRunner.execute(addCommand).isCompletedExceptionally());
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+
+public class FxListMirrorTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("b", "d", "a", "c");
+    private final SortedList<String> sortedSource = new SortedList<>(source);
+    private final FilteredList<String> filteredSource = new FilteredList<>(sortedSource);
+    private final FxListMirror<String> mirror = new FxListMirror<>(filteredSource);
+    private final List<String> mirrorChanges = new ArrayList<>();
+
+    public FxListMirrorTest() {
+        mirror.getMirror().addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                mirrorChanges.add(change.getFrom() + ":-" + change.getRemovedSize() + "+" + change.getAddedSize());
+            }
+        });
+    }
+
+    @Test
+    public void takeUpdate_noChange_noUpdate() {
+        assertFalse(mirror.takeUpdate().isPresent());
+    }
+
+    @Test
+    public void takeUpdate_elementsAddedAndRemoved_onlyChangedRangesReplayed() {
+        source.add("e");
+        source.remove("b");
+        source.set(source.indexOf("d"), "f");
+        assertEquals(List.of("b", "d", "a", "c"), mirror.getMirror());
+
+        mirror.takeUpdate().get().run();
+        assertEquals(filteredSource, mirror.getMirror());
+        assertEquals(List.of("4:-0+1", "0:-1+0", "0:-1+1"), mirrorChanges);
+        assertFalse(mirror.takeUpdate().isPresent());
+    }
+
+    @Test
+    public void takeUpdate_sortedAndFiltered_matchesSource() {
+        sortedSource.setComparator(Comparator.naturalOrder());
+        source.addAll("ab", "cd");
+        filteredSource.setPredicate(element -> !element.startsWith("c"));
+        source.remove("a");
+
+        mirror.takeUpdate().get().run();
+        assertEquals(filteredSource, mirror.getMirror());
+    }
+
+    @Test
+    public void takeUpdate_wholeListReplaced_mirrorReplacedOnce() {
+        source.add("e");
+        source.setAll("x", "y");
+
+        mirror.takeUpdate().get().run();
+        assertEquals(List.of("x", "y"), mirror.getMirror());
+        assertEquals(List.of("0:-4+2"), mirrorChanges);
+    }
+
+    @Test
+    public void takeUpdate_manyChanges_mirrorReplacedOnce() {
+        for (int i = 0; i <= FxListMirror.MAX_RECORDED_CHANGES; i++) {
+            source.add(0, "element " + i);
+        }
+
+        mirror.takeUpdate().get().run();
+        assertEquals(filteredSource, mirror.getMirror());
+        assertEquals(1, mirrorChanges.size());
+        assertTrue(mirrorChanges.get(0).startsWith("0:-4+"));
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.schedule.Schedulable;
+import seedu.address.model.schedule.SimplePeriod;
+
+public class TimetableCanvasLayoutTest {
+    private static final LocalDate START_DATE = LocalDate.of(2021, 3, 3);
+    private static final TimetablePlacementPolicy POLICY = new TimetablePlacementPolicy(START_DATE);
+
+    private static final Schedulable MORNING = new SimplePeriod("morning",
+            LocalDateTime.of(2021, 3, 3, 9, 0), LocalDateTime.of(2021, 3, 3, 10, 0));
+    private static final Schedulable EVENING = new SimplePeriod("evening",
+            LocalDateTime.of(2021, 3, 3, 18, 0), LocalDateTime.of(2021, 3, 3, 20, 0));
+    private static final Schedulable ALL_DAY = new SimplePeriod("all day",
+            LocalDateTime.of(2021, 3, 3, 8, 0), LocalDateTime.of(2021, 3, 3, 21, 0));
+    private static final Schedulable OVERNIGHT = new SimplePeriod("overnight",
+            LocalDateTime.of(2021, 3, 4, 22, 0), LocalDateTime.of(2021, 3, 5, 9, 0));
+    private static final Schedulable OUT_OF_RANGE = new SimplePeriod("later",
+            LocalDateTime.of(2021, 3, 20, 9, 0), LocalDateTime.of(2021, 3, 20, 10, 0));
+
+    @Test
+    public void constructor_emptyList_noSlots() {
+        TimetableCanvasLayout layout = new TimetableCanvasLayout(Collections.emptyList(), POLICY);
+        assertEquals(0, layout.getNumberOfSlots());
+        assertFalse(layout.hitTest(0, 100).isPresent());
+    }
+
+    @Test
+    public void constructor_matchesPlacementPolicy() {
+        TimetableCanvasLayout layout = new TimetableCanvasLayout(Arrays.asList(EVENING, MORNING), POLICY);
+        List<TimetableCanvasLayout.SlotGeometry> slots = layout.getSlotsInColumn(0);
+        assertEquals(2, slots.size());
+        // sorted by vertical position regardless of input order
+        assertSame(MORNING, slots.get(0).getSource());
+        assertEquals(POLICY.getVerticalPosition(MORNING), slots.get(0).getTop());
+        assertEquals(POLICY.getLengthOfSlot(MORNING), slots.get(0).getLength());
+        assertEquals(TimetableCanvasLayout.getHeader(MORNING), slots.get(0).getHeader());
+        assertSame(EVENING, slots.get(1).getSource());
+    }
+
+    @Test
+    public void constructor_multiDaySchedulable_splitIntoColumns() {
+        TimetableCanvasLayout layout = new TimetableCanvasLayout(Arrays.asList(OVERNIGHT, OUT_OF_RANGE), POLICY);
+        assertEquals(2, layout.getNumberOfSlots());
+        assertEquals(1, layout.getSlotsInColumn(1).size());
+        assertEquals(1, layout.getSlotsInColumn(2).size());
+        assertSame(OVERNIGHT, layout.getSlotsInColumn(1).get(0).getSource());
+        assertSame(OVERNIGHT, layout.getSlotsInColumn(2).get(0).getSource());
+    }
+
+    @Test
+    public void hitTest() {
+        TimetableCanvasLayout layout = new TimetableCanvasLayout(Arrays.asList(MORNING, EVENING), POLICY);
+        double morningTop = POLICY.getVerticalPosition(MORNING);
+        double morningMiddle = morningTop + POLICY.getLengthOfSlot(MORNING) / 2;
+        double eveningMiddle = POLICY.getVerticalPosition(EVENING) + POLICY.getLengthOfSlot(EVENING) / 2;
+
+        assertSame(MORNING, layout.hitTest(0, morningTop).get().getSource());
+        assertSame(MORNING, layout.hitTest(0, morningMiddle).get().getSource());
+        assertSame(EVENING, layout.hitTest(0, eveningMiddle).get().getSource());
+
+        // between slots, above all slots, other columns and invalid columns
+        assertFalse(layout.hitTest(0, (morningMiddle + eveningMiddle) / 2).isPresent());
+        assertFalse(layout.hitTest(0, 0).isPresent());
+        assertFalse(layout.hitTest(1, morningMiddle).isPresent());
+        assertFalse(layout.hitTest(-1, morningMiddle).isPresent());
+        assertFalse(layout.hitTest(TimetablePlacementPolicy.NUMBER_OF_COLUMNS, morningMiddle).isPresent());
+        assertTrue(layout.hitTest(0, morningMiddle).get().contains(morningMiddle));
+    }
+
+    @Test
+    public void hitTest_longSlotCoveringLaterSlots_found() {
+        TimetableCanvasLayout layout = new TimetableCanvasLayout(Arrays.asList(MORNING, EVENING, ALL_DAY), POLICY);
+        double morningBottom = POLICY.getVerticalPosition(MORNING) + POLICY.getLengthOfSlot(MORNING);
+        double eveningTop = POLICY.getVerticalPosition(EVENING);
+
+        // only the long slot, which starts before both others, covers the gap between them
+        assertSame(ALL_DAY, layout.hitTest(0, (morningBottom + eveningTop) / 2).get().getSource());
+        assertFalse(layout.hitTest(0, POLICY.getVerticalPosition(ALL_DAY) - 1).isPresent());
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the pool with slots that only record what they are bound to, as {@code TimetableSlot}s need the JavaFX
+ * toolkit to be created.
+ */
+public class TimetableSlotPoolTest {
+
+    private final TimetableSlotPool<SlotStub> pool = new TimetableSlotPool<>(SlotStub::new);
+
+    @Test
+    public void acquire_emptyPool_newSlotsCreated() {
+        SlotStub first = pool.acquire(60, "first");
+        SlotStub second = pool.acquire(30, "second");
+
+        assertNotSame(first, second);
+        assertEquals(60, first.slotLength);
+        assertEquals("first", first.header);
+        assertEquals(2, pool.getNumberOfSlotsInUse());
+        assertEquals(2, pool.getPoolSize());
+    }
+
+    @Test
+    public void acquire_afterReleaseAll_releasedSlotReusedAndRebound() {
+        SlotStub released = pool.acquire(60, "released");
+        pool.releaseAll();
+        assertEquals(0, pool.getNumberOfSlotsInUse());
+        assertEquals(1, pool.getPoolSize());
+
+        SlotStub reused = pool.acquire(30, "reused");
+        assertSame(released, reused);
+        assertEquals(30, reused.slotLength);
+        assertEquals("reused", reused.header);
+        assertEquals(2, reused.rebindCount);
+        assertEquals(1, pool.getPoolSize());
+    }
+
+    @Test
+    public void releaseAll_everySlotReleased_allReused() {
+        SlotStub first = pool.acquire(60, "first");
+        SlotStub second = pool.acquire(60, "second");
+        pool.releaseAll();
+
+        SlotStub firstReused = pool.acquire(60, "third");
+        SlotStub secondReused = pool.acquire(60, "fourth");
+        assertNotSame(firstReused, secondReused);
+        assertEquals(2, pool.getPoolSize());
+        // both slots handed out before the release are handed out again, whatever the order
+        assertEquals(first == firstReused ? second : first, secondReused);
+    }
+
+    @Test
+    public void acquire_moreThanReleased_poolGrowsToLargestUse() {
+        pool.acquire(60, "first");
+        pool.releaseAll();
+        pool.acquire(60, "first");
+        pool.acquire(60, "second");
+        pool.acquire(60, "third");
+        assertEquals(3, pool.getPoolSize());
+
+        pool.releaseAll();
+        pool.acquire(60, "only");
+        assertEquals(1, pool.getNumberOfSlotsInUse());
+        assertEquals(3, pool.getPoolSize());
+    }
+
+    /**
+     * A slot that records what it was last bound to.
+     */
+    private static class SlotStub implements TimetableSlotPool.Rebindable {
+        private double slotLength;
+        private String header;
+        private int rebindCount = 0;
+
+        @Override
+        public void rebind(double slotLength, String header) {
+            this.slotLength = slotLength;
+            this.header = header;
+            rebindCount++;
+        }
+    }
+}